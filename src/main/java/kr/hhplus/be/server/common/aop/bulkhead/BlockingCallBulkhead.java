@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.common.aop.bulkhead;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DB 커넥션 등 블로킹 자원을 사용하는 메소드의 동시 실행 수를 제한합니다.
+ * 가상 스레드 모드에서는 요청 스레드 수가 사실상 무제한이므로, 커넥션 풀보다 많은 요청이
+ * 트랜잭션에 진입해 Hikari 대기(connection-timeout)까지 블로킹되지 않도록 트랜잭션 시작 전에 입장을 제한합니다.
+ * 분산 락을 사용하는 경우 락 획득 후 호출되는 트랜잭션 메소드에 붙여, 락 대기 중인 요청이 입장 허용 수를 차지하지 않도록 합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BlockingCallBulkhead {
+}
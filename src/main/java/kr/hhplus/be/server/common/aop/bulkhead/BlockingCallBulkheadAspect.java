@@ -0,0 +1,78 @@
+package kr.hhplus.be.server.common.aop.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.exception.CustomException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BlockingCallBulkhead} 메소드의 동시 실행 수를 세마포어로 제한합니다. (bulkhead.blocking.enabled)
+ * - 트랜잭션 어드바이스보다 먼저 실행되어야 커넥션을 잡기 전에 대기하므로 가장 높은 우선순위로 등록합니다.
+ * - 분산 락 안에서 실행되는 트랜잭션 메소드에 적용하여, 락 대기 동안에는 입장 허용 수를 점유하지 않도록 합니다.
+ * - 허용 수는 Hikari 최대 풀 크기에서 스케줄러/컨슈머용 여유 커넥션을 뺀 값으로 설정합니다.
+ * - 대기 시간 안에 입장하지 못하면 429(TOO_MANY_REQUESTS)로 빠르게 거절합니다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class BlockingCallBulkheadAspect {
+
+    private final boolean enabled;
+    private final long acquireTimeoutMillis;
+    private final Semaphore permits;
+    private final Counter rejectedCounter;
+
+    public BlockingCallBulkheadAspect(MeterRegistry meterRegistry,
+                                      @Value("${bulkhead.blocking.enabled:false}") boolean enabled,
+                                      @Value("${bulkhead.blocking.max-concurrent:16}") int maxConcurrent,
+                                      @Value("${bulkhead.blocking.acquire-timeout-ms:3000}") long acquireTimeoutMillis) {
+        this.enabled = enabled;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.rejectedCounter = Counter.builder("bulkhead.blocking.rejected")
+                .description("블로킹 호출 동시 실행 한도 초과로 거절된 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.blocking.waiting", permits, Semaphore::getQueueLength)
+                .description("블로킹 호출 입장을 대기 중인 스레드 수")
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(kr.hhplus.be.server.common.aop.bulkhead.BlockingCallBulkhead)")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        if (!acquired) {
+            rejectedCounter.increment();
+            log.warn("블로킹 호출 동시 실행 한도 초과: {}", joinPoint.getSignature().toShortString());
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            permits.release();
+        }
+    }
+}
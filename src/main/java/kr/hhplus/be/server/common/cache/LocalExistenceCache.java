@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.common.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 식별자 존재 여부(existsById)를 프로세스 로컬 메모리에 캐싱하는 경량 캐시입니다.
+ * 존재하는 키(positive)와 존재하지 않는 키(negative)를 서로 다른 TTL로 보관하며,
+ * 최대 크기를 넘으면 만료된 항목부터 정리하고 그래도 넘치면 일부 항목을 제거합니다.
+ * 대기열 폴링처럼 같은 ID를 반복 검증하는 경로에서 DB 조회를 생략하기 위해 사용합니다.
+ * 존재하지 않는 ID는 곧 생성될 수 있으므로 짧은 TTL로만 보관하며,
+ * 노드 간 무효화와 커밋 이후 반영은 LocalExistenceCacheManager를 통해 수행합니다.
+ */
+public class LocalExistenceCache<K> {
+
+    private final int maxSize;
+    private final long positiveTtlNanos;
+    private final long negativeTtlNanos;
+    private final Map<K, Entry> entries = new ConcurrentHashMap<>();
+
+    public LocalExistenceCache(int maxSize, Duration positiveTtl, Duration negativeTtl) {
+        this.maxSize = maxSize;
+        this.positiveTtlNanos = positiveTtl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+    }
+
+    /**
+     * 캐시에 유효한 값이 있으면 그대로 반환하고, 없으면 loader로 조회한 결과를 캐싱 후 반환합니다.
+     */
+    public boolean exists(K key, Predicate<K> loader) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt - now > 0) {
+            return entry.exists;
+        }
+
+        boolean exists = loader.test(key);
+        put(key, exists, now);
+        return exists;
+    }
+
+    // 생성(save) 직후 호출하여 이전에 캐싱된 negative 값을 덮어쓴다.
+    public void markPresent(K key) {
+        put(key, true, System.nanoTime());
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void put(K key, boolean exists, long now) {
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            evict(now);
+        }
+        long ttl = exists ? positiveTtlNanos : negativeTtlNanos;
+        entries.put(key, new Entry(exists, now + ttl));
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt - now <= 0);
+        if (entries.size() < maxSize) {
+            return;
+        }
+
+        // 만료 항목을 정리해도 가득 차 있다면 전체의 약 10%를 순회 순서대로 제거
+        int toRemove = Math.max(1, maxSize / 10);
+        Iterator<K> iterator = entries.keySet().iterator();
+        while (iterator.hasNext() && toRemove-- > 0) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Entry(boolean exists, long expiresAt) {
+    }
+}
@@ -0,0 +1,96 @@
+package kr.hhplus.be.server.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름별 LocalExistenceCache를 생성하고, 변경 사항을 Redis Pub/Sub으로 다른 노드에 전파합니다.
+ * - markPresent : 커밋 이후에만 로컬 캐시에 반영 (롤백된 생성이 positive로 남지 않도록) 후 다른 노드의 negative 항목 제거
+ * - invalidateAll : 로컬 캐시를 비우고 다른 노드도 비우도록 전파 (삭제된 ID가 positive로 남지 않도록)
+ * 메시지 형식: {nodeId}|{cacheName}|{key 또는 *}
+ */
+@Slf4j
+@Component
+public class LocalExistenceCacheManager {
+
+    private static final String INVALIDATION_TOPIC = "cache:existence:invalidation";
+    private static final String DELIMITER = "|";
+    private static final String ALL_KEYS = "*";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, LocalExistenceCache<UUID>> caches = new ConcurrentHashMap<>();
+    private final RTopic invalidationTopic;
+
+    public LocalExistenceCacheManager(RedissonClient redissonClient) {
+        this.invalidationTopic = redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+        this.invalidationTopic.addListener(String.class, (channel, message) -> onInvalidation(message));
+    }
+
+    public LocalExistenceCache<UUID> create(String cacheName, int maxSize, Duration positiveTtl, Duration negativeTtl) {
+        return caches.computeIfAbsent(cacheName, name -> new LocalExistenceCache<>(maxSize, positiveTtl, negativeTtl));
+    }
+
+    /**
+     * 생성(save) 직후 호출합니다. 트랜잭션 안이면 커밋 이후에, 아니면 즉시 반영합니다.
+     */
+    public void markPresent(String cacheName, UUID key) {
+        afterCommit(() -> {
+            caches.get(cacheName).markPresent(key);
+            publish(cacheName, key.toString());
+        });
+    }
+
+    public void invalidateAll(String cacheName) {
+        caches.get(cacheName).invalidateAll();
+        publish(cacheName, ALL_KEYS);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            invalidationTopic.publish(String.join(DELIMITER, nodeId, cacheName, key));
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 노드의 항목은 TTL이 지나면 다시 조회됨
+            log.warn("존재 여부 캐시 무효화 전파 실패 - CACHE: {}, KEY: {}, ERROR: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    private void onInvalidation(String message) {
+        String[] parts = message.split("\\" + DELIMITER, 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return; // 자신이 보낸 메시지는 이미 로컬에 반영됨
+        }
+
+        LocalExistenceCache<UUID> cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (ALL_KEYS.equals(parts[2])) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(UUID.fromString(parts[2]));
+        }
+    }
+}
@@ -2,6 +2,7 @@
 package kr.hhplus.be.server.common.config.kafka;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -9,9 +10,16 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Configuration
@@ -34,7 +42,9 @@ public class KafkaConsumerConfig {
                 "kr.hhplus.be.server.dummy"               // DummyDataGeneratedEvent
                 // 새로운 이벤트가 다른 패키지에 추가될 경우, 여기에 해당 패키지 경로를 추가해야 함
         );
-        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), deserializer);
+        // 역직렬화할 수 없는 메시지가 poll마다 예외를 일으켜 파티션을 막지 않도록 ErrorHandlingDeserializer로 감쌈
+        // 실패한 레코드는 값이 null로 전달되고 원인은 헤더에 담겨, 에러 핸들러가 재시도 없이 건너뛰거나 DLT로 보냄
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new ErrorHandlingDeserializer<>(deserializer));
     }
 
     @Bean
@@ -43,4 +53,30 @@ public class KafkaConsumerConfig {
         factory.setConsumerFactory(consumerFactory());
         return factory;
     }
-}
\ No newline at end of file
+
+    /**
+     * 배치 리스너용 컨테이너 팩토리 (한 번의 poll로 받은 레코드를 List로 전달)
+     * 리스너가 BatchListenerFailedException으로 실패한 레코드의 위치를 알려주면, 앞선 레코드의 오프셋은 커밋하고
+     * 실패한 레코드부터 backoff 간격으로 재시도한 뒤, 재시도를 모두 소진하면 {토픽}.DLT 토픽으로 보내고 다음 레코드를 처리합니다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            KafkaTemplate<String, byte[]> outboxKafkaTemplate,
+            @Value("${kafka.batch-listener.retry-interval-ms:1000}") long retryIntervalMs,
+            @Value("${kafka.batch-listener.max-retries:2}") long maxRetries) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+
+        // 역직렬화에 실패한 레코드는 원본 byte[]를 그대로, 나머지는 JSON으로 DLT에 보냄
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, outboxKafkaTemplate);
+        templates.put(Object.class, kafkaTemplate);
+        // DLT 파티션 수가 원본과 달라도 전송되도록 파티션은 키 기준으로 프로듀서가 결정
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(templates,
+                (record, exception) -> new TopicPartition(record.topic() + ".DLT", -1));
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, new FixedBackOff(retryIntervalMs, maxRetries)));
+        return factory;
+    }
+}
@@ -2,6 +2,7 @@
 package kr.hhplus.be.server.common.config.kafka;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -34,4 +35,38 @@ public class KafkaProducerConfig {
     public KafkaTemplate<String, Object> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
-}
\ No newline at end of file
+
+    /**
+     * 아웃박스 릴레이 전용 프로듀서
+     * 이미 직렬화된 JSON을 그대로 보내고, 릴레이가 한 번에 수백 건을 보내므로 linger/batch.size를 늘리고 압축하여 요청 수를 줄입니다.
+     * 릴레이는 브로커 확인 후에만 sent_at을 기록하므로 acks=all + 멱등 프로듀서로 재시도 시 중복/순서 역전을 막습니다.
+     */
+    @Bean
+    public ProducerFactory<String, byte[]> outboxProducerFactory(
+            @Value("${event.outbox.producer.linger-ms:20}") int lingerMs,
+            @Value("${event.outbox.producer.batch-size-bytes:262144}") int batchSizeBytes,
+            @Value("${event.outbox.producer.compression-type:lz4}") String compressionType,
+            @Value("${event.outbox.producer.max-block-ms:5000}") long maxBlockMs,
+            @Value("${event.outbox.producer.request-timeout-ms:10000}") int requestTimeoutMs,
+            @Value("${event.outbox.producer.delivery-timeout-ms:15000}") int deliveryTimeoutMs) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSizeBytes);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        // send()/flush()가 릴레이의 임대 시간 안에 끝나도록 기본값(60초/120초)보다 짧게 제한 (KafkaOutboxRelay의 임대 시간 계산에 사용)
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
+        configProps.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, requestTimeoutMs);
+        configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, Math.max(deliveryTimeoutMs, requestTimeoutMs + lingerMs));
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> outboxKafkaTemplate(ProducerFactory<String, byte[]> outboxProducerFactory) {
+        return new KafkaTemplate<>(outboxProducerFactory);
+    }
+}
@@ -19,6 +19,8 @@ import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.scripting.support.ResourceScriptSource;
 
+import java.util.List;
+
 @Configuration
 public class RedisConfig {
 
@@ -30,6 +32,9 @@ public class RedisConfig {
 
     // Lua 스크립트 로딩을 위한 필드
     private DefaultRedisScript<String> issueQueueTokenAtomicScript;
+    @SuppressWarnings("rawtypes")
+    private DefaultRedisScript<List> issueQueueTokenScript;
+    private DefaultRedisScript<Long> claimSeatScript;
 
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
@@ -57,6 +62,16 @@ public class RedisConfig {
         // scripts/issueQueueTokenAtomic.lua 파일 경로 지정
         issueQueueTokenAtomicScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/issueQueueTokenAtomic.lua")));
         issueQueueTokenAtomicScript.setResultType(String.class); // 스크립트의 최종 반환 타입 (토큰 ID가 String이므로)
+
+        // scripts/issueQueueToken.lua: 중복 확인, 활성/대기 판단, ZSET 등록, TTL 설정까지 단일 호출로 처리
+        issueQueueTokenScript = new DefaultRedisScript<>();
+        issueQueueTokenScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/issueQueueToken.lua")));
+        issueQueueTokenScript.setResultType(List.class); // { 상태, QueueToken JSON, 대기 순번 }
+
+        // scripts/claimSeat.lua: 좌석 선점(CAS)과 write-behind 아웃박스 기록을 단일 호출로 처리
+        claimSeatScript = new DefaultRedisScript<>();
+        claimSeatScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/claimSeat.lua")));
+        claimSeatScript.setResultType(Long.class); // 1 선점, 0 이미 선점, -1 좌석 상태 미적재
     }
 
     /**
@@ -68,6 +83,23 @@ public class RedisConfig {
         return issueQueueTokenAtomicScript;
     }
 
+    /**
+     * 대기열 토큰 단일 라운드트립 발급에 사용될 DefaultRedisScript 빈.
+     */
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public DefaultRedisScript<List> issueQueueTokenScript() {
+        return issueQueueTokenScript;
+    }
+
+    /**
+     * Redis 우선 좌석 선점에 사용될 DefaultRedisScript 빈.
+     */
+    @Bean
+    public DefaultRedisScript<Long> claimSeatScript() {
+        return claimSeatScript;
+    }
+
     /**
      * Lua 스크립트 실행 등 String 타입만 다루는 Redis 작업용 템플릿.
      * ScriptExecutor는 ARGV 인자를 이 템플릿의 ValueSerializer로 직렬화합니다.
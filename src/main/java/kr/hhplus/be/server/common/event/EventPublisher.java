@@ -2,4 +2,11 @@ package kr.hhplus.be.server.common.event;
 
 public interface EventPublisher {
     <T extends Event> void publish(T event);
+
+    /**
+     * 호출한 트랜잭션의 커밋/롤백과 관계없이 발행 (롤백될 트랜잭션의 실패 이벤트, afterCommit 콜백 등)
+     */
+    default <T extends Event> void publishIndependently(T event) {
+        publish(event);
+    }
 }
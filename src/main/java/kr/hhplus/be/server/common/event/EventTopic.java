@@ -8,6 +8,7 @@ import lombok.Getter;
 public enum EventTopic {
 
     RESERVATION_CREATED("reservation.created"),
+    RESERVATION_EXPIRED("reservation.expired"),
     PAYMENT_SUCCESS("payment.success"),
     PAYMENT_FAILED("payment.failed"),
 
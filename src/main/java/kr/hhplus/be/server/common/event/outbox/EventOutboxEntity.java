@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.common.event.outbox;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이벤트 아웃박스
+ * (저장/조회는 JdbcOutboxRepository로만 수행하며, 이 엔티티는 스키마 정의용입니다)
+ */
+@Entity
+@Table(name = "EVENT_OUTBOX",
+        indexes = {
+                @Index(name = "idx_event_outbox_sent_id", columnList = "sent_at, id"),
+                @Index(name = "idx_event_outbox_key_id", columnList = "message_key, id")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class EventOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "topic", length = 100, nullable = false)
+    private String topic;
+
+    @Column(name = "message_key", length = 100)
+    private String messageKey;
+
+    @Column(name = "event_type", length = 255, nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt; // 릴레이가 전송을 확인하기 전에는 null
+
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner; // 전송 중인 릴레이 인스턴스
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil; // 이 시각이 지나면 다른 릴레이가 다시 가져감
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts; // 전송 실패 횟수
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt; // 실패 횟수 초과로 격리된 시각 (격리된 레코드는 전송하지 않음)
+}
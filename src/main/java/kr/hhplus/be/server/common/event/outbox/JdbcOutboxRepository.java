@@ -0,0 +1,186 @@
+package kr.hhplus.be.server.common.event.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 아웃박스 저장소
+ * 저장은 호출한 트랜잭션의 커넥션을 그대로 사용하므로 비즈니스 변경과 함께 커밋/롤백됩니다.
+ * 릴레이는 (sent_at, id) 인덱스로 미전송 레코드를 id 순으로 잠가 lease_owner/lease_until을 기록한 뒤 바로 커밋하고,
+ * 전송은 트랜잭션 밖에서 수행합니다. 전송된 레코드는 UPDATE ... WHERE id IN (...) 1회로 표시합니다.
+ * 릴레이가 전송 중 종료되면 lease_until이 지난 뒤 다른 릴레이가 다시 가져갑니다.
+ * 같은 message_key의 순서를 지키기 위해, 앞선 레코드가 다른 릴레이에 임대 중인 키의 레코드는 임대하지 않습니다.
+ * (SKIP LOCKED는 앞선 레코드를 건너뛰고 뒤의 레코드를 가져갈 수 있으므로 사용하지 않고, 짧은 임대 트랜잭션끼리만 대기합니다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcOutboxRepository implements OutboxRepository {
+
+    private static final String INSERT_OUTBOX_SQL = """
+            INSERT INTO EVENT_OUTBOX (topic, message_key, event_type, payload, attempts, created_at)
+            VALUES (:topic, :messageKey, :eventType, :payload, 0, :createdAt)
+            """;
+    // 잠금 대기 후에도 최신 값을 기준으로 판단하도록 잠금 읽기로 조회 (격리 수준과 무관)
+    private static final String LOCK_UNSENT_SQL = """
+            SELECT id, topic, message_key, event_type, payload, attempts
+            FROM EVENT_OUTBOX
+            WHERE sent_at IS NULL AND parked_at IS NULL AND (lease_until IS NULL OR lease_until < :now)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE
+            """;
+    // 조회한 키 중 더 앞선 레코드가 다른 릴레이에 임대 중인 키
+    private static final String LOCK_LEASED_KEYS_SQL = """
+            SELECT message_key, MIN(id) AS min_id
+            FROM EVENT_OUTBOX
+            WHERE message_key IN (:keys) AND id < :maxId
+              AND sent_at IS NULL AND parked_at IS NULL AND lease_until >= :now
+            GROUP BY message_key
+            FOR SHARE
+            """;
+    private static final String LEASE_SQL = """
+            UPDATE EVENT_OUTBOX SET lease_owner = :owner, lease_until = :leaseUntil
+            WHERE id IN (:ids)
+            """;
+    private static final String MARK_SENT_SQL = """
+            UPDATE EVENT_OUTBOX SET sent_at = :sentAt, lease_owner = NULL, lease_until = NULL
+            WHERE id IN (:ids) AND lease_owner = :owner
+            """;
+    // 실패 횟수가 max-attempts에 도달하면 격리(parked_at)하여 같은 키의 뒤 레코드를 막지 않도록 함
+    private static final String MARK_FAILED_SQL = """
+            UPDATE EVENT_OUTBOX
+            SET parked_at = CASE WHEN attempts + 1 >= :maxAttempts THEN :now ELSE NULL END,
+                attempts = attempts + 1, last_error = :error, lease_owner = NULL, lease_until = NULL
+            WHERE id = :id AND lease_owner = :owner
+            """;
+    private static final String RELEASE_LEASE_SQL = """
+            UPDATE EVENT_OUTBOX SET lease_owner = NULL, lease_until = NULL
+            WHERE id IN (:ids) AND lease_owner = :owner
+            """;
+    private static final String DELETE_SENT_SQL = """
+            DELETE FROM EVENT_OUTBOX
+            WHERE sent_at IS NOT NULL AND sent_at < :threshold
+            LIMIT :limit
+            """;
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void save(OutboxMessage message, LocalDateTime createdAt) {
+        jdbcTemplate.update(INSERT_OUTBOX_SQL, new MapSqlParameterSource()
+                .addValue("topic", message.topic())
+                .addValue("messageKey", message.messageKey())
+                .addValue("eventType", message.eventType())
+                .addValue("payload", message.payload())
+                .addValue("createdAt", toUtcTimestamp(createdAt), Types.TIMESTAMP));
+    }
+
+    @Override
+    public List<OutboxMessage> lease(String owner, int limit, LocalDateTime now, LocalDateTime leaseUntil) {
+        Timestamp nowUtc = toUtcTimestamp(now);
+        List<OutboxMessage> candidates = jdbcTemplate.query(LOCK_UNSENT_SQL, new MapSqlParameterSource("limit", limit)
+                        .addValue("now", nowUtc, Types.TIMESTAMP),
+                (rs, rowNum) -> OutboxMessage.builder()
+                        .id(rs.getLong("id"))
+                        .topic(rs.getString("topic"))
+                        .messageKey(rs.getString("message_key"))
+                        .eventType(rs.getString("event_type"))
+                        .payload(rs.getString("payload"))
+                        .attempts(rs.getInt("attempts"))
+                        .build());
+        if (candidates.isEmpty()) return candidates;
+
+        // 앞선 레코드가 다른 릴레이에서 전송 중인 키는 그 레코드보다 뒤의 레코드를 제외
+        Map<String, Long> leasedKeys = findLeasedKeys(candidates, nowUtc);
+        List<OutboxMessage> messages = candidates.stream()
+                .filter(message -> message.messageKey() == null
+                        || !leasedKeys.containsKey(message.messageKey())
+                        || message.id() < leasedKeys.get(message.messageKey()))
+                .toList();
+        if (messages.isEmpty()) return messages;
+
+        jdbcTemplate.update(LEASE_SQL, new MapSqlParameterSource("ids", messages.stream().map(OutboxMessage::id).toList())
+                .addValue("owner", owner)
+                .addValue("leaseUntil", toUtcTimestamp(leaseUntil), Types.TIMESTAMP));
+        return messages;
+    }
+
+    private Map<String, Long> findLeasedKeys(List<OutboxMessage> candidates, Timestamp nowUtc) {
+        Set<String> keys = candidates.stream()
+                .map(OutboxMessage::messageKey)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (keys.isEmpty()) return Map.of();
+
+        long maxId = candidates.get(candidates.size() - 1).id();
+        Map<String, Long> leasedKeys = new HashMap<>();
+        jdbcTemplate.query(LOCK_LEASED_KEYS_SQL, new MapSqlParameterSource("keys", keys)
+                        .addValue("maxId", maxId)
+                        .addValue("now", nowUtc, Types.TIMESTAMP),
+                rs -> {
+                    leasedKeys.put(rs.getString("message_key"), rs.getLong("min_id"));
+                });
+        return leasedKeys;
+    }
+
+    @Override
+    public void markSent(String owner, List<Long> ids, LocalDateTime sentAt) {
+        if (ids.isEmpty()) return;
+        jdbcTemplate.update(MARK_SENT_SQL, new MapSqlParameterSource("ids", ids)
+                .addValue("owner", owner)
+                .addValue("sentAt", toUtcTimestamp(sentAt), Types.TIMESTAMP));
+    }
+
+    @Override
+    public void markFailed(String owner, Map<Long, String> errors, int maxAttempts, LocalDateTime now) {
+        if (errors.isEmpty()) return;
+        Timestamp nowUtc = toUtcTimestamp(now);
+        SqlParameterSource[] batchArgs = errors.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource("id", entry.getKey())
+                        .addValue("owner", owner)
+                        .addValue("maxAttempts", maxAttempts)
+                        .addValue("error", truncate(entry.getValue()))
+                        .addValue("now", nowUtc, Types.TIMESTAMP))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(MARK_FAILED_SQL, batchArgs);
+    }
+
+    @Override
+    public void releaseLease(String owner, List<Long> ids) {
+        if (ids.isEmpty()) return;
+        jdbcTemplate.update(RELEASE_LEASE_SQL, new MapSqlParameterSource("ids", ids).addValue("owner", owner));
+    }
+
+    @Override
+    public int deleteSentBefore(LocalDateTime threshold, int limit) {
+        return jdbcTemplate.update(DELETE_SENT_SQL, new MapSqlParameterSource("limit", limit)
+                .addValue("threshold", toUtcTimestamp(threshold), Types.TIMESTAMP));
+    }
+
+    private static String truncate(String error) {
+        if (error == null) return null;
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    // hibernate.jdbc.time_zone(UTC)과 동일한 기준으로 시간 값을 저장
+    private static Timestamp toUtcTimestamp(LocalDateTime dateTime) {
+        return Timestamp.valueOf(dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime());
+    }
+}
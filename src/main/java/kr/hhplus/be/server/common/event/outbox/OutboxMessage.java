@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.common.event.outbox;
+
+import lombok.Builder;
+
+/**
+ * 이벤트 아웃박스 레코드
+ * payload는 KafkaTemplate의 JsonSerializer와 동일한 ObjectMapper로 직렬화한 JSON이며,
+ * eventType(클래스 이름)은 릴레이가 __TypeId__ 헤더로 함께 전송하여 컨슈머의 JsonDeserializer가 그대로 역직렬화합니다.
+ */
+@Builder
+public record OutboxMessage(
+        Long id,
+        String topic,
+        String messageKey,
+        String eventType,
+        String payload,
+        int attempts // 전송 실패 횟수
+) {
+}
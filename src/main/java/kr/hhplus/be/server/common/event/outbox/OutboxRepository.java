@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.common.event.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface OutboxRepository {
+
+    void save(OutboxMessage message, LocalDateTime createdAt);
+
+    /**
+     * 미전송이면서 임대(lease)되지 않았거나 임대가 만료된 레코드를 id 순으로 조회하고, leaseUntil까지 owner에게 임대합니다.
+     * 조회와 임대 기록을 한 트랜잭션으로 묶어 호출해야 하며, 트랜잭션은 임대 기록 직후 커밋하여 행 잠금을 전송 동안 유지하지 않습니다.
+     * 격리된 레코드는 제외하고, 같은 message_key의 앞선 레코드가 다른 owner에게 임대 중이면 그 키의 뒤 레코드는 임대하지 않습니다.
+     */
+    List<OutboxMessage> lease(String owner, int limit, LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * owner가 임대 중인 레코드만 전송 완료로 표시합니다. (임대가 만료되어 다른 릴레이가 가져간 레코드는 제외)
+     */
+    void markSent(String owner, List<Long> ids, LocalDateTime sentAt);
+
+    /**
+     * 전송에 실패한 레코드(id → 오류 메시지)의 시도 횟수를 늘리고 임대를 해제합니다.
+     * 시도 횟수가 maxAttempts에 도달한 레코드는 격리(parked_at)되어 더 이상 전송하지 않습니다.
+     */
+    void markFailed(String owner, Map<Long, String> errors, int maxAttempts, LocalDateTime now);
+
+    /**
+     * 전송하지 못한 레코드의 임대를 해제하여 다음 실행에서 바로 다시 가져갈 수 있도록 합니다.
+     */
+    void releaseLease(String owner, List<Long> ids);
+
+    int deleteSentBefore(LocalDateTime threshold, int limit);
+}
@@ -19,6 +19,8 @@ public enum ErrorCode {
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "C007", "인증 정보가 유효하지 않습니다.", Level.WARN), // 인증 오류는 WARN으로 분류 가능
     TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "C008", "요청 횟수가 너무 많습니다. 잠시 후 다시 시도해주세요.", Level.WARN), // 비즈니스 흐름 중 발생
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "C009", "잘못된 요청입니다.", Level.ERROR), // 일반적인 잘못된 요청, ERROR로 분류
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "C010", "같은 Idempotency-Key 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.", Level.WARN),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "C011", "Idempotency-Key가 다른 요청에 이미 사용되었습니다.", Level.WARN),
 
     // User Service Errors (사용자 관련 오류) - 대부분 WARN 레벨
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "사용자를 찾을 수 없습니다.", Level.WARN), // 예상 가능한 비즈니스 예외
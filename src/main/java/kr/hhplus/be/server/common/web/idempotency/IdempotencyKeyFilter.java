@@ -0,0 +1,231 @@
+package kr.hhplus.be.server.common.web.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.common.exception.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 예약/결제 POST 요청의 Idempotency-Key 처리
+ * 타임아웃 후 같은 키로 재시도하면 분산락/트랜잭션을 다시 거치지 않고 Redis 조회 1회로 최초 성공 응답을 그대로 반환합니다.
+ * - 키가 없으면 처리 중 레코드를 저장하고 요청을 처리, 2xx 응답이면 상태/본문을 저장하고 그 외에는 레코드를 삭제 (같은 키로 재시도 가능)
+ * - 처리 중인 키로 재요청하면 409, 같은 키를 다른 경로나 다른 요청 본문에 사용하면 422
+ * 키는 Authorization 헤더(대기열 토큰) 단위로 구분하므로 다른 사용자의 응답이 반환되지 않습니다.
+ * Redis 장애 시에는 Idempotency-Key 없이 요청을 그대로 처리합니다.
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final List<String> TARGET_PATH_PREFIXES = List.of("/api/v1/payments", "/api/v1/reservations");
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration inProgressTtl;
+
+    public IdempotencyKeyFilter(IdempotencyRepository idempotencyRepository,
+                                ObjectMapper objectMapper,
+                                @Value("${idempotency.enabled:true}") boolean enabled,
+                                @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                                @Value("${idempotency.in-progress-ttl-ms:60000}") long inProgressTtlMs) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.inProgressTtl = Duration.ofMillis(inProgressTtlMs);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return TARGET_PATH_PREFIXES.stream().noneMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, ErrorCode.INVALID_INPUT_VALUE, IDEMPOTENCY_KEY_HEADER + "는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+            return;
+        }
+
+        // 본문 해시를 지문에 포함하기 위해 본문을 먼저 읽고, 컨트롤러에는 읽어 둔 본문을 다시 제공
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String key = KEY_PREFIX + scope(request) + ":" + idempotencyKey;
+        IdempotencyRecord inProgress = IdempotencyRecord.inProgress(
+                request.getMethod() + " " + request.getRequestURI() + " " + sha256Hex(cachedRequest.body, 32));
+
+        // 1. 처리 중 레코드 저장 또는 기존 레코드 조회 (단일 라운드트립)
+        Optional<IdempotencyRecord> existing;
+        try {
+            existing = idempotencyRepository.reserveOrGet(key, inProgress, inProgressTtl);
+        } catch (Exception e) {
+            log.warn("❌ Idempotency-Key 조회 실패, 키 없이 처리 - {}", e.getMessage());
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+        if (existing.isPresent()) {
+            replay(existing.get(), inProgress.fingerprint(), response);
+            return;
+        }
+
+        // 2. 요청 처리 후 성공 응답만 저장
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(cachedRequest, responseWrapper);
+            completed = saveIfSuccessful(key, inProgress, responseWrapper);
+        } finally {
+            if (!completed) release(key, inProgress);
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private boolean saveIfSuccessful(String key, IdempotencyRecord inProgress, ContentCachingResponseWrapper responseWrapper) {
+        int status = responseWrapper.getStatus();
+        if (status < 200 || status >= 300) return false;
+        try {
+            String body = new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8);
+            idempotencyRepository.complete(key, inProgress.complete(status, responseWrapper.getContentType(), body), ttl);
+            return true;
+        } catch (Exception e) {
+            log.warn("❌ Idempotency-Key 응답 저장 실패 - {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void replay(IdempotencyRecord record, String fingerprint, HttpServletResponse response) throws IOException {
+        if (!record.fingerprint().equals(fingerprint)) {
+            writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED, null);
+            return;
+        }
+        if (!record.completed()) {
+            writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS, null);
+            return;
+        }
+
+        response.setStatus(record.status());
+        if (record.contentType() != null) response.setContentType(record.contentType());
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.getOutputStream().write(record.body().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void release(String key, IdempotencyRecord inProgress) {
+        try {
+            idempotencyRepository.release(key, inProgress);
+        } catch (Exception e) {
+            // 해제하지 못한 처리 중 레코드는 in-progress-ttl 이후 만료
+            log.warn("❌ Idempotency-Key 처리 중 레코드 해제 실패 - {}", e.getMessage());
+        }
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode, String detailMessage) throws IOException {
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(errorCode, detailMessage));
+    }
+
+    // 키 충돌로 다른 사용자의 응답이 반환되지 않도록 Authorization 헤더의 해시로 구분
+    private static String scope(HttpServletRequest request) {
+        String authorization = request.getHeader("Authorization");
+        if (authorization == null) return "anonymous";
+        return sha256Hex(authorization.getBytes(StandardCharsets.UTF_8), 16);
+    }
+
+    private static String sha256Hex(byte[] value, int length) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value);
+            return HexFormat.of().formatHex(digest, 0, length);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 요청 본문을 미리 읽어 두고 getInputStream/getReader 호출마다 같은 본문을 제공하는 요청 래퍼
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return inputStream.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws UnsupportedEncodingException {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), encoding));
+        }
+    }
+}
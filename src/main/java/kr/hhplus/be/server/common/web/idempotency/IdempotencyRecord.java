@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.common.web.idempotency;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Idempotency-Key로 저장하는 요청 처리 상태
+ * 처리 중에는 completed=false인 자리표시 레코드를, 성공 응답 후에는 응답 상태/본문을 저장합니다.
+ *
+ * @param requestId   레코드를 만든 요청 식별자 (처리 중 레코드를 자신이 만든 경우에만 해제하기 위함)
+ * @param fingerprint 같은 키가 다른 요청에 재사용되었는지 확인하기 위한 "METHOD URI 본문해시"
+ */
+@Builder
+public record IdempotencyRecord(
+        String requestId,
+        String fingerprint,
+        boolean completed,
+        int status,
+        String contentType,
+        String body
+) {
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return IdempotencyRecord.builder()
+                .requestId(UUID.randomUUID().toString())
+                .fingerprint(fingerprint)
+                .completed(false)
+                .build();
+    }
+
+    public IdempotencyRecord complete(int status, String contentType, String body) {
+        return IdempotencyRecord.builder()
+                .requestId(requestId)
+                .fingerprint(fingerprint)
+                .completed(true)
+                .status(status)
+                .contentType(contentType)
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.common.web.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface IdempotencyRepository {
+
+    /**
+     * 키가 없으면 처리 중 레코드를 저장하고 empty, 이미 있으면 저장된 레코드를 반환합니다. (단일 라운드트립)
+     */
+    Optional<IdempotencyRecord> reserveOrGet(String key, IdempotencyRecord inProgress, Duration ttl);
+
+    void complete(String key, IdempotencyRecord completed, Duration ttl);
+
+    /**
+     * 자신이 저장한 처리 중 레코드인 경우에만 삭제하여 같은 키로 다시 시도할 수 있도록 합니다.
+     */
+    void release(String key, IdempotencyRecord inProgress);
+}
@@ -0,0 +1,75 @@
+package kr.hhplus.be.server.common.web.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * idempotency:{scope}:{Idempotency-Key} STRING (IdempotencyRecord JSON)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisIdempotencyRepository implements IdempotencyRepository {
+
+    // SET NX 후 기존 값을 다시 GET 하지 않도록, 저장된 값이 있으면 그대로 반환하고 없으면 저장 후 빈 문자열 반환
+    private static final DefaultRedisScript<String> RESERVE_OR_GET_SCRIPT = new DefaultRedisScript<>("""
+            local existing = redis.call('GET', KEYS[1])
+            if existing then
+                return existing
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return ''
+            """, String.class);
+
+    private static final DefaultRedisScript<Long> COMPARE_AND_DELETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> luaScriptRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Optional<IdempotencyRecord> reserveOrGet(String key, IdempotencyRecord inProgress, Duration ttl) {
+        String existing = luaScriptRedisTemplate.execute(RESERVE_OR_GET_SCRIPT, List.of(key),
+                serialize(inProgress), String.valueOf(ttl.toMillis()));
+        if (existing == null || existing.isEmpty())
+            return Optional.empty();
+        return Optional.of(deserialize(existing));
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord completed, Duration ttl) {
+        luaScriptRedisTemplate.opsForValue().set(key, serialize(completed), ttl);
+    }
+
+    @Override
+    public void release(String key, IdempotencyRecord inProgress) {
+        luaScriptRedisTemplate.execute(COMPARE_AND_DELETE_SCRIPT, List.of(key), serialize(inProgress));
+    }
+
+    private String serialize(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotency 레코드 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private IdempotencyRecord deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, IdempotencyRecord.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotency 레코드 역직렬화에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.concert.adapter.in.scheduler;
+
+import kr.hhplus.be.server.concert.port.in.FoldSeatCountUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 샤드 카운터에 누적된 예약 가능 좌석 수 변경분을 주기적으로 CONCERT_DATE에 반영합니다.
+ * (콘서트 날짜 조회 시 예약 가능 좌석 수는 최대 폴딩 주기만큼 지연될 수 있습니다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatCountFoldScheduler {
+
+    private final FoldSeatCountUseCase foldSeatCountUseCase;
+
+    @Scheduled(fixedDelay = 1000)
+    public void foldAvailableSeatCounts() {
+        try {
+            int foldedCount = foldSeatCountUseCase.foldAvailableSeatCounts();
+            if (foldedCount > 0) {
+                log.debug("[좌석 수 폴딩] 콘서트 날짜 {}개 반영", foldedCount);
+            }
+        } catch (Exception e) {
+            log.error("❌ 예약 가능 좌석 수 폴딩 중 오류 발생", e);
+        }
+    }
+}
@@ -16,12 +16,14 @@ import kr.hhplus.be.server.concert.domain.Concert;
 import kr.hhplus.be.server.concert.domain.ConcertDate;
 import kr.hhplus.be.server.concert.domain.Seat;
 import kr.hhplus.be.server.concert.usecase.ConcertService;
+import kr.hhplus.be.server.reservation.port.in.SeatHoldQueryUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -31,6 +33,7 @@ import java.util.UUID;
 public class ConcertController {
 
     private final ConcertService concertService;
+    private final SeatHoldQueryUseCase seatHoldQueryUseCase;
 
     // 콘서트 생성
     @PostMapping
@@ -125,4 +128,24 @@ public class ConcertController {
 
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "콘서트 좌석 배치도 조회 API", description = "해당 콘서트, 해당 날짜의 전체 좌석과 임시 점유 여부 조회")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = SeatResponse.class))),
+            @ApiResponse(responseCode = "404 - Concert", description = "콘서트 찾을 수 없음"),
+            @ApiResponse(responseCode = "404 - ConcertDate", description = "콘서트 날짜 찾을 수 없음"),
+    })
+    @GetMapping("/{concertId}/dates/{concertDateId}/seat-map")
+    public ResponseEntity<List<SeatResponse>> getSeatMap(
+            @PathVariable UUID concertId,
+            @PathVariable UUID concertDateId) throws CustomException {
+        List<Seat> seats = concertService.getSeatMap(concertId, concertDateId);
+        // 임시 점유는 예약된(결제 대기) 좌석에 걸리므로 전체 좌석 배치도 위에 날짜별 점유 좌석을 한 번에 조회하여 표시
+        Set<UUID> heldSeatIds = seats.isEmpty() ? Set.of() : seatHoldQueryUseCase.findHeldSeatIds(concertDateId);
+        List<SeatResponse> response = seats.stream()
+                .map(seat -> SeatResponse.from(seat, heldSeatIds.contains(seat.id())))
+                .toList();
+
+        return ResponseEntity.ok(response);
+    }
 }
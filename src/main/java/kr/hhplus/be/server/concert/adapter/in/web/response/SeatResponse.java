@@ -20,15 +20,22 @@ public record SeatResponse(
         @Schema(description = "좌석 등급")
         SeatGrade seatGrade,
         @Schema(description = "좌석 상태")
-        SeatStatus status
+        SeatStatus status,
+        @Schema(description = "결제 대기 중인 임시 점유 좌석인지 여부 (좌석 배치도 조회에서만 표시)")
+        boolean held
 ) {
     public static SeatResponse from(Seat seat) {
+        return from(seat, false);
+    }
+
+    public static SeatResponse from(Seat seat, boolean held) {
         return SeatResponse.builder()
                 .seatId(seat.id())
                 .seatNo(seat.seatNo())
                 .price(seat.price())
                 .seatGrade(seat.seatGrade())
                 .status(seat.status())
+                .held(held)
                 .build();
     }
 }
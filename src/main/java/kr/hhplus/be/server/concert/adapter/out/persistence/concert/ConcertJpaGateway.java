@@ -4,23 +4,38 @@ import kr.hhplus.be.server.common.exception.CustomException;
 import kr.hhplus.be.server.common.exception.ErrorCode;
 import kr.hhplus.be.server.concert.domain.Concert;
 import kr.hhplus.be.server.concert.port.out.ConcertRepository;
-import lombok.RequiredArgsConstructor;
+import kr.hhplus.be.server.common.cache.LocalExistenceCache;
+import kr.hhplus.be.server.common.cache.LocalExistenceCacheManager;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class ConcertJpaGateway implements ConcertRepository {
 
+    private static final String EXISTENCE_CACHE_NAME = "concert";
+
     private final JpaConcertRepository jpaConcertRepository;
+    private final LocalExistenceCacheManager existenceCacheManager;
+    private final LocalExistenceCache<UUID> existenceCache;
+
+    public ConcertJpaGateway(JpaConcertRepository jpaConcertRepository, LocalExistenceCacheManager existenceCacheManager) {
+        this.jpaConcertRepository = jpaConcertRepository;
+        this.existenceCacheManager = existenceCacheManager;
+        this.existenceCache = existenceCacheManager.create(EXISTENCE_CACHE_NAME, 10_000, Duration.ofMinutes(10), Duration.ofSeconds(3));
+    }
 
     @Override
     public Concert save(Concert concert) {
-        if (concert.id() == null) return jpaConcertRepository.save(ConcertEntity.from(concert)).toDomain();
+        if (concert.id() == null) {
+            Concert savedConcert = jpaConcertRepository.save(ConcertEntity.from(concert)).toDomain();
+            existenceCacheManager.markPresent(EXISTENCE_CACHE_NAME, savedConcert.id());
+            return savedConcert;
+        }
         // 이미 존재하는 콘서트는 업데이트
         ConcertEntity concertEntity = jpaConcertRepository.findById(concert.id().toString())
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND, "업데이트 할 콘서트를 찾을 수 없습니다: " + concert.id()));
@@ -53,11 +68,12 @@ public class ConcertJpaGateway implements ConcertRepository {
 
     @Override
     public boolean existsById(UUID concertId) {
-        return jpaConcertRepository.existsById(concertId.toString());
+        return existenceCache.exists(concertId, id -> jpaConcertRepository.existsById(id.toString()));
     }
     
     @Override
     public void deleteAll() {
         jpaConcertRepository.deleteAll();
+        existenceCacheManager.invalidateAll(EXISTENCE_CACHE_NAME);
     }
 }
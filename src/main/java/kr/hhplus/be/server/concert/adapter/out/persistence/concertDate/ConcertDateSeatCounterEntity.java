@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.concert.adapter.out.persistence.concertDate;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 콘서트 날짜별 예약 가능 좌석 수 변경분을 N개 행으로 나누어 누적하는 분산 카운터
+ * (갱신은 JdbcSeatCountCounterRepository의 네이티브 SQL로만 수행하며, 이 엔티티는 스키마 정의용입니다)
+ * 반영이 끝난 행은 폴딩 시 삭제되므로 테이블에는 미반영 변경분이 있는 행만 남습니다.
+ */
+@Entity
+@Table(name = "CONCERT_DATE_SEAT_COUNTER", indexes = @Index(name = "idx_seat_counter_concert_date_delta", columnList = "concert_date_id, delta"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ConcertDateSeatCounterEntity {
+
+    @Id
+    @Column(name = "id", length = 40)
+    private String id; // {concertDateId}:{shard}
+
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "concert_date_id", length = 36, nullable = false)
+    private String concertDateId;
+
+    @Column(name = "shard", nullable = false)
+    private Integer shard;
+
+    @Column(name = "delta", nullable = false)
+    private Long delta; // 아직 CONCERT_DATE.available_seat_count에 반영되지 않은 변경분
+}
@@ -0,0 +1,94 @@
+package kr.hhplus.be.server.concert.adapter.out.persistence.concertDate;
+
+import kr.hhplus.be.server.concert.port.out.SeatCountCounterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 예약 가능 좌석 수를 CONCERT_DATE 한 행 대신 N개의 샤드 행(CONCERT_DATE_SEAT_COUNTER)에 누적합니다.
+ * 같은 날짜의 서로 다른 좌석 예약이 임의의 샤드에 분산되므로 @Version이 걸린 CONCERT_DATE 행에서 경합하지 않습니다.
+ * 누적된 변경분은 fold()가 주기적으로 CONCERT_DATE에 합산하고, 0이 된 샤드 행은 삭제하여 테이블에는 미반영 변경분만 남깁니다.
+ * 여러 노드가 동시에 폴딩해도 FOR UPDATE SKIP LOCKED로 다른 노드가 잠근 샤드 행은 건너뛰므로, 한 변경분은 한 노드에서만 반영됩니다.
+ */
+@Repository
+public class JdbcSeatCountCounterRepository implements SeatCountCounterRepository {
+
+    private static final String ADD_DELTA_SQL = """
+            INSERT INTO CONCERT_DATE_SEAT_COUNTER (id, concert_date_id, shard, delta)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE delta = delta + VALUES(delta)
+            """;
+    private static final String FIND_PENDING_DELTAS_SQL = """
+            SELECT id, concert_date_id, delta FROM CONCERT_DATE_SEAT_COUNTER
+            WHERE delta <> 0
+            ORDER BY concert_date_id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+    // 읽은 값만큼만 차감하므로, 폴딩 중에 누적된 변경분은 다음 폴딩에서 반영됩니다.
+    private static final String SUBTRACT_DELTA_SQL = """
+            UPDATE CONCERT_DATE_SEAT_COUNTER SET delta = delta - ? WHERE id = ?
+            """;
+    // 폴딩한 행 잠금을 보유한 상태에서 삭제하며, 이후의 add()는 같은 id로 행을 다시 생성합니다.
+    private static final String DELETE_FOLDED_SQL = """
+            DELETE FROM CONCERT_DATE_SEAT_COUNTER WHERE id = ? AND delta = 0
+            """;
+    // concert_date_id 순으로 갱신하여 여러 노드가 서로 다른 샤드를 폴딩할 때 CONCERT_DATE 행 잠금 순서가 엇갈리지 않도록 합니다.
+    private static final String APPLY_DELTA_SQL = """
+            UPDATE CONCERT_DATE SET available_seat_count = available_seat_count + ?, version = COALESCE(version, 0) + 1
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int shardCount;
+    private final int foldBatchSize;
+
+    public JdbcSeatCountCounterRepository(JdbcTemplate jdbcTemplate,
+                                          @Value("${concert.seat-counter.shards:16}") int shardCount,
+                                          @Value("${concert.seat-counter.fold-batch-size:1000}") int foldBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardCount = Math.max(1, shardCount);
+        this.foldBatchSize = Math.max(1, foldBatchSize);
+    }
+
+    @Override
+    public void add(UUID concertDateId, long delta) {
+        int shard = ThreadLocalRandom.current().nextInt(shardCount);
+        jdbcTemplate.update(ADD_DELTA_SQL, concertDateId + ":" + shard, concertDateId.toString(), shard, delta);
+    }
+
+    @Override
+    public int fold() {
+        List<PendingDelta> pendingDeltas = jdbcTemplate.query(FIND_PENDING_DELTAS_SQL,
+                (rs, rowNum) -> new PendingDelta(rs.getString("id"), rs.getString("concert_date_id"), rs.getLong("delta")),
+                foldBatchSize);
+        if (pendingDeltas.isEmpty()) return 0;
+
+        Map<String, Long> deltaByConcertDate = new LinkedHashMap<>();
+        pendingDeltas.forEach(pending -> deltaByConcertDate.merge(pending.concertDateId(), pending.delta(), Long::sum));
+
+        jdbcTemplate.batchUpdate(SUBTRACT_DELTA_SQL, pendingDeltas, pendingDeltas.size(), (ps, pending) -> {
+            ps.setLong(1, pending.delta());
+            ps.setString(2, pending.id());
+        });
+        jdbcTemplate.batchUpdate(DELETE_FOLDED_SQL, pendingDeltas, pendingDeltas.size(),
+                (ps, pending) -> ps.setString(1, pending.id()));
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, new ArrayList<>(deltaByConcertDate.entrySet()), deltaByConcertDate.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setString(2, entry.getKey());
+                });
+        return deltaByConcertDate.size();
+    }
+
+    private record PendingDelta(String id, String concertDateId, long delta) {
+    }
+}
@@ -35,6 +35,14 @@ public interface JpaSeatRepository extends JpaRepository<SeatEntity, String> {
 	""")
 	List<SeatEntity> findByConcertDateId(String concertDateId);
 
+	@Query("""
+		select s
+		from SeatEntity s
+		where s.id in :seatIds
+			and s.concertDateId = :concertDateId
+	""")
+	List<SeatEntity> findBySeatIdsAndConcertDateId(List<String> seatIds, String concertDateId);
+
 
 	@Query("""
         select s
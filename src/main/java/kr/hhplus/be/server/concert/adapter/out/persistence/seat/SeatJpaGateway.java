@@ -9,8 +9,11 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -31,6 +34,32 @@ public class SeatJpaGateway implements SeatRepository {
         return seatEntity.toDomain();
     }
 
+    // 여러 좌석의 상태를 한 번에 변경 (조회 1회, UPDATE는 커밋 시 JDBC 배치로 실행)
+    @CacheEvict(value = "cache:seat:available", key = "#seats[0].concertDateId", condition = "!#seats.isEmpty()")
+    @Override
+    public List<Seat> saveAll(List<Seat> seats) {
+        Map<String, SeatEntity> seatEntities = jpaSeatRepository.findAllById(seats.stream().map(seat -> seat.id().toString()).toList())
+                .stream()
+                .collect(Collectors.toMap(SeatEntity::getId, Function.identity()));
+
+        return seats.stream()
+                .map(seat -> {
+                    SeatEntity seatEntity = seatEntities.get(seat.id().toString());
+                    if (seatEntity == null) throw new CustomException(ErrorCode.SEAT_NOT_FOUND, seat.id() + " 좌석을 업데이트 할 수 없습니다.");
+                    seatEntity.changeStatus(seat.status());
+                    return seatEntity.toDomain();
+                })
+                .toList();
+    }
+
+    @Override
+    public List<Seat> findBySeatIdsAndConcertDateId(List<UUID> seatIds, UUID concertDateId) {
+        return jpaSeatRepository.findBySeatIdsAndConcertDateId(seatIds.stream().map(UUID::toString).toList(), concertDateId.toString())
+                .stream()
+                .map(SeatEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public List<Seat> findByConcertDateId(UUID concertDateId) {
         return jpaSeatRepository.findByConcertDateId(concertDateId.toString()).stream()
@@ -0,0 +1,5 @@
+package kr.hhplus.be.server.concert.port.in;
+
+public interface FoldSeatCountUseCase {
+    int foldAvailableSeatCounts();
+}
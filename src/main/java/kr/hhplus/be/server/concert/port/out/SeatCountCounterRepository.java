@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.concert.port.out;
+
+import java.util.UUID;
+
+public interface SeatCountCounterRepository {
+
+    // 예약 가능 좌석 수 변경분을 임의의 샤드 행에 누적 (예약: -1, 취소/만료: +1)
+    void add(UUID concertDateId, long delta);
+
+    // 샤드에 누적된 변경분을 CONCERT_DATE.available_seat_count에 합산하고, 반영된 콘서트 날짜 수를 반환
+    int fold();
+}
@@ -13,6 +13,8 @@ public interface SeatRepository {
     Optional<Seat> findById(UUID seatId);
     List<Seat> findAvailableSeats(UUID concertId, UUID concertDateId);
     List<Seat> findByConcertDateId(UUID concertDateId);
+    List<Seat> findBySeatIdsAndConcertDateId(List<UUID> seatIds, UUID concertDateId);
+    List<Seat> saveAll(List<Seat> seats);
 
     void deleteAll();
 
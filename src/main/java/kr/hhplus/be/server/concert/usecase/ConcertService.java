@@ -121,6 +121,13 @@ public class ConcertService implements GetConcertDateUseCase {
         return availableSeats;
     }
 
+    // 콘서트 날짜의 전체 좌석 배치도 조회 (예약/임시 점유된 좌석 포함)
+    public List<Seat> getSeatMap(UUID concertId, UUID concertDateId) throws CustomException {
+        existsConcert(concertId);
+        existsConcertDate(concertDateId);
+        return seatRepository.findByConcertDateId(concertDateId);
+    }
+
     // 콘서트 조회
     private void existsConcert(UUID concertId) throws CustomException {
         if (!concertRepository.existsById(concertId)) {
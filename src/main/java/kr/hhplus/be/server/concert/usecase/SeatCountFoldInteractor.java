@@ -0,0 +1,21 @@
+package kr.hhplus.be.server.concert.usecase;
+
+import kr.hhplus.be.server.concert.port.in.FoldSeatCountUseCase;
+import kr.hhplus.be.server.concert.port.out.SeatCountCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class SeatCountFoldInteractor implements FoldSeatCountUseCase {
+
+    private final SeatCountCounterRepository seatCountCounterRepository;
+
+    // 샤드 차감과 CONCERT_DATE 합산을 하나의 트랜잭션으로 처리하여 변경분이 중복/누락 반영되지 않도록 합니다.
+    @Override
+    @Transactional
+    public int foldAvailableSeatCounts() {
+        return seatCountCounterRepository.fold();
+    }
+}
@@ -0,0 +1,192 @@
+package kr.hhplus.be.server.external.kafka;
+
+import kr.hhplus.be.server.common.event.outbox.OutboxMessage;
+import kr.hhplus.be.server.common.event.outbox.OutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 릴레이
+ * 미전송 레코드를 batch-size 건씩 짧은 트랜잭션으로 임대(lease)한 뒤 커밋하고,
+ * 트랜잭션 밖에서 모두 비동기로 send한 뒤 flush하여 프로듀서가 linger/배치/압축으로 묶어 보내도록 합니다.
+ * (브로커 응답을 기다리는 동안 행 잠금과 DB 커넥션을 점유하지 않음)
+ * 브로커가 확인한 레코드만 sent_at을 일괄 기록하고, 실패한 레코드는 시도 횟수를 늘려 임대를 해제하여 다음 실행에서 다시 전송합니다.
+ * - 같은 message_key에서 실패한 레코드 뒤의 레코드는 전송되었더라도 완료로 표시하지 않고 실패한 레코드와 함께 다시 전송 (키 순서 유지)
+ * - max-attempts 번 실패한 레코드는 격리(parked_at)하여 같은 키의 뒤 레코드가 계속 막히지 않도록 함 (격리된 레코드는 수동 확인)
+ * (전송 후 sent_at 기록 전에 장애가 나면 임대 만료 후 같은 레코드가 다시 전송될 수 있으므로 컨슈머는 기존처럼 멱등하게 처리해야 합니다)
+ * 임대 시간은 프로듀서가 막힐 수 있는 최대 시간(send 단계 max.block.ms + flush의 max.block.ms + delivery.timeout.ms)에 여유를 더한 값 이상으로 잡아,
+ * 정상 동작 중인 릴레이의 레코드를 다른 릴레이가 가져가 순서가 뒤바뀌는 일이 없도록 합니다.
+ * send 단계가 max.block.ms를 넘기면 남은 레코드는 보내지 않고 임대만 해제하여 다음 실행에서 순서대로 보냅니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event.outbox.enabled", havingValue = "true")
+public class KafkaOutboxRelay {
+
+    private static final int MAX_BATCHES_PER_RUN = 10; // 1회 실행에서 처리할 최대 배치 수 (적체 시 연속 처리)
+    private static final int PURGE_LIMIT = 5000;       // 전송 완료 레코드 정리 시 1회 삭제 건수
+    private static final long LEASE_MARGIN_MS = 5000;  // 전송 결과 기록(DB)까지 고려한 임대 시간 여유
+
+    private final KafkaTemplate<String, byte[]> outboxKafkaTemplate;
+    private final OutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+    private final long maxBlockMs;
+    private final Duration leaseDuration; // 전송 중 종료된 릴레이의 레코드를 다른 릴레이가 가져가기까지의 시간
+    private final int maxAttempts;
+    private final long retentionHours;
+    private final String relayId = UUID.randomUUID().toString(); // 임대 소유자 (인스턴스별)
+
+    public KafkaOutboxRelay(KafkaTemplate<String, byte[]> outboxKafkaTemplate,
+                            OutboxRepository outboxRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${event.outbox.batch-size:500}") int batchSize,
+                            @Value("${event.outbox.send-timeout-ms:10000}") long sendTimeoutMs,
+                            @Value("${event.outbox.lease-ms:30000}") long leaseMs,
+                            @Value("${event.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${event.outbox.retention-hours:24}") long retentionHours,
+                            @Value("${event.outbox.producer.max-block-ms:5000}") long maxBlockMs,
+                            @Value("${event.outbox.producer.delivery-timeout-ms:15000}") long deliveryTimeoutMs) {
+        this.outboxKafkaTemplate = outboxKafkaTemplate;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.maxBlockMs = maxBlockMs;
+        this.leaseDuration = Duration.ofMillis(leaseDuration(leaseMs, sendTimeoutMs, maxBlockMs, deliveryTimeoutMs));
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retentionHours = retentionHours;
+    }
+
+    @Scheduled(fixedDelayString = "${event.outbox.relay-delay-ms:100}")
+    public void relay() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                int sent = relayBatch();
+                if (sent < batchSize) return;
+            }
+        } catch (Exception e) {
+            // sent_at이 기록되지 않은 레코드는 임대 만료 후 다시 전송
+            log.error("❌ 아웃박스 이벤트 전송 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(cron = "${event.outbox.purge-cron:0 0 * * * *}")
+    public void purgeSent() {
+        LocalDateTime threshold = LocalDateTime.now().minusHours(retentionHours);
+        try {
+            int deleted;
+            do {
+                deleted = outboxRepository.deleteSentBefore(threshold, PURGE_LIMIT);
+            } while (deleted == PURGE_LIMIT);
+        } catch (Exception e) {
+            log.warn("❌ 전송 완료 아웃박스 레코드 정리 실패 - {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        // 1. 짧은 트랜잭션으로 임대만 기록하고 커밋 (행 잠금은 여기서 해제)
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> messages = transactionTemplate.execute(status ->
+                outboxRepository.lease(relayId, batchSize, now, now.plus(leaseDuration)));
+        if (messages == null || messages.isEmpty()) return 0;
+
+        // 2. 배치 전체를 비동기로 전송하고 flush로 남은 배치를 즉시 내보냄
+        //    send 단계가 max.block.ms를 넘기면(메타데이터/버퍼 대기) 나머지는 보내지 않고 다음 실행으로 미룸
+        long sendDeadline = System.currentTimeMillis() + maxBlockMs;
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            if (System.currentTimeMillis() > sendDeadline) break;
+            futures.add(send(message));
+        }
+        outboxKafkaTemplate.flush();
+
+        // 3. 브로커가 확인한 레코드만 전송 완료로 표시
+        //    같은 키에서 앞선 레코드가 실패했다면 뒤의 레코드는 완료로 표시하지 않고 임대만 해제하여 순서대로 다시 전송
+        List<Long> sentIds = new ArrayList<>(messages.size());
+        Map<Long, String> failedErrors = new LinkedHashMap<>();
+        List<Long> deferredIds = new ArrayList<>();
+        Set<String> failedKeys = new HashSet<>();
+        for (int i = 0; i < messages.size(); i++) {
+            OutboxMessage message = messages.get(i);
+            if (i >= futures.size()) {
+                deferredIds.add(message.id()); // 보내지 않은 레코드는 시도 횟수를 늘리지 않고 임대만 해제
+                continue;
+            }
+            try {
+                futures.get(i).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                if (message.messageKey() != null && failedKeys.contains(message.messageKey())) {
+                    deferredIds.add(message.id());
+                } else {
+                    sentIds.add(message.id());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                if (message.messageKey() != null) failedKeys.add(message.messageKey());
+                failedErrors.put(message.id(), e.getMessage());
+                if (message.attempts() + 1 >= maxAttempts) {
+                    log.error("❌ 아웃박스 이벤트 전송 {}회 실패로 격리. id: {}, topic: {}, key: {} - {}",
+                            message.attempts() + 1, message.id(), message.topic(), message.messageKey(), e.getMessage());
+                } else {
+                    log.warn("아웃박스 이벤트 전송 실패. id: {}, topic: {} - {}", message.id(), message.topic(), e.getMessage());
+                }
+            }
+        }
+        outboxRepository.markSent(relayId, sentIds, LocalDateTime.now());
+        outboxRepository.markFailed(relayId, failedErrors, maxAttempts, LocalDateTime.now());
+        outboxRepository.releaseLease(relayId, deferredIds);
+        return messages.size();
+    }
+
+    /**
+     * 임대 시간 = max(lease-ms, 응답 대기 시간, 프로듀서가 막힐 수 있는 최대 시간 + 여유)
+     * 임대가 먼저 만료되면 다른 릴레이가 같은 레코드를 가져가 같은 키의 뒤 레코드를 먼저 보낼 수 있음
+     */
+    static long leaseDuration(long leaseMs, long sendTimeoutMs, long maxBlockMs, long deliveryTimeoutMs) {
+        long producerBoundMs = 2 * maxBlockMs + Math.max(deliveryTimeoutMs, sendTimeoutMs) + LEASE_MARGIN_MS;
+        return Math.max(leaseMs, producerBoundMs);
+    }
+
+    // 전송 요청 자체가 실패한 레코드도 실패 횟수에 포함되도록 실패한 future로 변환
+    private CompletableFuture<SendResult<String, byte[]>> send(OutboxMessage message) {
+        try {
+            return outboxKafkaTemplate.send(toRecord(message));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static ProducerRecord<String, byte[]> toRecord(OutboxMessage message) {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(message.topic(), message.messageKey(),
+                message.payload().getBytes(StandardCharsets.UTF_8));
+        // JsonSerializer가 추가하던 타입 헤더를 그대로 전달하여 컨슈머의 JsonDeserializer가 이벤트 타입을 알 수 있도록 함
+        record.headers().add(new RecordHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                message.eventType().getBytes(StandardCharsets.UTF_8)));
+        return record;
+    }
+}
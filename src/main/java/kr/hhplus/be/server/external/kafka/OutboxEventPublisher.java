@@ -0,0 +1,105 @@
+package kr.hhplus.be.server.external.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.event.Event;
+import kr.hhplus.be.server.common.event.EventPublisher;
+import kr.hhplus.be.server.common.event.outbox.OutboxMessage;
+import kr.hhplus.be.server.common.event.outbox.OutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 모드 (event.outbox.enabled)
+ * 이벤트를 카프카로 바로 보내지 않고 EVENT_OUTBOX에 기록하여, 비즈니스 변경과 함께 커밋된 이벤트만 릴레이(KafkaOutboxRelay)가 전송하도록 합니다.
+ * - publish              : 호출한 트랜잭션에 참여 (트랜잭션 밖에서는 즉시 커밋)
+ * - publishIndependently : 호출한 트랜잭션이 끝난 뒤(afterCompletion) 짧은 별도 트랜잭션(REQUIRES_NEW)으로 기록 (롤백되는 트랜잭션의 결제 실패 이벤트, afterCommit 콜백에서의 발행)
+ *   afterCompletion 시점에는 호출한 트랜잭션의 작업이 끝났으므로 두 번째 커넥션은 INSERT 한 건 동안만 점유되고,
+ *   호출한 트랜잭션이 진행되는 동안에는 커넥션을 추가로 요구하지 않습니다.
+ *   기록은 호출 스레드에서 동기로 수행하므로 응답 전에 영속화되며, 실패 시 이벤트 내용을 로그로 남기고
+ *   outbox.independent.write.failed 카운터를 올려 알람을 받도록 합니다. (호출한 트랜잭션 종료와 기록 사이에 프로세스가 죽는 경우만 유실될 수 있음)
+ */
+@Slf4j
+@Component
+@Primary
+@ConditionalOnProperty(name = "event.outbox.enabled", havingValue = "true")
+public class OutboxEventPublisher implements EventPublisher {
+
+    static final String INDEPENDENT_WRITE_FAILED_METRIC = "outbox.independent.write.failed";
+    private static final int INDEPENDENT_WRITE_TIMEOUT_SECONDS = 5;
+
+    // KafkaTemplate의 JsonSerializer와 동일한 설정으로 직렬화하여 컨슈머가 기존과 같은 메시지를 받도록 함
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    private final OutboxRepository outboxRepository;
+    private final TransactionTemplate independentTransactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public OutboxEventPublisher(OutboxRepository outboxRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.meterRegistry = meterRegistry;
+        // afterCompletion 시점에는 끝난 트랜잭션의 리소스가 아직 스레드에 바인딩되어 있으므로 새 트랜잭션으로 분리해야 기록이 커밋됨
+        this.independentTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.independentTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.independentTransactionTemplate.setTimeout(INDEPENDENT_WRITE_TIMEOUT_SECONDS);
+    }
+
+    @Override
+    public <T extends Event> void publish(T event) {
+        outboxRepository.save(toOutboxMessage(event), LocalDateTime.now());
+    }
+
+    @Override
+    public <T extends Event> void publishIndependently(T event) {
+        OutboxMessage message = toOutboxMessage(event);
+        LocalDateTime createdAt = LocalDateTime.now();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 트랜잭션 밖에서는 자동 커밋으로 바로 기록
+            outboxRepository.save(message, createdAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                writeIndependently(message, createdAt);
+            }
+        });
+    }
+
+    private void writeIndependently(OutboxMessage message, LocalDateTime createdAt) {
+        try {
+            independentTransactionTemplate.executeWithoutResult(status -> outboxRepository.save(message, createdAt));
+        } catch (Exception e) {
+            // afterCompletion에서 던진 예외는 호출자에게 전달되지 않으므로 로그와 메트릭으로 남김
+            meterRegistry.counter(INDEPENDENT_WRITE_FAILED_METRIC, "topic", message.topic()).increment();
+            log.error("❌ 아웃박스 이벤트 기록 실패. topic: {}, key: {}, type: {}, payload: {}",
+                    message.topic(), message.messageKey(), message.eventType(), message.payload(), e);
+        }
+    }
+
+    private OutboxMessage toOutboxMessage(Event event) {
+        try {
+            return OutboxMessage.builder()
+                    .topic(event.getTopic().getTopicName())
+                    .messageKey(event.getKey())
+                    .eventType(event.getClass().getName())
+                    .payload(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 직렬화에 실패했습니다. type: " + event.getClass().getName(), e);
+        }
+    }
+}
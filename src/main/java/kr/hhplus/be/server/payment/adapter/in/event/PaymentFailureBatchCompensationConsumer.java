@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.payment.adapter.in.event;
+
+import kr.hhplus.be.server.payment.domain.PaymentFailedEvent;
+import kr.hhplus.be.server.payment.port.in.PaymentFailureCompensationUseCase;
+import kr.hhplus.be.server.payment.port.in.dto.PaymentFailureCompensationCommand;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 배치 보상 모드 (payment.compensation.batch.enabled)
+ * 한 번의 poll로 받은 결제 실패 이벤트를 하나의 트랜잭션에서 집합 단위 UPDATE로 보상합니다.
+ * 배치 트랜잭션이 실패하면 이벤트를 1건씩 다시 보상하여 실패한 이벤트를 찾고,
+ * 해당 이벤트는 BatchListenerFailedException으로 알려 재시도 후 payment.failed.DLT로 보냅니다. (batchKafkaListenerContainerFactory)
+ * 역직렬화에 실패한 레코드는 그 앞의 이벤트까지만 보상한 뒤 같은 방식으로 알리며, DeserializationException은 재시도 없이 DLT로 보내집니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "payment.compensation.batch.enabled", havingValue = "true")
+public class PaymentFailureBatchCompensationConsumer {
+
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(PaymentFailureBatchCompensationConsumer.class);
+
+    private final PaymentFailureCompensationUseCase paymentFailureCompensationUseCase;
+
+    @KafkaListener(
+            topics = "payment.failed",
+            groupId = "${spring.kafka.consumer.group-id.payment-compensator}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            properties = "max.poll.records=${payment.compensation.batch.max-poll-records:500}"
+    )
+    public void handlePaymentFailed(List<ConsumerRecord<String, PaymentFailedEvent>> records) {
+        log.info("결제 실패 이벤트 {}건 수신 (Kafka). 일괄 보상 트랜잭션을 시작합니다.", records.size());
+        for (int i = 0; i < records.size(); i++) {
+            DeserializationException deserializationException = SerializationUtils.getExceptionFromHeader(
+                    records.get(i), SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+            if (deserializationException != null) {
+                compensate(records.subList(0, i));
+                log.error("결제 실패 이벤트 역직렬화 실패. offset: {}", records.get(i).offset(), deserializationException);
+                throw new BatchListenerFailedException("결제 실패 이벤트를 역직렬화할 수 없습니다.", deserializationException, i);
+            }
+        }
+        compensate(records);
+    }
+
+    private void compensate(List<ConsumerRecord<String, PaymentFailedEvent>> records) {
+        if (records.isEmpty()) return;
+
+        List<PaymentFailureCompensationCommand> commands = records.stream()
+                .map(record -> PaymentFailureCompensationCommand.from(record.value()))
+                .toList();
+        try {
+            paymentFailureCompensationUseCase.compensateAll(commands);
+            return;
+        } catch (Exception e) {
+            log.warn("결제 실패 일괄 보상 실패, 1건씩 다시 처리합니다. - {}", e.getMessage());
+        }
+
+        // 이미 보상된 결제는 제외되므로, 앞서 롤백된 배치를 1건씩 다시 처리해도 중복 반영되지 않음
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                paymentFailureCompensationUseCase.compensateAll(List.of(commands.get(i)));
+            } catch (Exception e) {
+                log.error("결제 실패 보상 처리 중 오류 발생. Event: {}", records.get(i).value(), e);
+                throw new BatchListenerFailedException("결제 실패 보상 처리에 실패했습니다.", e, i);
+            }
+        }
+    }
+}
@@ -4,12 +4,17 @@ import kr.hhplus.be.server.payment.domain.PaymentFailedEvent;
 import kr.hhplus.be.server.payment.port.in.PaymentFailureCompensationUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+/**
+ * 결제 실패 이벤트를 1건씩 보상 처리 (배치 보상 모드에서는 PaymentFailureBatchCompensationConsumer가 대신 구독)
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
+@ConditionalOnProperty(name = "payment.compensation.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class PaymentFailureCompensationConsumer {
 
     private final PaymentFailureCompensationUseCase paymentFailureCompensationUseCase;
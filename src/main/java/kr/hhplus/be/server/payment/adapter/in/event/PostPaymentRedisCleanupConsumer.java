@@ -25,9 +25,9 @@ public class PostPaymentRedisCleanupConsumer {
     public void handlePaymentSuccess(PaymentSuccessEvent event) {
         try {
             // 1. Redis 좌석 임시 점유(hold) 해제
-            seatHoldReleaseUseCase.releaseHold(event.seat().id(), event.user().id());
+            seatHoldReleaseUseCase.releaseHold(event.seat().concertDateId(), event.seat().id(), event.user().id());
             // 2. 대기열 토큰 만료 처리
-            queueTokenExpirationUseCase.expiresQueueToken(event.queueToken().tokenId().toString());
+            queueTokenExpirationUseCase.expiresQueueToken(event.queueToken().tokenId().toString(), event.queueToken().expiresAt());
         } catch (Exception e) {
             log.error("결제 성공 후 Redis 데이터 정리 중 오류 발생. Event: {}", event, e);
             // TODO: 실패한 메시지 재처리(Retry) 또는 Dead Letter Queue(DLQ)로 전송
@@ -42,9 +42,9 @@ public class PostPaymentRedisCleanupConsumer {
     public void handlePaymentFailure(PaymentFailedEvent event) {
         try {
             // 1. Redis 좌석 임시 점유(hold) 해제
-            seatHoldReleaseUseCase.releaseHold(event.seatId(), event.userId()); // ⭐️ 호출 대상 변경
+            seatHoldReleaseUseCase.releaseHold(event.concertDateId(), event.seatId(), event.userId()); // ⭐️ 호출 대상 변경
             // 2. 대기열 토큰 만료 처리
-            queueTokenExpirationUseCase.expiresQueueToken(event.tokenId().toString());
+            queueTokenExpirationUseCase.expiresQueueToken(event.tokenId().toString(), event.tokenExpiresAt());
         } catch (Exception e) {
             log.error("결제 실패 후 Redis 데이터 정리 중 오류 발생. Event: {}", event, e);
             // TODO: 실패한 메시지 재처리(Retry) 또는 Dead Letter Queue(DLQ)로 전송
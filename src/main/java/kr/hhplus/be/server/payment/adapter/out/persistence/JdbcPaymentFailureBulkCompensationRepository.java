@@ -0,0 +1,86 @@
+package kr.hhplus.be.server.payment.adapter.out.persistence;
+
+import kr.hhplus.be.server.payment.domain.CompensatedPayment;
+import kr.hhplus.be.server.payment.port.out.PaymentFailureBulkCompensationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 결제 실패 보상을 배치 단위로 일괄 처리합니다.
+ * 이벤트 1건마다 결제/예약/좌석을 조회 후 저장하는 대신, 배치당 SELECT ... FOR UPDATE 1회와 UPDATE ... WHERE id IN (...) 3회로 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcPaymentFailureBulkCompensationRepository implements PaymentFailureBulkCompensationRepository {
+
+    // 이미 보상(FAILED)되었거나 성공/만료된 결제는 제외하고, 처리 중 상태가 바뀌지 않도록 행 잠금
+    private static final String LOCK_PENDING_PAYMENTS_SQL = """
+            SELECT p.id, p.reservation_id, r.seat_id, s.concert_date_id
+            FROM PAYMENT p
+            JOIN RESERVATION r ON r.id = p.reservation_id
+            JOIN SEAT s ON s.id = r.seat_id
+            WHERE p.id IN (:ids) AND p.status IN ('PENDING', 'PROCESSING')
+            FOR UPDATE
+            """;
+    private static final String FAIL_PAYMENTS_SQL = """
+            UPDATE PAYMENT SET status = 'FAILED', updated_at = :now
+            WHERE id IN (:ids)
+            """;
+    private static final String FAIL_RESERVATIONS_SQL = """
+            UPDATE RESERVATION SET status = 'FAILED', updated_at = :now
+            WHERE id IN (:ids)
+            """;
+    private static final String RELEASE_SEATS_SQL = """
+            UPDATE SEAT SET status = 'AVAILABLE', version = COALESCE(version, 0) + 1, updated_at = :now
+            WHERE id IN (:ids)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<CompensatedPayment> failPendingPayments(List<UUID> paymentIds, LocalDateTime now) {
+        if (paymentIds.isEmpty()) return List.of();
+
+        List<CompensatedPayment> compensatedPayments = jdbcTemplate.query(LOCK_PENDING_PAYMENTS_SQL,
+                new MapSqlParameterSource("ids", toStrings(paymentIds)),
+                (rs, rowNum) -> new CompensatedPayment(
+                        UUID.fromString(rs.getString("id")),
+                        UUID.fromString(rs.getString("reservation_id")),
+                        UUID.fromString(rs.getString("seat_id")),
+                        UUID.fromString(rs.getString("concert_date_id"))));
+        if (compensatedPayments.isEmpty()) return List.of();
+
+        Timestamp nowUtc = toUtcTimestamp(now);
+        List<String> ids = toStrings(compensatedPayments.stream().map(CompensatedPayment::paymentId).toList());
+        List<String> reservationIds = toStrings(compensatedPayments.stream().map(CompensatedPayment::reservationId).toList());
+        List<String> seatIds = toStrings(compensatedPayments.stream().map(CompensatedPayment::seatId).toList());
+
+        jdbcTemplate.update(FAIL_PAYMENTS_SQL, new MapSqlParameterSource("ids", ids)
+                .addValue("now", nowUtc, Types.TIMESTAMP));
+        jdbcTemplate.update(FAIL_RESERVATIONS_SQL, new MapSqlParameterSource("ids", reservationIds)
+                .addValue("now", nowUtc, Types.TIMESTAMP));
+        jdbcTemplate.update(RELEASE_SEATS_SQL, new MapSqlParameterSource("ids", seatIds)
+                .addValue("now", nowUtc, Types.TIMESTAMP));
+
+        return compensatedPayments;
+    }
+
+    // hibernate.jdbc.time_zone(UTC)과 동일한 기준으로 시간 값을 저장
+    private static Timestamp toUtcTimestamp(LocalDateTime dateTime) {
+        return Timestamp.valueOf(dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime());
+    }
+
+    private static List<String> toStrings(List<UUID> ids) {
+        return ids.stream().map(UUID::toString).toList();
+    }
+}
@@ -0,0 +1,137 @@
+package kr.hhplus.be.server.payment.adapter.out.persistence;
+
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.domain.enums.SeatGrade;
+import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+import kr.hhplus.be.server.payment.domain.Payment;
+import kr.hhplus.be.server.payment.domain.PaymentTarget;
+import kr.hhplus.be.server.payment.domain.enums.PaymentStatus;
+import kr.hhplus.be.server.payment.port.out.PaymentTargetRepository;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
+import kr.hhplus.be.server.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.Optional;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * 결제 최적화 모드의 조회/상태 변경
+ * 예약, 좌석, 결제, 사용자를 엔티티별로 조회(SELECT 4회)하는 대신 조인 조회 1회로 읽고,
+ * 예약/좌석 상태는 엔티티 저장 대신 UPDATE 문으로 변경합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcPaymentTargetRepository implements PaymentTargetRepository {
+
+    // hibernate.jdbc.time_zone(UTC)과 동일한 기준으로 시간 값을 조회
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private static final String FIND_PAYMENT_TARGET_SQL = """
+            SELECT r.id AS r_id, r.user_id AS r_user_id, r.status AS r_status,
+                   r.expires_at AS r_expires_at, r.created_at AS r_created_at, r.updated_at AS r_updated_at,
+                   s.id AS s_id, s.concert_date_id AS s_concert_date_id, s.seat_no AS s_seat_no, s.price AS s_price,
+                   s.seat_class AS s_seat_class, s.status AS s_status, s.created_at AS s_created_at, s.updated_at AS s_updated_at,
+                   p.id AS p_id, p.user_id AS p_user_id, p.amount AS p_amount, p.status AS p_status,
+                   p.failure_reason AS p_failure_reason, p.created_at AS p_created_at, p.updated_at AS p_updated_at,
+                   u.id AS u_id, u.amount AS u_amount, u.created_at AS u_created_at, u.updated_at AS u_updated_at
+            FROM RESERVATION r
+            JOIN SEAT s ON s.id = r.seat_id
+            JOIN PAYMENT p ON p.reservation_id = r.id
+            JOIN USERS u ON u.id = :userId
+            WHERE r.id = :reservationId
+            """;
+    private static final String MARK_RESERVATION_PAID_SQL = """
+            UPDATE RESERVATION SET status = 'SUCCESS', updated_at = :now
+            WHERE id = :id
+            """;
+    private static final String MARK_SEAT_PAID_SQL = """
+            UPDATE SEAT SET status = 'ASSIGNED', version = COALESCE(version, 0) + 1, updated_at = :now
+            WHERE id = :id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<PaymentTarget> findByReservationId(UUID reservationId, UUID userId) {
+        return jdbcTemplate.query(FIND_PAYMENT_TARGET_SQL,
+                        new MapSqlParameterSource("reservationId", reservationId.toString())
+                                .addValue("userId", userId.toString()),
+                        (rs, rowNum) -> toPaymentTarget(rs))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public void markPaid(UUID reservationId, UUID seatId, LocalDateTime now) {
+        Timestamp nowUtc = toUtcTimestamp(now);
+        jdbcTemplate.update(MARK_RESERVATION_PAID_SQL, new MapSqlParameterSource("id", reservationId.toString())
+                .addValue("now", nowUtc, Types.TIMESTAMP));
+        jdbcTemplate.update(MARK_SEAT_PAID_SQL, new MapSqlParameterSource("id", seatId.toString())
+                .addValue("now", nowUtc, Types.TIMESTAMP));
+    }
+
+    private static PaymentTarget toPaymentTarget(ResultSet rs) throws SQLException {
+        UUID reservationId = UUID.fromString(rs.getString("r_id"));
+        UUID seatId = UUID.fromString(rs.getString("s_id"));
+
+        Reservation reservation = Reservation.builder()
+                .id(reservationId)
+                .userId(UUID.fromString(rs.getString("r_user_id")))
+                .seatId(seatId)
+                .status(ReservationStatus.valueOf(rs.getString("r_status")))
+                .expiresAt(getDateTime(rs, "r_expires_at"))
+                .createdAt(getDateTime(rs, "r_created_at"))
+                .updatedAt(getDateTime(rs, "r_updated_at"))
+                .build();
+        Seat seat = Seat.builder()
+                .id(seatId)
+                .concertDateId(UUID.fromString(rs.getString("s_concert_date_id")))
+                .seatNo(rs.getInt("s_seat_no"))
+                .price(rs.getBigDecimal("s_price"))
+                .seatGrade(SeatGrade.valueOf(rs.getString("s_seat_class")))
+                .status(SeatStatus.valueOf(rs.getString("s_status")))
+                .createdAt(getDateTime(rs, "s_created_at"))
+                .updatedAt(getDateTime(rs, "s_updated_at"))
+                .build();
+        Payment payment = Payment.builder()
+                .id(UUID.fromString(rs.getString("p_id")))
+                .userId(UUID.fromString(rs.getString("p_user_id")))
+                .reservationId(reservationId)
+                .amount(rs.getBigDecimal("p_amount"))
+                .status(PaymentStatus.valueOf(rs.getString("p_status")))
+                .failureReason(rs.getString("p_failure_reason"))
+                .createdAt(getDateTime(rs, "p_created_at"))
+                .updatedAt(getDateTime(rs, "p_updated_at"))
+                .build();
+        User user = User.builder()
+                .id(UUID.fromString(rs.getString("u_id")))
+                .amount(rs.getBigDecimal("u_amount"))
+                .createdAt(getDateTime(rs, "u_created_at"))
+                .updatedAt(getDateTime(rs, "u_updated_at"))
+                .build();
+
+        return new PaymentTarget(reservation, seat, payment, user);
+    }
+
+    private static LocalDateTime getDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column, Calendar.getInstance(UTC));
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private static Timestamp toUtcTimestamp(LocalDateTime dateTime) {
+        return Timestamp.valueOf(dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime());
+    }
+}
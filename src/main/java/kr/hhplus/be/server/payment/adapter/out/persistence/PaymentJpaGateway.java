@@ -6,6 +6,7 @@ import kr.hhplus.be.server.payment.domain.enums.PaymentStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,6 +27,13 @@ public class PaymentJpaGateway implements PaymentRepository {
         return jpaPaymentRepository.save(paymentEntity).toDomain();
     }
 
+    @Override
+    public List<Payment> saveAll(List<Payment> payments) {
+        return jpaPaymentRepository.saveAll(payments.stream().map(PaymentEntity::from).toList()).stream()
+                .map(PaymentEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Payment> findByReservationId(UUID reservationId) {
         return jpaPaymentRepository.findByReservationId(reservationId.toString())
@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.payment.domain;
+
+import java.util.UUID;
+
+/**
+ * 일괄 보상 처리된 결제
+ *
+ * @param paymentId     FAILED로 변경된 결제 ID
+ * @param reservationId FAILED로 변경된 예약 ID
+ * @param seatId        예약 가능 상태로 되돌린 좌석 ID
+ * @param concertDateId 좌석의 콘서트 날짜 ID (잔여 좌석 수 증가 대상)
+ */
+public record CompensatedPayment(
+        UUID paymentId,
+        UUID reservationId,
+        UUID seatId,
+        UUID concertDateId
+) {
+}
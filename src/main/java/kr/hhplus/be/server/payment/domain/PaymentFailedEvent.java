@@ -17,6 +17,7 @@ import java.util.UUID;
 @Builder
 public record PaymentFailedEvent(
         UUID tokenId,
+        LocalDateTime tokenExpiresAt, // 서명 토큰 무효화 정보 보관 시간 계산용 (이전 메시지에는 없음)
         UUID paymentId,
         UUID reservationId,
         UUID userId,
@@ -30,6 +31,7 @@ public record PaymentFailedEvent(
     public static PaymentFailedEvent of(QueueToken queueToken, Payment payment, Reservation reservation, Seat seat, ConcertDate concertDate, User user, ErrorCode errorCode) {
         return PaymentFailedEvent.builder()
                 .tokenId(queueToken.tokenId())
+                .tokenExpiresAt(queueToken.expiresAt())
                 .paymentId(payment.id())
                 .reservationId(reservation.id())
                 .seatId(seat.id())
@@ -41,6 +43,21 @@ public record PaymentFailedEvent(
                 .build();
     }
 
+    public static PaymentFailedEvent of(QueueToken queueToken, Payment payment, Reservation reservation, Seat seat, User user, ErrorCode errorCode) {
+        return PaymentFailedEvent.builder()
+                .tokenId(queueToken.tokenId())
+                .tokenExpiresAt(queueToken.expiresAt())
+                .paymentId(payment.id())
+                .reservationId(reservation.id())
+                .seatId(seat.id())
+                .concertDateId(seat.concertDateId())
+                .userId(user.id())
+                .amount(payment.amount())
+                .errorCode(errorCode)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
     @Override
     public String getKey() {
         return reservationId.toString();
@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.payment.domain;
+
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.user.domain.User;
+
+/**
+ * 결제 처리에 필요한 예약/좌석/결제/사용자 정보 (결제 최적화 모드에서 조인 조회 1회로 로드)
+ */
+public record PaymentTarget(
+        Reservation reservation,
+        Seat seat,
+        Payment payment,
+        User user
+) {
+}
@@ -1,7 +1,10 @@
 package kr.hhplus.be.server.payment.port.in;
 
 import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.payment.port.in.dto.PaymentFailureCompensationCommand;
+
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 public interface PaymentFailureCompensationUseCase {
@@ -15,4 +18,10 @@ public interface PaymentFailureCompensationUseCase {
             BigDecimal amount,
             ErrorCode errorCode
     );
-}
\ No newline at end of file
+
+    /**
+     * 여러 결제 실패를 하나의 트랜잭션에서 집합 단위로 보상합니다.
+     * @return 실제로 보상 처리된 결제 수 (이미 보상된 결제는 제외)
+     */
+    int compensateAll(List<PaymentFailureCompensationCommand> commands);
+}
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.payment.port.in.dto;
+
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.payment.domain.PaymentFailedEvent;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record PaymentFailureCompensationCommand(
+        UUID paymentId,
+        UUID userId,
+        BigDecimal amount,
+        ErrorCode errorCode
+) {
+    public static PaymentFailureCompensationCommand from(PaymentFailedEvent event) {
+        return new PaymentFailureCompensationCommand(event.paymentId(), event.userId(), event.amount(), event.errorCode());
+    }
+}
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.payment.port.out;
+
+import kr.hhplus.be.server.payment.domain.CompensatedPayment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface PaymentFailureBulkCompensationRepository {
+    /**
+     * 아직 결제 대기/처리 중인 결제만 골라 결제/예약/좌석을 집합 단위 UPDATE로 실패 처리합니다.
+     * (이미 보상되었거나 성공/만료된 결제는 제외하므로 같은 이벤트가 재전달되어도 한 번만 반영됩니다)
+     * @param paymentIds 보상 대상 결제 ID 목록
+     * @param now        보상 처리 시각
+     * @return 실제로 보상 처리된 결제 목록
+     */
+    List<CompensatedPayment> failPendingPayments(List<UUID> paymentIds, LocalDateTime now);
+}
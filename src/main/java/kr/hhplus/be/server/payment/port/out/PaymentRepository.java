@@ -3,6 +3,7 @@ package kr.hhplus.be.server.payment.port.out;
 import kr.hhplus.be.server.payment.domain.enums.PaymentStatus;
 import kr.hhplus.be.server.payment.domain.Payment;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,6 +12,8 @@ public interface PaymentRepository {
 
     Payment save(Payment payment);
 
+    List<Payment> saveAll(List<Payment> payments);
+
     Optional<Payment> findByReservationId(UUID reservationId);
 
     void deleteAll();
@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.payment.port.out;
+
+import kr.hhplus.be.server.payment.domain.PaymentTarget;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PaymentTargetRepository {
+    /**
+     * 예약 ID로 예약, 좌석, 결제 정보와 결제 사용자 정보를 한 번에 조회합니다.
+     */
+    Optional<PaymentTarget> findByReservationId(UUID reservationId, UUID userId);
+
+    /**
+     * 결제 완료된 예약과 좌석의 상태를 변경합니다. (예약 SUCCESS, 좌석 ASSIGNED)
+     */
+    void markPaid(UUID reservationId, UUID seatId, LocalDateTime now);
+}
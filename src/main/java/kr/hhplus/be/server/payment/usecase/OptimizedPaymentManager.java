@@ -0,0 +1,106 @@
+package kr.hhplus.be.server.payment.usecase;
+
+import kr.hhplus.be.server.common.aop.bulkhead.BlockingCallBulkhead;
+import kr.hhplus.be.server.common.event.EventPublisher;
+import kr.hhplus.be.server.common.exception.CustomException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.payment.domain.Payment;
+import kr.hhplus.be.server.payment.domain.PaymentFailedEvent;
+import kr.hhplus.be.server.payment.domain.PaymentSuccessEvent;
+import kr.hhplus.be.server.payment.domain.PaymentTarget;
+import kr.hhplus.be.server.payment.domain.enums.PaymentStatus;
+import kr.hhplus.be.server.payment.port.in.dto.PaymentCommand;
+import kr.hhplus.be.server.payment.port.in.dto.PaymentTransactionResult;
+import kr.hhplus.be.server.payment.port.out.PaymentRepository;
+import kr.hhplus.be.server.payment.port.out.PaymentTargetRepository;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.port.out.SeatHoldRepository;
+import kr.hhplus.be.server.user.domain.User;
+import kr.hhplus.be.server.user.port.in.UserPointUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 최적화 모드 (payment.optimized.enabled)
+ * 분산락(user, reservation) 없이 DB 조건부 UPDATE만으로 중복 결제와 잔액 초과 차감을 막습니다.
+ * - 결제 상태 CAS (PENDING → SUCCESS) : 같은 예약의 동시 결제 중 하나만 성공
+ * - 조건부 잔액 차감 (amount >= 결제 금액) : 같은 사용자의 동시 결제에서도 잔액이 음수가 되지 않음
+ * 예약/좌석/결제/사용자는 조인 조회 1회로 읽고, 상태 변경은 엔티티 저장 대신 UPDATE 문으로 처리합니다.
+ * (한 트랜잭션 안에서 처리되므로 중간에 실패하면 CAS를 포함한 모든 변경이 롤백됩니다)
+ */
+@Component
+public class OptimizedPaymentManager {
+
+    private final PaymentTargetRepository paymentTargetRepository;
+    private final PaymentRepository paymentRepository;
+    private final UserPointUseCase userPointUseCase;
+    private final SeatHoldRepository seatHoldRepository;
+    private final EventPublisher eventPublisher;
+    private final boolean enabled;
+
+    public OptimizedPaymentManager(PaymentTargetRepository paymentTargetRepository,
+                                   PaymentRepository paymentRepository,
+                                   UserPointUseCase userPointUseCase,
+                                   SeatHoldRepository seatHoldRepository,
+                                   EventPublisher eventPublisher,
+                                   @Value("${payment.optimized.enabled:false}") boolean enabled) {
+        this.paymentTargetRepository = paymentTargetRepository;
+        this.paymentRepository = paymentRepository;
+        this.userPointUseCase = userPointUseCase;
+        this.seatHoldRepository = seatHoldRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @BlockingCallBulkhead
+    @Transactional
+    public PaymentTransactionResult processPayment(PaymentCommand command, QueueToken queueToken) throws CustomException {
+        // 1. 예약/좌석/결제/사용자 조인 조회
+        PaymentTarget target = paymentTargetRepository.findByReservationId(command.reservationId(), queueToken.userId())
+                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
+        Reservation reservation = target.reservation();
+        Seat seat = target.seat();
+        Payment payment = target.payment();
+        User user = target.user();
+
+        if (!seatHoldRepository.isHoldSeat(seat.concertDateId(), seat.id(), user.id()))
+            throw new CustomException(ErrorCode.SEAT_NOT_HOLD);
+
+        try {
+            if (!payment.checkAmount())
+                throw new CustomException(ErrorCode.INVALID_PAYMENT_AMOUNT);
+
+            // 2. 결제 상태 선점 (PENDING → SUCCESS)
+            int updated = paymentRepository.updateStatusIfExpected(payment.id(), PaymentStatus.SUCCESS, PaymentStatus.PENDING);
+            if (updated != 1)
+                throw new CustomException(ErrorCode.ALREADY_PROCESSED, "결제가 이미 처리되었습니다.");
+
+            // 3. 잔액 조건부 차감 및 포인트 내역 기록
+            userPointUseCase.use(user.id(), payment.id(), payment.amount());
+
+            // 4. 예약/좌석 상태 변경
+            paymentTargetRepository.markPaid(reservation.id(), seat.id(), LocalDateTime.now());
+
+            PaymentTransactionResult paymentTransactionResult = new PaymentTransactionResult(payment.success(), reservation.payment(), seat.payment(),
+                    user.payment(payment.amount()), queueToken);
+            // 5. 결제 성공 이벤트 발행 (아웃박스 모드에서는 결제와 함께 커밋)
+            eventPublisher.publish(PaymentSuccessEvent.from(paymentTransactionResult));
+            return paymentTransactionResult;
+        } catch (CustomException e) {
+            // CAS에서 진 요청은 아무것도 변경하지 않았으므로 실패 이벤트를 발행하지 않음 (보상이 성공한 결제를 되돌리지 않도록)
+            if (e.getErrorCode() == ErrorCode.ALREADY_PROCESSED) throw e;
+            // 결제 트랜잭션은 롤백되므로 실패 이벤트는 트랜잭션과 별도로 발행
+            eventPublisher.publishIndependently(PaymentFailedEvent.of(queueToken, payment, reservation, seat, user, e.getErrorCode()));
+            throw e;
+        }
+    }
+}
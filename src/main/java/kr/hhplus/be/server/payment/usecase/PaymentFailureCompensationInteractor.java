@@ -2,23 +2,34 @@ package kr.hhplus.be.server.payment.usecase;
 
 import kr.hhplus.be.server.common.exception.CustomException;
 import kr.hhplus.be.server.common.exception.ErrorCode;
-import kr.hhplus.be.server.concert.domain.ConcertDate;
 import kr.hhplus.be.server.concert.domain.Seat;
 import kr.hhplus.be.server.concert.port.out.ConcertDateRepository;
+import kr.hhplus.be.server.concert.port.out.SeatCountCounterRepository;
 import kr.hhplus.be.server.concert.port.out.SeatRepository;
+import kr.hhplus.be.server.payment.domain.CompensatedPayment;
 import kr.hhplus.be.server.payment.domain.Payment;
+import kr.hhplus.be.server.payment.domain.enums.PaymentStatus;
 import kr.hhplus.be.server.payment.port.in.PaymentFailureCompensationUseCase;
+import kr.hhplus.be.server.payment.port.in.dto.PaymentFailureCompensationCommand;
+import kr.hhplus.be.server.payment.port.out.PaymentFailureBulkCompensationRepository;
 import kr.hhplus.be.server.payment.port.out.PaymentRepository;
 import kr.hhplus.be.server.reservation.domain.Reservation;
 import kr.hhplus.be.server.reservation.port.out.ReservationRepository;
-import kr.hhplus.be.server.user.domain.User;
-import kr.hhplus.be.server.user.port.out.UserRepository;
+import kr.hhplus.be.server.reservation.port.out.SeatStateRepository;
+import kr.hhplus.be.server.user.port.in.UserPointUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -27,11 +38,14 @@ import java.util.UUID;
 @Slf4j
 public class PaymentFailureCompensationInteractor implements PaymentFailureCompensationUseCase {
 
-    private final UserRepository userRepository;
+    private final UserPointUseCase userPointUseCase;
     private final ReservationRepository reservationRepository;
     private final PaymentRepository paymentRepository;
     private final SeatRepository seatRepository;
     private final ConcertDateRepository concertDateRepository;
+    private final SeatCountCounterRepository seatCountCounterRepository;
+    private final SeatStateRepository seatStateRepository;
+    private final PaymentFailureBulkCompensationRepository paymentFailureBulkCompensationRepository;
 
     private static final Set<ErrorCode> PRE_CHARGE_ERRORS = Set.of(
             ErrorCode.INSUFFICIENT_BALANCE, ErrorCode.INVALID_PAYMENT_AMOUNT, ErrorCode.ALREADY_PAID,
@@ -46,12 +60,15 @@ public class PaymentFailureCompensationInteractor implements PaymentFailureCompe
             // --- DB 상태 복원 로직만 수행 ---
             Payment payment = paymentRepository.findById(paymentId)
                     .orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
+            // 이미 성공/실패/만료된 결제는 보상 대상이 아님 (다른 요청이 성공시킨 결제를 되돌리지 않도록)
+            if (payment.status() != PaymentStatus.PENDING && payment.status() != PaymentStatus.PROCESSING) {
+                log.warn("대기 중인 결제가 아니므로 보상 처리를 건너뜁니다. PaymentId: {}, status: {}", paymentId, payment.status());
+                return;
+            }
             paymentRepository.save(payment.fail());
 
             if (!PRE_CHARGE_ERRORS.contains(errorCode)) {
-                User user = userRepository.findById(userId)
-                        .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-                userRepository.save(user.refund(amount));
+                userPointUseCase.refund(userId, paymentId, amount); // 원자적 UPDATE, 같은 결제의 중복 환불은 무시
             }
 
             Reservation reservation = reservationRepository.findById(reservationId)
@@ -62,9 +79,11 @@ public class PaymentFailureCompensationInteractor implements PaymentFailureCompe
                     .orElseThrow(() -> new CustomException(ErrorCode.SEAT_NOT_FOUND));
             seatRepository.save(seat.expire());
 
-            ConcertDate concertDate = concertDateRepository.findById(concertDateId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.CONCERT_DATE_NOT_FOUND));
-            concertDateRepository.save(concertDate.increaseAvailableSeatCount());
+            if (!concertDateRepository.existsById(concertDateId)) {
+                throw new CustomException(ErrorCode.CONCERT_DATE_NOT_FOUND);
+            }
+            seatCountCounterRepository.add(concertDateId, 1); // 잔여 좌석 수는 샤드 카운터에 누적
+            seatStateRepository.release(seatId); // 빠른 거절용 좌석 상태 캐시 해제
             log.info("DB 보상 처리 완료. PaymentId: {}", paymentId);
         } catch (Exception e) {
             log.error("DB 보상 처리 중 예외 발생. PaymentId: {}", paymentId, e);
@@ -72,4 +91,41 @@ public class PaymentFailureCompensationInteractor implements PaymentFailureCompe
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public int compensateAll(List<PaymentFailureCompensationCommand> commands) {
+        // 같은 결제의 중복 이벤트는 하나로 합침
+        Map<UUID, PaymentFailureCompensationCommand> commandsByPaymentId = new LinkedHashMap<>();
+        commands.forEach(command -> commandsByPaymentId.putIfAbsent(command.paymentId(), command));
+
+        // 1. 대기/처리 중인 결제만 골라 결제/예약/좌석을 집합 단위 UPDATE로 실패 처리
+        List<CompensatedPayment> compensatedPayments = paymentFailureBulkCompensationRepository
+                .failPendingPayments(new ArrayList<>(commandsByPaymentId.keySet()), LocalDateTime.now());
+        if (compensatedPayments.isEmpty()) return 0;
+
+        // 2. 잔액 차감 이후 실패한 결제만 환불 (같은 결제의 중복 환불은 포인트 내역으로 무시)
+        for (CompensatedPayment compensatedPayment : compensatedPayments) {
+            PaymentFailureCompensationCommand command = commandsByPaymentId.get(compensatedPayment.paymentId());
+            if (!PRE_CHARGE_ERRORS.contains(command.errorCode())) {
+                userPointUseCase.refund(command.userId(), command.paymentId(), command.amount());
+            }
+        }
+
+        // 3. 콘서트 날짜별로 반환된 좌석 수를 합산하여 날짜당 한 번만 잔여 좌석 수 증가
+        Map<UUID, Integer> releasedSeatCounts = new LinkedHashMap<>();
+        compensatedPayments.forEach(compensated -> releasedSeatCounts.merge(compensated.concertDateId(), 1, Integer::sum));
+        releasedSeatCounts.forEach(seatCountCounterRepository::add);
+
+        // 4. 커밋 이후 빠른 거절용 좌석 상태 캐시 해제
+        List<UUID> seatIds = compensatedPayments.stream().map(CompensatedPayment::seatId).toList();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seatStateRepository.releaseAll(seatIds);
+            }
+        });
+        log.info("DB 일괄 보상 처리 완료. 요청: {}건, 보상: {}건", commands.size(), compensatedPayments.size());
+        return compensatedPayments.size();
+    }
+}
@@ -1,9 +1,7 @@
 package kr.hhplus.be.server.payment.usecase;
 
-import kr.hhplus.be.server.common.event.EventPublisher;
 import kr.hhplus.be.server.common.exception.CustomException;
 import kr.hhplus.be.server.common.util.DistributedLockKeyGenerator;
-import kr.hhplus.be.server.payment.domain.PaymentSuccessEvent;
 import kr.hhplus.be.server.payment.port.in.PaymentInput;
 import kr.hhplus.be.server.payment.port.in.dto.PaymentCommand;
 import kr.hhplus.be.server.payment.port.in.dto.PaymentResult;
@@ -11,47 +9,55 @@ import kr.hhplus.be.server.payment.port.in.dto.PaymentTransactionResult;
 import kr.hhplus.be.server.queue.adapter.out.persistence.QueueTokenManager;
 import kr.hhplus.be.server.queue.domain.QueueToken;
 import kr.hhplus.be.server.queue.domain.QueueTokenUtil;
+import kr.hhplus.be.server.queue.port.in.SignedQueueTokenUseCase;
 import kr.hhplus.be.server.reservation.usecase.DistributedLockManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
 public class PaymentInteractor implements PaymentInput {
 
-    private final EventPublisher eventPublisher;
     private final PaymentManager paymentManager;
+    private final OptimizedPaymentManager optimizedPaymentManager;
     private final QueueTokenManager queueTokenManager;
     private final DistributedLockManager distributedLockManager;
+    private final SignedQueueTokenUseCase signedQueueTokenUseCase;
 
+    /**
+     * 트랜잭션은 분산 락 안의 결제 매니저에서만 시작하여, 락 대기 동안 DB 커넥션을 점유하지 않고 락 해제 전에 커밋되도록 합니다.
+     * (결제 성공 이벤트도 같은 트랜잭션에서 발행)
+     */
     @Override
-    @Transactional
     public PaymentResult payment(PaymentCommand command) throws Exception {
         // 토큰 검증 및 조회
         QueueToken queueToken = getQueueTokenAndValid(command.queueTokenId());
+
+        // 결제 최적화 모드: 분산락 없이 결제 상태 CAS와 조건부 잔액 차감으로 처리
+        if (optimizedPaymentManager.isEnabled()) {
+            PaymentTransactionResult paymentTransactionResult = optimizedPaymentManager.processPayment(command, queueToken);
+            return PaymentResult.from(paymentTransactionResult);
+        }
+
         // 락 키 생성
         String reservationLockKey = DistributedLockKeyGenerator.getReservationLockKey(command.reservationId());
-        String userLockKey = DistributedLockKeyGenerator.getUserLockKey(queueToken.userId());
 
         /* 분산락 획득 후 결제 트랜잭션 수행
-         * 1. user:{userId} 락 획득
-         * 2. reservation:{reservationId} 락 획득
-         * 3. 결제 트랜잭션 수행
+         * 1. reservation:{reservationId} 락 획득
+         * 2. 결제 트랜잭션 수행
+         * (잔액은 조건부 UPDATE로 차감하므로 같은 사용자의 충전/결제를 직렬화하던 user:{userId} 락은 사용하지 않음)
          */
         PaymentTransactionResult paymentTransactionResult = distributedLockManager.executeWithLockHasReturn(
-                userLockKey,
-                () -> distributedLockManager.executeWithLockHasReturn(
-                        reservationLockKey,
-                        () -> paymentManager.processPayment(command, queueToken)));
-
-        eventPublisher.publish(PaymentSuccessEvent.from(paymentTransactionResult));
+                reservationLockKey,
+                () -> paymentManager.processPayment(command, queueToken));
         return PaymentResult.from(paymentTransactionResult);
 
     }
 
     private QueueToken getQueueTokenAndValid(String tokenId) throws CustomException {
-        QueueToken queueToken = queueTokenManager.getQueueToken(tokenId);
+        // 서명 토큰이면 Redis 조회 없이 검증, 아니면 기존처럼 Redis에서 토큰 조회
+        QueueToken queueToken = signedQueueTokenUseCase.verify(tokenId)
+                .orElseGet(() -> queueTokenManager.getQueueToken(tokenId));
         QueueTokenUtil.validateActiveQueueToken(queueToken);
         return queueToken;
     }
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.payment.usecase;
 
+import kr.hhplus.be.server.common.aop.bulkhead.BlockingCallBulkhead;
 import kr.hhplus.be.server.common.exception.CustomException;
 import kr.hhplus.be.server.common.exception.ErrorCode;
 import kr.hhplus.be.server.concert.domain.ConcertDate;
@@ -7,6 +8,7 @@ import kr.hhplus.be.server.concert.port.out.ConcertDateRepository;
 import kr.hhplus.be.server.payment.port.in.dto.PaymentDomainResult;
 import kr.hhplus.be.server.payment.port.in.dto.PaymentTransactionResult;
 import kr.hhplus.be.server.payment.domain.PaymentFailedEvent;
+import kr.hhplus.be.server.payment.domain.PaymentSuccessEvent;
 import kr.hhplus.be.server.payment.domain.Payment;
 import kr.hhplus.be.server.payment.domain.enums.PaymentStatus;
 import kr.hhplus.be.server.payment.port.out.PaymentRepository;
@@ -19,6 +21,7 @@ import kr.hhplus.be.server.reservation.port.out.SeatHoldRepository;
 import kr.hhplus.be.server.concert.port.out.SeatRepository;
 import kr.hhplus.be.server.user.domain.User;
 import kr.hhplus.be.server.user.port.out.UserRepository;
+import kr.hhplus.be.server.user.port.in.UserPointUseCase;
 import kr.hhplus.be.server.common.event.EventPublisher;
 import kr.hhplus.be.server.payment.port.in.dto.PaymentCommand;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +42,7 @@ public class PaymentManager {
     private final ConcertDateRepository concertDateRepository;
     private final SeatHoldRepository seatHoldRepository;
     private final PaymentDomainService paymentDomainService;
+    private final UserPointUseCase userPointUseCase;
     private final EventPublisher eventPublisher;
 
     /* 결제 상태 흐름
@@ -52,6 +56,7 @@ public class PaymentManager {
    │
    └── (이미 처리됨) → ALREADY_PROCESSED 예외
      */
+    @BlockingCallBulkhead
     @Transactional
     public PaymentTransactionResult processPayment(PaymentCommand command, QueueToken queueToken) throws CustomException {
         // 객체 조회 및 유효성 검사
@@ -60,7 +65,7 @@ public class PaymentManager {
         Seat seat = getSeat(reservation.seatId());
         Payment payment = getPayment(reservation.id());
         ConcertDate concertDate = getConcertDate(seat.concertDateId());
-        validateSeatHold(seat.id(), user.id());
+        validateSeatHold(seat.concertDateId(), seat.id(), user.id());
         try{
             // 🔐 낙관적 락: 상태 선점 (PENDING → PROCESSING)
             int updated = paymentRepository.updateStatusIfExpected(
@@ -84,20 +89,28 @@ public class PaymentManager {
                     PaymentStatus.PROCESSING
             );
 
+            // 결제 성공 이벤트 발행 (아웃박스 모드에서는 결제와 함께 커밋)
+            eventPublisher.publish(PaymentSuccessEvent.from(paymentTransactionResult));
+
             // 좌석해제 및 토큰 만료 처리 -> 이벤트 발행으로 대체
 //            seatHoldRepository.deleteHold(paymentTransactionResult.seat().id(), paymentTransactionResult.user().id());
 //            queueTokenRepository.expiresQueueToken(queueToken.tokenId().toString());
 
             return paymentTransactionResult;
         } catch (CustomException e) {
-            eventPublisher.publish(PaymentFailedEvent.of(queueToken, payment, reservation, seat, concertDate, user, e.getErrorCode()));
+            // CAS에서 진 요청은 아무것도 변경하지 않았으므로 실패 이벤트를 발행하지 않음 (보상이 성공한 결제를 되돌리지 않도록)
+            if (e.getErrorCode() == ErrorCode.ALREADY_PROCESSED) throw e;
+            // 결제 트랜잭션은 롤백되므로 실패 이벤트는 트랜잭션과 별도로 발행
+            eventPublisher.publishIndependently(PaymentFailedEvent.of(queueToken, payment, reservation, seat, concertDate, user, e.getErrorCode()));
             throw e;
         }
     }
 
     private PaymentTransactionResult processPayment(PaymentDomainResult result) {
         Payment savedPayment	 = paymentRepository.save(result.payment());
-        User savedUser           = userRepository.save(result.user());
+        // 잔액은 조회한 값으로 계산해 저장하지 않고 조건부 UPDATE로 차감 (동시 충전/결제 시 갱신 손실 방지)
+        userPointUseCase.use(result.user().id(), result.payment().id(), result.payment().amount());
+        User savedUser           = result.user();
         Reservation savedReservation = reservationRepository.save(result.reservation());
         Seat savedSeat        = seatRepository.save(result.seat());
 
@@ -130,8 +143,8 @@ public class PaymentManager {
                 .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
     }
 
-    private void validateSeatHold(UUID seatId, UUID userId) throws CustomException {
-        if (!seatHoldRepository.isHoldSeat(seatId, userId))
+    private void validateSeatHold(UUID concertDateId, UUID seatId, UUID userId) throws CustomException {
+        if (!seatHoldRepository.isHoldSeat(concertDateId, seatId, userId))
             throw new CustomException(ErrorCode.SEAT_NOT_HOLD);
     }
 }
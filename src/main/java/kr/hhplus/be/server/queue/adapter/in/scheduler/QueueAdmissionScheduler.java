@@ -0,0 +1,92 @@
+package kr.hhplus.be.server.queue.adapter.in.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.queue.domain.AdmissionSignal;
+import kr.hhplus.be.server.queue.port.in.AdjustAdmissionLimitUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션이 이미 수집하고 있는 지표(Micrometer)로 백엔드 부하 신호를 만들어
+ * 콘서트별 입장 한도를 주기적으로 조정하는 스케줄러
+ * - 예약/결제 API 응답 시간: http.server.requests
+ * - DB 커넥션 대기: hikaricp.connections.pending
+ * - 분산락 충돌률: distributed.lock.acquire (DistributedLockManager)
+ * 모든 노드에서 실행되어 자신의 신호를 보고하고, 실제 조정은 주기마다 한 노드만 수행합니다. (QueueAdmissionInteractor)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueAdmissionScheduler {
+
+    private static final List<String> BOOKING_URIS = List.of(
+            "/api/v1/reservations/seats/{seatId}",
+            "/api/v1/reservations/seats",
+            "/api/v1/payments/{reservationId}");
+
+    private final AdjustAdmissionLimitUseCase adjustAdmissionLimitUseCase;
+    private final MeterRegistry meterRegistry;
+
+    // 이전 실행 시점의 누적값 (구간 평균/비율을 계산하기 위해 보관)
+    private long previousRequestCount;
+    private double previousRequestTimeMillis;
+    private double previousLockAcquired;
+    private double previousLockConflict;
+
+    @Scheduled(fixedRateString = "${queue.admission.adjust-interval-ms:10000}")
+    public void adjustAdmissionLimits() {
+        try {
+            AdmissionSignal signal = collectSignal();
+            adjustAdmissionLimitUseCase.adjustAdmissionLimits(signal);
+        } catch (Exception e) {
+            log.error("❌ 입장 한도 조정 중 오류 발생", e);
+        }
+    }
+
+    private AdmissionSignal collectSignal() {
+        // 1. 예약/결제 API 구간 평균 응답 시간
+        long requestCount = 0;
+        double requestTimeMillis = 0;
+        for (String uri : BOOKING_URIS) {
+            for (Timer timer : meterRegistry.find("http.server.requests").tag("uri", uri).timers()) {
+                requestCount += timer.count();
+                requestTimeMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+            }
+        }
+        long intervalCount = requestCount - previousRequestCount;
+        double latencyMillis = intervalCount > 0 ? (requestTimeMillis - previousRequestTimeMillis) / intervalCount : 0;
+        previousRequestCount = requestCount;
+        previousRequestTimeMillis = requestTimeMillis;
+
+        // 2. Hikari 커넥션 획득 대기 수
+        double pendingConnections = meterRegistry.find("hikaricp.connections.pending").gauges().stream()
+                .mapToDouble(Gauge::value)
+                .sum();
+
+        // 3. 구간 분산락 충돌률
+        double lockAcquired = sumCounter("acquired");
+        double lockConflict = sumCounter("conflict") + sumCounter("rejected"); // 대기자 한도 초과로 즉시 거절된 요청도 충돌로 집계
+        double intervalAcquired = lockAcquired - previousLockAcquired;
+        double intervalConflict = lockConflict - previousLockConflict;
+        double intervalTotal = intervalAcquired + intervalConflict;
+        double lockConflictRate = intervalTotal > 0 ? intervalConflict / intervalTotal : 0;
+        previousLockAcquired = lockAcquired;
+        previousLockConflict = lockConflict;
+
+        return new AdmissionSignal(latencyMillis, pendingConnections, lockConflictRate);
+    }
+
+    private double sumCounter(String result) {
+        return meterRegistry.find("distributed.lock.acquire").tag("result", result).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
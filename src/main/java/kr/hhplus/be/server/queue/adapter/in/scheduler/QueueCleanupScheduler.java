@@ -2,14 +2,20 @@ package kr.hhplus.be.server.queue.adapter.in.scheduler;
 
 import kr.hhplus.be.server.concert.domain.Concert;
 import kr.hhplus.be.server.concert.port.out.ConcertRepository;
+import kr.hhplus.be.server.queue.port.in.RequestQueuePromotionUseCase;
 import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
+import kr.hhplus.be.server.queue.usecase.QueueMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -18,6 +24,8 @@ public class QueueCleanupScheduler {
 
     private final QueueTokenRepository queueTokenRepository;
     private final ConcertRepository concertRepository; // 콘서트 목록을 가져오기 위해 의존성 주입
+    private final RequestQueuePromotionUseCase requestQueuePromotionUseCase;
+    private final QueueMetrics queueMetrics;
 
     /**
      * 매 30초마다 실행되어 만료된 대기열 토큰을 정리합니다.
@@ -29,6 +37,7 @@ public class QueueCleanupScheduler {
         for (Concert concert : allConcerts) {
             try {
                 long removedCount = queueTokenRepository.removeExpiredWaitingTokens(concert.id());
+                queueMetrics.recordExpirations(concert.id(), QueueMetrics.REASON_WAITING_TIMEOUT, removedCount);
                 if (removedCount > 0) {
                     log.info("✅ 콘서트 ID {}: 만료된 대기 토큰 {}개 삭제 완료", concert.id(), removedCount);
                 }
@@ -39,20 +48,36 @@ public class QueueCleanupScheduler {
         log.info("⏰ 만료된 대기열 토큰 정리 스케줄러 종료");
     }
 
+    /**
+     * 애플리케이션 시작 시 정리 대상 목록(queue:concerts) 도입 전에 생긴 대기열도 등록합니다.
+     * 등록하지 않으면 새 토큰이 발급되기 전까지 해당 콘서트의 활성 토큰이 정리되지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerQueuedConcerts() {
+        try {
+            long registeredCount = queueTokenRepository.registerQueuedConcerts();
+            log.info("대기열 정리 대상 콘서트 등록 완료: 신규 {}건", registeredCount);
+        } catch (Exception e) {
+            log.error("❌ 대기열 정리 대상 콘서트 등록 중 오류 발생", e);
+        }
+    }
+
     /**
      * 매 30초마다 실행되어 만료된 활성 토큰을 정리합니다.
+     * 전체 콘서트가 아닌, Redis에 대기열 키가 존재하는 콘서트만 대상으로 합니다.
      */
     @Scheduled(cron = "*/30 * * * * *")
     public void cleanupStaleActiveTokens() {
-        List<Concert> allConcerts = concertRepository.findAll();
-        for (Concert concert : allConcerts) {
+        Set<UUID> queuedConcertIds = queueTokenRepository.findQueuedConcertIds();
+        for (UUID concertId : queuedConcertIds) {
             try {
-                long removedCount = queueTokenRepository.removeStaleActiveTokens(concert.id());
+                long removedCount = queueTokenRepository.removeStaleActiveTokens(concertId);
+                queueMetrics.recordExpirations(concertId, QueueMetrics.REASON_ACTIVE_TIMEOUT, removedCount);
                 if (removedCount > 0) {
-                    log.info("✅ 콘서트 ID {}: 만료된 활성 토큰 {}개 삭제 완료", concert.id(), removedCount);
+                    requestQueuePromotionUseCase.requestPromotion(concertId); // 비워진 활성 자리를 즉시 채움
                 }
             } catch (Exception e) {
-                log.error("❌ 콘서트 ID {}의 만료 활성 토큰 정리 중 오류 발생", concert.id(), e);
+                log.error("❌ 콘서트 ID {}의 만료 활성 토큰 정리 중 오류 발생", concertId, e);
             }
         }
     }
@@ -1,30 +1,79 @@
 package kr.hhplus.be.server.queue.adapter.in.scheduler;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kr.hhplus.be.server.concert.domain.Concert;
 import kr.hhplus.be.server.concert.port.out.ConcertRepository;
+import kr.hhplus.be.server.queue.adapter.in.web.sse.QueuePositionBroadcaster;
+import kr.hhplus.be.server.queue.domain.QueuePromotion;
 import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
-import lombok.RequiredArgsConstructor;
+import kr.hhplus.be.server.queue.usecase.QueueMetrics;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class QueueTokenPromoteScheduler {
 
+    private static final long PROMOTE_INTERVAL_MILLIS = 5000L;
+
     private final QueueTokenRepository queueTokenRepository;
     private final ConcertRepository concertRepository;
+    private final QueuePositionBroadcaster queuePositionBroadcaster;
+    private final QueueMetrics queueMetrics;
+    private final Timer promoteTickTimer; // 승격 1회(tick) 소요 시간
+
+    public QueueTokenPromoteScheduler(QueueTokenRepository queueTokenRepository,
+                                      ConcertRepository concertRepository,
+                                      QueuePositionBroadcaster queuePositionBroadcaster,
+                                      QueueMetrics queueMetrics,
+                                      MeterRegistry meterRegistry) {
+        this.queueTokenRepository = queueTokenRepository;
+        this.concertRepository = concertRepository;
+        this.queuePositionBroadcaster = queuePositionBroadcaster;
+        this.queueMetrics = queueMetrics;
+        this.promoteTickTimer = Timer.builder("queue.promotion.tick")
+                .description("대기열 토큰 승격 스케줄러 1회 실행 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
 
     /**
      * 대기열 토큰을 활성 토큰으로 승급하는 스케줄러
      * 5초마다 실행하여 만료된 활성 토큰 자리를 대기 토큰으로 채움
+     * 승격 직후 대기열 지표를 갱신하고, SSE 구독자들에게 바뀐 대기 순번을 일괄 전송
      */
-    @Scheduled(fixedRate = 5000)
+    @Scheduled(fixedRate = PROMOTE_INTERVAL_MILLIS)
     public void promoteWaitingTokens() {
+        long startNanos = System.nanoTime();
+
         LocalDateTime now = LocalDateTime.now(); // 현재 시간 가져오기, 다양한 시간대 문제를 피하기 위해 애플리케이션에서 직접 처리
         List<Concert> openConcerts = concertRepository.findByOpenConcerts(now);
-        queueTokenRepository.promoteQueueToken(openConcerts);
+        List<QueuePromotion> promotions = queueTokenRepository.promoteQueueToken(openConcerts);
+        long promotedCount = QueuePromotion.totalCount(promotions);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        promoteTickTimer.record(elapsedMillis, TimeUnit.MILLISECONDS);
+
+        // 승격 주기의 절반을 넘기면 콘서트 수 증가로 주기를 지키지 못할 수 있으므로 경고
+        if (elapsedMillis > PROMOTE_INTERVAL_MILLIS / 2) {
+            log.warn("❌ [승격 지연] 콘서트 {}개, 승격 {}건 처리에 {}ms 소요 (주기 {}ms)", openConcerts.size(), promotedCount, elapsedMillis, PROMOTE_INTERVAL_MILLIS);
+        } else {
+            log.debug("[승격 tick] 콘서트 {}개, 승격 {}건, {}ms", openConcerts.size(), promotedCount, elapsedMillis);
+        }
+
+        queueMetrics.recordPromotions(promotions);
+        try {
+            queueMetrics.updateDepths(queueTokenRepository.findQueueDepths(openConcerts.stream().map(Concert::id).toList()));
+        } catch (Exception e) {
+            log.warn("❌ 대기열 현황 조회 실패 - {}", e.getMessage());
+        }
+
+        queuePositionBroadcaster.broadcast();
     }
-}
\ No newline at end of file
+}
@@ -6,14 +6,21 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import kr.hhplus.be.server.queue.usecase.QueueInteractor;
 import kr.hhplus.be.server.common.exception.CustomException;
 import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.adapter.in.web.response.QueuePositionResponse;
 import kr.hhplus.be.server.queue.adapter.in.web.response.QueueTokenResponse;
+import kr.hhplus.be.server.queue.adapter.in.web.sse.QueuePositionBroadcaster;
+import kr.hhplus.be.server.queue.port.in.EstimateQueueWaitUseCase;
+import kr.hhplus.be.server.queue.port.in.GetQueueInfoUseCase;
+import kr.hhplus.be.server.queue.port.in.IssueTokenUseCase;
+import kr.hhplus.be.server.queue.port.in.SignedQueueTokenUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -23,7 +30,11 @@ import java.util.UUID;
 @Tag(name = "Queue API", description = "대기열 관련 API")
 public class QueueController {
 
-    private final QueueInteractor queueService;
+    private final IssueTokenUseCase issueTokenUseCase;
+    private final GetQueueInfoUseCase getQueueInfoUseCase;
+    private final EstimateQueueWaitUseCase estimateQueueWaitUseCase;
+    private final SignedQueueTokenUseCase signedQueueTokenUseCase;
+    private final QueuePositionBroadcaster queuePositionBroadcaster;
 
     @Operation(
             summary = "콘서트 대기열 토큰 발급",
@@ -49,9 +60,9 @@ public class QueueController {
             @PathVariable UUID concertId,
             @PathVariable UUID userId
     ) throws CustomException {
-        QueueToken queueToken = queueService.issueQueueToken(userId, concertId);
+        QueueToken queueToken = issueTokenUseCase.issueQueueToken(userId, concertId);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(QueueTokenResponse.from(queueToken));
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(queueToken));
     }
 
     @Operation(
@@ -81,8 +92,48 @@ public class QueueController {
         final String parsedQueueToken = queueToken.startsWith("Bearer ")
                 ? queueToken.substring("Bearer ".length())
                 : queueToken;
-        QueueToken result = queueService.getQueueInfo(concertId, parsedQueueToken);
+        QueueToken result = getQueueInfoUseCase.getQueueInfo(concertId, parsedQueueToken);
 
-        return ResponseEntity.ok(QueueTokenResponse.from(result));
+        return ResponseEntity.ok(toResponse(result));
+    }
+
+    @Operation(
+            summary = "콘서트 대기열 순번 구독 (SSE)",
+            description = "대기열 순번이 바뀔 때마다 position 이벤트를 푸시 (폴링 대체). 활성 상태가 되면 연결 종료"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "구독 성공",
+                    content = @Content(schema = @Schema(implementation = QueuePositionResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 토큰"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "콘서트 찾을 수 없음"
+            )
+    })
+    @GetMapping(value = "/concerts/{concertId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamQueuePosition(
+            @PathVariable UUID concertId,
+            @RequestHeader(value = "Authorization") String queueToken
+    ) throws CustomException {
+        final String parsedQueueToken = queueToken.startsWith("Bearer ")
+                ? queueToken.substring("Bearer ".length())
+                : queueToken;
+        QueueToken result = getQueueInfoUseCase.getQueueInfo(concertId, parsedQueueToken);
+
+        return queuePositionBroadcaster.subscribe(result);
+    }
+
+    private QueueTokenResponse toResponse(QueueToken queueToken) {
+        Long estimatedWaitSeconds = queueToken.position() != null
+                ? estimateQueueWaitUseCase.estimateWaitSeconds(queueToken.concertId(), queueToken.position())
+                : null;
+        String accessToken = signedQueueTokenUseCase.sign(queueToken).orElse(null);
+        return QueueTokenResponse.from(queueToken, estimatedWaitSeconds, accessToken);
     }
 }
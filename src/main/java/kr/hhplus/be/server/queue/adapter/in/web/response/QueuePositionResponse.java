@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.queue.adapter.in.web.response;
+
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import kr.hhplus.be.server.queue.domain.QueueStatus;
+import lombok.Builder;
+
+@Builder
+public record QueuePositionResponse(
+        @Schema(description = "대기열 토큰 ID")
+        UUID tokenId,
+        @Schema(description = "토큰 상태")
+        QueueStatus status,
+        @Schema(description = "현재 순서 (활성 상태면 0)")
+        Integer position,
+        @Schema(description = "예상 대기 시간(분)")
+        Integer waitTime,
+        @Schema(description = "예상 대기 시간(초), 최근 승격 속도 기준. 아직 계산할 수 없으면 null")
+        Long estimatedWaitSeconds
+) {
+    public static QueuePositionResponse of(UUID tokenId, int position, Long estimatedWaitSeconds) {
+        return QueuePositionResponse.builder()
+                .tokenId(tokenId)
+                .status(position == 0 ? QueueStatus.ACTIVE : QueueStatus.WAITING)
+                .position(position)
+                .waitTime(QueueTokenResponse.toWaitMinutes(position, estimatedWaitSeconds))
+                .estimatedWaitSeconds(estimatedWaitSeconds)
+                .build();
+    }
+}
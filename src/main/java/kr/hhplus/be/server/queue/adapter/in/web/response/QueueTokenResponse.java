@@ -27,9 +27,13 @@ public record QueueTokenResponse(
         @Schema(description = "활성된 시간")
         LocalDateTime enteredAt,
         @Schema(description = "예상 대기 시간(분)")
-        Integer waitTime
+        Integer waitTime,
+        @Schema(description = "예상 대기 시간(초), 최근 승격 속도 기준. 아직 계산할 수 없으면 null")
+        Long estimatedWaitSeconds,
+        @Schema(description = "서명된 활성 토큰 (서명 토큰 모드에서 활성 상태일 때만 발급, 예약/결제 요청의 Authorization에 사용)")
+        String accessToken
 ) {
-    public static QueueTokenResponse from(QueueToken queueToken) {
+    public static QueueTokenResponse from(QueueToken queueToken, Long estimatedWaitSeconds, String accessToken) {
         return QueueTokenResponse.builder()
                 .tokenId(queueToken.tokenId())
                 .userId(queueToken.userId())
@@ -39,7 +43,17 @@ public record QueueTokenResponse(
                 .issuedAt(queueToken.issuedAt())
                 .expiresAt(queueToken.expiresAt())
                 .enteredAt(queueToken.enteredAt())
-                .waitTime(queueToken.position() * 3) 	// 대기 순서당 3분 예상
+                .waitTime(toWaitMinutes(queueToken.position(), estimatedWaitSeconds))
+                .estimatedWaitSeconds(estimatedWaitSeconds)
+                .accessToken(accessToken)
                 .build();
     }
+
+    // 승격 속도 기반 예상 시간이 있으면 분 단위로 올림, 없으면 대기 순서당 3분 예상
+    static Integer toWaitMinutes(Integer position, Long estimatedWaitSeconds) {
+        if (estimatedWaitSeconds != null) {
+            return (int) Math.ceil(estimatedWaitSeconds / 60.0);
+        }
+        return position != null ? position * 3 : null;
+    }
 }
@@ -0,0 +1,241 @@
+package kr.hhplus.be.server.queue.adapter.in.web.sse;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.queue.adapter.in.web.response.QueuePositionResponse;
+import kr.hhplus.be.server.queue.domain.QueuePromotedEvent;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.port.in.EstimateQueueWaitUseCase;
+import kr.hhplus.be.server.queue.port.in.GetQueuePositionsUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 콘서트별 대기열 순번을 SSE로 푸시하는 브로드캐스터
+ * 클라이언트가 매초 폴링하는 대신, 승격 주기마다 구독자 전체의 순번을 한 번에 조회하고
+ * 순번이 바뀐 구독자에게만 이벤트를 전송합니다. (비용이 폴링 수가 아닌 승격 횟수에 비례)
+ * 결제/만료로 자리가 비어 즉시 승격된 경우에도 승격된 콘서트의 구독자에게만 바로 전송합니다.
+ * - 전송은 크기가 제한된 전송 전용 스레드 풀에서 수행하여 느린 클라이언트가 승격 스케줄러를 막지 않도록 합니다.
+ *   구독자별로 전송 중인 이벤트가 있으면 이번 주기는 건너뛰고, 대기열이 가득 차면 다음 주기에 다시 전송합니다.
+ * - 전송에 실패한 구독자는 즉시 제거합니다.
+ * - 프록시/로드밸런서의 유휴 연결 종료를 막고 끊긴 연결을 정리하도록 heartbeat-ms 주기로 주석 이벤트를 전송합니다.
+ */
+@Slf4j
+@Component
+public class QueuePositionBroadcaster {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 10 * 60 * 1000L; // 대기 토큰 TTL(10분)과 동일
+    private static final String POSITION_EVENT = "position";
+
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final GetQueuePositionsUseCase getQueuePositionsUseCase;
+    private final EstimateQueueWaitUseCase estimateQueueWaitUseCase;
+    private final ExecutorService sendExecutor;
+
+    // concertId -> (tokenId -> 구독자)
+    private final Map<UUID, Map<UUID, Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    public QueuePositionBroadcaster(GetQueuePositionsUseCase getQueuePositionsUseCase,
+                                    EstimateQueueWaitUseCase estimateQueueWaitUseCase,
+                                    @Value("${queue.sse.send-threads:4}") int sendThreads,
+                                    @Value("${queue.sse.send-queue-capacity:10000}") int sendQueueCapacity) {
+        this.getQueuePositionsUseCase = getQueuePositionsUseCase;
+        this.estimateQueueWaitUseCase = estimateQueueWaitUseCase;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sendExecutor = new ThreadPoolExecutor(Math.max(1, sendThreads), Math.max(1, sendThreads), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, sendQueueCapacity)), runnable -> {
+            Thread thread = new Thread(runnable, "queue-sse-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(QueueToken queueToken) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        Subscriber subscriber = new Subscriber(queueToken, emitter, estimateQueueWaitUseCase);
+
+        // 최초 순번은 즉시 전송하고, 이미 활성 상태라면 더 이상 보낼 변화가 없으므로 연결을 종료
+        int position = queueToken.isActive() ? 0 : queueToken.position();
+        if (!subscriber.send(position) || position == 0) {
+            emitter.complete();
+            return emitter;
+        }
+
+        Map<UUID, Subscriber> concertSubscribers =
+                subscribers.computeIfAbsent(queueToken.concertId(), id -> new ConcurrentHashMap<>());
+        Subscriber previous = concertSubscribers.put(queueToken.tokenId(), subscriber);
+        if (previous != null) {
+            previous.emitter.complete(); // 같은 토큰으로 재연결하면 이전 연결은 정리
+        }
+
+        subscriber.unsubscribe = () -> concertSubscribers.remove(queueToken.tokenId(), subscriber);
+        emitter.onCompletion(subscriber.unsubscribe);
+        emitter.onTimeout(subscriber.unsubscribe);
+        emitter.onError(e -> subscriber.unsubscribe.run());
+        return emitter;
+    }
+
+    /**
+     * 구독자가 있는 모든 콘서트에 대해 순번 변화를 전송합니다.
+     * 승격 스케줄러가 승격 직후 호출합니다.
+     */
+    public void broadcast() {
+        subscribers.forEach(this::broadcast);
+    }
+
+    /**
+     * 즉시 승격이 발생한 콘서트의 구독자에게만 순번 변화를 전송합니다.
+     * 즉시 승격 스레드에서 호출되며, 순번 조회 후 실제 전송은 전송 전용 스레드 풀에서 수행합니다.
+     */
+    @EventListener
+    public void onQueuePromoted(QueuePromotedEvent event) {
+        for (UUID concertId : event.concertIds()) {
+            Map<UUID, Subscriber> concertSubscribers = subscribers.get(concertId);
+            if (concertSubscribers != null) {
+                broadcast(concertId, concertSubscribers);
+            }
+        }
+    }
+
+    private void broadcast(UUID concertId, Map<UUID, Subscriber> concertSubscribers) {
+        if (concertSubscribers.isEmpty()) {
+            subscribers.remove(concertId, concertSubscribers);
+            return;
+        }
+
+        List<QueueToken> tokens = concertSubscribers.values().stream().map(Subscriber::queueToken).toList();
+        Map<UUID, Integer> positions;
+        try {
+            positions = getQueuePositionsUseCase.getWaitingPositions(concertId, tokens);
+        } catch (Exception e) {
+            log.warn("❌ 콘서트 ID {}: 대기 순번 일괄 조회 실패 - {}", concertId, e.getMessage());
+            return;
+        }
+
+        concertSubscribers.forEach((tokenId, subscriber) -> {
+            Integer position = positions.get(tokenId);
+            if (position == null) {
+                subscriber.close(); // 대기열에서 만료/삭제된 토큰
+                return;
+            }
+            if (position == subscriber.lastPosition) {
+                return; // 변화가 없으면 전송하지 않음
+            }
+            dispatch(subscriber, () -> {
+                if (!subscriber.send(position)) {
+                    subscriber.drop();
+                } else if (position == 0) {
+                    subscriber.close();
+                }
+            });
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${queue.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(concertSubscribers -> concertSubscribers.values().forEach(subscriber ->
+                dispatch(subscriber, () -> {
+                    if (!subscriber.sendHeartbeat()) subscriber.drop();
+                })));
+    }
+
+    // 구독자별로 한 번에 하나의 전송만 실행 (느린 연결에 전송이 쌓이지 않도록)
+    private void dispatch(Subscriber subscriber, Runnable send) {
+        if (!subscriber.sending.compareAndSet(false, true)) return;
+        try {
+            sendExecutor.execute(() -> {
+                try {
+                    send.run();
+                } finally {
+                    subscriber.sending.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            subscriber.sending.set(false); // 대기열이 가득 차면 다음 주기에 다시 전송
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    public int countSubscribers() {
+        return subscribers.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private static final class Subscriber {
+        private final QueueToken queueToken;
+        private final SseEmitter emitter;
+        private final EstimateQueueWaitUseCase estimateQueueWaitUseCase;
+        private final AtomicBoolean sending = new AtomicBoolean(false);
+        private volatile int lastPosition = -1;
+        private volatile Runnable unsubscribe = () -> { };
+
+        private Subscriber(QueueToken queueToken, SseEmitter emitter, EstimateQueueWaitUseCase estimateQueueWaitUseCase) {
+            this.queueToken = queueToken;
+            this.emitter = emitter;
+            this.estimateQueueWaitUseCase = estimateQueueWaitUseCase;
+        }
+
+        private QueueToken queueToken() {
+            return queueToken;
+        }
+
+        private boolean send(int position) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(POSITION_EVENT)
+                        .data(QueuePositionResponse.of(queueToken.tokenId(), position,
+                                estimateQueueWaitUseCase.estimateWaitSeconds(queueToken.concertId(), position))));
+                lastPosition = position;
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패 (연결 종료): TOKEN_ID - {}", queueToken.tokenId());
+                return false;
+            }
+        }
+
+        private boolean sendHeartbeat() {
+            try {
+                emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE heartbeat 실패 (연결 종료): TOKEN_ID - {}", queueToken.tokenId());
+                return false;
+            }
+        }
+
+        private void close() {
+            unsubscribe.run();
+            emitter.complete();
+        }
+
+        // 전송에 실패한 연결은 콜백을 기다리지 않고 즉시 구독 목록에서 제거
+        private void drop() {
+            unsubscribe.run();
+            try {
+                emitter.complete();
+            } catch (Exception ignored) {
+                // 이미 끊긴 연결
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package kr.hhplus.be.server.queue.adapter.out.persistence;
+
+import kr.hhplus.be.server.queue.domain.QueueStatus;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 대기열 토큰의 압축 저장 포맷
+ *
+ * <pre>
+ * qt:{tokenId}            Hash  u=userId, c=concertId, s=A|W, i=발급 epoch, e=만료 epoch, n=활성 epoch
+ * qu:{concertId}:{userId} String tokenId (중복 발급 방지)
+ * queue:active|waiting:{concertId} ZSET member = tokenId
+ * </pre>
+ * UUID는 16바이트를 base64url(22자)로 인코딩하고 시간은 epoch seconds로 저장합니다.
+ * 기존 포맷(token:info JSON, token:id 키, 긴 ZSET member)에 비해 토큰당 메모리와 (역)직렬화 비용이 크게 줄어듭니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class CompactQueueTokenCodec {
+
+    static final String TOKEN_KEY_PREFIX = "qt:";
+    static final String USER_TOKEN_KEY_PREFIX = "qu:";
+
+    static final String FIELD_USER_ID = "u";
+    static final String FIELD_CONCERT_ID = "c";
+    static final String FIELD_STATUS = "s";
+    static final String FIELD_ISSUED_AT = "i";
+    static final String FIELD_EXPIRES_AT = "e";
+    static final String FIELD_ENTERED_AT = "n";
+
+    static final String STATUS_ACTIVE = "A";
+    static final String STATUS_WAITING = "W";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    static String encodeUuid(UUID uuid) {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    static UUID decodeUuid(String encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(DECODER.decode(encoded));
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    // ZSET member (토큰 ID 22자)
+    static String member(UUID tokenId) {
+        return encodeUuid(tokenId);
+    }
+
+    static String tokenKey(UUID tokenId) {
+        return TOKEN_KEY_PREFIX + encodeUuid(tokenId);
+    }
+
+    static String userTokenKeyPrefix(UUID concertId) {
+        return USER_TOKEN_KEY_PREFIX + encodeUuid(concertId) + ":";
+    }
+
+    static String userTokenKey(UUID userId, UUID concertId) {
+        return userTokenKeyPrefix(concertId) + encodeUuid(userId);
+    }
+
+    static LocalDateTime fromEpoch(String epochSeconds) {
+        if (epochSeconds == null || epochSeconds.isEmpty()) return null;
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(Long.parseLong(epochSeconds)), ZoneId.systemDefault());
+    }
+
+    static long toEpoch(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    // 만료 시각까지 남은 시간 (만료 시각이 없으면 defaultSeconds, 이미 지났다면 최소 1초)
+    static long ttlSeconds(QueueToken queueToken, long defaultSeconds) {
+        if (queueToken.expiresAt() == null) return defaultSeconds;
+        return Math.max(1L, toEpoch(queueToken.expiresAt()) - Instant.now().getEpochSecond());
+    }
+
+    static QueueStatus decodeStatus(String status) {
+        return STATUS_ACTIVE.equals(status) ? QueueStatus.ACTIVE : QueueStatus.WAITING;
+    }
+
+    /**
+     * QueueToken을 Hash 필드로 변환합니다. (값이 없는 시각 필드는 저장하지 않음)
+     */
+    static Map<String, String> toHash(QueueToken queueToken) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(FIELD_USER_ID, encodeUuid(queueToken.userId()));
+        fields.put(FIELD_CONCERT_ID, encodeUuid(queueToken.concertId()));
+        fields.put(FIELD_STATUS, queueToken.status() == QueueStatus.ACTIVE ? STATUS_ACTIVE : STATUS_WAITING);
+        if (queueToken.issuedAt() != null) fields.put(FIELD_ISSUED_AT, String.valueOf(toEpoch(queueToken.issuedAt())));
+        if (queueToken.expiresAt() != null) fields.put(FIELD_EXPIRES_AT, String.valueOf(toEpoch(queueToken.expiresAt())));
+        if (queueToken.enteredAt() != null) fields.put(FIELD_ENTERED_AT, String.valueOf(toEpoch(queueToken.enteredAt())));
+        return fields;
+    }
+
+    /**
+     * Hash 필드로부터 QueueToken을 복원합니다. (대기 순번은 ZRANK로 별도 조회)
+     */
+    static QueueToken fromHash(UUID tokenId, Map<Object, Object> fields) {
+        QueueStatus status = decodeStatus((String) fields.get(FIELD_STATUS));
+        return QueueToken.builder()
+                .tokenId(tokenId)
+                .userId(decodeUuid((String) fields.get(FIELD_USER_ID)))
+                .concertId(decodeUuid((String) fields.get(FIELD_CONCERT_ID)))
+                .status(status)
+                .position(status == QueueStatus.ACTIVE ? 0 : null)
+                .issuedAt(fromEpoch((String) fields.get(FIELD_ISSUED_AT)))
+                .expiresAt(fromEpoch((String) fields.get(FIELD_EXPIRES_AT)))
+                .enteredAt(fromEpoch((String) fields.get(FIELD_ENTERED_AT)))
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package kr.hhplus.be.server.queue.adapter.out.persistence;
 
 import java.util.UUID;
 
+import kr.hhplus.be.server.queue.port.out.QueueAdmissionRepository;
 import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,13 +20,13 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class QueueTokenManager {
 
-    private static final int MAX_ACTIVE_TOKEN_SIZE = 50;
     private static final long QUEUE_EXPIRES_TIME = 10L * 60; // 10분
     private static final long WAITING_TOKEN_EXPIRES_TIME = 10L * 60; // 10분
 
     private final QueueTokenRepository queueTokenRepository;
     private final ConcertRepository concertRepository;
     private final UserRepository userRepository;
+    private final QueueAdmissionRepository queueAdmissionRepository;
 
     @Transactional
     public QueueToken processIssueQueueToken(UUID userId, UUID concertId) throws CustomException {
@@ -77,7 +78,7 @@ public class QueueTokenManager {
 
         UUID tokenId = UUID.randomUUID();
 
-        if (activeTokens < MAX_ACTIVE_TOKEN_SIZE)
+        if (activeTokens < queueAdmissionRepository.findActiveLimit(concertId))
             return QueueToken.activeTokenOf(tokenId, userId, concertId, QUEUE_EXPIRES_TIME);
 
         Integer waitingTokens = queueTokenRepository.countWaitingTokens(concertId);
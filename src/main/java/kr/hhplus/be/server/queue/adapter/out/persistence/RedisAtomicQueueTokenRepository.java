@@ -1,9 +1,12 @@
 package kr.hhplus.be.server.queue.adapter.out.persistence;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import kr.hhplus.be.server.common.exception.CustomException;
 import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.queue.domain.QueueStatus;
 import kr.hhplus.be.server.queue.domain.QueueToken;
 import kr.hhplus.be.server.queue.domain.QueueTokenUtil;
 import lombok.extern.slf4j.Slf4j;
@@ -12,10 +15,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Repository;
 
-import java.time.Duration;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -25,8 +25,12 @@ import java.util.UUID;
 public class RedisAtomicQueueTokenRepository {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapperForLua;
     private final DefaultRedisScript<String> issueQueueTokenAtomicScript;
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> issueQueueTokenScript;
+    private final ObjectReader queueTokenReader;
+
+    private static final String LEGACY_ISSUE_TYPE = "LEGACY";
 
     // 대기 상태 토큰을 위한 기본 TTL (예: 1시간)
     private static final long WAITING_TOKEN_DEFAULT_TTL_SECONDS = 60 * 60;
@@ -36,64 +40,127 @@ public class RedisAtomicQueueTokenRepository {
     public RedisAtomicQueueTokenRepository(
             @Qualifier("luaScriptRedisTemplate") RedisTemplate<String, String> redisTemplate,
             @Qualifier("objectMapperForLua") ObjectMapper objectMapperForLua,
-            DefaultRedisScript<String> issueQueueTokenAtomicScript) {
+            DefaultRedisScript<String> issueQueueTokenAtomicScript,
+            @SuppressWarnings("rawtypes") @Qualifier("issueQueueTokenScript") DefaultRedisScript<List> issueQueueTokenScript) {
         this.redisTemplate = redisTemplate;
-        this.objectMapperForLua = objectMapperForLua;
         this.issueQueueTokenAtomicScript = issueQueueTokenAtomicScript;
+        this.issueQueueTokenScript = issueQueueTokenScript;
+        // 저장된 JSON에는 record 외의 getter(active, expired 등)가 포함될 수 있으므로 알 수 없는 필드는 무시
+        this.queueTokenReader = objectMapperForLua.readerFor(QueueToken.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
     }
 
-
     /**
-     * 유저 ID와 콘서트 ID에 대해 토큰을 원자적으로 발급하거나 기존 토큰 ID를 반환합니다.
-     * 이 메서드는 Redis Lua 스크립트를 사용하여 SETNX (tokenIdKey)와 SET (tokenInfoKey) 작업을
-     * 단일 원자적 연산으로 처리하여 경쟁 조건을 방지합니다.
+     * 대기열 토큰을 단일 Lua 스크립트 호출(1 RTT)로 발급합니다. 토큰은 압축 포맷({@link CompactQueueTokenCodec})으로 저장됩니다.
+     * 중복 발급 확인, 활성/대기 판단, 토큰 정보 저장, ZSET 등록, TTL 설정, 대기 순번 계산을
+     * 모두 Redis 서버 측에서 원자적으로 처리하므로 발급 과정에서 추가 조회가 필요하지 않습니다.
      *
-     * @param userId         유저 ID
-     * @param concertId      콘서트 ID
-     * @param newQueueToken  새로 생성된 QueueToken 객체
-     * @return 발급 성공 시 새로 생성된 토큰 ID (String) 또는 이미 존재하는 토큰의 ID (String)
+     * @param userId                유저 ID
+     * @param concertId             콘서트 ID
+     * @param defaultMaxActiveTokenSize 콘서트별 입장 한도가 없을 때 적용할 최대 활성 토큰 수
+     * @param activeExpiresMinutes  활성 토큰 만료 시간 (분)
+     * @param waitingExpiresSeconds 대기 토큰 만료 시간 (초)
+     * @return 새로 발급되었거나 이미 발급되어 있던 토큰 (대기 상태라면 현재 대기 순번 포함)
      */
-    public String issueTokenAtomic(UUID userId, UUID concertId, QueueToken newQueueToken) {
-        String tokenIdKey = QueueTokenUtil.formattingTokenIdKey(userId, concertId);
-        String tokenInfoKey = QueueTokenUtil.formattingTokenInfoKey(newQueueToken.tokenId());
+    public QueueToken issueToken(UUID userId, UUID concertId, int defaultMaxActiveTokenSize,
+                                 long activeExpiresMinutes, long waitingExpiresSeconds) {
+        UUID newTokenId = UUID.randomUUID();
+
+        List<String> keys = Arrays.asList(
+                CompactQueueTokenCodec.userTokenKey(userId, concertId),       // KEYS[1]
+                CompactQueueTokenCodec.tokenKey(newTokenId),                  // KEYS[2]
+                QueueTokenUtil.formattingActiveTokenKey(concertId),           // KEYS[3]
+                QueueTokenUtil.formattingWaitingTokenKey(concertId),          // KEYS[4]
+                QueueTokenUtil.QUEUED_CONCERT_KEY,                            // KEYS[5]
+                QueueTokenUtil.ADMISSION_LIMIT_KEY,                           // KEYS[6]
+                QueueTokenUtil.formattingTokenIdKey(userId, concertId)        // KEYS[7]
+        );
+        List<String> args = Arrays.asList(
+                CompactQueueTokenCodec.encodeUuid(newTokenId),                // ARGV[1]
+                CompactQueueTokenCodec.encodeUuid(userId),                    // ARGV[2]
+                CompactQueueTokenCodec.encodeUuid(concertId),                 // ARGV[3]
+                String.valueOf(defaultMaxActiveTokenSize),                    // ARGV[4]
+                String.valueOf(activeExpiresMinutes * 60),                    // ARGV[5]
+                String.valueOf(waitingExpiresSeconds),                        // ARGV[6]
+                CompactQueueTokenCodec.TOKEN_KEY_PREFIX,                      // ARGV[7]
+                concertId.toString(),                                         // ARGV[8]
+                QueueTokenUtil.TOKEN_INFO_KEY_PREFIX                          // ARGV[9]
+        );
+
+        List<?> result = redisTemplate.execute(issueQueueTokenScript, keys, args.toArray());
+        if (result == null || result.size() < 3) {
+            throw new CustomException(ErrorCode.QUEUE_TOKEN_NOT_FOUND, "발급된 토큰 정보를 찾을 수 없습니다.");
+        }
+
+        String issueType = String.valueOf(result.get(0));
+        QueueToken queueToken = LEGACY_ISSUE_TYPE.equals(issueType)
+                ? fromLegacyResult(result)
+                : fromCompactResult(userId, concertId, result);
+        log.debug("대기열 토큰 발급 결과: TYPE - {}, TOKEN_ID - {}, POSITION - {}", issueType, queueToken.tokenId(), queueToken.position());
+        return queueToken;
+    }
+
+    // { ISSUED|EXISTING, 토큰 ID, 상태, 발급 epoch, 만료 epoch, 활성 epoch, 대기 순번 }
+    private QueueToken fromCompactResult(UUID userId, UUID concertId, List<?> result) {
+        QueueStatus status = CompactQueueTokenCodec.decodeStatus(String.valueOf(result.get(2)));
+        return QueueToken.builder()
+                .tokenId(CompactQueueTokenCodec.decodeUuid(String.valueOf(result.get(1))))
+                .userId(userId)
+                .concertId(concertId)
+                .status(status)
+                .position(Integer.parseInt(String.valueOf(result.get(6))))
+                .issuedAt(CompactQueueTokenCodec.fromEpoch(String.valueOf(result.get(3))))
+                .expiresAt(CompactQueueTokenCodec.fromEpoch(String.valueOf(result.get(4))))
+                .enteredAt(CompactQueueTokenCodec.fromEpoch(String.valueOf(result.get(5))))
+                .build();
+    }
 
-        String serializedQueueTokenJson;
+    // { LEGACY, QueueToken JSON, 대기 순번 } - 이전 포맷으로 발급되어 아직 만료되지 않은 토큰
+    private QueueToken fromLegacyResult(List<?> result) {
+        QueueToken queueToken = deserialize(String.valueOf(result.get(1)));
+        int position = Integer.parseInt(String.valueOf(result.get(2)));
+        if (queueToken.status() == QueueStatus.WAITING && position > 0) {
+            return queueToken.withWaitingPosition(position);
+        }
+        return queueToken;
+    }
+
+    private QueueToken deserialize(String json) {
         try {
-            // ObjectMapperForLua를 사용하여 QueueToken 객체를 JSON 문자열로 직렬화
-            // 이 ObjectMapper는 Redis ValueSerializer와 독립적으로, Lua 스크립트에 전달될 JSON 문자열을 생성합니다.
-            serializedQueueTokenJson = objectMapperForLua.writeValueAsString(newQueueToken);
+            return queueTokenReader.readValue(json);
         } catch (JsonProcessingException e) {
-            log.error("QueueToken 객체를 JSON으로 직렬화하는데 실패했습니다: {}", newQueueToken, e);
+            log.error("QueueToken JSON을 역직렬화하는데 실패했습니다: {}", json, e);
             throw new CustomException(ErrorCode.QUEUE_TOKEN_SERIALIZATION_ERROR);
         }
+    }
 
-        // 토큰 만료 시간 계산 (초 단위)
-        // newQueueToken.expiresAt()이 LocalDateTime 이므로, Instant로 변환 후 초 계산
-        // newQueueToken.expiresAt()이 null일 경우를 처리 (대기 상태의 QueueToken은 만료 시간이 설정되지 않음)
-        long expirationSeconds;
-        LocalDateTime expiresAt = newQueueToken.expiresAt();
-        if (expiresAt != null) {
-            expirationSeconds = Duration.between(Instant.now(), expiresAt.atZone(ZoneOffset.UTC).toInstant()).getSeconds();
-            if (expirationSeconds <= 0) {
-                expirationSeconds = 1; // 최소 1초 TTL 보장
-            }
-        } else {
-            // expiresAt이 null인 경우 (예: WAITING 토큰), WAITING_TOKEN_DEFAULT_TTL_SECONDS 설정
-            expirationSeconds = WAITING_TOKEN_DEFAULT_TTL_SECONDS;
-//            log.info("QueueToken의 expiresAt 필드가 null입니다. 기본 TTL({})초로 설정합니다. 토큰 ID: {}", WAITING_TOKEN_DEFAULT_TTL_SECONDS, newQueueToken.tokenId());
-        }
 
+    /**
+     * 유저 ID와 콘서트 ID에 대해 이미 만들어진 QueueToken을 원자적으로 저장하거나 기존 토큰 ID를 반환합니다.
+     * 중복 확인(qu 키)과 토큰 정보 저장(qt Hash)을 단일 Lua 스크립트로 처리하며, 압축 포맷({@link CompactQueueTokenCodec})으로 저장합니다.
+     * 대기열 ZSET에는 등록하지 않습니다.
+     *
+     * @param userId         유저 ID
+     * @param concertId      콘서트 ID
+     * @param newQueueToken  새로 생성된 QueueToken 객체
+     * @return 발급 성공 시 새로 생성된 토큰 ID (String) 또는 이미 존재하는 토큰의 ID (String)
+     */
+    public String issueTokenAtomic(UUID userId, UUID concertId, QueueToken newQueueToken) {
         // KEYS 인자: Redis 키 목록
-        List<String> keys = Arrays.asList(tokenIdKey, tokenInfoKey);
+        List<String> keys = Arrays.asList(
+                CompactQueueTokenCodec.userTokenKey(userId, concertId),    // KEYS[1]
+                CompactQueueTokenCodec.tokenKey(newQueueToken.tokenId())); // KEYS[2]
 
-        // ARGV 인자: Lua 스크립트에 전달될 값 목록
-        List<String> args = Arrays.asList(
-                newQueueToken.tokenId().toString(), // ARGV[1]
-                serializedQueueTokenJson,           // ARGV[2]
-                String.valueOf(expirationSeconds),  // ARGV[3]
-                String.valueOf(expirationSeconds)   // ARGV[4]
-        );
-        // Redis Lua 스크립트 실행
-        return redisTemplate.execute(issueQueueTokenAtomicScript, keys, args.toArray());
+        // ARGV 인자: 토큰 ID, TTL, Hash 필드/값 목록
+        List<String> args = new ArrayList<>();
+        args.add(CompactQueueTokenCodec.member(newQueueToken.tokenId()));
+        args.add(String.valueOf(CompactQueueTokenCodec.ttlSeconds(newQueueToken, WAITING_TOKEN_DEFAULT_TTL_SECONDS)));
+        CompactQueueTokenCodec.toHash(newQueueToken).forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+
+        String tokenId = redisTemplate.execute(issueQueueTokenAtomicScript, keys, args.toArray());
+        return CompactQueueTokenCodec.decodeUuid(tokenId).toString();
     }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package kr.hhplus.be.server.queue.adapter.out.persistence;
+
+import kr.hhplus.be.server.queue.domain.AdmissionSignal;
+import kr.hhplus.be.server.queue.domain.QueueTokenUtil;
+import kr.hhplus.be.server.queue.port.out.QueueAdmissionRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 콘서트별 입장 한도를 Redis Hash(queue:admission:limit)에 저장합니다.
+ * 발급/승격 Lua 스크립트가 같은 Hash를 직접 읽으므로, 어느 노드에서 조정하든 모든 노드에 즉시 반영됩니다.
+ * 노드별 부하 신호는 queue:admission:signals Hash(nodeId → "지연:커넥션대기:충돌률:보고시각")에 모으고,
+ * 조정은 주기마다 queue:admission:adjust 키(SET NX PX)를 선점한 한 노드만 수행합니다.
+ */
+@Repository
+public class RedisQueueAdmissionRepository implements QueueAdmissionRepository {
+
+    private static final String SIGNALS_KEY = "queue:admission:signals";
+    private static final String ADJUST_LOCK_KEY = "queue:admission:adjust";
+    private static final String SIGNAL_DELIMITER = ":";
+    private static final String INCREASE = "INC";
+    private static final String DECREASE = "DEC";
+
+    // 현재 한도를 읽고(없으면 기본값) 증감 후 [min, max] 범위로 보정하여 저장
+    private static final String ADJUST_ADMISSION_LIMIT_SCRIPT = """
+            local admissionLimitKey = KEYS[1]
+            local concertId = ARGV[1]
+            local mode = ARGV[2]
+            local amount = tonumber(ARGV[3])
+            local minLimit = tonumber(ARGV[4])
+            local maxLimit = tonumber(ARGV[5])
+            local defaultLimit = tonumber(ARGV[6])
+
+            local current = tonumber(redis.call('HGET', admissionLimitKey, concertId)) or defaultLimit
+            local nextLimit
+            if mode == 'DEC' then
+                nextLimit = math.floor(current * amount)
+            else
+                nextLimit = current + amount
+            end
+            nextLimit = math.max(minLimit, math.min(maxLimit, nextLimit))
+
+            redis.call('HSET', admissionLimitKey, concertId, nextLimit)
+            return nextLimit
+            """;
+
+    private static final DefaultRedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(ADJUST_ADMISSION_LIMIT_SCRIPT, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RedisQueueAdmissionRepository(@Qualifier("luaScriptRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public int findActiveLimit(UUID concertId) {
+        Object limit = redisTemplate.opsForHash().get(QueueTokenUtil.ADMISSION_LIMIT_KEY, concertId.toString());
+        return limit != null ? Integer.parseInt(limit.toString()) : QueueTokenUtil.DEFAULT_MAX_ACTIVE_TOKEN_SIZE;
+    }
+
+    @Override
+    public int increaseActiveLimit(UUID concertId, int step, int minLimit, int maxLimit) {
+        return adjust(concertId, INCREASE, String.valueOf(step), minLimit, maxLimit);
+    }
+
+    @Override
+    public int decreaseActiveLimit(UUID concertId, double factor, int minLimit, int maxLimit) {
+        return adjust(concertId, DECREASE, String.valueOf(factor), minLimit, maxLimit);
+    }
+
+    @Override
+    public void reportSignal(String nodeId, AdmissionSignal signal) {
+        String value = String.join(SIGNAL_DELIMITER,
+                String.valueOf(signal.bookingLatencyMillis()),
+                String.valueOf(signal.pendingConnections()),
+                String.valueOf(signal.lockConflictRate()),
+                String.valueOf(System.currentTimeMillis()));
+        redisTemplate.opsForHash().put(SIGNALS_KEY, nodeId, value);
+    }
+
+    @Override
+    public List<AdmissionSignal> findReportedSignals(Duration maxAge) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(SIGNALS_KEY);
+        long threshold = System.currentTimeMillis() - maxAge.toMillis();
+
+        List<AdmissionSignal> signals = new ArrayList<>(entries.size());
+        List<Object> staleNodeIds = new ArrayList<>();
+        entries.forEach((nodeId, value) -> {
+            String[] parts = value.toString().split(SIGNAL_DELIMITER);
+            if (parts.length != 4 || Long.parseLong(parts[3]) < threshold) {
+                staleNodeIds.add(nodeId); // 종료되었거나 보고가 끊긴 노드
+                return;
+            }
+            signals.add(new AdmissionSignal(Double.parseDouble(parts[0]), Double.parseDouble(parts[1]), Double.parseDouble(parts[2])));
+        });
+        if (!staleNodeIds.isEmpty()) {
+            redisTemplate.opsForHash().delete(SIGNALS_KEY, staleNodeIds.toArray());
+        }
+        return signals;
+    }
+
+    @Override
+    public boolean tryAcquireAdjustment(String nodeId, Duration interval) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(ADJUST_LOCK_KEY, nodeId, interval));
+    }
+
+    private int adjust(UUID concertId, String mode, String amount, int minLimit, int maxLimit) {
+        Long limit = redisTemplate.execute(ADJUST_SCRIPT, List.of(QueueTokenUtil.ADMISSION_LIMIT_KEY),
+                concertId.toString(), mode, amount,
+                String.valueOf(minLimit), String.valueOf(maxLimit), String.valueOf(QueueTokenUtil.DEFAULT_MAX_ACTIVE_TOKEN_SIZE));
+        return limit != null ? limit.intValue() : QueueTokenUtil.DEFAULT_MAX_ACTIVE_TOKEN_SIZE;
+    }
+}
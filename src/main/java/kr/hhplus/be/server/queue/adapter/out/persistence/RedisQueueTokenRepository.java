@@ -1,62 +1,98 @@
 package kr.hhplus.be.server.queue.adapter.out.persistence;
 
 import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.queue.domain.QueueDepth;
+import kr.hhplus.be.server.queue.domain.QueuePromotion;
 import kr.hhplus.be.server.queue.domain.QueueStatus;
 import kr.hhplus.be.server.queue.domain.QueueToken;
 import kr.hhplus.be.server.queue.domain.QueueTokenUtil;
 import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Repository
 public class RedisQueueTokenRepository implements QueueTokenRepository { // Redis 기반 대기열 토큰 저장소 구현체
 
-    private static final int MAX_ACTIVE_TOKEN_SIZE = 50; // 동시 접속자 최대 수
+    private static final long ACTIVE_TOKEN_TTL_SECONDS = 60 * 60L; // 활성 토큰 유효 시간 (60분)
+    private static final long WAITING_TOKEN_DEFAULT_TTL_SECONDS = 10 * 60L; // 만료 시각이 없는 대기 토큰 유효 시간 (10분)
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> PROMOTE_WAITING_TOKEN_SCRIPT = QueueTokenUtil.promoteWaitingTokenScript();
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> REMOVE_EXPIRED_ACTIVE_TOKEN_SCRIPT = QueueTokenUtil.removeExpiredActiveTokenScript();
+    private static final int STALE_ACTIVE_TOKEN_BATCH_SIZE = 500; // 스크립트 1회당 확인할 최대 활성 토큰 수
+    private static final int STALE_ACTIVE_TOKEN_MAX_BATCHES = 20; // 콘서트당 1회 정리에서 실행할 최대 배치 수
+    private static final long QUEUE_KEY_SCAN_COUNT = 1000L; // 대기열 키 SCAN 1회당 조회 힌트
 
     private final RedisTemplate<String, String> redisTemplate; // String-String 타입 RedisTemplate (토큰 ID 저장용)
     private final RedisTemplate<String, Object> queueTokenRedisTemplate; // String-Object 타입 RedisTemplate (QueueToken 객체 저장용)
+    private final boolean promotionPipelineEnabled; // 콘서트별 승격 스크립트를 파이프라인으로 일괄 전송할지 여부
+    private final int promotionBatchSize; // 파이프라인 한 번에 보낼 콘서트 수
 
     // 생성자를 직접 작성하여 @Qualifier를 사용합니다.
     public RedisQueueTokenRepository(
             @Qualifier("luaScriptRedisTemplate") RedisTemplate<String, String> redisTemplate, // String-String 타입을 위한 템플릿 지정
-            @Qualifier("queueTokenRedisTemplate") RedisTemplate<String, Object> queueTokenRedisTemplate) { // Object (QueueToken) 타입을 위한 템플릿 지정
+            @Qualifier("queueTokenRedisTemplate") RedisTemplate<String, Object> queueTokenRedisTemplate, // Object (QueueToken) 타입을 위한 템플릿 지정
+            @Value("${queue.promotion.pipeline-enabled:true}") boolean promotionPipelineEnabled,
+            @Value("${queue.promotion.batch-size:200}") int promotionBatchSize) {
         this.redisTemplate = redisTemplate;
         this.queueTokenRedisTemplate = queueTokenRedisTemplate;
+        this.promotionPipelineEnabled = promotionPipelineEnabled;
+        this.promotionBatchSize = Math.max(1, promotionBatchSize);
     }
 
+    // 압축 포맷으로 저장 (QueueTokenManager 발급 경로, 테스트 데이터 등 Lua 발급 스크립트를 거치지 않는 토큰)
     @Override
     public void save(QueueToken queueToken) {
-        String tokenInfoKey = QueueTokenUtil.formattingTokenInfoKey(queueToken.tokenId());
-        String tokenIdKey = QueueTokenUtil.formattingTokenIdKey(queueToken.userId(), queueToken.concertId());
-
-        /* redis에 저장된 토큰 정보 예시
-        127.0.0.1:6379> keys *
-        1) "queue:active:0064f93c-956b-4763-a22b-2eee4b0d7196" // 콘서트 아이디, 콘서트별 활성화된 토큰 수 조회 가능
-        2) "token:info:cc93b32f-aaa6-4821-94cc-c88e4030c327"
-        3) "token:id:47ead46e-5cc4-44e2-9eda-a7aebecff179:0064f93c-956b-4763-a22b-2eee4b0d7196" // 유저 ID와 콘서트 ID로 토큰 ID 저장
-         */
+        String tokenKey = CompactQueueTokenCodec.tokenKey(queueToken.tokenId());
+        String member = CompactQueueTokenCodec.member(queueToken.tokenId());
+        Duration ttl = Duration.ofSeconds(CompactQueueTokenCodec.ttlSeconds(queueToken, WAITING_TOKEN_DEFAULT_TTL_SECONDS));
 
-        // Lua 스크립트에서 처리했기때문에, 아래 코드는 주석 처리함
-//        redisTemplate.opsForValue().set(tokenIdKey, queueToken.tokenId().toString());
-//        queueTokenRedisTemplate.opsForValue().set(tokenInfoKey, queueToken);
+        redisTemplate.opsForHash().putAll(tokenKey, CompactQueueTokenCodec.toHash(queueToken));
+        redisTemplate.expire(tokenKey, ttl);
+        redisTemplate.opsForValue().set(CompactQueueTokenCodec.userTokenKey(queueToken.userId(), queueToken.concertId()), member, ttl);
 
+        // 활성 토큰은 만료 시각, 대기 토큰은 발급 시각을 score로 사용 (발급 스크립트와 동일)
         if (queueToken.status().equals(QueueStatus.ACTIVE))
-            saveActiveToken(queueToken, tokenInfoKey, tokenIdKey);
+            redisTemplate.opsForZSet().add(QueueTokenUtil.formattingActiveTokenKey(queueToken.concertId()), member,
+                    CompactQueueTokenCodec.toEpoch(queueToken.expiresAt()));
         else
-            saveWaitingToken(queueToken, tokenInfoKey, tokenIdKey);
+            redisTemplate.opsForZSet().add(QueueTokenUtil.formattingWaitingTokenKey(queueToken.concertId()), member,
+                    CompactQueueTokenCodec.toEpoch(queueToken.issuedAt()));
+
+        // 만료 토큰 정리 대상이 되도록 콘서트 ID 등록
+        redisTemplate.opsForSet().add(QueueTokenUtil.QUEUED_CONCERT_KEY, queueToken.concertId().toString());
     }
 
     @Override
     public String findTokenIdByUserIdAndConcertId(UUID userId, UUID concertId) {
+        // 압축 포맷 우선 조회
+        String compactTokenId = redisTemplate.opsForValue().get(CompactQueueTokenCodec.userTokenKey(userId, concertId));
+        if (compactTokenId != null) return CompactQueueTokenCodec.decodeUuid(compactTokenId).toString();
+
+        // 이전 포맷 (배포 전환 중 발급된 토큰)
         String tokenIdKey = QueueTokenUtil.formattingTokenIdKey(userId, concertId);
         // String 값을 다루므로, String-String 타입인 redisTemplate 사용
         Object tokenId = redisTemplate.opsForValue().get(tokenIdKey);
@@ -65,7 +101,14 @@ public class RedisQueueTokenRepository implements QueueTokenRepository { // Redi
 
     @Override
     public QueueToken findQueueTokenByTokenId(String tokenId) {
-        String tokenInfoKey = QueueTokenUtil.formattingTokenInfoKey(UUID.fromString(tokenId));
+        UUID id = UUID.fromString(tokenId);
+
+        // 압축 포맷 우선 조회 (Hash)
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(CompactQueueTokenCodec.tokenKey(id));
+        if (!fields.isEmpty()) return CompactQueueTokenCodec.fromHash(id, fields);
+
+        // 이전 포맷 (JSON)
+        String tokenInfoKey = QueueTokenUtil.formattingTokenInfoKey(id);
         // QueueToken 객체를 다루므로, String-Object 타입인 queueTokenRedisTemplate 사용
         Object tokenInfo = queueTokenRedisTemplate.opsForValue().get(tokenInfoKey);
         return tokenInfo != null ? (QueueToken) tokenInfo : null;
@@ -75,14 +118,51 @@ public class RedisQueueTokenRepository implements QueueTokenRepository { // Redi
     @Override
     public Integer findWaitingPosition(QueueToken queueToken) {
         String waitingTokenKey = QueueTokenUtil.formattingWaitingTokenKey(queueToken.concertId());
-        String tokenIdKey = QueueTokenUtil.formattingTokenIdKey(queueToken.userId(), queueToken.concertId());
 
         // ZSet의 멤버는 String이므로, String-String 타입인 redisTemplate 사용
-        Long rank = redisTemplate.opsForZSet().rank(waitingTokenKey, tokenIdKey);
+        Long rank = redisTemplate.opsForZSet().rank(waitingTokenKey, CompactQueueTokenCodec.member(queueToken.tokenId()));
+        if (rank == null) {
+            String tokenIdKey = QueueTokenUtil.formattingTokenIdKey(queueToken.userId(), queueToken.concertId());
+            rank = redisTemplate.opsForZSet().rank(waitingTokenKey, tokenIdKey);
+        }
 
         return rank != null ? rank.intValue() + 1 : null;
     }
 
+    // 여러 대기열 토큰의 대기 순번을 파이프라인으로 일괄 조회 (토큰당 압축/이전 member 각각 ZRANK + ZSCORE, 전체 1 RTT)
+    @Override
+    public Map<UUID, Integer> findWaitingPositions(UUID concertId, Collection<QueueToken> queueTokens) {
+        if (queueTokens.isEmpty()) return Map.of();
+
+        byte[] waitingTokenKey = QueueTokenUtil.formattingWaitingTokenKey(concertId).getBytes(StandardCharsets.UTF_8);
+        byte[] activeTokenKey = QueueTokenUtil.formattingActiveTokenKey(concertId).getBytes(StandardCharsets.UTF_8);
+        List<QueueToken> tokens = List.copyOf(queueTokens);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (QueueToken queueToken : tokens) {
+                byte[] compactMember = CompactQueueTokenCodec.member(queueToken.tokenId()).getBytes(StandardCharsets.UTF_8);
+                byte[] legacyMember = QueueTokenUtil.formattingTokenIdKey(queueToken.userId(), concertId).getBytes(StandardCharsets.UTF_8);
+                connection.zSetCommands().zRank(waitingTokenKey, compactMember);
+                connection.zSetCommands().zScore(activeTokenKey, compactMember);
+                connection.zSetCommands().zRank(waitingTokenKey, legacyMember);
+                connection.zSetCommands().zScore(activeTokenKey, legacyMember);
+            }
+            return null;
+        });
+
+        Map<UUID, Integer> positions = new HashMap<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            Object rank = firstNonNull(results.get(i * 4), results.get(i * 4 + 2));
+            Object activeScore = firstNonNull(results.get(i * 4 + 1), results.get(i * 4 + 3));
+            if (rank != null) {
+                positions.put(tokens.get(i).tokenId(), ((Number) rank).intValue() + 1);
+            } else if (activeScore != null) {
+                positions.put(tokens.get(i).tokenId(), 0);
+            }
+        }
+        return positions;
+    }
+
     // 대기열 토큰 수 조회
     @Override
     public Integer countWaitingTokens(UUID concertId) {
@@ -102,39 +182,103 @@ public class RedisQueueTokenRepository implements QueueTokenRepository { // Redi
 
     // 토큰 만료 처리
     @Override
-    public void expiresQueueToken(String tokenId) {
+    public Optional<UUID> expiresQueueToken(String tokenId) {
         QueueToken queueToken = findQueueTokenByTokenId(tokenId);
-        if (queueToken == null) return;
+        if (queueToken == null) return Optional.empty();
 
         String tokenInfoKey = QueueTokenUtil.formattingTokenInfoKey(queueToken.tokenId());
         String tokenIdKey = QueueTokenUtil.formattingTokenIdKey(queueToken.userId(), queueToken.concertId());
+        String compactMember = CompactQueueTokenCodec.member(queueToken.tokenId());
 
+        // 압축 포맷 / 이전 포맷 키 모두 삭제
+        redisTemplate.delete(List.of(
+                CompactQueueTokenCodec.tokenKey(queueToken.tokenId()),
+                CompactQueueTokenCodec.userTokenKey(queueToken.userId(), queueToken.concertId()),
+                tokenIdKey));
         queueTokenRedisTemplate.delete(tokenInfoKey); // QueueToken 객체 키 삭제
-        redisTemplate.delete(tokenIdKey); // String UUID 키 삭제
 
-        if (queueToken.status().equals(QueueStatus.ACTIVE))
-            redisTemplate.opsForZSet().remove(QueueTokenUtil.formattingActiveTokenKey(queueToken.concertId()), tokenIdKey);
-        else
-            redisTemplate.opsForZSet().remove(QueueTokenUtil.formattingWaitingTokenKey(queueToken.concertId()), tokenIdKey);
+        // 대기 중 승격된 토큰일 수 있으므로 두 ZSET 모두에서 제거
+        Long removedActiveCount = redisTemplate.opsForZSet().remove(QueueTokenUtil.formattingActiveTokenKey(queueToken.concertId()), compactMember, tokenIdKey);
+        redisTemplate.opsForZSet().remove(QueueTokenUtil.formattingWaitingTokenKey(queueToken.concertId()), compactMember, tokenIdKey);
+
+        return removedActiveCount != null && removedActiveCount > 0
+                ? Optional.of(queueToken.concertId())
+                : Optional.empty();
     }
 
     // 대기 토큰을 활성 상태로 승격
     @Override
-    public void promoteQueueToken(List<Concert> openConcerts) {
-        for (Concert openConcert : openConcerts) {
-            String activeTokenKey = QueueTokenUtil.formattingActiveTokenKey(openConcert.id());
-            String waitingTokenKey = QueueTokenUtil.formattingWaitingTokenKey(openConcert.id());
-
-            List<String> keys = List.of(activeTokenKey, waitingTokenKey);
-            Long promotedCount = redisTemplate.execute(QueueTokenUtil.promoteWaitingTokenScript(), keys, String.valueOf(MAX_ACTIVE_TOKEN_SIZE));
-
-            // 저장된 값을 로그로 출력합니다.
-            if (promotedCount != null && promotedCount > 0) {
-                log.info("✅ [승격 완료] 콘서트 ID {}: {}개의 토큰이 활성 상태로 전환되었습니다.", openConcert.id(), promotedCount);
-            } else {
-//                log.info("❌ [승격 실패] 콘서트 ID {}: 활성 상태로 전환된 토큰이 없습니다.", openConcert.id());
+    public List<QueuePromotion> promoteQueueToken(List<Concert> openConcerts) {
+        return promoteQueueTokenByConcertIds(openConcerts.stream().map(Concert::id).toList());
+    }
+
+    @Override
+    public List<QueuePromotion> promoteQueueTokenByConcertIds(Collection<UUID> concertIds) {
+        if (concertIds.isEmpty()) return List.of();
+        List<UUID> targetConcertIds = List.copyOf(concertIds);
+        if (!promotionPipelineEnabled) return promoteQueueTokenSequentially(targetConcertIds);
+
+        // 스크립트를 미리 로드(SCRIPT LOAD는 멱등)해두고, 배치 단위로 EVALSHA를 파이프라인 전송
+        String scriptSha = redisTemplate.execute((RedisCallback<String>) connection ->
+                connection.scriptingCommands().scriptLoad(PROMOTE_WAITING_TOKEN_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+        byte[] admissionLimitKey = QueueTokenUtil.ADMISSION_LIMIT_KEY.getBytes(StandardCharsets.UTF_8);
+        byte[] admittedCountKey = QueueTokenUtil.ADMITTED_COUNT_KEY.getBytes(StandardCharsets.UTF_8);
+        byte[] defaultMaxActiveTokenSize = String.valueOf(QueueTokenUtil.DEFAULT_MAX_ACTIVE_TOKEN_SIZE).getBytes(StandardCharsets.UTF_8);
+        byte[] activeTokenTtl = String.valueOf(ACTIVE_TOKEN_TTL_SECONDS).getBytes(StandardCharsets.UTF_8);
+        byte[] tokenInfoKeyPrefix = QueueTokenUtil.TOKEN_INFO_KEY_PREFIX.getBytes(StandardCharsets.UTF_8);
+        byte[] compactTokenKeyPrefix = CompactQueueTokenCodec.TOKEN_KEY_PREFIX.getBytes(StandardCharsets.UTF_8);
+
+        List<QueuePromotion> promotions = new ArrayList<>();
+        for (int from = 0; from < targetConcertIds.size(); from += promotionBatchSize) {
+            List<UUID> batch = targetConcertIds.subList(from, Math.min(from + promotionBatchSize, targetConcertIds.size()));
+
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (UUID concertId : batch) {
+                    byte[] activeTokenKey = QueueTokenUtil.formattingActiveTokenKey(concertId).getBytes(StandardCharsets.UTF_8);
+                    byte[] waitingTokenKey = QueueTokenUtil.formattingWaitingTokenKey(concertId).getBytes(StandardCharsets.UTF_8);
+                    byte[] concertIdArg = concertId.toString().getBytes(StandardCharsets.UTF_8);
+                    byte[] compactUserTokenKeyPrefix = CompactQueueTokenCodec.userTokenKeyPrefix(concertId).getBytes(StandardCharsets.UTF_8);
+                    connection.scriptingCommands().evalSha(scriptSha, ReturnType.MULTI, 4,
+                            activeTokenKey, waitingTokenKey, admissionLimitKey, admittedCountKey,
+                            defaultMaxActiveTokenSize, activeTokenTtl, tokenInfoKeyPrefix, concertIdArg,
+                            compactTokenKeyPrefix, compactUserTokenKeyPrefix);
+                }
+                return null;
+            });
+
+            for (int i = 0; i < batch.size(); i++) {
+                addPromotion(promotions, batch.get(i), results.get(i));
             }
         }
+        return promotions;
+    }
+
+    // 콘서트별로 스크립트를 순차 실행 (콘서트 수만큼 왕복 발생)
+    private List<QueuePromotion> promoteQueueTokenSequentially(List<UUID> concertIds) {
+        List<QueuePromotion> promotions = new ArrayList<>();
+        for (UUID concertId : concertIds) {
+            String activeTokenKey = QueueTokenUtil.formattingActiveTokenKey(concertId);
+            String waitingTokenKey = QueueTokenUtil.formattingWaitingTokenKey(concertId);
+
+            List<String> keys = List.of(activeTokenKey, waitingTokenKey, QueueTokenUtil.ADMISSION_LIMIT_KEY, QueueTokenUtil.ADMITTED_COUNT_KEY);
+            Object waitedSeconds = redisTemplate.execute(PROMOTE_WAITING_TOKEN_SCRIPT, keys,
+                    String.valueOf(QueueTokenUtil.DEFAULT_MAX_ACTIVE_TOKEN_SIZE), String.valueOf(ACTIVE_TOKEN_TTL_SECONDS),
+                    QueueTokenUtil.TOKEN_INFO_KEY_PREFIX, concertId.toString(),
+                    CompactQueueTokenCodec.TOKEN_KEY_PREFIX, CompactQueueTokenCodec.userTokenKeyPrefix(concertId));
+            addPromotion(promotions, concertId, waitedSeconds);
+        }
+        return promotions;
+    }
+
+    // 스크립트 결과(토큰별 대기 시간 목록)를 승격 결과로 변환하고 로그로 출력합니다.
+    private void addPromotion(List<QueuePromotion> promotions, UUID concertId, Object scriptResult) {
+        if (!(scriptResult instanceof List<?> values) || values.isEmpty()) return;
+
+        List<Long> waitedSeconds = values.stream()
+                .map(value -> ((Number) value).longValue())
+                .toList();
+        log.info("✅ [승격 완료] 콘서트 ID {}: {}개의 토큰이 활성 상태로 전환되었습니다.", concertId, waitedSeconds.size());
+        promotions.add(new QueuePromotion(concertId, waitedSeconds));
     }
 
     @Override
@@ -149,45 +293,84 @@ public class RedisQueueTokenRepository implements QueueTokenRepository { // Redi
         return removedCount != null ? removedCount : 0L;
     }
 
-    // 대기 토큰 Redis 저장
-    private void saveWaitingToken(QueueToken queueToken, String tokenInfoKey, String tokenIdKey) {
-        String waitingTokenKey = QueueTokenUtil.formattingWaitingTokenKey(queueToken.concertId());
-        Instant issuedInstant = queueToken.issuedAt()
-                .atZone(ZoneOffset.UTC)
-                .toInstant();
-        double score = issuedInstant.getEpochSecond();
-        redisTemplate.opsForZSet().add(waitingTokenKey, tokenIdKey, score);
+    // 만료 시각(score)이 지난 활성 토큰을 batchSize 단위로 나누어 삭제 (한 번의 스크립트가 Redis를 오래 점유하지 않도록)
+    @Override
+    public long removeStaleActiveTokens(UUID concertId) {
+        List<String> keys = List.of(
+                QueueTokenUtil.formattingActiveTokenKey(concertId),
+                QueueTokenUtil.formattingWaitingTokenKey(concertId),
+                QueueTokenUtil.QUEUED_CONCERT_KEY);
+
+        long totalRemovedCount = 0L;
+        for (int batch = 0; batch < STALE_ACTIVE_TOKEN_MAX_BATCHES; batch++) {
+            List<?> result = redisTemplate.execute(REMOVE_EXPIRED_ACTIVE_TOKEN_SCRIPT, keys,
+                    String.valueOf(STALE_ACTIVE_TOKEN_BATCH_SIZE), concertId.toString(), CompactQueueTokenCodec.TOKEN_KEY_PREFIX);
+            if (result == null || result.size() < 2) break;
+
+            totalRemovedCount += ((Number) result.get(0)).longValue();
+            // 다시 기록된(삭제되지 않은) 후보도 범위를 벗어나므로 후보 수로 다음 배치 여부를 판단
+            if (((Number) result.get(1)).longValue() < STALE_ACTIVE_TOKEN_BATCH_SIZE) break;
+        }
 
-        redisTemplate.expire(tokenInfoKey, Duration.ofMinutes(10));
-        redisTemplate.expire(tokenIdKey, Duration.ofMinutes(10));
+        if (totalRemovedCount > 0) {
+            log.info("✅ 콘서트 ID {}: 만료된 활성 토큰 {}개 삭제 완료", concertId, totalRemovedCount);
+        }
+        return totalRemovedCount;
     }
 
-    // 활성 토큰 Redis 저장
-    private void saveActiveToken(QueueToken queueToken, String tokenInfoKey, String tokenIdKey) {
-        String activeTokenKey = QueueTokenUtil.formattingActiveTokenKey(queueToken.concertId());
-        Instant expiresInstant = queueToken.expiresAt()
-                .atZone(ZoneOffset.UTC)
-                .toInstant();
-        double score = expiresInstant.getEpochSecond();
-        redisTemplate.opsForZSet().add(activeTokenKey, tokenIdKey, score);
-
-        redisTemplate.expireAt(tokenInfoKey, expiresInstant);
-        redisTemplate.expireAt(tokenIdKey, expiresInstant);
+    // 대기/활성 토큰이 존재하는 콘서트 ID 목록 조회
+    @Override
+    public Set<UUID> findQueuedConcertIds() {
+        Set<String> concertIds = redisTemplate.opsForSet().members(QueueTokenUtil.QUEUED_CONCERT_KEY);
+        if (concertIds == null) return Set.of();
+        return concertIds.stream()
+                .map(UUID::fromString)
+                .collect(Collectors.toSet());
     }
 
+    // 대기열 키(queue:active:*, queue:waiting:*)를 SCAN하여 콘서트 ID를 정리 대상 목록에 등록 (SADD는 멱등)
     @Override
-    public long removeStaleActiveTokens(UUID concertId) {
-        String activeTokenKey = QueueTokenUtil.formattingActiveTokenKey(concertId);
-        String tokenInfoKeyPrefix = "token:info:"; // token:info:{tokenId} 형태이므로 접두사만 전달
+    public long registerQueuedConcerts() {
+        Set<String> concertIds = new HashSet<>();
+        for (String keyPrefix : List.of(QueueTokenUtil.ACTIVE_TOKEN_KEY_PREFIX, QueueTokenUtil.WAITING_TOKEN_KEY_PREFIX)) {
+            try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(keyPrefix + "*").count(QUEUE_KEY_SCAN_COUNT).build())) {
+                cursor.forEachRemaining(key -> concertIds.add(key.substring(keyPrefix.length())));
+            }
+        }
+        if (concertIds.isEmpty()) return 0L;
 
-        List<String> keys = List.of(activeTokenKey);
-        Long removedCount = redisTemplate.execute(QueueTokenUtil.removeStaleActiveTokenScript(), keys, tokenInfoKeyPrefix);
+        Long addedCount = redisTemplate.opsForSet().add(QueueTokenUtil.QUEUED_CONCERT_KEY, concertIds.toArray(String[]::new));
+        return addedCount != null ? addedCount : 0L;
+    }
 
-        if (removedCount != null && removedCount > 0) {
-            log.info("✅ 콘서트 ID {}: 만료된 활성 토큰 {}개 삭제 완료", concertId, removedCount);
-        } else {
-//            log.info("❌ 콘서트 ID {}: 삭제된 만료 활성 토큰 없음", concertId);
+    // 콘서트별 활성/대기 ZSET 크기와 누적 승격 수를 파이프라인으로 일괄 조회 (전체 1 RTT)
+    @Override
+    public Map<UUID, QueueDepth> findQueueDepths(Collection<UUID> concertIds) {
+        if (concertIds.isEmpty()) return Map.of();
+        List<UUID> targetConcertIds = List.copyOf(concertIds);
+        byte[] admittedCountKey = QueueTokenUtil.ADMITTED_COUNT_KEY.getBytes(StandardCharsets.UTF_8);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (UUID concertId : targetConcertIds) {
+                connection.zSetCommands().zCard(QueueTokenUtil.formattingActiveTokenKey(concertId).getBytes(StandardCharsets.UTF_8));
+                connection.zSetCommands().zCard(QueueTokenUtil.formattingWaitingTokenKey(concertId).getBytes(StandardCharsets.UTF_8));
+                connection.hashCommands().hGet(admittedCountKey, concertId.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        Map<UUID, QueueDepth> depths = new HashMap<>();
+        for (int i = 0; i < targetConcertIds.size(); i++) {
+            long activeCount = results.get(i * 3) instanceof Number number ? number.longValue() : 0L;
+            long waitingCount = results.get(i * 3 + 1) instanceof Number number ? number.longValue() : 0L;
+            Object admittedCount = results.get(i * 3 + 2);
+            depths.put(targetConcertIds.get(i), new QueueDepth(activeCount, waitingCount,
+                    admittedCount == null ? 0L : Long.parseLong(admittedCount.toString())));
         }
-        return removedCount != null ? removedCount : 0L;
+        return depths;
+    }
+
+    private static Object firstNonNull(Object first, Object second) {
+        return first != null ? first : second;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.queue.adapter.out.persistence;
+
+import kr.hhplus.be.server.queue.domain.QueueTokenUtil;
+import kr.hhplus.be.server.queue.domain.RevokedQueueToken;
+import kr.hhplus.be.server.queue.port.out.QueueTokenRevocationRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 만료 전에 무효화된 서명 토큰 ID를 Redis ZSET(queue:revoked)에 보관합니다.
+ * score는 무효화 시각(epoch millis)이고 member는 "{tokenId}:{보관 만료 epoch seconds}"입니다.
+ * - 각 노드는 마지막으로 가져온 무효화 시각 이후의 항목만 ZRANGEBYSCORE로 가져와 로컬 목록에 더합니다.
+ * - 보관 만료 시각은 토큰 만료 시각 기준이므로 노드는 로컬 목록에서 항목별로 정리하고,
+ *   Redis에서는 토큰 최대 유효 시간이 지난 무효화 시각 구간을 한 번에 정리합니다.
+ */
+@Repository
+public class RedisQueueTokenRevocationRepository implements QueueTokenRevocationRepository {
+
+    private static final String MEMBER_SEPARATOR = ":";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RedisQueueTokenRevocationRepository(@Qualifier("luaScriptRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void revoke(UUID tokenId, long ttlSeconds) {
+        Instant now = Instant.now();
+        long retainUntil = now.getEpochSecond() + ttlSeconds;
+        redisTemplate.opsForZSet().add(QueueTokenUtil.REVOKED_TOKEN_KEY, tokenId + MEMBER_SEPARATOR + retainUntil, now.toEpochMilli());
+    }
+
+    @Override
+    public List<RevokedQueueToken> findRevokedTokensSince(long revokedAfterMillis) {
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(QueueTokenUtil.REVOKED_TOKEN_KEY, revokedAfterMillis, Double.POSITIVE_INFINITY);
+        if (tuples == null) return List.of();
+
+        List<RevokedQueueToken> revokedTokens = new ArrayList<>(tuples.size());
+        for (TypedTuple<String> tuple : tuples) {
+            String member = tuple.getValue();
+            int separatorIndex = member == null ? -1 : member.indexOf(MEMBER_SEPARATOR);
+            if (separatorIndex < 0 || tuple.getScore() == null) continue; // 형식이 다른 항목은 무시 (보관 기간 후 정리됨)
+            revokedTokens.add(new RevokedQueueToken(
+                    UUID.fromString(member.substring(0, separatorIndex)),
+                    Long.parseLong(member.substring(separatorIndex + 1)),
+                    tuple.getScore().longValue()));
+        }
+        return revokedTokens;
+    }
+
+    @Override
+    public void deleteRevokedBefore(long revokedBeforeMillis) {
+        redisTemplate.opsForZSet().removeRangeByScore(QueueTokenUtil.REVOKED_TOKEN_KEY, Double.NEGATIVE_INFINITY, revokedBeforeMillis - 1);
+    }
+}
@@ -0,0 +1,133 @@
+package kr.hhplus.be.server.queue.adapter.out.token;
+
+import kr.hhplus.be.server.queue.domain.QueueStatus;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.port.out.QueueTokenSigner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * HMAC-SHA256으로 서명한 압축 토큰
+ *
+ * <pre>
+ * {payload}.{signature}   (각각 base64url, 패딩 없음)
+ * payload = tokenId(16) + userId(16) + concertId(16) + 만료 epoch seconds(8)
+ * </pre>
+ * 서명 검증은 메모리에서만 수행하므로 예약/결제 요청마다 Redis에서 토큰을 조회하지 않아도 됩니다.
+ * 서명 토큰 모드가 켜져 있으면 시작 시 서명 키를 검증하여, 키 설정이 빠진 채로 첫 요청에서 실패하지 않도록 합니다.
+ */
+@Component
+public class HmacQueueTokenSigner implements QueueTokenSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String SEPARATOR = ".";
+    private static final int PAYLOAD_SIZE = 16 * 3 + Long.BYTES;
+    private static final int MIN_SECRET_BYTES = 32; // HMAC-SHA256 출력 길이 이상의 키 사용
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec secretKey;
+    private final ThreadLocal<Mac> macHolder; // Mac은 thread-safe 하지 않으므로 스레드별로 재사용
+
+    public HmacQueueTokenSigner(@Value("${queue.token.signed.secret:}") String secret,
+                                @Value("${queue.token.signed.enabled:false}") boolean enabled) {
+        if (enabled && secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("queue.token.signed.enabled=true 이면 queue.token.signed.secret을 " + MIN_SECRET_BYTES + "바이트 이상으로 설정해야 합니다.");
+        }
+        this.secretKey = secret.isBlank() ? null : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.macHolder = ThreadLocal.withInitial(this::newMac);
+        if (enabled) {
+            macHolder.get(); // 알고리즘/키 초기화 실패도 시작 시점에 드러나도록 미리 생성
+        }
+    }
+
+    @Override
+    public String sign(QueueToken queueToken) {
+        ByteBuffer payload = ByteBuffer.allocate(PAYLOAD_SIZE);
+        putUuid(payload, queueToken.tokenId());
+        putUuid(payload, queueToken.userId());
+        putUuid(payload, queueToken.concertId());
+        payload.putLong(queueToken.expiresAt().atZone(ZoneId.systemDefault()).toEpochSecond());
+
+        byte[] payloadBytes = payload.array();
+        return ENCODER.encodeToString(payloadBytes) + SEPARATOR + ENCODER.encodeToString(mac(payloadBytes));
+    }
+
+    @Override
+    public boolean isSigned(String token) {
+        return token != null && token.contains(SEPARATOR);
+    }
+
+    @Override
+    public Optional<QueueToken> verify(String token) {
+        int separatorIndex = token.indexOf(SEPARATOR);
+        if (separatorIndex < 0) return Optional.empty();
+
+        byte[] payloadBytes;
+        byte[] signature;
+        try {
+            payloadBytes = DECODER.decode(token.substring(0, separatorIndex));
+            signature = DECODER.decode(token.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (payloadBytes.length != PAYLOAD_SIZE || !MessageDigest.isEqual(mac(payloadBytes), signature)) {
+            return Optional.empty();
+        }
+
+        ByteBuffer payload = ByteBuffer.wrap(payloadBytes);
+        UUID tokenId = getUuid(payload);
+        UUID userId = getUuid(payload);
+        UUID concertId = getUuid(payload);
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(Instant.ofEpochSecond(payload.getLong()), ZoneId.systemDefault());
+
+        return Optional.of(QueueToken.builder()
+                .tokenId(tokenId)
+                .userId(userId)
+                .concertId(concertId)
+                .status(QueueStatus.ACTIVE)
+                .position(0)
+                .expiresAt(expiresAt)
+                .build());
+    }
+
+    private byte[] mac(byte[] payload) {
+        return macHolder.get().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        if (secretKey == null) {
+            throw new IllegalStateException("queue.token.signed.secret 설정이 필요합니다.");
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("대기열 토큰 서명 키 초기화에 실패했습니다.", e);
+        }
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.queue.domain;
+
+import java.util.List;
+
+/**
+ * 입장 한도 조정에 사용하는 백엔드 부하 신호
+ *
+ * @param bookingLatencyMillis 최근 구간의 예약/결제 API 평균 응답 시간 (ms)
+ * @param pendingConnections   Hikari 커넥션 획득 대기 스레드 수
+ * @param lockConflictRate     최근 구간의 분산락 획득 실패 비율 (0.0 ~ 1.0)
+ */
+public record AdmissionSignal(
+        double bookingLatencyMillis,
+        double pendingConnections,
+        double lockConflictRate
+) {
+
+    // 노드별 신호 중 가장 부하가 큰 값으로 합산 (한 노드라도 과부하면 입장 한도를 줄임)
+    public static AdmissionSignal aggregate(List<AdmissionSignal> signals) {
+        return new AdmissionSignal(
+                signals.stream().mapToDouble(AdmissionSignal::bookingLatencyMillis).max().orElse(0),
+                signals.stream().mapToDouble(AdmissionSignal::pendingConnections).max().orElse(0),
+                signals.stream().mapToDouble(AdmissionSignal::lockConflictRate).max().orElse(0));
+    }
+
+    // 세 가지 신호 중 하나라도 임계치를 넘으면 과부하로 판단
+    public boolean isOverloaded(double maxLatencyMillis, double maxPendingConnections, double maxLockConflictRate) {
+        return bookingLatencyMillis > maxLatencyMillis
+                || pendingConnections > maxPendingConnections
+                || lockConflictRate > maxLockConflictRate;
+    }
+}
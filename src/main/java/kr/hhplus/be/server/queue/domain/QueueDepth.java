@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.queue.domain;
+
+/**
+ * 콘서트별 대기열 현황
+ *
+ * @param activeCount  활성 토큰 수
+ * @param waitingCount 대기 토큰 수
+ * @param admittedCount 누적 승격 수 (모든 노드의 승격 합계, 승격 속도 계산용)
+ */
+public record QueueDepth(
+        long activeCount,
+        long waitingCount,
+        long admittedCount
+) {
+
+    public boolean isDrained() {
+        return activeCount == 0 && waitingCount == 0;
+    }
+}
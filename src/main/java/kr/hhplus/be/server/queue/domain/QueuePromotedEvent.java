@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.queue.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주기 스케줄러 밖에서(즉시 승격) 대기 토큰이 승격되었음을 알리는 애플리케이션 내부 이벤트
+ * SSE 브로드캐스터가 받아 해당 콘서트 구독자들의 바뀐 대기 순번을 바로 전송합니다.
+ *
+ * @param concertIds 승격이 발생한 콘서트 ID 목록
+ */
+public record QueuePromotedEvent(
+        List<UUID> concertIds
+) {
+}
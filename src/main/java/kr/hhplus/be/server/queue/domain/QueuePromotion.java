@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.queue.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 한 콘서트에서 한 번의 승격으로 활성화된 토큰들의 결과
+ *
+ * @param concertId     콘서트 ID
+ * @param waitedSeconds 승격된 토큰별 대기열 체류 시간 (초, 발급 시각 ~ 승격 시각)
+ */
+public record QueuePromotion(
+        UUID concertId,
+        List<Long> waitedSeconds
+) {
+
+    public int count() {
+        return waitedSeconds.size();
+    }
+
+    public static long totalCount(List<QueuePromotion> promotions) {
+        return promotions.stream().mapToLong(QueuePromotion::count).sum();
+    }
+}
@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 
+import java.util.List;
 import java.util.UUID;
 
 // 토큰의 유효성을 검증하는 정적 메서드와 Redis 키 포맷팅을 위한 상수들을 정의합니다.
@@ -13,11 +14,29 @@ import java.util.UUID;
 public final class QueueTokenUtil {
 
     // Redis에서 사용하는 키 포맷을 정의합니다.
-    private static final String ACTIVE_TOKEN_KEY = "queue:active:%s";
-    private static final String WAITING_TOKEN_KEY = "queue:waiting:%s";
+    public static final String ACTIVE_TOKEN_KEY_PREFIX = "queue:active:";
+    public static final String WAITING_TOKEN_KEY_PREFIX = "queue:waiting:";
+    private static final String ACTIVE_TOKEN_KEY = ACTIVE_TOKEN_KEY_PREFIX + "%s";
+    private static final String WAITING_TOKEN_KEY = WAITING_TOKEN_KEY_PREFIX + "%s";
     private static final String TOKEN_INFO_KEY = "token:info:%s";
     private static final String TOKEN_ID_KEY = "token:id:%s:%s";
 
+    // 대기/활성 토큰이 존재하는 콘서트 ID 목록 (Set) - 만료 토큰 정리 대상을 좁히기 위해 사용
+    public static final String QUEUED_CONCERT_KEY = "queue:concerts";
+
+    // 콘서트별 최대 활성 토큰 수 (Hash, field: concertId) - 적응형 입장 제어로 조정되며 모든 노드가 공유
+    public static final String ADMISSION_LIMIT_KEY = "queue:admission:limit";
+    // 콘서트별 누적 승격 수 (Hash, field: concertId) - 승격 스크립트가 증가시키며 모든 노드가 같은 값으로 승격 속도를 계산
+    public static final String ADMITTED_COUNT_KEY = "queue:admitted";
+    // 입장 한도가 아직 설정되지 않은 콘서트에 적용할 기본 최대 활성 토큰 수
+    public static final int DEFAULT_MAX_ACTIVE_TOKEN_SIZE = 50;
+
+    // 만료 전에 무효화된 서명 토큰 (ZSET, member: {tokenId}:{보관 만료 epoch seconds}, score: 무효화 epoch millis)
+    public static final String REVOKED_TOKEN_KEY = "queue:revoked";
+
+    // Lua 스크립트에서 tokenId로 토큰 정보 키를 조합할 때 사용하는 접두사
+    public static final String TOKEN_INFO_KEY_PREFIX = "token:info:";
+
     // QueueToken이 유효한지 검증
     public static void validateActiveQueueToken(QueueToken queueToken) throws CustomException {
         if (queueToken == null || !queueToken.isActive())
@@ -42,67 +61,142 @@ public final class QueueTokenUtil {
         return String.format(WAITING_TOKEN_KEY, concertId);
     }
 
-    public static DefaultRedisScript<Long> promoteWaitingTokenScript() {
-        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+    // 승격된 토큰별 대기 시간(초) 목록을 반환
+    @SuppressWarnings("rawtypes")
+    public static DefaultRedisScript<List> promoteWaitingTokenScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
         script.setScriptText(PROMOTE_WAITING_TOKEN_SCRIPT);
 
-        script.setResultType(Long.class);
+        script.setResultType(List.class);
 
         return script;
     }
 
-    public static DefaultRedisScript<Long> removeStaleActiveTokenScript() {
-        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
-        script.setScriptText(REMOVE_STALE_ACTIVE_TOKEN_SCRIPT);
-        script.setResultType(Long.class);
+    // { 삭제된 활성 토큰 수, 확인한 후보 수 }를 반환
+    @SuppressWarnings("rawtypes")
+    public static DefaultRedisScript<List> removeExpiredActiveTokenScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptText(REMOVE_EXPIRED_ACTIVE_TOKEN_SCRIPT);
+        script.setResultType(List.class);
         return script;
     }
 
     public static final String PROMOTE_WAITING_TOKEN_SCRIPT = """
           local activeTokenKey = KEYS[1]
           local waitingTokenKey = KEYS[2]
-          local maxActiveTokenSize = tonumber(ARGV[1])
+          local admissionLimitKey = KEYS[3]
+          local admittedCountKey = KEYS[4]
+          local activeTokenTtl = tonumber(ARGV[2])
+          local tokenInfoKeyPrefix = ARGV[3]
+          local concertId = ARGV[4]
+          local compactTokenKeyPrefix = ARGV[5]
+          local compactUserTokenKeyPrefix = ARGV[6]
+          local MAX_PROMOTION_ROUNDS = 5 -- 토큰 정보가 사라진 대기 member가 많아도 Redis를 오래 점유하지 않도록 조회 횟수 제한
+
+          -- 콘서트별 입장 한도가 있으면 사용하고, 없으면 기본값(ARGV[1]) 사용
+          local maxActiveTokenSize = tonumber(redis.call('HGET', admissionLimitKey, concertId)) or tonumber(ARGV[1])
 
           -- 활성 토큰 개수 조회 (SCARD -> ZCARD 로 변경)
           local activeCount = redis.call('ZCARD', activeTokenKey)
           local leftActiveCount = maxActiveTokenSize - activeCount
 
           if leftActiveCount <= 0 then
-              return 0
+              return {}
           end
 
-          -- 남은 활성 토큰 개수 만큼 대기 토큰 조회
-          local waitingTokens = redis.call('ZRANGE', waitingTokenKey, 0, leftActiveCount - 1)
-          if #waitingTokens == 0 then
-              return 0
-          end
-          
-          -- 현재 시간을 점수(score)로 사용하기 위해 조회
+          -- 활성 토큰의 score는 만료 시각(epoch seconds)으로 저장 (만료 토큰 정리 시 ZRANGEBYSCORE 사용)
           local currentTime = redis.call('TIME')
-          local score = currentTime[1]
+          local now = tonumber(currentTime[1])
+          local expiresAt = now + activeTokenTtl
+
+          -- 대기 토큰 활성 토큰으로 승급 (반환값: 토큰별 대기 시간)
+          -- 토큰 정보가 TTL로 사라진 대기 member는 활성 자리를 차지하지 않도록 승격하지 않고 대기열에서만 제거
+          local waitedSeconds = {}
+          for round = 1, MAX_PROMOTION_ROUNDS do
+              local needed = leftActiveCount - #waitedSeconds
+              if needed <= 0 then
+                  break
+              end
+              -- 앞선 member는 승격 또는 제거되었으므로 항상 0부터 조회 (score: 발급 시각)
+              local waitingEntries = redis.call('ZRANGE', waitingTokenKey, 0, needed - 1, 'WITHSCORES')
+              if #waitingEntries == 0 then
+                  break
+              end
 
-          -- 대기 토큰 활성 토큰으로 승급
-          for i, tokenId in ipairs(waitingTokens) do
-              -- SADD -> ZADD 로 변경하고, score를 함께 전달
-              redis.call('ZADD', activeTokenKey, score, tokenId)
-              redis.call('ZREM', waitingTokenKey, tokenId)
+              for i = 1, #waitingEntries, 2 do
+                  local member = waitingEntries[i]
+                  redis.call('ZREM', waitingTokenKey, member)
+
+                  if string.sub(member, 1, 9) == 'token:id:' then
+                      -- 이전 포맷: member가 token:id 키, 토큰 키들의 만료 시간만 활성 TTL로 연장
+                      local tokenId = redis.call('GET', member)
+                      if tokenId then
+                          redis.call('ZADD', activeTokenKey, expiresAt, member)
+                          redis.call('EXPIRE', member, activeTokenTtl)
+                          redis.call('EXPIRE', tokenInfoKeyPrefix .. tokenId, activeTokenTtl)
+                          waitedSeconds[#waitedSeconds + 1] = math.max(0, now - math.floor(tonumber(waitingEntries[i + 1])))
+                      end
+                  else
+                      -- 압축 포맷: member가 토큰 ID, 상태/활성 시각/만료 시각을 갱신하고 TTL 연장
+                      local tokenKey = compactTokenKeyPrefix .. member
+                      local userId = redis.call('HGET', tokenKey, 'u')
+                      if userId then
+                          redis.call('ZADD', activeTokenKey, expiresAt, member)
+                          redis.call('HSET', tokenKey, 's', 'A', 'n', now, 'e', expiresAt)
+                          redis.call('EXPIRE', tokenKey, activeTokenTtl)
+                          redis.call('EXPIRE', compactUserTokenKeyPrefix .. userId, activeTokenTtl)
+                          waitedSeconds[#waitedSeconds + 1] = math.max(0, now - math.floor(tonumber(waitingEntries[i + 1])))
+                      end
+                  end
+              end
           end
-          return #waitingTokens
+          if #waitedSeconds == 0 then
+              return {}
+          end
+          -- 노드와 관계없이 같은 승격 속도를 계산할 수 있도록 누적 승격 수 기록
+          redis.call('HINCRBY', admittedCountKey, concertId, #waitedSeconds)
+          return waitedSeconds
           """;
 
-    public static final String REMOVE_STALE_ACTIVE_TOKEN_SCRIPT = """
+    public static final String REMOVE_EXPIRED_ACTIVE_TOKEN_SCRIPT = """
           local activeTokenKey = KEYS[1]
-          local tokenInfoKeyPrefix = ARGV[1]
+          local waitingTokenKey = KEYS[2]
+          local queuedConcertKey = KEYS[3]
+          local batchSize = tonumber(ARGV[1])
+          local concertId = ARGV[2]
+          local compactTokenKeyPrefix = ARGV[3]
+
+          -- score(만료 시각)가 현재 시각 이전인 활성 토큰만 batchSize 만큼 조회
+          local now = tonumber(redis.call('TIME')[1])
+          local candidates = redis.call('ZRANGEBYSCORE', activeTokenKey, '-inf', now, 'LIMIT', 0, batchSize)
+
+          -- 만료 시각 score 도입 전에 승격된 토큰은 score가 활성화 시각이므로,
+          -- 토큰 정보가 아직 남아 있다면 삭제하지 않고 실제 만료 시각으로 score를 다시 기록
           local removedCount = 0
+          for _, member in ipairs(candidates) do
+              local expiresAt = nil
+              if string.sub(member, 1, 9) == 'token:id:' then
+                  local ttl = redis.call('TTL', member)
+                  if ttl > 0 then
+                      expiresAt = now + ttl
+                  end
+              else
+                  expiresAt = tonumber(redis.call('HGET', compactTokenKeyPrefix .. member, 'e'))
+              end
 
-          local activeTokens = redis.call('ZRANGE', activeTokenKey, 0, -1)
-          for i, tokenIdKey in ipairs(activeTokens) do
-              local tokenInfoKey = tokenInfoKeyPrefix .. string.sub(tokenIdKey, string.len('token:id:') + 1)
-              if redis.call('EXISTS', tokenInfoKey) == 0 then
-                  redis.call('ZREM', activeTokenKey, tokenIdKey)
+              if expiresAt and expiresAt > now then
+                  redis.call('ZADD', activeTokenKey, expiresAt, member)
+              else
+                  redis.call('ZREM', activeTokenKey, member)
                   removedCount = removedCount + 1
               end
           end
-          return removedCount
+
+          -- 활성/대기 토큰이 모두 없는 콘서트는 정리 대상 목록에서 제외
+          if redis.call('ZCARD', activeTokenKey) == 0 and redis.call('ZCARD', waitingTokenKey) == 0 then
+              redis.call('SREM', queuedConcertKey, concertId)
+          end
+          -- { 삭제 수, 확인한 후보 수 } (후보 수가 batchSize와 같으면 다음 배치가 남아 있을 수 있음)
+          return { removedCount, #candidates }
           """;
 }
@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.queue.domain;
+
+import java.util.UUID;
+
+/**
+ * 만료 전에 무효화된 서명 토큰
+ * @param tokenId          토큰 ID
+ * @param retainUntil      무효화 정보 보관 만료 epoch seconds (토큰 만료 시각 기준, 이후에는 서명 검증에서 만료로 거절됨)
+ * @param revokedAtMillis  무효화 시각 epoch millis (노드별 증분 동기화 기준)
+ */
+public record RevokedQueueToken(
+        UUID tokenId,
+        long retainUntil,
+        long revokedAtMillis
+) {
+}
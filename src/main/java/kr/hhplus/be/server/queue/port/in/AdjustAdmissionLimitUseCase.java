@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.queue.port.in;
+
+import kr.hhplus.be.server.queue.domain.AdmissionSignal;
+
+public interface AdjustAdmissionLimitUseCase {
+    /**
+     * 이 노드의 부하 신호를 공유하고, 조정 주기마다 한 노드만 전체 노드의 신호를 모아 대기열이 존재하는 콘서트들의 입장 한도를 조정합니다.
+     */
+    void adjustAdmissionLimits(AdmissionSignal signal);
+}
@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.queue.port.in;
+
+import java.util.UUID;
+
+public interface EstimateQueueWaitUseCase {
+    /**
+     * 콘서트의 최근 승격 속도(초당 승격 수)로 현재 순번의 예상 대기 시간을 계산합니다.
+     * @param position 현재 대기 순번 (활성 상태면 0)
+     * @return 예상 대기 시간(초), 아직 승격 속도를 알 수 없으면 null
+     */
+    Long estimateWaitSeconds(UUID concertId, int position);
+}
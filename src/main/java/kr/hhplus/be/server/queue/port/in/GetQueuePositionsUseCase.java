@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.queue.port.in;
+
+import kr.hhplus.be.server.queue.domain.QueueToken;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface GetQueuePositionsUseCase {
+    /**
+     * 한 콘서트에 속한 여러 대기열 토큰의 현재 순번을 한 번에 조회합니다.
+     * @return 토큰 ID → 현재 순번 (활성 상태면 0, 대기열에서 사라졌으면 포함되지 않음)
+     */
+    Map<UUID, Integer> getWaitingPositions(UUID concertId, Collection<QueueToken> queueTokens);
+}
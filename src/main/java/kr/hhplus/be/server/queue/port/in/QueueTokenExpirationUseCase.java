@@ -1,5 +1,10 @@
 package kr.hhplus.be.server.queue.port.in;
 
+import java.time.LocalDateTime;
+
 public interface QueueTokenExpirationUseCase {
-    void expiresQueueToken(String tokenId);
+    /**
+     * @param expiresAt 토큰 만료 시각 (서명 토큰 무효화 정보 보관 시간 계산에 사용, 모르면 null)
+     */
+    void expiresQueueToken(String tokenId, LocalDateTime expiresAt);
 }
\ No newline at end of file
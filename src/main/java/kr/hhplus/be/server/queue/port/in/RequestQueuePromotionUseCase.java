@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.queue.port.in;
+
+import java.util.UUID;
+
+public interface RequestQueuePromotionUseCase {
+    /**
+     * 활성 토큰 자리가 비었을 때 해당 콘서트의 대기 토큰 승격을 요청합니다.
+     * 같은 콘서트에 대한 요청이 연달아 들어오면 한 번의 승격으로 합쳐서 처리됩니다.
+     */
+    void requestPromotion(UUID concertId);
+}
@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.queue.port.in;
+
+import kr.hhplus.be.server.queue.domain.QueueToken;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface SignedQueueTokenUseCase {
+    /**
+     * 활성 토큰을 서명 토큰으로 발급합니다.
+     * @return 서명 토큰 모드가 꺼져 있거나 활성 토큰이 아니면 empty
+     */
+    Optional<String> sign(QueueToken queueToken);
+
+    /**
+     * 서명 토큰이면 Redis 조회 없이 서명, 만료, 무효화 여부를 검증합니다.
+     * @param token Authorization 헤더로 받은 토큰 문자열
+     * @return 서명 토큰이 아니면 empty (기존 방식으로 조회)
+     * @throws kr.hhplus.be.server.common.exception.CustomException 서명 토큰이지만 유효하지 않은 경우 INVALID_QUEUE_TOKEN
+     */
+    Optional<QueueToken> verify(String token);
+
+    /**
+     * 서명 토큰을 만료 전에 무효화합니다. (결제 완료/실패로 인한 토큰 만료)
+     * @param expiresAt 토큰 만료 시각, 무효화 정보는 이 시각까지만 보관 (모르면 null, 최대 유효 시간 동안 보관)
+     */
+    void revoke(String tokenId, LocalDateTime expiresAt);
+}
@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.queue.port.out;
+
+import kr.hhplus.be.server.queue.domain.AdmissionSignal;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+public interface QueueAdmissionRepository {
+    /**
+     * 콘서트별 최대 활성 토큰 수(입장 한도) 조회
+     * @param concertId 콘서트 ID
+     * @return 설정된 입장 한도, 설정되지 않았다면 기본값
+     */
+    int findActiveLimit(UUID concertId);
+
+    /**
+     * 입장 한도를 step 만큼 증가 (가산 증가)
+     * @return 변경된 입장 한도
+     */
+    int increaseActiveLimit(UUID concertId, int step, int minLimit, int maxLimit);
+
+    /**
+     * 입장 한도를 factor 비율로 감소 (승산 감소)
+     * @return 변경된 입장 한도
+     */
+    int decreaseActiveLimit(UUID concertId, double factor, int minLimit, int maxLimit);
+
+    /**
+     * 노드의 최근 부하 신호를 공유 저장소에 기록
+     */
+    void reportSignal(String nodeId, AdmissionSignal signal);
+
+    /**
+     * maxAge 이내에 보고된 모든 노드의 부하 신호 조회 (오래된 신호는 정리)
+     */
+    List<AdmissionSignal> findReportedSignals(Duration maxAge);
+
+    /**
+     * 조정 주기 동안 한 노드만 입장 한도를 조정하도록 선점
+     * @return 이번 주기의 조정을 선점했으면 true
+     */
+    boolean tryAcquireAdjustment(String nodeId, Duration interval);
+}
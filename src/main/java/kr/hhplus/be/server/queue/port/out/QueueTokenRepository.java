@@ -1,9 +1,15 @@
 package kr.hhplus.be.server.queue.port.out;
 
 import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.queue.domain.QueueDepth;
+import kr.hhplus.be.server.queue.domain.QueuePromotion;
 import kr.hhplus.be.server.queue.domain.QueueToken;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface QueueTokenRepository {
@@ -35,6 +41,14 @@ public interface QueueTokenRepository {
      */
     Integer findWaitingPosition(QueueToken queueToken);
 
+    /**
+     * 여러 대기 토큰의 포지션을 파이프라인 한 번으로 찾기
+     * @param concertId 콘서트 ID
+     * @param queueTokens 대기열 토큰 목록
+     * @return 토큰 ID별 현재 포지션 (활성 상태면 0, 대기열/활성열 어디에도 없으면 제외)
+     */
+    Map<UUID, Integer> findWaitingPositions(UUID concertId, Collection<QueueToken> queueTokens);
+
     /**
      * 대기 토큰 개수 찾기
      * @param concertId 콘서트 ID
@@ -52,12 +66,49 @@ public interface QueueTokenRepository {
     /**
      * 대기열 토큰 만료
      * @param tokenId 대기열 토큰 ID
+     * @return 활성 토큰 자리가 반환된 경우 해당 콘서트 ID
      */
-    void expiresQueueToken(String tokenId);
+    Optional<UUID> expiresQueueToken(String tokenId);
 
-    void promoteQueueToken(List<Concert> openConcerts);
+    /**
+     * 대기 토큰을 활성 토큰으로 승격
+     * @param openConcerts 승격 대상 콘서트 목록
+     * @return 토큰이 승격된 콘서트별 승격 결과
+     */
+    List<QueuePromotion> promoteQueueToken(List<Concert> openConcerts);
+
+    /**
+     * 지정한 콘서트들의 대기 토큰을 활성 토큰으로 승격
+     * @param concertIds 승격 대상 콘서트 ID 목록
+     * @return 토큰이 승격된 콘서트별 승격 결과
+     */
+    List<QueuePromotion> promoteQueueTokenByConcertIds(Collection<UUID> concertIds);
 
     long removeExpiredWaitingTokens(UUID concertId);
 
+    /**
+     * 만료 시각이 지난 활성 토큰 삭제 (배치 단위로 점진 처리)
+     * @param concertId 콘서트 ID
+     * @return 삭제된 활성 토큰 수
+     */
     long removeStaleActiveTokens(UUID concertId);
+
+    /**
+     * 대기/활성 토큰이 존재하는 콘서트 ID 목록 조회
+     * @return 콘서트 ID 목록
+     */
+    Set<UUID> findQueuedConcertIds();
+
+    /**
+     * 대기/활성 토큰이 있지만 정리 대상 목록에 없는 콘서트를 등록 (목록 도입 전에 생긴 대기열을 위한 1회성 작업)
+     * @return 새로 등록된 콘서트 수
+     */
+    long registerQueuedConcerts();
+
+    /**
+     * 여러 콘서트의 활성/대기 토큰 수와 누적 승격 수를 한 번에 조회
+     * @param concertIds 콘서트 ID 목록
+     * @return 콘서트 ID → 활성/대기 토큰 수, 누적 승격 수
+     */
+    Map<UUID, QueueDepth> findQueueDepths(Collection<UUID> concertIds);
 }
@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.queue.port.out;
+
+import kr.hhplus.be.server.queue.domain.RevokedQueueToken;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface QueueTokenRevocationRepository {
+    /**
+     * 만료 전에 무효화된 토큰 등록
+     * @param tokenId     토큰 ID
+     * @param ttlSeconds  무효화 정보 보관 시간 (토큰의 남은 유효 시간 이상)
+     */
+    void revoke(UUID tokenId, long ttlSeconds);
+
+    /**
+     * 무효화 시각이 revokedAfterMillis 이후인 토큰 목록 조회 (노드별 증분 동기화)
+     * @param revokedAfterMillis 조회 시작 무효화 시각 epoch millis (이 시각 포함)
+     * @return 무효화 시각 순으로 정렬된 무효화 토큰 목록
+     */
+    List<RevokedQueueToken> findRevokedTokensSince(long revokedAfterMillis);
+
+    /**
+     * 무효화 시각이 revokedBeforeMillis 이전인 항목 정리 (토큰 최대 유효 시간이 지나 더 이상 필요 없는 항목)
+     */
+    void deleteRevokedBefore(long revokedBeforeMillis);
+}
@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.queue.port.out;
+
+import kr.hhplus.be.server.queue.domain.QueueToken;
+
+import java.util.Optional;
+
+public interface QueueTokenSigner {
+    /**
+     * 활성 토큰을 서명된 토큰 문자열로 변환 (토큰 ID, 유저 ID, 콘서트 ID, 만료 시각 포함)
+     * @param queueToken 활성 상태의 대기열 토큰
+     * @return 서명된 토큰 문자열
+     */
+    String sign(QueueToken queueToken);
+
+    /**
+     * 서명 형식의 토큰 문자열인지 확인 (UUID 형식의 기존 토큰과 구분)
+     */
+    boolean isSigned(String token);
+
+    /**
+     * 서명을 검증하고 토큰 정보를 복원
+     * @param token 서명된 토큰 문자열
+     * @return 서명이 올바르면 활성 토큰, 위조/손상된 토큰이면 empty
+     */
+    Optional<QueueToken> verify(String token);
+}
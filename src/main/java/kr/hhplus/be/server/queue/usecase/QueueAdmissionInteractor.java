@@ -0,0 +1,104 @@
+package kr.hhplus.be.server.queue.usecase;
+
+import kr.hhplus.be.server.concert.domain.ConcertDate;
+import kr.hhplus.be.server.concert.port.out.ConcertDateRepository;
+import kr.hhplus.be.server.queue.domain.AdmissionSignal;
+import kr.hhplus.be.server.queue.port.in.AdjustAdmissionLimitUseCase;
+import kr.hhplus.be.server.queue.port.out.QueueAdmissionRepository;
+import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 콘서트별 입장 한도(최대 활성 토큰 수)를 AIMD 방식으로 조정합니다.
+ * - 과부하 신호(응답 지연, 커넥션 대기, 락 충돌)가 있으면 한도를 비율로 줄이고 (승산 감소)
+ * - 여유가 있으면 step 만큼 늘립니다 (가산 증가)
+ * 상한은 콘서트의 남은 예약 가능 좌석 수로 제한하여, 좌석보다 많은 인원을 입장시키지 않습니다.
+ * 입장 한도는 모든 노드가 공유하므로, 각 노드는 자신의 신호만 Redis에 보고하고
+ * 조정 주기마다 한 노드만 전체 노드의 신호를 합산하여 한 번 조정합니다. (노드 수만큼 중복 증감되지 않도록)
+ */
+@Slf4j
+@Service
+public class QueueAdmissionInteractor implements AdjustAdmissionLimitUseCase {
+
+    private final QueueTokenRepository queueTokenRepository;
+    private final QueueAdmissionRepository queueAdmissionRepository;
+    private final ConcertDateRepository concertDateRepository;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int increaseStep;
+    private final double decreaseFactor;
+    private final double maxLatencyMillis;
+    private final double maxPendingConnections;
+    private final double maxLockConflictRate;
+    private final Duration adjustInterval;
+    private final Duration signalMaxAge;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public QueueAdmissionInteractor(QueueTokenRepository queueTokenRepository,
+                                    QueueAdmissionRepository queueAdmissionRepository,
+                                    ConcertDateRepository concertDateRepository,
+                                    @Value("${queue.admission.min-limit:10}") int minLimit,
+                                    @Value("${queue.admission.max-limit:1000}") int maxLimit,
+                                    @Value("${queue.admission.increase-step:10}") int increaseStep,
+                                    @Value("${queue.admission.decrease-factor:0.7}") double decreaseFactor,
+                                    @Value("${queue.admission.max-latency-ms:500}") double maxLatencyMillis,
+                                    @Value("${queue.admission.max-pending-connections:5}") double maxPendingConnections,
+                                    @Value("${queue.admission.max-lock-conflict-rate:0.3}") double maxLockConflictRate,
+                                    @Value("${queue.admission.adjust-interval-ms:10000}") long adjustIntervalMs) {
+        this.queueTokenRepository = queueTokenRepository;
+        this.queueAdmissionRepository = queueAdmissionRepository;
+        this.concertDateRepository = concertDateRepository;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.maxLatencyMillis = maxLatencyMillis;
+        this.maxPendingConnections = maxPendingConnections;
+        this.maxLockConflictRate = maxLockConflictRate;
+        // 다음 주기 직전에 선점이 풀리도록 주기보다 약간 짧게 유지, 신호는 2주기 동안 유효
+        this.adjustInterval = Duration.ofMillis(Math.max(1000, adjustIntervalMs - 500));
+        this.signalMaxAge = Duration.ofMillis(adjustIntervalMs * 2);
+    }
+
+    @Override
+    public void adjustAdmissionLimits(AdmissionSignal localSignal) {
+        // 1. 이 노드의 신호를 공유하고, 이번 주기의 조정을 선점한 노드만 진행
+        queueAdmissionRepository.reportSignal(nodeId, localSignal);
+        if (!queueAdmissionRepository.tryAcquireAdjustment(nodeId, adjustInterval)) {
+            return;
+        }
+
+        // 2. 전체 노드의 신호를 합산하여 과부하 여부 판단
+        List<AdmissionSignal> signals = queueAdmissionRepository.findReportedSignals(signalMaxAge);
+        AdmissionSignal signal = signals.isEmpty() ? localSignal : AdmissionSignal.aggregate(signals);
+        boolean overloaded = signal.isOverloaded(maxLatencyMillis, maxPendingConnections, maxLockConflictRate);
+
+        Set<UUID> queuedConcertIds = queueTokenRepository.findQueuedConcertIds();
+        for (UUID concertId : queuedConcertIds) {
+            int ceiling = calculateCeiling(concertId);
+            int limit = overloaded
+                    ? queueAdmissionRepository.decreaseActiveLimit(concertId, decreaseFactor, minLimit, ceiling)
+                    : queueAdmissionRepository.increaseActiveLimit(concertId, increaseStep, minLimit, ceiling);
+            log.debug("[입장 한도 조정] 콘서트 ID {}: {} (과부하: {}, 신호: {}, 노드 수: {})", concertId, limit, overloaded, signal, signals.size());
+        }
+    }
+
+    // 상한 = 남은 예약 가능 좌석 수 (단, 설정된 min/max 범위 내)
+    private int calculateCeiling(UUID concertId) {
+        long availableSeats = concertDateRepository.findAvailableDates(concertId).stream()
+                .map(ConcertDate::availableSeatCount)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sum();
+        return (int) Math.max(minLimit, Math.min(maxLimit, availableSeats));
+    }
+}
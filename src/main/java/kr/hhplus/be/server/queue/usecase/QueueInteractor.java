@@ -4,56 +4,54 @@ import kr.hhplus.be.server.common.exception.CustomException;
 import kr.hhplus.be.server.common.exception.ErrorCode;
 import kr.hhplus.be.server.concert.port.out.ConcertRepository;
 import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.domain.QueueTokenUtil;
 import kr.hhplus.be.server.queue.port.in.GetQueueInfoUseCase;
+import kr.hhplus.be.server.queue.port.in.GetQueuePositionsUseCase;
 import kr.hhplus.be.server.queue.port.in.IssueTokenUseCase;
 import kr.hhplus.be.server.queue.port.in.QueueTokenExpirationUseCase;
+import kr.hhplus.be.server.queue.port.in.RequestQueuePromotionUseCase;
+import kr.hhplus.be.server.queue.port.in.SignedQueueTokenUseCase;
 import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
 import kr.hhplus.be.server.user.port.out.UserRepository;
 import kr.hhplus.be.server.queue.adapter.out.persistence.RedisAtomicQueueTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class QueueInteractor implements IssueTokenUseCase, GetQueueInfoUseCase, QueueTokenExpirationUseCase {
+public class QueueInteractor implements IssueTokenUseCase, GetQueueInfoUseCase, GetQueuePositionsUseCase, QueueTokenExpirationUseCase {
 
-    private static final int MAX_ACTIVE_TOKEN_SIZE = 50;
     private static final long QUEUE_EXPIRES_TIME = 60L;
+    private static final long WAITING_QUEUE_EXPIRES_TIME = 10 * 60L; // 10분(초 단위)
 
     private final QueueTokenRepository queueTokenRepository;
     private final ConcertRepository concertRepository;
     private final UserRepository userRepository;
     private final RedisAtomicQueueTokenRepository redisAtomicQueueTokenRepository;
-
+    private final RequestQueuePromotionUseCase requestQueuePromotionUseCase;
+    private final QueueMetrics queueMetrics;
+    private final SignedQueueTokenUseCase signedQueueTokenUseCase;
+
+    /**
+     * 대기열 토큰 발급
+     * 중복 확인, 활성/대기 판단, ZSET 등록, TTL 설정, 대기 순번 계산은 단일 Lua 스크립트 호출로 처리합니다.
+     */
     @Override
-    @Transactional
     public QueueToken issueQueueToken(UUID userId, UUID concertId) {
         validateUserId(userId);
         validateConcertId(concertId);
 
-        String findTokenId = queueTokenRepository.findTokenIdByUserIdAndConcertId(userId, concertId);
-        if (findTokenId != null) {
-            log.debug("이미 발급된 토큰이 있습니다: USER_ID - {}, CONCERT_ID - {}, TOKEN_ID - {}", userId, concertId, findTokenId);
-            return queueTokenRepository.findQueueTokenByTokenId(findTokenId);
-        }
-
-        Integer activeTokenCount = queueTokenRepository.countActiveTokens(concertId);
-        QueueToken newQueueToken = createQueueToken(activeTokenCount, userId, concertId);
-        String resultTokenId = redisAtomicQueueTokenRepository.issueTokenAtomic(userId, concertId, newQueueToken);
-        QueueToken finalQueueToken = queueTokenRepository.findQueueTokenByTokenId(resultTokenId);
-
-        if (finalQueueToken == null) {
-            throw new CustomException(ErrorCode.QUEUE_TOKEN_NOT_FOUND, "발급된 토큰 정보를 찾을 수 없습니다.");
-        }
-
-        queueTokenRepository.save(finalQueueToken);
-        log.debug("최종 발급/조회된 대기열 토큰: {}", finalQueueToken);
-        return finalQueueToken;
+        QueueToken queueToken = redisAtomicQueueTokenRepository.issueToken(
+                userId, concertId, QueueTokenUtil.DEFAULT_MAX_ACTIVE_TOKEN_SIZE, QUEUE_EXPIRES_TIME, WAITING_QUEUE_EXPIRES_TIME);
+        log.debug("최종 발급/조회된 대기열 토큰: {}", queueToken);
+        return queueToken;
     }
 
     @Override
@@ -67,12 +65,26 @@ public class QueueInteractor implements IssueTokenUseCase, GetQueueInfoUseCase,
             return queueToken;
         }
         Integer waitingPosition = queueTokenRepository.findWaitingPosition(queueToken);
+        if (waitingPosition == null) { // 대기열에서 이미 제거된 토큰 (만료 정리됨)
+            throw new CustomException(ErrorCode.INVALID_QUEUE_TOKEN);
+        }
         return queueToken.withWaitingPosition(waitingPosition);
     }
 
     @Override
-    public void expiresQueueToken(String tokenId) {
-        queueTokenRepository.expiresQueueToken(tokenId);
+    public Map<UUID, Integer> getWaitingPositions(UUID concertId, Collection<QueueToken> queueTokens) {
+        return queueTokenRepository.findWaitingPositions(concertId, queueTokens);
+    }
+
+    @Override
+    public void expiresQueueToken(String tokenId, LocalDateTime expiresAt) {
+        signedQueueTokenUseCase.revoke(tokenId, expiresAt); // 이미 발급된 서명 토큰도 더 이상 사용할 수 없도록 무효화
+        // 활성 토큰 자리가 비었다면 대기 토큰을 즉시 승격
+        queueTokenRepository.expiresQueueToken(tokenId)
+                .ifPresent(concertId -> {
+                    queueMetrics.recordExpirations(concertId, QueueMetrics.REASON_RELEASED, 1);
+                    requestQueuePromotionUseCase.requestPromotion(concertId);
+                });
     }
 
     private void validateUserId(UUID userId) {
@@ -86,15 +98,4 @@ public class QueueInteractor implements IssueTokenUseCase, GetQueueInfoUseCase,
             throw new CustomException(ErrorCode.CONCERT_NOT_FOUND);
         }
     }
-
-    private QueueToken createQueueToken(Integer activeTokenCount, UUID userId, UUID concertId) {
-        final long WAITING_QUEUE_EXPIRES_TIME = 10 * 60L; // 10분(초 단위)
-
-        UUID tokenId = UUID.randomUUID();
-        if (activeTokenCount < MAX_ACTIVE_TOKEN_SIZE) {
-            return QueueToken.activeTokenOf(tokenId, userId, concertId, QUEUE_EXPIRES_TIME);
-        }
-        Integer waitingTokenCount = queueTokenRepository.countWaitingTokens(concertId);
-        return QueueToken.waitingTokenOf(tokenId, userId, concertId, waitingTokenCount, WAITING_QUEUE_EXPIRES_TIME);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,180 @@
+package kr.hhplus.be.server.queue.usecase;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.queue.domain.QueueDepth;
+import kr.hhplus.be.server.queue.domain.QueuePromotion;
+import kr.hhplus.be.server.queue.port.in.EstimateQueueWaitUseCase;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 콘서트별 대기열 지표를 Micrometer로 기록하고, 최근 승격 속도로 예상 대기 시간을 계산합니다.
+ * - queue.admissions          : 대기 → 활성 승격 수 (Counter, 초당 승격 수는 rate()로 계산)
+ * - queue.expirations         : 만료/반환된 토큰 수 (Counter, reason = waiting_timeout | active_timeout | released)
+ * - queue.tokens.active       : 활성 토큰 수 (Gauge)
+ * - queue.tokens.waiting      : 대기 토큰 수 (Gauge)
+ * - queue.time.in.queue       : 발급 ~ 승격까지 대기 시간 (Timer, p50/p99)
+ * - queue.drain.rate          : 최근 초당 승격 수 (Gauge, 지수 이동 평균) - 예상 대기 시간 계산에 사용
+ * 승격 속도는 Redis의 콘서트별 누적 승격 수(모든 노드 합계)로 계산하므로, 어느 노드에서 조회해도 같은 예상 대기 시간을 반환합니다.
+ * concertId 태그의 시계열이 콘서트 수만큼 계속 늘어나지 않도록, 대기열이 비었거나 더 이상 열려 있지 않은 콘서트의 미터는 레지스트리에서 제거합니다.
+ */
+@Component
+public class QueueMetrics implements EstimateQueueWaitUseCase {
+
+    public static final String REASON_WAITING_TIMEOUT = "waiting_timeout";
+    public static final String REASON_ACTIVE_TIMEOUT = "active_timeout";
+    public static final String REASON_RELEASED = "released";
+
+    private static final String CONCERT_TAG = "concertId";
+    private static final double DRAIN_RATE_SMOOTHING = 0.3; // 지수 이동 평균 가중치 (클수록 최근 구간 반영이 빠름)
+    private static final long MIN_SAMPLE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<UUID, ConcertQueueStats> statsByConcert = new ConcurrentHashMap<>();
+
+    public QueueMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordPromotions(List<QueuePromotion> promotions) {
+        for (QueuePromotion promotion : promotions) {
+            ConcertQueueStats stats = stats(promotion.concertId());
+            stats.admissionCounter.increment(promotion.count());
+            for (Long waitedSeconds : promotion.waitedSeconds()) {
+                stats.timeInQueueTimer.record(Duration.ofSeconds(waitedSeconds));
+            }
+        }
+    }
+
+    public void recordExpirations(UUID concertId, String reason, long count) {
+        if (count <= 0) return;
+        stats(concertId).expirationCounter(reason).increment(count);
+    }
+
+    /**
+     * 승격 주기마다 열린 콘서트의 현황으로 호출되어 대기열 현황과 초당 승격 속도를 갱신합니다.
+     * 대기열이 비었거나 목록에 없는(닫힌) 콘서트의 미터는 제거합니다.
+     */
+    public void updateDepths(Map<UUID, QueueDepth> depths) {
+        long nowNanos = System.nanoTime();
+        depths.forEach((concertId, depth) -> {
+            if (depth.isDrained()) return;
+            ConcertQueueStats stats = stats(concertId);
+            stats.depth = depth;
+            stats.sampleDrainRate(depth.admittedCount(), nowNanos);
+        });
+
+        statsByConcert.forEach((concertId, stats) -> {
+            QueueDepth depth = depths.get(concertId);
+            if (depth == null || depth.isDrained()) {
+                unregister(concertId, stats);
+            }
+        });
+    }
+
+    @Override
+    public Long estimateWaitSeconds(UUID concertId, int position) {
+        if (position <= 0) return 0L;
+
+        ConcertQueueStats stats = statsByConcert.get(concertId);
+        if (stats == null || stats.drainRate <= 0) return null;
+        return (long) Math.ceil(position / stats.drainRate);
+    }
+
+    private ConcertQueueStats stats(UUID concertId) {
+        return statsByConcert.computeIfAbsent(concertId, this::register);
+    }
+
+    private ConcertQueueStats register(UUID concertId) {
+        String tagValue = concertId.toString();
+        ConcertQueueStats stats = new ConcertQueueStats(tagValue,
+                Counter.builder("queue.admissions")
+                        .description("대기 토큰이 활성 토큰으로 승격된 수")
+                        .tag(CONCERT_TAG, tagValue)
+                        .register(meterRegistry),
+                Timer.builder("queue.time.in.queue")
+                        .description("대기열 토큰 발급부터 승격까지 걸린 시간")
+                        .tag(CONCERT_TAG, tagValue)
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry));
+
+        stats.meters.add(Gauge.builder("queue.tokens.active", stats, s -> s.depth.activeCount())
+                .description("활성 토큰 수")
+                .tag(CONCERT_TAG, tagValue)
+                .register(meterRegistry));
+        stats.meters.add(Gauge.builder("queue.tokens.waiting", stats, s -> s.depth.waitingCount())
+                .description("대기 토큰 수")
+                .tag(CONCERT_TAG, tagValue)
+                .register(meterRegistry));
+        stats.meters.add(Gauge.builder("queue.drain.rate", stats, s -> s.drainRate)
+                .description("최근 초당 승격 수 (지수 이동 평균)")
+                .tag(CONCERT_TAG, tagValue)
+                .register(meterRegistry));
+        return stats;
+    }
+
+    private void unregister(UUID concertId, ConcertQueueStats stats) {
+        if (!statsByConcert.remove(concertId, stats)) return;
+        stats.meters.forEach(meterRegistry::remove);
+    }
+
+    private final class ConcertQueueStats {
+        private final String tagValue;
+        private final Counter admissionCounter;
+        private final Timer timeInQueueTimer;
+        private final Map<String, Counter> expirationCounters = new ConcurrentHashMap<>();
+        private final List<Meter> meters = new CopyOnWriteArrayList<>(); // 제거 대상 미터
+
+        private volatile QueueDepth depth = new QueueDepth(0, 0, 0);
+        private volatile double drainRate; // 초당 승격 수
+        private long lastSampledCount = -1; // 첫 샘플은 기준값으로만 사용
+        private long lastSampledNanos = System.nanoTime();
+
+        private ConcertQueueStats(String tagValue, Counter admissionCounter, Timer timeInQueueTimer) {
+            this.tagValue = tagValue;
+            this.admissionCounter = admissionCounter;
+            this.timeInQueueTimer = timeInQueueTimer;
+            meters.add(admissionCounter);
+            meters.add(timeInQueueTimer);
+        }
+
+        private Counter expirationCounter(String reason) {
+            return expirationCounters.computeIfAbsent(reason, key -> {
+                Counter counter = Counter.builder("queue.expirations")
+                        .description("만료/반환된 대기열 토큰 수")
+                        .tag(CONCERT_TAG, tagValue)
+                        .tag("reason", key)
+                        .register(meterRegistry);
+                meters.add(counter);
+                return counter;
+            });
+        }
+
+        // 누적 승격 수(모든 노드 합계)의 증가량으로 초당 승격 속도를 갱신
+        private synchronized void sampleDrainRate(long admittedCount, long nowNanos) {
+            if (lastSampledCount < 0) {
+                lastSampledCount = admittedCount;
+                lastSampledNanos = nowNanos;
+                return;
+            }
+            long elapsedNanos = nowNanos - lastSampledNanos;
+            if (elapsedNanos < MIN_SAMPLE_INTERVAL_NANOS) return;
+
+            double intervalRate = Math.max(0, admittedCount - lastSampledCount) / (elapsedNanos / 1_000_000_000.0);
+            drainRate = DRAIN_RATE_SMOOTHING * intervalRate + (1 - DRAIN_RATE_SMOOTHING) * drainRate;
+            lastSampledCount = admittedCount;
+            lastSampledNanos = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package kr.hhplus.be.server.queue.usecase;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.queue.domain.QueuePromotedEvent;
+import kr.hhplus.be.server.queue.domain.QueuePromotion;
+import kr.hhplus.be.server.queue.port.in.RequestQueuePromotionUseCase;
+import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 활성 토큰 자리가 비는 이벤트(결제 완료/실패에 따른 토큰 만료, 만료 토큰 정리)가 발생하면
+ * 5초 주기 스케줄러를 기다리지 않고 즉시 해당 콘서트의 대기 토큰을 승격합니다.
+ * 승격이 진행되는 동안 들어온 요청은 콘서트 단위로 모아(coalescing) 다음 한 번의 파이프라인 호출로 처리합니다.
+ * 승격이 발생하면 QueuePromotedEvent를 발행하여 SSE 구독자에게도 다음 승격 주기를 기다리지 않고 순번 변화를 전송합니다.
+ */
+@Slf4j
+@Component
+public class QueuePromotionTrigger implements RequestQueuePromotionUseCase {
+
+    private final QueueTokenRepository queueTokenRepository;
+    private final QueueMetrics queueMetrics;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Set<UUID> pendingConcertIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "queue-promotion-trigger");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public QueuePromotionTrigger(QueueTokenRepository queueTokenRepository, QueueMetrics queueMetrics,
+                                 ApplicationEventPublisher applicationEventPublisher) {
+        this.queueTokenRepository = queueTokenRepository;
+        this.queueMetrics = queueMetrics;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void requestPromotion(UUID concertId) {
+        pendingConcertIds.add(concertId);
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return; // 이미 처리 중이면 다음 drain에서 함께 처리
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false); // 종료 중에는 스케줄러 승격에 맡긴다
+        }
+    }
+
+    private void drain() {
+        try {
+            List<UUID> concertIds = new ArrayList<>(pendingConcertIds);
+            pendingConcertIds.removeAll(concertIds);
+            if (!concertIds.isEmpty()) {
+                List<QueuePromotion> promotions = queueTokenRepository.promoteQueueTokenByConcertIds(concertIds);
+                queueMetrics.recordPromotions(promotions);
+                log.debug("[즉시 승격] 콘서트 {}개, 승격 {}건", concertIds.size(), QueuePromotion.totalCount(promotions));
+                List<UUID> promotedConcertIds = promotions.stream()
+                        .filter(promotion -> promotion.count() > 0)
+                        .map(QueuePromotion::concertId)
+                        .toList();
+                if (!promotedConcertIds.isEmpty()) {
+                    applicationEventPublisher.publishEvent(new QueuePromotedEvent(promotedConcertIds));
+                }
+            }
+        } catch (Exception e) {
+            // 실패하더라도 주기 스케줄러가 다시 승격하므로 로그만 남긴다
+            log.warn("❌ [즉시 승격 실패] {}", e.getMessage());
+        } finally {
+            draining.set(false);
+            if (!pendingConcertIds.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,117 @@
+package kr.hhplus.be.server.queue.usecase;
+
+import kr.hhplus.be.server.common.exception.CustomException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.domain.RevokedQueueToken;
+import kr.hhplus.be.server.queue.port.in.SignedQueueTokenUseCase;
+import kr.hhplus.be.server.queue.port.out.QueueTokenRevocationRepository;
+import kr.hhplus.be.server.queue.port.out.QueueTokenSigner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 토큰 모드 (queue.token.signed.enabled)
+ * 활성 토큰을 HMAC 서명 토큰으로 발급하고, 예약/결제 요청에서는 Redis 조회 없이 메모리에서 서명과 만료를 검증합니다.
+ * 만료 전 무효화(결제 완료/실패)는 Redis 무효화 목록에 기록하고, 각 노드는 1초마다 마지막 동기화 이후의 항목만 가져와 로컬에서 확인합니다.
+ * (다른 노드에서 무효화된 토큰은 최대 1초까지 허용될 수 있으며, 좌석 선점/분산락이 중복 처리를 막습니다)
+ * 무효화 정보는 토큰 만료 시각까지만 보관합니다. 만료된 토큰은 서명 검증에서 거절되므로 그 이후에는 필요 없습니다.
+ */
+@Slf4j
+@Service
+public class SignedQueueTokenService implements SignedQueueTokenUseCase {
+
+    private static final long MAX_REVOCATION_TTL_SECONDS = 60 * 60L; // 활성 토큰 최대 유효 시간 (60분), 만료 시각을 모를 때의 보관 시간
+    private static final long CLOCK_SKEW_SECONDS = 5;                // 노드 간 시계 오차 여유
+    private static final long SYNC_OVERLAP_MILLIS = CLOCK_SKEW_SECONDS * 1000; // 다른 노드 시계로 기록된 무효화를 놓치지 않도록 겹쳐서 조회
+
+    private final QueueTokenSigner queueTokenSigner;
+    private final QueueTokenRevocationRepository queueTokenRevocationRepository;
+    private final boolean enabled;
+
+    private final Map<UUID, Long> revokedTokens = new ConcurrentHashMap<>(); // tokenId -> 보관 만료 epoch seconds
+    private long syncedRevokedAtMillis = 0L; // 마지막으로 가져온 무효화 시각 (스케줄러 스레드에서만 사용)
+
+    public SignedQueueTokenService(QueueTokenSigner queueTokenSigner,
+                                   QueueTokenRevocationRepository queueTokenRevocationRepository,
+                                   @Value("${queue.token.signed.enabled:false}") boolean enabled) {
+        this.queueTokenSigner = queueTokenSigner;
+        this.queueTokenRevocationRepository = queueTokenRevocationRepository;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Optional<String> sign(QueueToken queueToken) {
+        if (!enabled || queueToken == null || !queueToken.isActive() || queueToken.expiresAt() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(queueTokenSigner.sign(queueToken));
+    }
+
+    @Override
+    public Optional<QueueToken> verify(String token) {
+        if (!enabled || !queueTokenSigner.isSigned(token)) {
+            return Optional.empty();
+        }
+
+        QueueToken queueToken = queueTokenSigner.verify(token)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_QUEUE_TOKEN));
+        if (queueToken.isExpired() || revokedTokens.containsKey(queueToken.tokenId())) {
+            throw new CustomException(ErrorCode.INVALID_QUEUE_TOKEN);
+        }
+        return Optional.of(queueToken);
+    }
+
+    @Override
+    public void revoke(String tokenId, LocalDateTime expiresAt) {
+        if (!enabled) return;
+
+        long ttlSeconds = revocationTtlSeconds(expiresAt);
+        if (ttlSeconds <= 0) return; // 이미 만료된 토큰은 서명 검증에서 거절
+
+        UUID id = UUID.fromString(tokenId);
+        revokedTokens.put(id, Instant.now().getEpochSecond() + ttlSeconds); // 동기화 전에도 이 노드에서는 바로 거절
+        queueTokenRevocationRepository.revoke(id, ttlSeconds);
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void refreshRevokedTokenIds() {
+        if (!enabled) return;
+
+        try {
+            long nowMillis = System.currentTimeMillis();
+            queueTokenRevocationRepository.deleteRevokedBefore(nowMillis - MAX_REVOCATION_TTL_SECONDS * 1000);
+
+            // 처음에는 전체, 이후에는 마지막으로 가져온 무효화 시각 이후의 항목만 조회
+            long revokedAfterMillis = syncedRevokedAtMillis == 0L ? 0L : syncedRevokedAtMillis - SYNC_OVERLAP_MILLIS;
+            for (RevokedQueueToken revokedToken : queueTokenRevocationRepository.findRevokedTokensSince(revokedAfterMillis)) {
+                revokedTokens.merge(revokedToken.tokenId(), revokedToken.retainUntil(), Math::max);
+                syncedRevokedAtMillis = Math.max(syncedRevokedAtMillis, revokedToken.revokedAtMillis());
+            }
+
+            // 보관 만료 시각이 지난 항목은 로컬 목록에서 제거
+            long nowSeconds = nowMillis / 1000;
+            revokedTokens.values().removeIf(retainUntil -> retainUntil < nowSeconds);
+        } catch (Exception e) {
+            log.warn("❌ 서명 토큰 무효화 목록 갱신 실패 - {}", e.getMessage());
+        }
+    }
+
+    // 토큰 만료 시각까지 보관 (만료 시각을 모르면 최대 유효 시간)
+    private static long revocationTtlSeconds(LocalDateTime expiresAt) {
+        if (expiresAt == null) return MAX_REVOCATION_TTL_SECONDS;
+        long remainingSeconds = Duration.between(LocalDateTime.now(), expiresAt).getSeconds();
+        if (remainingSeconds <= 0) return 0;
+        return Math.min(remainingSeconds + CLOCK_SKEW_SECONDS, MAX_REVOCATION_TTL_SECONDS);
+    }
+}
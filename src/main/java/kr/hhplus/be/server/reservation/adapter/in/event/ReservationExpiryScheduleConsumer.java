@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.reservation.adapter.in.event;
+
+import kr.hhplus.be.server.reservation.domain.ReservationCreatedEvent;
+import kr.hhplus.be.server.reservation.port.in.ReservationExpiryUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationExpiryScheduleConsumer {
+
+    private final ReservationExpiryUseCase reservationExpiryUseCase;
+
+    /**
+     * 'reservation.created' 토픽을 구독하여 예약 만료 시각을 만료 지연 큐에 등록합니다.
+     * @param event 카프카로부터 수신한 예약 생성 이벤트
+     */
+    @KafkaListener(topics = "reservation.created", groupId = "${spring.kafka.consumer.group-id.reservation-expiry}")
+    public void handleReservationCreated(ReservationCreatedEvent event) {
+        try {
+            reservationExpiryUseCase.schedule(event.reservationId(), event.expiresAt());
+        } catch (Exception e) {
+            // 등록 실패 시에도 보정 배치(ReservationBatchScheduler)가 만료 처리
+            log.error("예약 만료 지연 큐 등록 중 오류 발생. Event: {}", event, e);
+        }
+    }
+}
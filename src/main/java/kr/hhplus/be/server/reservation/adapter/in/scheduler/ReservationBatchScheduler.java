@@ -1,6 +1,5 @@
 package kr.hhplus.be.server.reservation.adapter.in.scheduler;
 
-import kr.hhplus.be.server.common.exception.CustomException;
 import kr.hhplus.be.server.common.util.DistributedLockKeyGenerator;
 import kr.hhplus.be.server.reservation.port.in.ReservationCancellationUseCase;
 import kr.hhplus.be.server.reservation.port.out.ReservationRepository;
@@ -20,29 +19,34 @@ import java.util.UUID;
 public class ReservationBatchScheduler {
 
     private static final int BATCH_SIZE = 1000; // ⭐️ 한 번에 처리할 최대 만료 예약 수
+    private static final int CHUNK_SIZE = 200;  // 트랜잭션 1회(IN 절)로 처리할 예약 수
 
     private final ReservationRepository reservationRepository;
     private final ReservationCancellationUseCase reservationCancellationUseCase;
     private final DistributedLockManager distributedLockManager;
 
-    // 매 1분마다 실행 (cron 표현식: "초 분 시 일 월 요일")
-    @Scheduled(cron = "0 * * * * *")
+    // 기본 매 1분마다 실행 (cron 표현식: "초 분 시 일 월 요일")
+    // 만료 지연 큐 사용 시에는 큐에 등록되지 못한 예약을 정리하는 보정 작업으로만 드물게 실행
+    @Scheduled(cron = "${reservation.expiry.sweep-cron:0 * * * * *}")
     public void expirePendingReservations() {
         try {
             // 분산 락을 사용하여 여러 서버 인스턴스에서 동시에 실행되는 것을 방지, 단일 서버 환경이라면 필요 없지만, 다중 서버 환경에서는 필수임
             distributedLockManager.executeWithLock(DistributedLockKeyGenerator.getReservationExpireBatchLockKey(), () -> {
                 List<UUID> expiredIds = reservationRepository.findExpiredPendingReservationIds(LocalDateTime.now(), BATCH_SIZE);
                 if (expiredIds.isEmpty()) return;
-                
-                for (UUID reservationId : expiredIds) {
+
+                // 예약 1건씩 처리하는 대신 청크 단위 집합 UPDATE로 일괄 만료 처리
+                int expiredCount = 0;
+                for (int from = 0; from < expiredIds.size(); from += CHUNK_SIZE) {
+                    List<UUID> chunk = expiredIds.subList(from, Math.min(from + CHUNK_SIZE, expiredIds.size()));
                     try {
-                        // 예약 만료 처리
-                        reservationCancellationUseCase.cancelIfUnpaid(reservationId);
-                    } catch (CustomException e) {
-                        // 개별 예약 처리 실패가 전체 배치 작업에 영향을 주지 않도록 예외 처리, throw 하지 않음
-                        log.error("예약 만료 처리 중 오류 발생. 예약 ID: {}", reservationId, e);
+                        expiredCount += reservationCancellationUseCase.cancelAllIfUnpaid(chunk);
+                    } catch (Exception e) {
+                        // 개별 청크 처리 실패가 전체 배치 작업에 영향을 주지 않도록 예외 처리, throw 하지 않음
+                        log.error("예약 일괄 만료 처리 중 오류 발생. 예약 ID: {}", chunk, e);
                     }
                 }
+                log.info("만료 예약 {}건 중 {}건 만료 처리", expiredIds.size(), expiredCount);
             });
         } catch (Exception e) {
             log.error("예약 만료 배치 작업 실행 중 락 획득 실패 또는 예외 발생", e);
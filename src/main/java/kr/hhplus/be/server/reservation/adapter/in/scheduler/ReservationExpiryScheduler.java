@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.reservation.adapter.in.scheduler;
+
+import kr.hhplus.be.server.reservation.port.in.ReservationExpiryUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 지연 큐에서 만료 시각이 지난 예약을 꺼내 처리하는 스케줄러
+ * (DB의 PENDING 인덱스를 주기적으로 조회하지 않고 Redis ZSET만 확인합니다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationExpiryScheduler {
+
+    private final ReservationExpiryUseCase reservationExpiryUseCase;
+
+    // 애플리케이션 시작 시 재시작 중 누락되었을 수 있는 PENDING 예약을 지연 큐에 다시 등록
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildExpiryQueue() {
+        try {
+            int scheduledCount = reservationExpiryUseCase.rebuild();
+            log.info("예약 만료 지연 큐 재구성 완료: PENDING 예약 {}건", scheduledCount);
+        } catch (Exception e) {
+            log.error("❌ 예약 만료 지연 큐 재구성 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 500)
+    public void expireDueReservations() {
+        try {
+            int expiredCount = reservationExpiryUseCase.expireDueReservations();
+            if (expiredCount > 0) {
+                log.info("만료 지연 큐: 예약 {}건 만료 처리", expiredCount);
+            }
+        } catch (Exception e) {
+            log.error("❌ 만료 지연 큐 처리 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.reservation.adapter.in.scheduler;
+
+import kr.hhplus.be.server.reservation.port.in.FlushReservationOutboxUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 우선 좌석 예약 모드에서 아웃박스에 쌓인 예약을 DB에 반영하는 write-behind 워커
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reservation.write-behind.enabled", havingValue = "true")
+public class ReservationWriteBehindScheduler {
+
+    private static final int MAX_FLUSHES_PER_RUN = 10; // 1회 실행에서 처리할 최대 배치 수 (적체 시 연속 처리)
+
+    private final FlushReservationOutboxUseCase flushReservationOutboxUseCase;
+
+    @Scheduled(fixedDelay = 200)
+    public void flushOutbox() {
+        try {
+            for (int i = 0; i < MAX_FLUSHES_PER_RUN; i++) {
+                if (flushReservationOutboxUseCase.flush() == 0) return;
+            }
+        } catch (Exception e) {
+            // 확인 처리되지 않은 레코드는 다음 실행에서 다시 처리
+            log.error("❌ 예약 write-behind 반영 중 오류 발생", e);
+        }
+    }
+}
@@ -7,14 +7,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.hhplus.be.server.reservation.adapter.in.web.request.ReservationRequest;
+import kr.hhplus.be.server.reservation.adapter.in.web.request.ReserveSeatsRequest;
 import kr.hhplus.be.server.reservation.adapter.in.web.response.ReservationResponse;
 import kr.hhplus.be.server.reservation.port.in.ReservationCreateInput;
 import kr.hhplus.be.server.reservation.port.in.ReserveSeatResult;
 import kr.hhplus.be.server.reservation.port.in.dto.ReserveSeatCommand;
+import kr.hhplus.be.server.reservation.port.in.dto.ReserveSeatsCommand;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -73,4 +76,40 @@ public class ReservationController {
         ReserveSeatResult result = reservationCreateInput.reserveSeat(ReserveSeatCommand.of(request, seatId, parsedQueueToken));
         return ResponseEntity.ok(ReservationResponse.from(result));
     }
+
+    @Operation(
+            summary = "콘서트 좌석 일괄 예약 API",
+            description = "한 콘서트 날짜의 여러 좌석(최대 " + ReserveSeatsCommand.MAX_SEAT_COUNT + "개)을 한 번에 예약합니다. 모두 성공하거나 모두 실패합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "예약 성공",
+                    content = @Content(schema = @Schema(implementation = ReservationResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "좌석 수가 유효하지 않거나, AVAILABLE 상태가 아닌 좌석이 포함됨"
+            ),
+            @ApiResponse(
+                    responseCode = "404 - Seat",
+                    description = "좌석 찾을 수 없음"
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "락 획득 실패 (다른 사용자 점유중)"
+            )
+    })
+    @PostMapping("/seats")
+    public ResponseEntity<List<ReservationResponse>> reserveSeats(
+            @RequestBody ReserveSeatsRequest request,
+            @RequestHeader(value = "Authorization") String queueToken
+    ) throws Exception {
+        final String parsedQueueToken = queueToken.startsWith("Bearer ")
+                ? queueToken.substring("Bearer ".length())
+                : queueToken;
+
+        List<ReserveSeatResult> results = reservationCreateInput.reserveSeats(ReserveSeatsCommand.of(request, parsedQueueToken));
+        return ResponseEntity.ok(results.stream().map(ReservationResponse::from).toList());
+    }
 }
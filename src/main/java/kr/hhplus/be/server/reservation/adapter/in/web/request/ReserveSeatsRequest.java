@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.reservation.adapter.in.web.request;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ReserveSeatsRequest(
+        UUID concertId,
+        UUID concertDateId,
+        List<UUID> seatIds
+) {
+}
@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.reservation.adapter.out.persistence;
+
+import kr.hhplus.be.server.reservation.domain.ExpiredReservation;
+import kr.hhplus.be.server.reservation.port.out.ReservationBulkExpiryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 만료된 예약을 청크 단위로 일괄 처리합니다.
+ * 예약 1건마다 조회/저장을 반복하는 대신, 청크당 SELECT ... FOR UPDATE 1회와 UPDATE ... WHERE id IN (...) 3회로 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcReservationBulkExpiryRepository implements ReservationBulkExpiryRepository {
+
+    // 결제 등으로 상태가 바뀐 예약은 제외하고, 처리 중 상태가 바뀌지 않도록 행 잠금
+    private static final String LOCK_PENDING_RESERVATIONS_SQL = """
+            SELECT r.id, r.seat_id, s.concert_date_id
+            FROM RESERVATION r JOIN SEAT s ON s.id = r.seat_id
+            WHERE r.id IN (:ids) AND r.status = 'PENDING'
+            FOR UPDATE
+            """;
+    private static final String EXPIRE_PAYMENTS_SQL = """
+            UPDATE PAYMENT SET status = 'EXPIRED', failure_reason = :reason, updated_at = :now
+            WHERE reservation_id IN (:ids) AND status = 'PENDING'
+            """;
+    private static final String EXPIRE_RESERVATIONS_SQL = """
+            UPDATE RESERVATION SET status = 'EXPIRED', expires_at = :now, updated_at = :now
+            WHERE id IN (:ids)
+            """;
+    private static final String RELEASE_SEATS_SQL = """
+            UPDATE SEAT SET status = 'AVAILABLE', version = COALESCE(version, 0) + 1, updated_at = :now
+            WHERE id IN (:ids)
+            """;
+    private static final String EXPIRED_REASON = "임시 배정이 만료되었습니다.";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ExpiredReservation> expirePendingReservations(List<UUID> reservationIds, LocalDateTime now) {
+        if (reservationIds.isEmpty()) return List.of();
+
+        List<ExpiredReservation> expiredReservations = jdbcTemplate.query(LOCK_PENDING_RESERVATIONS_SQL,
+                new MapSqlParameterSource("ids", toStrings(reservationIds)),
+                (rs, rowNum) -> new ExpiredReservation(
+                        UUID.fromString(rs.getString("id")),
+                        UUID.fromString(rs.getString("seat_id")),
+                        UUID.fromString(rs.getString("concert_date_id"))));
+        if (expiredReservations.isEmpty()) return List.of();
+
+        Timestamp nowUtc = toUtcTimestamp(now);
+        List<String> expiredIds = toStrings(expiredReservations.stream().map(ExpiredReservation::reservationId).toList());
+        List<String> seatIds = toStrings(expiredReservations.stream().map(ExpiredReservation::seatId).toList());
+
+        jdbcTemplate.update(EXPIRE_PAYMENTS_SQL, new MapSqlParameterSource("ids", expiredIds)
+                .addValue("reason", EXPIRED_REASON)
+                .addValue("now", nowUtc, Types.TIMESTAMP));
+        jdbcTemplate.update(EXPIRE_RESERVATIONS_SQL, new MapSqlParameterSource("ids", expiredIds)
+                .addValue("now", nowUtc, Types.TIMESTAMP));
+        jdbcTemplate.update(RELEASE_SEATS_SQL, new MapSqlParameterSource("ids", seatIds)
+                .addValue("now", nowUtc, Types.TIMESTAMP));
+
+        return expiredReservations;
+    }
+
+    // hibernate.jdbc.time_zone(UTC)과 동일한 기준으로 시간 값을 저장
+    private static Timestamp toUtcTimestamp(LocalDateTime dateTime) {
+        return Timestamp.valueOf(dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime());
+    }
+
+    private static List<String> toStrings(List<UUID> ids) {
+        return ids.stream().map(UUID::toString).toList();
+    }
+}
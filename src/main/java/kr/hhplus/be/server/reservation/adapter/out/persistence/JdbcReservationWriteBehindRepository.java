@@ -0,0 +1,158 @@
+package kr.hhplus.be.server.reservation.adapter.out.persistence;
+
+import kr.hhplus.be.server.payment.domain.Payment;
+import kr.hhplus.be.server.reservation.domain.PendingReservation;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.WriteBehindResult;
+import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.out.ReservationWriteBehindRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Redis에서 선점이 확정된 예약을 JDBC 배치로 DB에 반영합니다.
+ * 아웃박스 레코드가 재전달될 수 있으므로 INSERT IGNORE와 조건부 UPDATE로 멱등하게 처리합니다.
+ * INSERT가 무시된 예약은 같은 ID의 기존 예약 상태로 분류하여, DB 커밋 후 확인 처리 전에 중단된 레코드의 이벤트가 누락되지 않도록 합니다.
+ * (잔여 좌석 수는 호출한 쪽에서 반영된 예약만큼 샤드 카운터에 누적합니다)
+ * 좌석 UPDATE가 0건이면(기본 모드 등에서 이미 예약된 좌석) 해당 예약은 FAILED로 바꾸고 결제는 반영하지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcReservationWriteBehindRepository implements ReservationWriteBehindRepository {
+
+    // hibernate.jdbc.time_zone(UTC)과 동일한 기준으로 시간 값을 저장
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private static final String INSERT_RESERVATION_SQL = """
+            INSERT IGNORE INTO RESERVATION (id, user_id, seat_id, status, expires_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_PAYMENT_SQL = """
+            INSERT IGNORE INTO PAYMENT (id, user_id, reservation_id, amount, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String RESERVE_SEAT_SQL = """
+            UPDATE SEAT SET status = 'RESERVED', version = COALESCE(version, 0) + 1, updated_at = ?
+            WHERE id = ? AND status = 'AVAILABLE'
+            """;
+    private static final String FAIL_RESERVATION_SQL = """
+            UPDATE RESERVATION SET status = 'FAILED', updated_at = ?
+            WHERE id = ?
+            """;
+    private static final String FIND_RESERVATION_STATUS_SQL = """
+            SELECT id, status FROM RESERVATION WHERE id IN (%s)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public WriteBehindResult saveAll(List<PendingReservation> pendingReservations) {
+        if (pendingReservations.isEmpty()) return WriteBehindResult.empty();
+
+        // 1. 예약 INSERT (이미 반영된 레코드는 무시)
+        int[] insertedCounts = jdbcTemplate.batchUpdate(INSERT_RESERVATION_SQL, pendingReservations, pendingReservations.size(),
+                (ps, pendingReservation) -> {
+                    Reservation reservation = pendingReservation.reservation();
+                    ps.setString(1, reservation.id().toString());
+                    ps.setString(2, reservation.userId().toString());
+                    ps.setString(3, reservation.seatId().toString());
+                    ps.setString(4, reservation.status().name());
+                    setDateTime(ps, 5, reservation.expiresAt());
+                    setDateTime(ps, 6, reservation.createdAt());
+                    setDateTime(ps, 7, reservation.createdAt());
+                })[0];
+
+        List<PendingReservation> inserted = new ArrayList<>();
+        List<PendingReservation> ignored = new ArrayList<>();
+        for (int i = 0; i < pendingReservations.size(); i++) {
+            // rewriteBatchedStatements 사용 시 SUCCESS_NO_INFO(-2)가 반환될 수 있으므로 0이 아니면 반영된 것으로 간주
+            if (insertedCounts[i] != 0) inserted.add(pendingReservations.get(i));
+            else ignored.add(pendingReservations.get(i));
+        }
+
+        // 재전달된 레코드는 이전 전달의 반영 결과를 따름 (PENDING: 이미 반영, FAILED: 좌석 확보 실패)
+        List<PendingReservation> alreadySaved = new ArrayList<>();
+        List<PendingReservation> rejected = new ArrayList<>();
+        classifyRedelivered(ignored, alreadySaved, rejected);
+        if (inserted.isEmpty()) return new WriteBehindResult(List.of(), rejected, alreadySaved);
+
+        // 2. 좌석 상태 RESERVED 변경 (AVAILABLE인 좌석만), 변경되지 않은 좌석의 예약은 실패 처리 대상
+        int[] reservedCounts = jdbcTemplate.batchUpdate(RESERVE_SEAT_SQL, inserted, inserted.size(), (ps, pendingReservation) -> {
+            setDateTime(ps, 1, pendingReservation.reservation().createdAt());
+            ps.setString(2, pendingReservation.reservation().seatId().toString());
+        })[0];
+
+        List<PendingReservation> saved = new ArrayList<>();
+        List<PendingReservation> newlyRejected = new ArrayList<>();
+        for (int i = 0; i < inserted.size(); i++) {
+            if (reservedCounts[i] == 0) newlyRejected.add(inserted.get(i));
+            else saved.add(inserted.get(i));
+        }
+
+        // 3. 좌석을 확보하지 못한 예약은 FAILED로 변경 (재전달 시에도 INSERT IGNORE로 다시 반영되지 않음)
+        if (!newlyRejected.isEmpty()) {
+            jdbcTemplate.batchUpdate(FAIL_RESERVATION_SQL, newlyRejected, newlyRejected.size(), (ps, pendingReservation) -> {
+                setDateTime(ps, 1, pendingReservation.reservation().createdAt());
+                ps.setString(2, pendingReservation.reservation().id().toString());
+            });
+            rejected.addAll(newlyRejected);
+        }
+        if (saved.isEmpty()) return new WriteBehindResult(saved, rejected, alreadySaved);
+
+        // 4. 좌석을 확보한 예약만 결제 대기 정보 INSERT
+        jdbcTemplate.batchUpdate(INSERT_PAYMENT_SQL, saved, saved.size(), (ps, pendingReservation) -> {
+            Payment payment = pendingReservation.payment();
+            ps.setString(1, payment.id().toString());
+            ps.setString(2, payment.userId().toString());
+            ps.setString(3, payment.reservationId().toString());
+            ps.setBigDecimal(4, payment.amount());
+            ps.setString(5, payment.status().name());
+            setDateTime(ps, 6, payment.createdAt());
+            setDateTime(ps, 7, payment.createdAt());
+        });
+
+        return new WriteBehindResult(saved, rejected, alreadySaved);
+    }
+
+    /**
+     * INSERT가 무시된 예약을 같은 ID의 기존 예약 상태로 분류합니다.
+     * PENDING은 이미 반영된 예약(이벤트 재발행 대상), FAILED는 실패 처리된 예약(Redis 선점 해제 대상)이며,
+     * 그 외 상태(결제 완료, 만료 취소 등)는 이후 단계가 이미 진행되었으므로 어느 쪽에도 넣지 않고 확인 처리만 합니다.
+     */
+    private void classifyRedelivered(List<PendingReservation> ignored,
+                                     List<PendingReservation> alreadySaved,
+                                     List<PendingReservation> rejected) {
+        if (ignored.isEmpty()) return;
+
+        String placeholders = String.join(",", Collections.nCopies(ignored.size(), "?"));
+        Map<String, String> statuses = new HashMap<>();
+        jdbcTemplate.query(FIND_RESERVATION_STATUS_SQL.formatted(placeholders),
+                rs -> {
+                    statuses.put(rs.getString("id"), rs.getString("status"));
+                },
+                ignored.stream().map(pendingReservation -> pendingReservation.reservation().id().toString()).toArray());
+
+        for (PendingReservation pendingReservation : ignored) {
+            String status = statuses.get(pendingReservation.reservation().id().toString());
+            if (ReservationStatus.PENDING.name().equals(status)) alreadySaved.add(pendingReservation);
+            else if (ReservationStatus.FAILED.name().equals(status)) rejected.add(pendingReservation);
+        }
+    }
+
+    private static void setDateTime(PreparedStatement ps, int index, LocalDateTime dateTime) throws SQLException {
+        ps.setTimestamp(index, Timestamp.valueOf(dateTime), Calendar.getInstance(UTC));
+    }
+}
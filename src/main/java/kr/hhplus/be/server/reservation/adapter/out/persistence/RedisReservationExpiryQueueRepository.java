@@ -0,0 +1,98 @@
+package kr.hhplus.be.server.reservation.adapter.out.persistence;
+
+import kr.hhplus.be.server.reservation.domain.ReservationExpiration;
+import kr.hhplus.be.server.reservation.port.out.ReservationExpiryQueueRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 만료 지연 큐 (ZSET, member: reservationId, score: 만료 시각 epoch millis)
+ */
+@Repository
+public class RedisReservationExpiryQueueRepository implements ReservationExpiryQueueRepository {
+
+    private static final String EXPIRY_QUEUE_KEY = "reservation:expiry";
+    private static final String REBUILD_LOCK_KEY = "reservation:expiry:rebuild";
+
+    // 만료된 멤버 조회와 임대(score를 임대 만료 시각으로 변경)를 원자적으로 수행하여 인스턴스 간 중복 처리를 방지
+    // 제거는 만료 처리가 커밋된 뒤 acknowledge()에서 수행하므로, 처리 도중 중단되어도 임대 만료 후 다시 꺼내집니다.
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CLAIM_DUE_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[3])
+            for _, id in ipairs(ids) do
+                redis.call('ZADD', KEYS[1], 'XX', ARGV[2], id)
+            end
+            return ids
+            """, List.class);
+
+    // 자신이 획득한 재구성 권한만 해제 (compare-and-delete)
+    private static final DefaultRedisScript<Long> RELEASE_REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RedisReservationExpiryQueueRepository(@Qualifier("luaScriptRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void schedule(UUID reservationId, LocalDateTime expiresAt) {
+        redisTemplate.opsForZSet().add(EXPIRY_QUEUE_KEY, reservationId.toString(), toScore(expiresAt));
+    }
+
+    @Override
+    public void scheduleAllIfAbsent(List<ReservationExpiration> expirations) {
+        if (expirations.isEmpty()) return;
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = expirations.stream()
+                .map(expiration -> (ZSetOperations.TypedTuple<String>) new DefaultTypedTuple<>(
+                        expiration.reservationId().toString(), toScore(expiration.expiresAt())))
+                .collect(Collectors.toSet());
+        redisTemplate.opsForZSet().addIfAbsent(EXPIRY_QUEUE_KEY, tuples);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<UUID> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<String> ids = redisTemplate.execute(CLAIM_DUE_SCRIPT, List.of(EXPIRY_QUEUE_KEY),
+                String.valueOf((long) toScore(now)), String.valueOf((long) toScore(leaseUntil)), String.valueOf(limit));
+        if (ids == null) return List.of();
+        return ids.stream().map(UUID::fromString).toList();
+    }
+
+    @Override
+    public void acknowledge(List<UUID> reservationIds) {
+        if (reservationIds.isEmpty()) return;
+        redisTemplate.opsForZSet().remove(EXPIRY_QUEUE_KEY, reservationIds.stream().map(UUID::toString).toArray());
+    }
+
+    @Override
+    public boolean tryAcquireRebuild(String owner, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, owner, ttl));
+    }
+
+    @Override
+    public void releaseRebuild(String owner) {
+        redisTemplate.execute(RELEASE_REBUILD_SCRIPT, List.of(REBUILD_LOCK_KEY), owner);
+    }
+
+    private static double toScore(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,224 @@
+package kr.hhplus.be.server.reservation.adapter.out.persistence;
+
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.payment.domain.Payment;
+import kr.hhplus.be.server.payment.domain.enums.PaymentStatus;
+import kr.hhplus.be.server.reservation.domain.PendingReservation;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationOutboxEntry;
+import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.out.ReservationOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis Stream(reservation:outbox) 기반 write-behind 아웃박스
+ * 좌석 선점 스크립트가 선점과 같은 원자적 단위로 레코드를 추가하고,
+ * 소비자 그룹으로 읽은 레코드는 DB 반영 후 XACK 하기 전까지 pending 상태로 남아 다시 처리됩니다.
+ * - 다른 소비자(재시작으로 이름이 바뀐 파드 등)의 pending 레코드는 claim-idle-ms 동안 확인되지 않으면 XCLAIM으로 가져옵니다.
+ * - max-deliveries 번 전달되고도 확인되지 않은 레코드와 해석할 수 없는 레코드는
+ *   reservation:outbox:dead 스트림으로 옮기고 확인 처리하여 뒤의 레코드 처리를 막지 않도록 합니다.
+ */
+@Slf4j
+@Repository
+public class RedisReservationOutboxRepository implements ReservationOutboxRepository {
+
+    static final String OUTBOX_KEY = "reservation:outbox";
+    static final String DEAD_LETTER_KEY = "reservation:outbox:dead";
+    private static final String CONSUMER_GROUP = "reservation-write-behind";
+
+    private static final String FIELD_RESERVATION_ID = "r";
+    private static final String FIELD_PAYMENT_ID = "p";
+    private static final String FIELD_USER_ID = "u";
+    private static final String FIELD_SEAT_ID = "s";
+    private static final String FIELD_CONCERT_DATE_ID = "d";
+    private static final String FIELD_AMOUNT = "a";
+    private static final String FIELD_CREATED_AT = "c";
+    private static final String FIELD_EXPIRES_AT = "x";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final String consumerName;
+    private final Duration claimIdleTime;  // 다른 소비자의 pending 레코드를 가져오기까지의 미확인 시간
+    private final long maxDeliveries;      // 이 횟수만큼 전달되고도 확인되지 않으면 dead-letter 스트림으로 이동
+
+    public RedisReservationOutboxRepository(@Qualifier("luaScriptRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                            @Value("${reservation.write-behind.enabled:false}") boolean enabled,
+                                            @Value("${reservation.write-behind.consumer-name:${HOSTNAME:local}}") String consumerName,
+                                            @Value("${reservation.write-behind.claim-idle-ms:60000}") long claimIdleMs,
+                                            @Value("${reservation.write-behind.max-deliveries:5}") long maxDeliveries) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.consumerName = consumerName;
+        this.claimIdleTime = Duration.ofMillis(claimIdleMs);
+        this.maxDeliveries = Math.max(1, maxDeliveries);
+    }
+
+    @PostConstruct
+    public void createConsumerGroup() {
+        if (!enabled) return;
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(OUTBOX_KEY.getBytes(StandardCharsets.UTF_8), CONSUMER_GROUP, ReadOffset.from("0"), true));
+        } catch (Exception e) {
+            // 이미 그룹이 존재하면 BUSYGROUP 오류가 발생하므로 무시
+            log.debug("아웃박스 소비자 그룹 생성 생략: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public List<ReservationOutboxEntry> read(int count) {
+        // 1. 확인 처리되지 않은 레코드(자신의 레코드 + 오래 방치된 다른 소비자의 레코드)를 먼저 가져옴
+        List<MapRecord<String, Object, Object>> records = claimPending(count);
+        // 2. 없으면 새 레코드 조회
+        if (records.isEmpty()) {
+            Consumer consumer = Consumer.from(CONSUMER_GROUP, consumerName);
+            records = redisTemplate.opsForStream().read(consumer, StreamReadOptions.empty().count(count),
+                    StreamOffset.create(OUTBOX_KEY, ReadOffset.lastConsumed()));
+        }
+        if (records == null) return List.of();
+
+        List<ReservationOutboxEntry> entries = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                entries.add(new ReservationOutboxEntry(record.getId().getValue(), fromFields(record.getValue())));
+            } catch (Exception e) {
+                // 해석할 수 없는 레코드는 재시도해도 성공할 수 없으므로 바로 dead-letter 처리
+                deadLetter(record, "unparseable: " + e.getMessage());
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * pending 목록에서 자신의 레코드는 바로, 다른 소비자의 레코드는 claim-idle-ms 이상 방치된 경우에만 XCLAIM 합니다.
+     * XCLAIM은 전달 횟수를 증가시키므로, 전달 횟수가 max-deliveries에 도달한 레코드는 dead-letter 스트림으로 옮깁니다.
+     */
+    private List<MapRecord<String, Object, Object>> claimPending(int count) {
+        PendingMessages pendingMessages = redisTemplate.opsForStream().pending(OUTBOX_KEY, CONSUMER_GROUP, Range.unbounded(), count);
+        if (pendingMessages == null || pendingMessages.isEmpty()) return List.of();
+
+        List<RecordId> ownIds = new ArrayList<>();
+        List<RecordId> idleIds = new ArrayList<>();
+        Map<String, Long> deliveryCounts = new HashMap<>();
+        for (PendingMessage pendingMessage : pendingMessages) {
+            deliveryCounts.put(pendingMessage.getIdAsString(), pendingMessage.getTotalDeliveryCount());
+            if (consumerName.equals(pendingMessage.getConsumerName())) {
+                ownIds.add(pendingMessage.getId());
+            } else if (pendingMessage.getElapsedTimeSinceLastDelivery().compareTo(claimIdleTime) >= 0) {
+                idleIds.add(pendingMessage.getId());
+            }
+        }
+
+        List<MapRecord<String, Object, Object>> claimed = new ArrayList<>();
+        if (!ownIds.isEmpty()) {
+            claimed.addAll(redisTemplate.opsForStream().claim(OUTBOX_KEY, CONSUMER_GROUP, consumerName,
+                    Duration.ZERO, ownIds.toArray(RecordId[]::new)));
+        }
+        if (!idleIds.isEmpty()) {
+            claimed.addAll(redisTemplate.opsForStream().claim(OUTBOX_KEY, CONSUMER_GROUP, consumerName,
+                    claimIdleTime, idleIds.toArray(RecordId[]::new)));
+        }
+
+        List<MapRecord<String, Object, Object>> records = new ArrayList<>(claimed.size());
+        for (MapRecord<String, Object, Object> record : claimed) {
+            long deliveryCount = deliveryCounts.getOrDefault(record.getId().getValue(), 0L);
+            if (deliveryCount >= maxDeliveries) {
+                deadLetter(record, "max deliveries exceeded: " + deliveryCount);
+            } else {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private void deadLetter(MapRecord<String, Object, Object> record, String reason) {
+        Map<Object, Object> fields = new LinkedHashMap<>(record.getValue());
+        fields.put("sourceId", record.getId().getValue());
+        fields.put("reason", reason);
+        redisTemplate.opsForStream().add(StreamRecords.newRecord().in(DEAD_LETTER_KEY).ofMap(fields));
+        acknowledge(List.of(record.getId().getValue()));
+        log.error("❌ [write-behind] 아웃박스 레코드를 dead-letter 스트림으로 이동 - id: {}, reason: {}", record.getId().getValue(), reason);
+    }
+
+    @Override
+    public void acknowledge(List<String> entryIds) {
+        if (entryIds.isEmpty()) return;
+        redisTemplate.opsForStream().acknowledge(OUTBOX_KEY, CONSUMER_GROUP, entryIds.toArray(String[]::new));
+        redisTemplate.opsForStream().delete(OUTBOX_KEY, entryIds.toArray(String[]::new));
+    }
+
+    // 좌석 선점 스크립트의 ARGV로 전달할 field, value 쌍
+    static List<String> toFields(PendingReservation pendingReservation) {
+        Reservation reservation = pendingReservation.reservation();
+        Payment payment = pendingReservation.payment();
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(FIELD_RESERVATION_ID, reservation.id().toString());
+        fields.put(FIELD_PAYMENT_ID, payment.id().toString());
+        fields.put(FIELD_USER_ID, reservation.userId().toString());
+        fields.put(FIELD_SEAT_ID, reservation.seatId().toString());
+        fields.put(FIELD_CONCERT_DATE_ID, pendingReservation.concertDateId().toString());
+        fields.put(FIELD_AMOUNT, payment.amount().toPlainString());
+        fields.put(FIELD_CREATED_AT, reservation.createdAt().toString());
+        fields.put(FIELD_EXPIRES_AT, reservation.expiresAt().toString());
+
+        List<String> args = new ArrayList<>(fields.size() * 2);
+        fields.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        return args;
+    }
+
+    private static PendingReservation fromFields(Map<Object, Object> fields) {
+        UUID reservationId = UUID.fromString((String) fields.get(FIELD_RESERVATION_ID));
+        UUID userId = UUID.fromString((String) fields.get(FIELD_USER_ID));
+        LocalDateTime createdAt = LocalDateTime.parse((String) fields.get(FIELD_CREATED_AT));
+
+        Reservation reservation = Reservation.builder()
+                .id(reservationId)
+                .userId(userId)
+                .seatId(UUID.fromString((String) fields.get(FIELD_SEAT_ID)))
+                .status(ReservationStatus.PENDING)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .expiresAt(LocalDateTime.parse((String) fields.get(FIELD_EXPIRES_AT)))
+                .build();
+        Payment payment = Payment.builder()
+                .id(UUID.fromString((String) fields.get(FIELD_PAYMENT_ID)))
+                .userId(userId)
+                .reservationId(reservationId)
+                .amount(new BigDecimal((String) fields.get(FIELD_AMOUNT)))
+                .status(PaymentStatus.PENDING)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+        return new PendingReservation(UUID.fromString((String) fields.get(FIELD_CONCERT_DATE_ID)), reservation, payment);
+    }
+}
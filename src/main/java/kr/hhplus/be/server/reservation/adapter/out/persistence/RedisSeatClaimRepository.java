@@ -0,0 +1,109 @@
+package kr.hhplus.be.server.reservation.adapter.out.persistence;
+
+import kr.hhplus.be.server.reservation.domain.ExpiredReservation;
+import kr.hhplus.be.server.reservation.domain.PendingReservation;
+import kr.hhplus.be.server.reservation.domain.enums.SeatClaimResult;
+import kr.hhplus.be.server.reservation.port.out.SeatClaimRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 콘서트 날짜별 좌석 선점 정보를 Redis Hash(seat:claim:{concertDateId})로 관리합니다.
+ * field: seatId, value: 선점한 reservationId (DB에서 이미 예약/배정된 좌석은 "DB")
+ */
+@Repository
+public class RedisSeatClaimRepository implements SeatClaimRepository {
+
+    private static final String SEAT_CLAIM_KEY_PREFIX = "seat:claim:";
+    private static final String LOADED_FIELD = "__loaded"; // DB 좌석 상태 적재 완료 표시
+    private static final String DB_CLAIM_VALUE = "DB";
+
+    // 선점한 예약이 일치하거나, 적재 당시 DB에서 예약 상태였던 좌석일 때만 선점 해제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local claimedBy = redis.call('HGET', KEYS[1], ARGV[1])
+            if claimedBy == ARGV[2] or claimedBy == ARGV[3] then
+                return redis.call('HDEL', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<Long> claimSeatScript;
+
+    public RedisSeatClaimRepository(@Qualifier("luaScriptRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                    DefaultRedisScript<Long> claimSeatScript) {
+        this.redisTemplate = redisTemplate;
+        this.claimSeatScript = claimSeatScript;
+    }
+
+    @Override
+    public SeatClaimResult claim(PendingReservation pendingReservation) {
+        List<String> keys = List.of(seatClaimKey(pendingReservation.concertDateId()), RedisReservationOutboxRepository.OUTBOX_KEY);
+
+        List<String> fields = RedisReservationOutboxRepository.toFields(pendingReservation);
+        Object[] args = new Object[fields.size() + 2];
+        args[0] = pendingReservation.reservation().seatId().toString();
+        args[1] = pendingReservation.reservation().id().toString();
+        for (int i = 0; i < fields.size(); i++) {
+            args[i + 2] = fields.get(i);
+        }
+
+        Long result = redisTemplate.execute(claimSeatScript, keys, args);
+        if (result == null || result < 0) return SeatClaimResult.NOT_LOADED;
+        return result == 1 ? SeatClaimResult.CLAIMED : SeatClaimResult.ALREADY_CLAIMED;
+    }
+
+    @Override
+    public void load(UUID concertDateId, Collection<UUID> unavailableSeatIds, LocalDateTime retainUntil) {
+        byte[] key = seatClaimKey(concertDateId).getBytes(StandardCharsets.UTF_8);
+        byte[] dbClaimValue = DB_CLAIM_VALUE.getBytes(StandardCharsets.UTF_8);
+
+        // 이미 선점된 좌석은 덮어쓰지 않도록 HSETNX, 적재 완료 표시는 마지막에 기록
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (UUID seatId : unavailableSeatIds) {
+                connection.hashCommands().hSetNX(key, seatId.toString().getBytes(StandardCharsets.UTF_8), dbClaimValue);
+            }
+            connection.hashCommands().hSetNX(key, LOADED_FIELD.getBytes(StandardCharsets.UTF_8), dbClaimValue);
+            connection.keyCommands().expireAt(key, retainUntil.atZone(ZoneId.systemDefault()).toEpochSecond());
+            return null;
+        });
+    }
+
+    @Override
+    public void release(UUID concertDateId, UUID seatId, UUID reservationId) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(seatClaimKey(concertDateId)), seatId.toString(), reservationId.toString(), DB_CLAIM_VALUE);
+    }
+
+    @Override
+    public void releaseAll(List<ExpiredReservation> expiredReservations) {
+        if (expiredReservations.isEmpty()) return;
+
+        byte[] script = RELEASE_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        byte[] dbClaimValue = DB_CLAIM_VALUE.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ExpiredReservation expired : expiredReservations) {
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1,
+                        seatClaimKey(expired.concertDateId()).getBytes(StandardCharsets.UTF_8),
+                        expired.seatId().toString().getBytes(StandardCharsets.UTF_8),
+                        expired.reservationId().toString().getBytes(StandardCharsets.UTF_8),
+                        dbClaimValue);
+            }
+            return null;
+        });
+    }
+
+    private static String seatClaimKey(UUID concertDateId) {
+        return SEAT_CLAIM_KEY_PREFIX + concertDateId;
+    }
+}
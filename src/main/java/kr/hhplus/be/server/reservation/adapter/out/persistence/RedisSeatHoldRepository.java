@@ -1,50 +1,144 @@
 package kr.hhplus.be.server.reservation.adapter.out.persistence;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
 import kr.hhplus.be.server.reservation.port.out.SeatHoldRepository;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 좌석 임시 점유(hold) 정보를 콘서트 날짜 단위로 모아 저장합니다.
+ * <pre>
+ * seat:holds:{concertDateId}         HASH  field: seatId, value: userId
+ * seat:holds:expiry:{concertDateId}  ZSET  member: seatId, score: 만료 시각 epoch millis
+ * </pre>
+ * 필드 단위 TTL(HPEXPIRE)은 Redis 7.4 이상에서만 지원되므로 만료 시각은 보조 ZSET으로 관리하고,
+ * 두 키 모두 마지막 점유 시점 기준으로 키 TTL을 갱신하여 날짜의 모든 점유가 끝나면 함께 사라지도록 합니다.
+ * 두 키는 동일한 해시 태그({concertDateId})를 사용하므로 클러스터에서도 같은 슬롯에 위치합니다.
+ * 기존 좌석별 키(seat:hold:{seatId})는 배포 전환 중 남아 있는 점유를 위해 조회/해제 시에만 확인합니다.
+ * concertDateId가 없는 요청(전환 이전에 발행된 이벤트 등)은 seat:holds:null 키가 생기지 않도록 좌석별 키만 사용합니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class RedisSeatHoldRepository implements SeatHoldRepository {
 
     private static final Duration HOLD_DURATION = Duration.ofMinutes(5);
-    private static final String SEAT_HOLD_PREFIX = "seat:hold:";
+    private static final String SEAT_HOLDS_PREFIX = "seat:holds:";
+    private static final String SEAT_HOLDS_EXPIRY_PREFIX = "seat:holds:expiry:";
+    private static final String LEGACY_SEAT_HOLD_PREFIX = "seat:hold:";
+
+    private static final DefaultRedisScript<Long> HOLD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            return 1
+            """, Long.class);
+
+    // 만료 시각이 지나지 않았고 점유 사용자가 일치하는 경우에만 1
+    private static final DefaultRedisScript<Long> IS_HELD_SCRIPT = new DefaultRedisScript<>("""
+            local expiresAt = redis.call('ZSCORE', KEYS[2], ARGV[1])
+            if not expiresAt or tonumber(expiresAt) <= tonumber(ARGV[3]) then
+                return 0
+            end
+            if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 해당 사용자가 점유한 좌석인 경우에만 삭제 (조회와 삭제 사이에 다른 사용자가 재점유하는 경우 방지)
+    private static final DefaultRedisScript<Long> COMPARE_AND_DELETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+                redis.call('ZREM', KEYS[2], ARGV[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final DefaultRedisScript<Long> LEGACY_COMPARE_AND_DELETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // 만료된 점유를 정리한 뒤 남은 점유 전체를 반환
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> FIND_HELD_SCRIPT = new DefaultRedisScript<>("""
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+            for _, seatId in ipairs(expired) do
+                redis.call('HDEL', KEYS[1], seatId)
+                redis.call('ZREM', KEYS[2], seatId)
+            end
+            return redis.call('HGETALL', KEYS[1])
+            """, List.class);
 
     private final RedisTemplate<String, String> seatHoldRedisTemplate;
 
     @Override
-    public void hold(UUID seatId, UUID userId) {
-        String key = SEAT_HOLD_PREFIX + seatId;
-        String value = userId.toString();
-
-        seatHoldRedisTemplate.opsForValue().set(key, value, HOLD_DURATION);
+    public void hold(UUID concertDateId, UUID seatId, UUID userId) {
+        if (concertDateId == null) {
+            seatHoldRedisTemplate.opsForValue().set(LEGACY_SEAT_HOLD_PREFIX + seatId, userId.toString(), HOLD_DURATION);
+            return;
+        }
+        long expiresAt = System.currentTimeMillis() + HOLD_DURATION.toMillis();
+        seatHoldRedisTemplate.execute(HOLD_SCRIPT, keys(concertDateId),
+                seatId.toString(), userId.toString(), String.valueOf(expiresAt), String.valueOf(HOLD_DURATION.toMillis()));
     }
 
     @Override
-    public boolean isHoldSeat(UUID seatId, UUID userId) {
-        String key = SEAT_HOLD_PREFIX + seatId;
-        String holdUserId = seatHoldRedisTemplate.opsForValue().get(key);
+    public boolean isHoldSeat(UUID concertDateId, UUID seatId, UUID userId) {
+        if (concertDateId != null) {
+            Long held = seatHoldRedisTemplate.execute(IS_HELD_SCRIPT, keys(concertDateId),
+                    seatId.toString(), userId.toString(), String.valueOf(System.currentTimeMillis()));
+            if (held != null && held == 1L)
+                return true;
+        }
 
-        if (holdUserId == null)
-            return false;
+        String legacyHoldUserId = seatHoldRedisTemplate.opsForValue().get(LEGACY_SEAT_HOLD_PREFIX + seatId);
+        return userId.toString().equals(legacyHoldUserId);
+    }
 
-        return holdUserId.equals(userId.toString());
+    @Override
+    public void deleteHold(UUID concertDateId, UUID seatId, UUID userId) {
+        if (concertDateId != null) {
+            Long deleted = seatHoldRedisTemplate.execute(COMPARE_AND_DELETE_SCRIPT, keys(concertDateId),
+                    seatId.toString(), userId.toString());
+            if (deleted != null && deleted == 1L)
+                return;
+        }
+
+        seatHoldRedisTemplate.execute(LEGACY_COMPARE_AND_DELETE_SCRIPT, List.of(LEGACY_SEAT_HOLD_PREFIX + seatId),
+                userId.toString());
     }
 
     @Override
-    public void deleteHold(UUID seatId, UUID userId) {
-        String key = SEAT_HOLD_PREFIX + seatId;
-        String holdUserId = seatHoldRedisTemplate.opsForValue().get(key);
+    @SuppressWarnings("unchecked")
+    public Map<UUID, UUID> findHeldSeats(UUID concertDateId) {
+        if (concertDateId == null)
+            return Map.of();
+        List<String> fieldsAndValues = seatHoldRedisTemplate.execute(FIND_HELD_SCRIPT, keys(concertDateId),
+                String.valueOf(System.currentTimeMillis()));
+        if (fieldsAndValues == null || fieldsAndValues.isEmpty())
+            return Map.of();
 
-        // 해당 사용자가 임시배정한 좌석인 경우에만 삭제
-        if (holdUserId != null && holdUserId.equals(userId.toString())) {
-            seatHoldRedisTemplate.delete(key);
+        Map<UUID, UUID> heldSeats = new HashMap<>();
+        for (int i = 0; i + 1 < fieldsAndValues.size(); i += 2) {
+            heldSeats.put(UUID.fromString(fieldsAndValues.get(i)), UUID.fromString(fieldsAndValues.get(i + 1)));
         }
+        return heldSeats;
+    }
+
+    private static List<String> keys(UUID concertDateId) {
+        return List.of(SEAT_HOLDS_PREFIX + "{" + concertDateId + "}", SEAT_HOLDS_EXPIRY_PREFIX + "{" + concertDateId + "}");
     }
 }
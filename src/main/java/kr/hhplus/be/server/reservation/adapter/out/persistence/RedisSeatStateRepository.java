@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.reservation.adapter.out.persistence;
+
+import kr.hhplus.be.server.reservation.port.out.SeatStateRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 좌석 상태 캐시 (seat:state:{seatId} = PENDING | RESERVED)
+ */
+@Repository
+public class RedisSeatStateRepository implements SeatStateRepository {
+
+    private static final String SEAT_STATE_PREFIX = "seat:state:";
+    private static final String PENDING = "PENDING";
+    private static final String RESERVED = "RESERVED";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RedisSeatStateRepository(@Qualifier("luaScriptRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public boolean tryOccupy(UUID seatId, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(seatStateKey(seatId), PENDING, ttl));
+    }
+
+    @Override
+    public void markReserved(UUID seatId, Duration ttl) {
+        redisTemplate.opsForValue().set(seatStateKey(seatId), RESERVED, ttl);
+    }
+
+    @Override
+    public void release(UUID seatId) {
+        redisTemplate.delete(seatStateKey(seatId));
+    }
+
+    @Override
+    public void releaseAll(Collection<UUID> seatIds) {
+        if (seatIds.isEmpty()) return;
+        redisTemplate.delete(seatIds.stream().map(RedisSeatStateRepository::seatStateKey).toList());
+    }
+
+    private static String seatStateKey(UUID seatId) {
+        return SEAT_STATE_PREFIX + seatId;
+    }
+}
@@ -13,4 +13,13 @@ public interface JpaReservationRepository extends JpaRepository<ReservationEntit
     @Query("SELECT r.id FROM ReservationEntity r WHERE r.status = 'PENDING' AND r.expiresAt < :now")
     List<String> findExpiredPendingReservationIds(LocalDateTime now, Pageable pageable);
 
+    // PENDING 상태인 예약의 ID와 만료 시간을 (만료 시각, ID) 키셋으로 조회하는 쿼리 (만료 지연 큐 재구성용, idx_reservation_status_expires 사용)
+    @Query("""
+            SELECT r.id, r.expiresAt FROM ReservationEntity r
+            WHERE r.status = 'PENDING'
+              AND (r.expiresAt > :afterExpiresAt OR (r.expiresAt = :afterExpiresAt AND r.id > :afterId))
+            ORDER BY r.expiresAt, r.id
+            """)
+    List<Object[]> findPendingReservationExpirations(LocalDateTime afterExpiresAt, String afterId, Pageable pageable);
+
 }
\ No newline at end of file
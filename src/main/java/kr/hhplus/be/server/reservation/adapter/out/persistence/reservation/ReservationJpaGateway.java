@@ -2,6 +2,7 @@ package kr.hhplus.be.server.reservation.adapter.out.persistence.reservation;
 
 import kr.hhplus.be.server.common.exception.CustomException;
 import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationExpiration;
 import kr.hhplus.be.server.reservation.port.out.ReservationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -25,6 +26,13 @@ public class ReservationJpaGateway implements ReservationRepository {
         return jpaReservationRepository.save(reservationEntity).toDomain();
     }
 
+    @Override
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        return jpaReservationRepository.saveAll(reservations.stream().map(ReservationEntity::from).toList()).stream()
+                .map(ReservationEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Reservation> findById(UUID reservationId) throws CustomException {
         return jpaReservationRepository.findById(reservationId.toString())
@@ -46,6 +54,15 @@ public class ReservationJpaGateway implements ReservationRepository {
                 .toList();
     }
 
+    @Override
+    public List<ReservationExpiration> findPendingReservationExpirations(ReservationExpiration after, int limit) {
+        LocalDateTime afterExpiresAt = after != null ? after.expiresAt() : LocalDateTime.of(1970, 1, 1, 0, 0);
+        String afterId = after != null ? after.reservationId().toString() : "";
+        return jpaReservationRepository.findPendingReservationExpirations(afterExpiresAt, afterId, PageRequest.of(0, limit)).stream()
+                .map(row -> new ReservationExpiration(UUID.fromString((String) row[0]), (LocalDateTime) row[1]))
+                .toList();
+    }
+
     @Override
     public void deleteAll() {
         jpaReservationRepository.deleteAll();
@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.reservation.domain;
+
+import java.util.UUID;
+
+/**
+ * 일괄 만료 처리된 예약
+ *
+ * @param reservationId 만료된 예약 ID
+ * @param seatId        예약 가능 상태로 되돌린 좌석 ID
+ * @param concertDateId 좌석의 콘서트 날짜 ID (잔여 좌석 수 증가 대상)
+ */
+public record ExpiredReservation(
+        UUID reservationId,
+        UUID seatId,
+        UUID concertDateId
+) {
+}
@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.reservation.domain;
+
+import kr.hhplus.be.server.payment.domain.Payment;
+
+import java.util.UUID;
+
+/**
+ * Redis에서 좌석 선점이 확정되었지만 아직 DB에 반영되지 않은 예약
+ *
+ * @param concertDateId 콘서트 날짜 ID (잔여 좌석 수 감소 대상)
+ * @param reservation   생성된 예약 (ID 미리 발급)
+ * @param payment       생성된 결제 대기 정보 (ID 미리 발급)
+ */
+public record PendingReservation(
+        UUID concertDateId,
+        Reservation reservation,
+        Payment payment
+) {
+}
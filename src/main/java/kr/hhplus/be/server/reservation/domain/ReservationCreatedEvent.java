@@ -15,6 +15,7 @@ public record ReservationCreatedEvent(
         UUID userId,
         UUID paymentId,
         UUID seatId,
+        UUID concertDateId,
         BigDecimal amount,
         LocalDateTime expiresAt,
         LocalDateTime occurredAt
@@ -27,12 +28,28 @@ public record ReservationCreatedEvent(
                 .userId(result.userId())
                 .paymentId(result.payment().id())
                 .seatId(result.seat().id())
+                .concertDateId(result.seat().concertDateId())
                 .amount(result.payment().amount())
                 .expiresAt(now.plusMinutes(5))
                 .occurredAt(now)
                 .build();
     }
 
+    // write-behind 모드: 아웃박스 워커가 DB 반영을 커밋한 예약으로 생성
+    public static ReservationCreatedEvent from(PendingReservation pendingReservation) {
+        Reservation reservation = pendingReservation.reservation();
+        return ReservationCreatedEvent.builder()
+                .reservationId(reservation.id())
+                .userId(reservation.userId())
+                .paymentId(pendingReservation.payment().id())
+                .seatId(reservation.seatId())
+                .concertDateId(pendingReservation.concertDateId())
+                .amount(pendingReservation.payment().amount())
+                .expiresAt(reservation.expiresAt())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
     @Override
     public String getKey() {
         return reservationId.toString();
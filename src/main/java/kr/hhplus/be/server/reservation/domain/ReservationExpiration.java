@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.reservation.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 만료 지연 큐 재구성 시 조회하는 PENDING 예약의 만료 시각
+ * (만료 시각, 예약 ID) 순으로 정렬되며, 마지막 항목이 다음 페이지 조회의 기준이 됩니다.
+ *
+ * @param reservationId PENDING 상태인 예약 ID
+ * @param expiresAt     예약 만료 시각
+ */
+public record ReservationExpiration(
+        UUID reservationId,
+        LocalDateTime expiresAt
+) {
+}
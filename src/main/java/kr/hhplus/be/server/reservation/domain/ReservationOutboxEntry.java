@@ -0,0 +1,13 @@
+package kr.hhplus.be.server.reservation.domain;
+
+/**
+ * 아웃박스에서 읽은 DB 반영 대기 레코드
+ *
+ * @param entryId            아웃박스 레코드 ID (반영 완료 후 확인 처리에 사용)
+ * @param pendingReservation DB에 반영할 예약
+ */
+public record ReservationOutboxEntry(
+        String entryId,
+        PendingReservation pendingReservation
+) {
+}
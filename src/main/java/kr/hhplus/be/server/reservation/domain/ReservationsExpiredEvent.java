@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.reservation.domain;
+
+import kr.hhplus.be.server.common.event.Event;
+import kr.hhplus.be.server.common.event.EventTopic;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 예약 일괄 만료 요약 이벤트 (청크당 1건)
+ */
+@Builder
+public record ReservationsExpiredEvent(
+        UUID batchId,
+        List<UUID> reservationIds,
+        List<UUID> seatIds,
+        Map<UUID, Integer> releasedSeatCounts, // 콘서트 날짜별 반환된 좌석 수
+        LocalDateTime occurredAt
+) implements Event {
+
+    public static ReservationsExpiredEvent from(List<ExpiredReservation> expiredReservations, Map<UUID, Integer> releasedSeatCounts) {
+        return ReservationsExpiredEvent.builder()
+                .batchId(UUID.randomUUID())
+                .reservationIds(expiredReservations.stream().map(ExpiredReservation::reservationId).toList())
+                .seatIds(expiredReservations.stream().map(ExpiredReservation::seatId).toList())
+                .releasedSeatCounts(releasedSeatCounts)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Override
+    public String getKey() {
+        return batchId.toString();
+    }
+
+    @Override
+    public EventTopic getTopic() {
+        return EventTopic.RESERVATION_EXPIRED;
+    }
+}
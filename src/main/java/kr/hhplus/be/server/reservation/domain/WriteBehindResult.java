@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.reservation.domain;
+
+import java.util.List;
+
+/**
+ * write-behind 배치 반영 결과
+ *
+ * @param saved        새로 DB에 반영된 예약
+ * @param rejected     DB 기준으로 좌석이 이미 예약되어 있어 실패 처리된 예약 (Redis 선점 해제 대상)
+ * @param alreadySaved 이전 전달에서 이미 반영된 예약 (재전달된 레코드, 잔여 좌석 수는 다시 반영하지 않고 이벤트만 다시 발행)
+ */
+public record WriteBehindResult(
+        List<PendingReservation> saved,
+        List<PendingReservation> rejected,
+        List<PendingReservation> alreadySaved
+) {
+    public static WriteBehindResult empty() {
+        return new WriteBehindResult(List.of(), List.of(), List.of());
+    }
+}
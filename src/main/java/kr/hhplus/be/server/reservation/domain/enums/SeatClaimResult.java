@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.reservation.domain.enums;
+
+public enum SeatClaimResult {
+    CLAIMED,            // 좌석 선점 성공
+    ALREADY_CLAIMED,    // 다른 예약이 이미 선점한 좌석
+    NOT_LOADED          // 콘서트 날짜의 좌석 상태가 아직 Redis에 적재되지 않음
+}
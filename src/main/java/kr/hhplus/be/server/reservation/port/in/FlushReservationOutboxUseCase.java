@@ -0,0 +1,9 @@
+package kr.hhplus.be.server.reservation.port.in;
+
+public interface FlushReservationOutboxUseCase {
+    /**
+     * 아웃박스에 쌓인 예약을 배치 단위로 DB에 반영합니다.
+     * @return DB에 반영한 아웃박스 레코드 수
+     */
+    int flush();
+}
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.reservation.port.in;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface ReservationCancellationUseCase {
@@ -8,4 +9,11 @@ public interface ReservationCancellationUseCase {
      * @param reservationId 만료시킬 예약 ID
      */
     void cancelIfUnpaid(UUID reservationId);
-}
\ No newline at end of file
+
+    /**
+     * 결제되지 않은 예약들을 집합 단위로 일괄 만료 처리합니다.
+     * @param reservationIds 만료시킬 예약 ID 목록 (청크)
+     * @return 실제로 만료 처리된 예약 수
+     */
+    int cancelAllIfUnpaid(List<UUID> reservationIds);
+}
@@ -1,8 +1,14 @@
 package kr.hhplus.be.server.reservation.port.in;
 
 import kr.hhplus.be.server.reservation.port.in.dto.ReserveSeatCommand;
+import kr.hhplus.be.server.reservation.port.in.dto.ReserveSeatsCommand;
+
+import java.util.List;
 
 public interface ReservationCreateInput {
     ReserveSeatResult reserveSeat(ReserveSeatCommand command) throws Exception;
 
+    // 여러 좌석 일괄 예약 (모두 성공하거나 모두 실패)
+    List<ReserveSeatResult> reserveSeats(ReserveSeatsCommand command) throws Exception;
+
 }
@@ -0,0 +1,23 @@
+package kr.hhplus.be.server.reservation.port.in;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ReservationExpiryUseCase {
+    /**
+     * 예약 만료 시각을 지연 큐에 등록합니다.
+     */
+    void schedule(UUID reservationId, LocalDateTime expiresAt);
+
+    /**
+     * 만료 시각이 지난 예약을 지연 큐에서 꺼내 만료 처리합니다.
+     * @return 만료 처리된 예약 수
+     */
+    int expireDueReservations();
+
+    /**
+     * DB의 PENDING 예약으로 지연 큐를 다시 채웁니다. (애플리케이션 시작 시, 동시에 기동한 인스턴스 중 하나만 수행)
+     * @return 등록된 예약 수
+     */
+    int rebuild();
+}
@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.reservation.port.in;
+
+import java.util.Set;
+import java.util.UUID;
+
+public interface SeatHoldQueryUseCase {
+    /**
+     * 콘서트 날짜에서 임시 점유 중인 좌석 ID 목록을 조회합니다. (좌석 배치도 표시용)
+     * @param concertDateId 콘서트 날짜 ID
+     */
+    Set<UUID> findHeldSeatIds(UUID concertDateId);
+}
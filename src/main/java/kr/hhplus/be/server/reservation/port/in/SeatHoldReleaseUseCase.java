@@ -3,5 +3,5 @@ package kr.hhplus.be.server.reservation.port.in;
 import java.util.UUID;
 
 public interface SeatHoldReleaseUseCase {
-    void releaseHold(UUID seatId, UUID userId);
-}
\ No newline at end of file
+    void releaseHold(UUID concertDateId, UUID seatId, UUID userId);
+}
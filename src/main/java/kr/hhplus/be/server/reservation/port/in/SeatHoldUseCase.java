@@ -5,9 +5,10 @@ import java.util.UUID;
 public interface SeatHoldUseCase {
     /**
      * 지정된 좌석을 특정 사용자가 임시 점유합니다.
+     * @param concertDateId 콘서트 날짜 ID
      * @param seatId 좌석 ID
      * @param userId 사용자 ID
      */
-    void hold(UUID seatId, UUID userId);
+    void hold(UUID concertDateId, UUID seatId, UUID userId);
 
-}
\ No newline at end of file
+}
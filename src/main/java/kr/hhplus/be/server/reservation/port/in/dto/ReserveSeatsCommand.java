@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.reservation.port.in.dto;
+
+import kr.hhplus.be.server.common.exception.CustomException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.reservation.adapter.in.web.request.ReserveSeatsRequest;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 한 콘서트 날짜의 여러 좌석을 한 번에 예약하는 커맨드 (모두 성공하거나 모두 실패)
+ */
+public record ReserveSeatsCommand(
+        UUID concertId,
+        UUID concertDateId,
+        List<UUID> seatIds,
+        String queueTokenId
+) {
+    public static final int MAX_SEAT_COUNT = 4; // 1회 최대 예약 좌석 수
+
+    public ReserveSeatsCommand {
+        if (seatIds == null || seatIds.isEmpty() || seatIds.size() > MAX_SEAT_COUNT
+                || new HashSet<>(seatIds).size() != seatIds.size()) {
+            throw new CustomException(ErrorCode.INVALID_SEAT_COUNT, "좌석은 중복 없이 1~" + MAX_SEAT_COUNT + "개까지 예약할 수 있습니다.");
+        }
+        seatIds = List.copyOf(seatIds);
+    }
+
+    public static ReserveSeatsCommand of(ReserveSeatsRequest request, String queueToken) {
+        return new ReserveSeatsCommand(request.concertId(), request.concertDateId(), request.seatIds(), queueToken);
+    }
+}
@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.reservation.port.out;
+
+import kr.hhplus.be.server.reservation.domain.ExpiredReservation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReservationBulkExpiryRepository {
+    /**
+     * 아직 PENDING 상태인 예약만 골라 결제/예약/좌석을 집합 단위 UPDATE로 만료 처리합니다.
+     * @param reservationIds 만료 대상 예약 ID 목록
+     * @param now            만료 처리 시각
+     * @return 실제로 만료 처리된 예약 목록
+     */
+    List<ExpiredReservation> expirePendingReservations(List<UUID> reservationIds, LocalDateTime now);
+}
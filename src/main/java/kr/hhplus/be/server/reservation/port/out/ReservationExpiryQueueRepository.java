@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.reservation.port.out;
+
+import kr.hhplus.be.server.reservation.domain.ReservationExpiration;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReservationExpiryQueueRepository {
+    void schedule(UUID reservationId, LocalDateTime expiresAt);
+
+    /**
+     * 큐에 없는 예약만 등록합니다. (재구성 시 처리 중인 예약의 임대 시각을 덮어쓰지 않음)
+     */
+    void scheduleAllIfAbsent(List<ReservationExpiration> expirations);
+
+    /**
+     * 만료 시각이 지난 예약을 최대 limit개까지 꺼내고, 큐에서 제거하는 대신 leaseUntil로 미뤄 임대합니다.
+     * 여러 인스턴스가 동시에 호출해도 중복 없이 분배되며, acknowledge 전에 처리하던 인스턴스가 중단되면 leaseUntil 이후 다시 꺼내집니다.
+     */
+    List<UUID> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    /**
+     * 만료 처리가 커밋된 예약을 큐에서 제거합니다.
+     */
+    void acknowledge(List<UUID> reservationIds);
+
+    /**
+     * 지연 큐 재구성 권한을 ttl 동안 owner에게 부여합니다. 이미 다른 인스턴스가 재구성 중이면 false를 반환합니다.
+     */
+    boolean tryAcquireRebuild(String owner, Duration ttl);
+
+    /**
+     * owner가 보유한 재구성 권한을 해제합니다. (ttl이 지나 다른 인스턴스가 가져간 권한은 해제하지 않음)
+     */
+    void releaseRebuild(String owner);
+}
@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.reservation.port.out;
+
+import kr.hhplus.be.server.reservation.domain.ReservationOutboxEntry;
+
+import java.util.List;
+
+public interface ReservationOutboxRepository {
+    /**
+     * DB 반영 대기 레코드 조회 (이전에 읽고 확인 처리되지 않은 레코드를 먼저 반환)
+     * @param count 최대 조회 개수
+     * @return 아웃박스 레코드 목록
+     */
+    List<ReservationOutboxEntry> read(int count);
+
+    /**
+     * DB 반영이 완료된 레코드 확인 처리
+     * @param entryIds 아웃박스 레코드 ID 목록
+     */
+    void acknowledge(List<String> entryIds);
+}
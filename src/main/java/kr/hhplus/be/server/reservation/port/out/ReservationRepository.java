@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.reservation.port.out;
 
 import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationExpiration;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -10,6 +11,7 @@ import java.util.UUID;
 
 public interface ReservationRepository {
     Reservation save(Reservation reservation);
+    List<Reservation> saveAll(List<Reservation> reservations);
     Optional<Reservation> findById(UUID reservationId);
     List<Reservation> findAll();
 
@@ -22,6 +24,12 @@ public interface ReservationRepository {
      */
     List<UUID> findExpiredPendingReservationIds(LocalDateTime now, int limit);
 
+    /**
+     * PENDING 상태인 예약의 만료 시간을 (만료 시각, 예약 ID) 순으로 after 다음부터 최대 limit개 조회합니다. (만료 지연 큐 재구성용)
+     * 키셋 페이지네이션이므로 앞 페이지를 건너뛰기 위해 다시 읽지 않으며, after가 null이면 처음부터 조회합니다.
+     */
+    List<ReservationExpiration> findPendingReservationExpirations(ReservationExpiration after, int limit);
+
     void deleteAll();
 
 }
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.reservation.port.out;
+
+import kr.hhplus.be.server.reservation.domain.PendingReservation;
+import kr.hhplus.be.server.reservation.domain.WriteBehindResult;
+
+import java.util.List;
+
+public interface ReservationWriteBehindRepository {
+    /**
+     * Redis에서 선점이 확정된 예약들을 DB에 일괄 반영 (예약/결제 INSERT, 좌석 상태 변경)
+     * 같은 레코드가 다시 전달되어도 중복 반영되지 않아야 하며,
+     * DB 기준으로 좌석이 이미 AVAILABLE이 아니면 예약을 실패 처리하고 결제는 반영하지 않습니다.
+     * 같은 예약 ID로 이미 반영된 레코드는 PENDING이면 alreadySaved, FAILED이면 rejected로 분류합니다.
+     * @param pendingReservations DB 반영 대기 예약 목록
+     * @return 새로 반영된 예약, 실패 처리된 예약, 이전 전달에서 이미 반영된 예약
+     */
+    WriteBehindResult saveAll(List<PendingReservation> pendingReservations);
+}
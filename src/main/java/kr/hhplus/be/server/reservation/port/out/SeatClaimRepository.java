@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.reservation.port.out;
+
+import kr.hhplus.be.server.reservation.domain.ExpiredReservation;
+import kr.hhplus.be.server.reservation.domain.PendingReservation;
+import kr.hhplus.be.server.reservation.domain.enums.SeatClaimResult;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface SeatClaimRepository {
+    /**
+     * 좌석을 원자적으로 선점하고, 같은 호출 안에서 DB 반영 대기 레코드를 아웃박스에 기록
+     * @param pendingReservation 선점할 예약 정보
+     * @return 선점 결과
+     */
+    SeatClaimResult claim(PendingReservation pendingReservation);
+
+    /**
+     * DB 기준으로 이미 예약/배정된 좌석을 콘서트 날짜의 선점 정보에 적재
+     * @param concertDateId       콘서트 날짜 ID
+     * @param unavailableSeatIds  예약 불가능한 좌석 ID 목록
+     * @param retainUntil         선점 정보 보관 기한
+     */
+    void load(UUID concertDateId, Collection<UUID> unavailableSeatIds, LocalDateTime retainUntil);
+
+    /**
+     * 예약이 선점한 좌석인 경우에만 선점 해제 (compare-and-delete)
+     */
+    void release(UUID concertDateId, UUID seatId, UUID reservationId);
+
+    /**
+     * 일괄 만료된 예약들의 좌석 선점을 한 번의 파이프라인으로 해제
+     */
+    void releaseAll(List<ExpiredReservation> expiredReservations);
+}
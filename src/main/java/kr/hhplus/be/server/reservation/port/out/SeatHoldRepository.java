@@ -1,9 +1,16 @@
 package kr.hhplus.be.server.reservation.port.out;
 
+import java.util.Map;
 import java.util.UUID;
 
 public interface SeatHoldRepository {
-    void hold(UUID seatId, UUID userId);
-    boolean isHoldSeat(UUID seatId, UUID userId);
-    void deleteHold(UUID seatId, UUID userId);
+    void hold(UUID concertDateId, UUID seatId, UUID userId);
+    boolean isHoldSeat(UUID concertDateId, UUID seatId, UUID userId);
+    void deleteHold(UUID concertDateId, UUID seatId, UUID userId);
+
+    /**
+     * 콘서트 날짜의 임시 점유 중인 좌석을 한 번에 조회합니다.
+     * @return 좌석 ID → 점유 사용자 ID
+     */
+    Map<UUID, UUID> findHeldSeats(UUID concertDateId);
 }
@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.reservation.port.out;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 분산 락 획득 전에 좌석 선점 여부를 빠르게 판단하기 위한 좌석 상태 캐시
+ */
+public interface SeatStateRepository {
+    /**
+     * 비어 있는 좌석인 경우에만 처리 중 상태로 원자적으로 기록 (SET NX)
+     * @return 기록에 성공하면 true, 이미 다른 요청이 처리 중이거나 예약된 좌석이면 false
+     */
+    boolean tryOccupy(UUID seatId, Duration ttl);
+
+    // 좌석을 예약됨 상태로 기록
+    void markReserved(UUID seatId, Duration ttl);
+
+    // 좌석 상태 삭제 (예약 실패/만료/결제 실패)
+    void release(UUID seatId);
+
+    void releaseAll(Collection<UUID> seatIds);
+}
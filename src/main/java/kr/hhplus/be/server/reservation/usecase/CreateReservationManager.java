@@ -1,28 +1,38 @@
 package kr.hhplus.be.server.reservation.usecase;
 
+import kr.hhplus.be.server.common.aop.bulkhead.BlockingCallBulkhead;
+import kr.hhplus.be.server.common.event.EventPublisher;
 import kr.hhplus.be.server.common.exception.CustomException;
 import kr.hhplus.be.server.common.exception.ErrorCode;
 import kr.hhplus.be.server.concert.domain.Concert;
 import kr.hhplus.be.server.concert.port.out.ConcertRepository;
 import kr.hhplus.be.server.concert.domain.ConcertDate;
 import kr.hhplus.be.server.concert.port.out.ConcertDateRepository;
+import kr.hhplus.be.server.concert.port.out.SeatCountCounterRepository;
 import kr.hhplus.be.server.payment.domain.Payment;
 import kr.hhplus.be.server.payment.port.out.PaymentRepository;
 import kr.hhplus.be.server.queue.domain.QueueToken;
 import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
 import kr.hhplus.be.server.queue.domain.QueueTokenUtil;
 import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationCreatedEvent;
 import kr.hhplus.be.server.reservation.port.in.dto.ReservationDomainResult;
 import kr.hhplus.be.server.reservation.port.out.ReservationRepository;
 import kr.hhplus.be.server.concert.domain.Seat;
 import kr.hhplus.be.server.concert.port.out.SeatRepository;
 import kr.hhplus.be.server.reservation.port.in.dto.ReserveSeatCommand;
 import kr.hhplus.be.server.reservation.port.in.dto.CreateReservationResult;
+import kr.hhplus.be.server.reservation.port.in.dto.ReserveSeatsCommand;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -35,7 +45,13 @@ public class CreateReservationManager {
     private final SeatRepository seatRepository;
     private final PaymentRepository paymentRepository;
     private final ReservationDomainService reservationDomainService;
+    private final SeatCountCounterRepository seatCountCounterRepository;
+    private final EventPublisher eventPublisher;
 
+    /**
+     * 분산 락 안에서 호출되며, 벌크헤드 입장 후 트랜잭션을 시작하므로 락 대기 중에는 입장 허용 수와 커넥션을 점유하지 않습니다.
+     */
+    @BlockingCallBulkhead
     @Transactional
     public CreateReservationResult processCreateReservation(ReserveSeatCommand command, QueueToken queueToken) throws CustomException {
 
@@ -49,13 +65,56 @@ public class CreateReservationManager {
         return processReservation(result, queueToken.userId());
     }
 
+    /**
+     * 여러 좌석을 하나의 트랜잭션으로 예약합니다. 한 좌석이라도 검증에 실패하면 전체가 롤백됩니다.
+     * 좌석/예약/결제는 각각 한 번에 저장하여 JDBC 배치로 처리합니다.
+     */
+    @BlockingCallBulkhead
+    @Transactional
+    public List<CreateReservationResult> processCreateReservations(ReserveSeatsCommand command, QueueToken queueToken) throws CustomException {
+        Concert concert = getConcert(command.concertId());
+        ConcertDate concertDate = getConcertDate(command.concertDateId());
+        Map<UUID, Seat> seats = seatRepository.findBySeatIdsAndConcertDateId(command.seatIds(), command.concertDateId()).stream()
+                .collect(Collectors.toMap(Seat::id, Function.identity()));
+        if (seats.size() != command.seatIds().size()) {
+            throw new CustomException(ErrorCode.SEAT_NOT_FOUND);
+        }
+
+        UUID userId = queueToken.userId();
+        List<ReservationDomainResult> results = new ArrayList<>();
+        for (UUID seatId : command.seatIds()) {
+            results.add(reservationDomainService.processReservation(concert, concertDate, seats.get(seatId), userId));
+        }
+
+        List<Seat> savedSeats = seatRepository.saveAll(results.stream().map(ReservationDomainResult::seat).toList());
+        List<Reservation> savedReservations = reservationRepository.saveAll(results.stream().map(ReservationDomainResult::reservation).toList());
+        List<Payment> savedPayments = new ArrayList<>();
+        for (int i = 0; i < savedReservations.size(); i++) {
+            savedPayments.add(Payment.of(userId, savedReservations.get(i).id(), savedSeats.get(i).price()));
+        }
+        savedPayments = paymentRepository.saveAll(savedPayments);
+        seatCountCounterRepository.add(concertDate.id(), -savedSeats.size());
+
+        List<CreateReservationResult> createResults = new ArrayList<>();
+        for (int i = 0; i < savedSeats.size(); i++) {
+            createResults.add(new CreateReservationResult(savedReservations.get(i), savedPayments.get(i), savedSeats.get(i), concertDate, userId));
+        }
+        // 좌석별 예약생성 이벤트 발행 (좌석 hold, 만료 지연 큐 등록)
+        createResults.forEach(createResult -> eventPublisher.publish(ReservationCreatedEvent.from(createResult)));
+        return createResults;
+    }
+
     private CreateReservationResult processReservation(ReservationDomainResult result, UUID userId) {
         Seat savedSeat = seatRepository.save(result.seat());
         Reservation savedReservation = reservationRepository.save(result.reservation());
         Payment savedPayment = paymentRepository.save(Payment.of(userId, savedReservation.id(), savedSeat.price()));
-        ConcertDate savedConcertDate = concertDateRepository.save(result.concertDate());
+        // 잔여 좌석 수는 CONCERT_DATE 행 대신 샤드 카운터에 누적 (같은 날짜의 예약끼리 행 경합 방지)
+        seatCountCounterRepository.add(savedSeat.concertDateId(), -1);
 
-        return new CreateReservationResult(savedReservation, savedPayment, savedSeat, savedConcertDate, userId);
+        CreateReservationResult createResult = new CreateReservationResult(savedReservation, savedPayment, savedSeat, result.concertDate(), userId);
+        // 예약생성 이벤트 발행 (아웃박스 모드에서는 예약과 함께 커밋)
+        eventPublisher.publish(ReservationCreatedEvent.from(createResult));
+        return createResult;
     }
 
     private Seat getSeat(UUID seatId, UUID concertDateId) throws CustomException {
@@ -1,21 +1,36 @@
 package kr.hhplus.be.server.reservation.usecase;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.redisson.api.RLock;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import kr.hhplus.be.server.common.exception.CustomException;
 import kr.hhplus.be.server.common.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class DistributedLockManager {
 
@@ -23,8 +38,52 @@ public class DistributedLockManager {
     private static final long WAIT_TIME = 3L; // 락 획득 대기 시간 (초)
     private static final long LEASE_TIME = 10L; // 락 유지 시간 (초)
 
+    private static final String LOCK_ACQUIRE_METRIC = "distributed.lock.acquire"; // 락 획득 결과 카운터 (입장 한도 조정 신호로 사용)
+    private static final String LOCK_WAIT_METRIC = "distributed.lock.wait"; // 락 획득까지 대기 시간
+    private static final String WAITERS_PREFIX = "lock:waiters:";
+    private static final long WAITER_TTL_MILLIS = TimeUnit.SECONDS.toMillis(WAIT_TIME + LEASE_TIME); // 비정상 종료로 빠지지 못한 대기자 정리
+
+    // 키별 경합 인원(보유자 + 대기자)을 ZSET(member: 대기자 ID, score: 만료 시각)으로 관리
+    // 만료 시각이 지난 대기자를 먼저 제거하므로, 비정상 종료로 남은 대기자는 다른 요청이 계속 들어와도 개별적으로 정리됨
+    private static final String ENTER_WAITERS_SCRIPT = """
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+            if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('ZADD', KEYS[1], ARGV[3], ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return 1
+            """;
+    private static final String LEAVE_WAITERS_SCRIPT = """
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            if redis.call('ZCARD', KEYS[1]) == 0 then
+                redis.call('DEL', KEYS[1])
+            end
+            return 1
+            """;
+
+    // 비동기 락의 소유자 ID (스레드 ID와 겹치지 않도록 음수로 발급)
+    private static final AtomicLong ASYNC_LOCK_OWNER_SEQUENCE = new AtomicLong();
+
     private final RedissonClient redissonClient;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean fairLockEnabled;
+    private final int maxWaiters;
+    private final Map<String, Counter> lockResultCounters = new ConcurrentHashMap<>(); // "{result}:{prefix}" 별 카운터
+    private final Map<String, Timer> lockWaitTimers = new ConcurrentHashMap<>();      // 키 접두사별 대기 시간 타이머
+
+    public DistributedLockManager(RedissonClient redissonClient,
+                                  RedisTemplate<String, Object> redisTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${lock.fair.enabled:false}") boolean fairLockEnabled,
+                                  @Value("${lock.fair.max-waiters:8}") int maxWaiters) {
+        this.redissonClient = redissonClient;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.fairLockEnabled = fairLockEnabled;
+        this.maxWaiters = maxWaiters;
+    }
 
     /**
      * 반환 값이 있는 락 프로세스
@@ -35,13 +94,19 @@ public class DistributedLockManager {
      */
     // T: executeWithLockHasReturn 메서드가 반환할 값의 타입, 즉, 이 메서드는 어떤 타입의 값이든 반환할 수 있으며, 호출 시점에 타입이 결정 됨
     public <T> T executeWithLockHasReturn(String key, Callable<T> transaction) throws Exception {
+        if (fairLockEnabled)
+            return executeWithFairLockHasReturn(List.of(key), transaction);
+
         RLock lock = redissonClient.getLock(LOCK_PREFIX + key);
 
         try {
             // 락 획득 시도
-            if (lock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS))
+            if (lock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS)) {
+                recordLockResult(key, true);
                 return transaction.call(); // 실행 로직 수행
+            }
 
+            recordLockResult(key, false);
             throw new CustomException(ErrorCode.LOCK_CONFLICT);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt(); // 예외발생 시 스레드 중단
@@ -53,6 +118,43 @@ public class DistributedLockManager {
         }
     }
 
+    /**
+     * 여러 키를 한 번에 잠그는 락 프로세스 (Redisson MultiLock, 모두 획득하거나 모두 실패)
+     * 키를 정렬하여 획득 순서를 고정하므로, 겹치는 키를 요청한 프로세스 간 교착 상태를 방지합니다.
+     *
+     * @param keys        락 키값 목록
+     * @param transaction 실행 로직
+     * @return 반환 값
+     */
+    public <T> T executeWithMultiLockHasReturn(List<String> keys, Callable<T> transaction) throws Exception {
+        if (fairLockEnabled)
+            return executeWithFairLockHasReturn(keys, transaction);
+
+        RLock[] locks = keys.stream()
+                .distinct()
+                .sorted()
+                .map(key -> redissonClient.getLock(LOCK_PREFIX + key))
+                .toArray(RLock[]::new);
+        RLock multiLock = redissonClient.getMultiLock(locks);
+
+        boolean acquired = false;
+        try {
+            acquired = multiLock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS);
+            recordLockResult(keys.get(0), acquired);
+            if (!acquired) {
+                throw new CustomException(ErrorCode.LOCK_CONFLICT);
+            }
+            return transaction.call();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("분산락 획득 대기중 인터럽트 발생: Keys - {}", keys);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } finally {
+            if (acquired) // MultiLock은 isHeldByCurrentThread를 지원하지 않으므로 획득 여부로 해제
+                multiLock.unlock();
+        }
+    }
+
     /**
      * 반환 값이 없는 락 프로세스
      *
@@ -60,14 +162,21 @@ public class DistributedLockManager {
      * @param action 실행 로직
      */
     public void executeWithLock(String key, Runnable action) throws CustomException {
+        if (fairLockEnabled) {
+            executeWithFairLock(key, action);
+            return;
+        }
+
         RLock lock = redissonClient.getLock(LOCK_PREFIX + key);
 
         try {
             if (lock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS)) {
+                recordLockResult(key, true);
                 action.run();
                 return;
             }
 
+            recordLockResult(key, false);
             throw new CustomException(ErrorCode.LOCK_CONFLICT);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -79,6 +188,96 @@ public class DistributedLockManager {
         }
     }
 
+    /**
+     * 비동기 락 프로세스 (RLockAsync)
+     * 락 소유자를 스레드 대신 호출마다 발급한 소유자 ID로 식별하므로, 락 대기 중에는 스레드를 점유하지 않고
+     * 획득/실행/해제가 서로 다른 스레드에서 이루어져도 됩니다. (논블로킹 호출자, 가상 스레드)
+     * action은 Redisson 이벤트 루프 스레드에서 호출되므로 블로킹 작업을 수행해서는 안 됩니다.
+     * 블로킹 작업은 {@link #executeWithLockAsync(String, Callable, Executor)}를 사용합니다.
+     *
+     * @param key    락 키값
+     * @param action 락 획득 후 실행할 비동기 로직
+     * @return 실행 결과, 락 획득 실패 시 LOCK_CONFLICT 예외로 완료
+     */
+    public <T> CompletableFuture<T> executeWithLockAsync(String key, Supplier<? extends CompletionStage<T>> action) {
+        return executeLockedAsync(redissonClient.getLock(LOCK_PREFIX + key), key, key, action);
+    }
+
+    /**
+     * 비동기 락 획득 후 블로킹 로직을 지정한 실행기에서 수행합니다.
+     *
+     * @param key      락 키값
+     * @param task     실행 로직
+     * @param executor 실행 로직을 수행할 실행기
+     */
+    public <T> CompletableFuture<T> executeWithLockAsync(String key, Callable<T> task, Executor executor) {
+        return executeWithLockAsync(key, () -> CompletableFuture.supplyAsync(() -> call(task), executor));
+    }
+
+    /**
+     * 여러 키를 한 번에 잠그는 비동기 락 프로세스 (키를 정렬하여 획득 순서 고정)
+     *
+     * @param keys   락 키값 목록
+     * @param action 락 획득 후 실행할 비동기 로직
+     */
+    public <T> CompletableFuture<T> executeWithMultiLockAsync(List<String> keys, Supplier<? extends CompletionStage<T>> action) {
+        RLock[] locks = keys.stream()
+                .distinct()
+                .sorted()
+                .map(key -> redissonClient.getLock(LOCK_PREFIX + key))
+                .toArray(RLock[]::new);
+        return executeLockedAsync(redissonClient.getMultiLock(locks), keys.get(0), keys.toString(), action);
+    }
+
+    private <T> CompletableFuture<T> executeLockedAsync(RLock lock, String metricKey, String key,
+                                                        Supplier<? extends CompletionStage<T>> action) {
+        long ownerId = ASYNC_LOCK_OWNER_SEQUENCE.decrementAndGet();
+
+        return lock.tryLockAsync(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS, ownerId).toCompletableFuture()
+                .thenCompose(acquired -> {
+                    recordLockResult(metricKey, acquired);
+                    if (!acquired) {
+                        return CompletableFuture.<T>failedFuture(new CustomException(ErrorCode.LOCK_CONFLICT));
+                    }
+
+                    CompletableFuture<T> result;
+                    try {
+                        result = action.get().toCompletableFuture();
+                    } catch (Exception e) {
+                        result = CompletableFuture.failedFuture(e);
+                    }
+                    // 실행 결과와 관계없이 락을 해제한 뒤 결과를 전달
+                    return result.handle((value, error) -> unlockAsync(lock, ownerId, key)
+                                    .thenCompose(ignored -> error == null
+                                            ? CompletableFuture.completedFuture(value)
+                                            : CompletableFuture.<T>failedFuture(unwrap(error))))
+                            .thenCompose(future -> future);
+                });
+    }
+
+    private CompletableFuture<Void> unlockAsync(RLock lock, long ownerId, String key) {
+        return lock.unlockAsync(ownerId).toCompletableFuture()
+                .exceptionally(e -> {
+                    // 임대 시간 만료 등으로 이미 해제된 경우
+                    log.warn("비동기 분산락 해제 실패: Key - {}, {}", key, e.getMessage());
+                    return null;
+                });
+    }
+
+    private static <T> T call(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
     /**
      * 반환값이 있는 일반 Redis 락
      *
@@ -96,6 +295,7 @@ public class DistributedLockManager {
                     "lock",
                     Duration.ofSeconds(LEASE_TIME));
 
+            recordLockResult(key, Boolean.TRUE.equals(result));
             if (Boolean.TRUE.equals(result)) {
                 try {
                     return transaction.call(); // 실행 로직 수행
@@ -111,4 +311,106 @@ public class DistributedLockManager {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
+
+    /**
+     * 공정 락 프로세스 (lock.fair.enabled)
+     * 키별 경합 인원을 (보유자 1 + 대기자 max-waiters)로 제한하여, 초과 요청은 락 대기 없이 즉시 LOCK_CONFLICT로 거절합니다.
+     * 대기 중인 요청은 Redisson 공정 락으로 도착 순서(FIFO)대로 획득하며, 여러 키는 정렬한 순서로 모두 획득합니다.
+     */
+    private <T> T executeWithFairLockHasReturn(List<String> keys, Callable<T> transaction) throws Exception {
+        List<String> sortedKeys = keys.stream().distinct().sorted().toList();
+        String metricKey = keys.get(0);
+        String waiterId = UUID.randomUUID().toString();
+
+        List<String> enteredKeys = new ArrayList<>();
+        for (String key : sortedKeys) {
+            if (!enterWaiters(key, waiterId)) {
+                enteredKeys.forEach(enteredKey -> leaveWaiters(enteredKey, waiterId));
+                recordLockResult(metricKey, "rejected");
+                throw new CustomException(ErrorCode.LOCK_CONFLICT);
+            }
+            enteredKeys.add(key);
+        }
+
+        RLock[] fairLocks = sortedKeys.stream()
+                .map(key -> redissonClient.getFairLock(LOCK_PREFIX + key))
+                .toArray(RLock[]::new);
+        RLock lock = fairLocks.length == 1 ? fairLocks[0] : redissonClient.getMultiLock(fairLocks);
+        boolean acquired = false;
+        try {
+            long startNanos = System.nanoTime();
+            acquired = lock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS);
+            lockWaitTimer(metricKey).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            recordLockResult(metricKey, acquired);
+            if (!acquired) {
+                throw new CustomException(ErrorCode.LOCK_CONFLICT);
+            }
+            return transaction.call();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("분산락 획득 대기중 인터럽트 발생: Keys - {}", keys);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } finally {
+            // 단일 락은 임대 만료 후 해제하지 않도록 보유 여부를, MultiLock은 획득 여부를 확인
+            if (fairLocks.length == 1 ? lock.isHeldByCurrentThread() : acquired)
+                lock.unlock();
+            enteredKeys.forEach(enteredKey -> leaveWaiters(enteredKey, waiterId));
+        }
+    }
+
+    private void executeWithFairLock(String key, Runnable action) throws CustomException {
+        try {
+            executeWithFairLockHasReturn(List.of(key), () -> {
+                action.run();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private boolean enterWaiters(String key, String waiterId) {
+        long now = System.currentTimeMillis();
+        Long entered = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE,
+                ENTER_WAITERS_SCRIPT, RScript.ReturnType.INTEGER, List.<Object>of(WAITERS_PREFIX + key),
+                String.valueOf(now), String.valueOf(maxWaiters + 1),
+                String.valueOf(now + WAITER_TTL_MILLIS), waiterId, String.valueOf(WAITER_TTL_MILLIS));
+        return entered != null && entered == 1L;
+    }
+
+    private void leaveWaiters(String key, String waiterId) {
+        try {
+            redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE,
+                    LEAVE_WAITERS_SCRIPT, RScript.ReturnType.INTEGER, List.<Object>of(WAITERS_PREFIX + key), waiterId);
+        } catch (Exception e) {
+            log.warn("분산락 대기자 제거 실패 (만료 시각 이후 정리): Key - {}, {}", key, e.getMessage());
+        }
+    }
+
+    private void recordLockResult(String key, boolean acquired) {
+        recordLockResult(key, acquired ? "acquired" : "conflict");
+    }
+
+    // 키 접두사(예: reserve:seat) 단위로 집계하여 태그 카디널리티를 제한
+    private void recordLockResult(String key, String result) {
+        String prefix = keyPrefix(key);
+        lockResultCounters.computeIfAbsent(result + ":" + prefix,
+                        ignored -> meterRegistry.counter(LOCK_ACQUIRE_METRIC, "result", result, "prefix", prefix))
+                .increment();
+    }
+
+    private Timer lockWaitTimer(String key) {
+        return lockWaitTimers.computeIfAbsent(keyPrefix(key), prefix -> Timer.builder(LOCK_WAIT_METRIC)
+                .description("분산락 획득까지 대기 시간")
+                .tag("prefix", prefix)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry));
+    }
+
+    private static String keyPrefix(String key) {
+        int separatorIndex = key.lastIndexOf(':');
+        return separatorIndex > 0 ? key.substring(0, separatorIndex) : key;
+    }
 }
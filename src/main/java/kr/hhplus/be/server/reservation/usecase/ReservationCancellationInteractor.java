@@ -1,21 +1,31 @@
 package kr.hhplus.be.server.reservation.usecase;
 
-import kr.hhplus.be.server.concert.domain.ConcertDate;
+import kr.hhplus.be.server.common.event.EventPublisher;
 import kr.hhplus.be.server.concert.domain.Seat;
-import kr.hhplus.be.server.concert.port.out.ConcertDateRepository;
+import kr.hhplus.be.server.concert.port.out.SeatCountCounterRepository;
 import kr.hhplus.be.server.concert.port.out.SeatRepository;
 import kr.hhplus.be.server.payment.domain.Payment;
 import kr.hhplus.be.server.payment.domain.enums.PaymentStatus;
 import kr.hhplus.be.server.payment.port.out.PaymentRepository;
+import kr.hhplus.be.server.reservation.domain.ExpiredReservation;
 import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationsExpiredEvent;
 import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
 import kr.hhplus.be.server.reservation.port.in.ReservationCancellationUseCase;
+import kr.hhplus.be.server.reservation.port.out.ReservationBulkExpiryRepository;
 import kr.hhplus.be.server.reservation.port.out.ReservationRepository;
+import kr.hhplus.be.server.reservation.port.out.SeatClaimRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -25,8 +35,12 @@ public class ReservationCancellationInteractor implements ReservationCancellatio
 
     private final ReservationRepository reservationRepository;
     private final SeatRepository seatRepository;
-    private final ConcertDateRepository concertDateRepository;
+    private final SeatCountCounterRepository seatCountCounterRepository;
     private final PaymentRepository paymentRepository;
+    private final SeatClaimRepository seatClaimRepository;
+    private final SeatFastRejectGuard seatFastRejectGuard;
+    private final ReservationBulkExpiryRepository reservationBulkExpiryRepository;
+    private final EventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -55,10 +69,41 @@ public class ReservationCancellationInteractor implements ReservationCancellatio
         Seat availableSeat = seat.expire();
         seatRepository.save(availableSeat);
 
-        // 4. 해당 날짜의 잔여 좌석 수 1 증가
-        ConcertDate concertDate = concertDateRepository.findById(seat.concertDateId()).orElseThrow();
-        ConcertDate updatedConcertDate = concertDate.increaseAvailableSeatCount();
-        concertDateRepository.save(updatedConcertDate);
+        // 4. 해당 날짜의 잔여 좌석 수 1 증가 (샤드 카운터에 누적)
+        seatCountCounterRepository.add(seat.concertDateId(), 1);
 
+        // 5. 커밋 이후 Redis 좌석 선점/상태 캐시 해제 (롤백되면 좌석이 DB에는 예약된 채로 다시 선점되지 않도록)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seatClaimRepository.release(seat.concertDateId(), seat.id(), reservationId);
+                seatFastRejectGuard.release(seat.id());
+            }
+        });
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public int cancelAllIfUnpaid(List<UUID> reservationIds) {
+        // 1. 결제/예약/좌석 일괄 만료 (PENDING 상태인 예약만 대상)
+        List<ExpiredReservation> expiredReservations =
+                reservationBulkExpiryRepository.expirePendingReservations(reservationIds, LocalDateTime.now());
+        if (expiredReservations.isEmpty()) return 0;
+
+        // 2. 콘서트 날짜별로 반환된 좌석 수를 합산하여 날짜당 한 번만 잔여 좌석 수 증가
+        Map<UUID, Integer> releasedSeatCounts = new LinkedHashMap<>();
+        expiredReservations.forEach(expired -> releasedSeatCounts.merge(expired.concertDateId(), 1, Integer::sum));
+        releasedSeatCounts.forEach(seatCountCounterRepository::add);
+
+        // 3. 커밋 이후 Redis 좌석 선점 해제 및 요약 이벤트 1건 발행
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seatClaimRepository.releaseAll(expiredReservations);
+                seatFastRejectGuard.releaseAll(expiredReservations.stream().map(ExpiredReservation::seatId).toList());
+                eventPublisher.publishIndependently(ReservationsExpiredEvent.from(expiredReservations, releasedSeatCounts));
+            }
+        });
+        return expiredReservations.size();
+    }
+}
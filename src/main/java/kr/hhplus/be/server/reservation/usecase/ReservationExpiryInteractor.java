@@ -0,0 +1,92 @@
+package kr.hhplus.be.server.reservation.usecase;
+
+import kr.hhplus.be.server.reservation.domain.ReservationExpiration;
+import kr.hhplus.be.server.reservation.port.in.ReservationCancellationUseCase;
+import kr.hhplus.be.server.reservation.port.in.ReservationExpiryUseCase;
+import kr.hhplus.be.server.reservation.port.out.ReservationExpiryQueueRepository;
+import kr.hhplus.be.server.reservation.port.out.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 예약 만료를 DB 주기 조회 대신 Redis 지연 큐로 처리합니다.
+ * 예약 생성 이벤트로 만료 시각을 등록하고, 만료 시각이 지난 예약만 꺼내 일괄 만료 처리하므로
+ * 좌석은 만료 후 약 1초 이내에 다시 예약 가능 상태가 됩니다.
+ * 꺼낸 예약은 만료 처리가 커밋된 뒤에야 큐에서 제거하므로, 처리 도중 인스턴스가 중단되어도 임대 시간이 지나면 다시 처리됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationExpiryInteractor implements ReservationExpiryUseCase {
+
+    private static final int POLL_SIZE = 200;            // 1회에 꺼낼 최대 만료 예약 수 (일괄 만료 청크 크기)
+    private static final long RETRY_DELAY_SECONDS = 5L;  // 만료 처리 실패 시 재시도까지 대기 시간
+    private static final long CLAIM_LEASE_SECONDS = 30L; // 꺼낸 예약을 다른 인스턴스가 다시 꺼내지 않는 시간 (커밋 전 중단 시 재처리까지 대기 시간)
+    private static final int REBUILD_PAGE_SIZE = 1000;   // 재구성 시 1회에 조회/등록하는 PENDING 예약 수
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(5); // 동시에 기동한 인스턴스 중 하나만 재구성
+
+    private final ReservationExpiryQueueRepository reservationExpiryQueueRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationCancellationUseCase reservationCancellationUseCase;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Override
+    public void schedule(UUID reservationId, LocalDateTime expiresAt) {
+        reservationExpiryQueueRepository.schedule(reservationId, expiresAt);
+    }
+
+    @Override
+    public int expireDueReservations() {
+        int expiredCount = 0;
+        List<UUID> dueIds;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            dueIds = reservationExpiryQueueRepository.claimDue(now, now.plusSeconds(CLAIM_LEASE_SECONDS), POLL_SIZE);
+            if (dueIds.isEmpty()) break;
+
+            try {
+                expiredCount += reservationCancellationUseCase.cancelAllIfUnpaid(dueIds);
+                reservationExpiryQueueRepository.acknowledge(dueIds); // 커밋된 뒤에만 제거 (제거 전 중단되어도 재처리는 PENDING 조건으로 무시됨)
+            } catch (Exception e) {
+                // 롤백되었으므로 임대 만료를 기다리지 않고 재시도 시각으로 다시 등록
+                log.error("예약 일괄 만료 처리 중 오류 발생. {}초 후 재시도. 예약 ID: {}", RETRY_DELAY_SECONDS, dueIds, e);
+                LocalDateTime retryAt = LocalDateTime.now().plusSeconds(RETRY_DELAY_SECONDS);
+                dueIds.forEach(id -> reservationExpiryQueueRepository.schedule(id, retryAt));
+                break;
+            }
+        } while (dueIds.size() == POLL_SIZE);
+        return expiredCount;
+    }
+
+    @Override
+    public int rebuild() {
+        if (!reservationExpiryQueueRepository.tryAcquireRebuild(nodeId, REBUILD_LOCK_TTL)) {
+            log.info("다른 인스턴스가 예약 만료 지연 큐를 재구성 중이므로 건너뜁니다.");
+            return 0;
+        }
+
+        try {
+            int scheduledCount = 0;
+            ReservationExpiration after = null;
+            List<ReservationExpiration> page;
+            do {
+                page = reservationRepository.findPendingReservationExpirations(after, REBUILD_PAGE_SIZE);
+                if (page.isEmpty()) break;
+
+                reservationExpiryQueueRepository.scheduleAllIfAbsent(page);
+                scheduledCount += page.size();
+                after = page.get(page.size() - 1);
+            } while (page.size() == REBUILD_PAGE_SIZE);
+            return scheduledCount;
+        } finally {
+            // 재구성이 끝나면 바로 해제하여 다음 보정 주기가 TTL을 기다리지 않고 실행되도록 함
+            reservationExpiryQueueRepository.releaseRebuild(nodeId);
+        }
+    }
+}
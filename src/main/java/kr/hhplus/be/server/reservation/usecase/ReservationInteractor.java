@@ -1,54 +1,65 @@
 package kr.hhplus.be.server.reservation.usecase;
 
-import kr.hhplus.be.server.common.event.EventPublisher;
 import kr.hhplus.be.server.common.exception.CustomException;
 import kr.hhplus.be.server.common.exception.ErrorCode;
 import kr.hhplus.be.server.common.util.DistributedLockKeyGenerator;
 import kr.hhplus.be.server.queue.domain.QueueToken;
 import kr.hhplus.be.server.queue.domain.QueueTokenUtil;
+import kr.hhplus.be.server.queue.port.in.SignedQueueTokenUseCase;
 import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
-import kr.hhplus.be.server.reservation.domain.ReservationCreatedEvent;
 import kr.hhplus.be.server.reservation.port.in.ReservationCreateInput;
 import kr.hhplus.be.server.reservation.port.in.ReserveSeatResult;
 import kr.hhplus.be.server.reservation.port.in.dto.CreateReservationResult;
 import kr.hhplus.be.server.reservation.port.in.dto.ReserveSeatCommand;
+import kr.hhplus.be.server.reservation.port.in.dto.ReserveSeatsCommand;
 import kr.hhplus.be.server.reservation.port.out.SeatHoldRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 좌석 예약 진입점
+ * 트랜잭션은 분산 락 안의 {@link CreateReservationManager}에서만 시작하여, 락 대기 동안 DB 커넥션을 점유하지 않고
+ * 락 해제 전에 커밋되도록 합니다. (예약생성 이벤트도 같은 트랜잭션에서 발행)
+ */
 @Component
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
 public class ReservationInteractor implements ReservationCreateInput {
 
     private final QueueTokenRepository queueTokenRepository;
     private final SeatHoldRepository seatHoldRepository;
-    private final EventPublisher eventPublisher;
     private final DistributedLockManager distributedLockManager;
     private final CreateReservationManager createReservationManager;
+    private final SignedQueueTokenUseCase signedQueueTokenUseCase;
+    private final SeatClaimReservationManager seatClaimReservationManager;
+    private final SeatFastRejectGuard seatFastRejectGuard;
 
     @Override
-    @Transactional
     public ReserveSeatResult reserveSeat(ReserveSeatCommand command) {
         // 1. 분산 락 획득 전 Redis 에서 좌석 잠금 상태 확인
-        QueueToken queueToken = getQueueTokenAndValid(command);
-        if(seatHoldRepository.isHoldSeat(command.seatId(),queueToken.userId())){
+        QueueToken queueToken = getQueueTokenAndValid(command.queueTokenId());
+        if(seatHoldRepository.isHoldSeat(command.concertDateId(), command.seatId(), queueToken.userId())){
             throw new CustomException(ErrorCode.ALREADY_RESERVED_SEAT, "이미 예약된 좌석입니다.");
         }
+        // 같은 좌석의 경쟁 요청은 분산 락 대기 없이 즉시 거절 (기본 모드에서 처음 진입한 요청만 락 획득 시도)
+        boolean writeBehind = seatClaimReservationManager.isEnabled();
+        if (!writeBehind && !seatFastRejectGuard.tryEnter(command.seatId())) {
+            throw new CustomException(ErrorCode.ALREADY_RESERVED_SEAT, "이미 예약 중이거나 예약된 좌석입니다.");
+        }
 
-        String lockKey = DistributedLockKeyGenerator.getReserveSeatLockKey(command.seatId());
         try {
-            // 2. 검증을 통과한 요청만 분산 락을 획득하고 핵심 로직을 실행
-            CreateReservationResult result = distributedLockManager.executeWithLockHasReturn(
-                    lockKey,
-                    () -> createReservationManager.processCreateReservation(command, queueToken)
-            );
-
-            // 3. 예약생성 이벤트 발행
-            eventPublisher.publish(ReservationCreatedEvent.from(result));
+            // 2. 검증을 통과한 요청만 좌석을 선점하고 핵심 로직을 실행
+            //    write-behind 모드: Redis 원자적 선점 후 DB 반영은 비동기 / 기본 모드: 분산 락 + DB 트랜잭션
+            CreateReservationResult result = writeBehind
+                    ? seatClaimReservationManager.processClaimReservation(command, queueToken)
+                    : reserveWithLock(command, queueToken);
+            // 예약생성 이벤트는 기본 모드에서는 예약 트랜잭션 안에서,
+            // write-behind 모드에서는 아직 DB에 예약이 없으므로 아웃박스 워커가 반영을 커밋한 뒤 발행
             return ReserveSeatResult.from(result);
         } catch (Exception e) {
             log.error("좌석 예약 처리 중 예외 발생. command: {}", command, e);
@@ -59,8 +70,80 @@ public class ReservationInteractor implements ReservationCreateInput {
         }
     }
 
-    private QueueToken getQueueTokenAndValid(ReserveSeatCommand command) throws CustomException {
-        QueueToken queueToken = queueTokenRepository.findQueueTokenByTokenId(command.queueTokenId());
+    @Override
+    public List<ReserveSeatResult> reserveSeats(ReserveSeatsCommand command) {
+        QueueToken queueToken = getQueueTokenAndValid(command.queueTokenId());
+        if (seatClaimReservationManager.isEnabled()) {
+            // write-behind 모드의 Redis 선점 스크립트는 좌석 1개 단위이므로 일괄 예약은 지원하지 않음
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "현재 모드에서는 여러 좌석 일괄 예약을 지원하지 않습니다.");
+        }
+        // 1. 분산 락 획득 전 Redis 에서 좌석 잠금 상태 확인 (단건 예약과 동일)
+        for (UUID seatId : command.seatIds()) {
+            if (seatHoldRepository.isHoldSeat(command.concertDateId(), seatId, queueToken.userId())) {
+                throw new CustomException(ErrorCode.ALREADY_RESERVED_SEAT, "이미 예약된 좌석이 포함되어 있습니다.");
+            }
+        }
+
+        // 2. 좌석 중 하나라도 다른 요청이 처리 중이거나 예약되어 있으면 락 대기 없이 즉시 거절
+        List<UUID> enteredSeatIds = new ArrayList<>();
+        for (UUID seatId : command.seatIds()) {
+            if (!seatFastRejectGuard.tryEnter(seatId)) {
+                seatFastRejectGuard.releaseAll(enteredSeatIds);
+                throw new CustomException(ErrorCode.ALREADY_RESERVED_SEAT, "이미 예약 중이거나 예약된 좌석이 포함되어 있습니다.");
+            }
+            enteredSeatIds.add(seatId);
+        }
+
+        try {
+            // 3. 좌석별 락을 정렬된 순서로 한 번에 획득(MultiLock)하고, 하나의 트랜잭션으로 모든 좌석 예약
+            List<String> lockKeys = command.seatIds().stream()
+                    .map(DistributedLockKeyGenerator::getReserveSeatLockKey)
+                    .toList();
+            List<CreateReservationResult> results = distributedLockManager.executeWithMultiLockHasReturn(
+                    lockKeys,
+                    () -> createReservationManager.processCreateReservations(command, queueToken)
+            );
+            command.seatIds().forEach(seatFastRejectGuard::markReserved);
+            return results.stream().map(ReserveSeatResult::from).toList();
+        } catch (Exception e) {
+            seatFastRejectGuard.releaseAll(enteredSeatIds);
+            log.error("여러 좌석 예약 처리 중 예외 발생. command: {}", command, e);
+            if (e instanceof CustomException) {
+                throw (CustomException) e;
+            }
+            throw new RuntimeException("좌석 예약에 실패했습니다.", e);
+        }
+    }
+
+    // 빠른 거절을 통과한 요청만 분산 락을 획득하고, 결과에 따라 좌석 상태 캐시를 갱신
+    private CreateReservationResult reserveWithLock(ReserveSeatCommand command, QueueToken queueToken) throws Exception {
+        UUID seatId = command.seatId();
+        String lockKey = DistributedLockKeyGenerator.getReserveSeatLockKey(seatId);
+        try {
+            CreateReservationResult result = distributedLockManager.executeWithLockHasReturn(
+                    lockKey,
+                    () -> createReservationManager.processCreateReservation(command, queueToken)
+            );
+            seatFastRejectGuard.markReserved(seatId);
+            return result;
+        } catch (CustomException e) {
+            // DB 기준 이미 예약된 좌석이면 이후 요청도 빠르게 거절, 그 외 실패는 좌석 상태 해제
+            if (e.getErrorCode() == ErrorCode.ALREADY_RESERVED_SEAT) {
+                seatFastRejectGuard.markReserved(seatId);
+            } else {
+                seatFastRejectGuard.release(seatId);
+            }
+            throw e;
+        } catch (Exception e) {
+            seatFastRejectGuard.release(seatId);
+            throw e;
+        }
+    }
+
+    private QueueToken getQueueTokenAndValid(String queueTokenId) throws CustomException {
+        // 서명 토큰이면 Redis 조회 없이 검증, 아니면 기존처럼 Redis에서 토큰 조회
+        QueueToken queueToken = signedQueueTokenUseCase.verify(queueTokenId)
+                .orElseGet(() -> queueTokenRepository.findQueueTokenByTokenId(queueTokenId));
         QueueTokenUtil.validateActiveQueueToken(queueToken);
         return queueToken;
     }
@@ -0,0 +1,88 @@
+package kr.hhplus.be.server.reservation.usecase;
+
+import kr.hhplus.be.server.common.event.EventPublisher;
+import kr.hhplus.be.server.concert.port.out.SeatCountCounterRepository;
+import kr.hhplus.be.server.reservation.domain.PendingReservation;
+import kr.hhplus.be.server.reservation.domain.ReservationCreatedEvent;
+import kr.hhplus.be.server.reservation.domain.ReservationOutboxEntry;
+import kr.hhplus.be.server.reservation.domain.WriteBehindResult;
+import kr.hhplus.be.server.reservation.port.in.FlushReservationOutboxUseCase;
+import kr.hhplus.be.server.reservation.port.out.ReservationOutboxRepository;
+import kr.hhplus.be.server.reservation.port.out.ReservationWriteBehindRepository;
+import kr.hhplus.be.server.reservation.port.out.SeatClaimRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 아웃박스에 기록된 예약을 배치 단위로 DB에 반영합니다.
+ * DB 트랜잭션이 커밋된 뒤에만 아웃박스 레코드를 확인 처리하므로, 실패 시 다음 주기에 같은 레코드를 다시 처리합니다.
+ */
+@Slf4j
+@Service
+public class ReservationWriteBehindInteractor implements FlushReservationOutboxUseCase {
+
+    private final ReservationOutboxRepository reservationOutboxRepository;
+    private final ReservationWriteBehindRepository reservationWriteBehindRepository;
+    private final SeatClaimRepository seatClaimRepository;
+    private final SeatCountCounterRepository seatCountCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EventPublisher eventPublisher;
+    private final int batchSize;
+
+    public ReservationWriteBehindInteractor(ReservationOutboxRepository reservationOutboxRepository,
+                                            ReservationWriteBehindRepository reservationWriteBehindRepository,
+                                            SeatClaimRepository seatClaimRepository,
+                                            SeatCountCounterRepository seatCountCounterRepository,
+                                            TransactionTemplate transactionTemplate,
+                                            EventPublisher eventPublisher,
+                                            @Value("${reservation.write-behind.batch-size:200}") int batchSize) {
+        this.reservationOutboxRepository = reservationOutboxRepository;
+        this.reservationWriteBehindRepository = reservationWriteBehindRepository;
+        this.seatClaimRepository = seatClaimRepository;
+        this.seatCountCounterRepository = seatCountCounterRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public int flush() {
+        List<ReservationOutboxEntry> entries = reservationOutboxRepository.read(batchSize);
+        if (entries.isEmpty()) return 0;
+
+        WriteBehindResult result = transactionTemplate.execute(status -> {
+            WriteBehindResult saveResult = reservationWriteBehindRepository.saveAll(
+                    entries.stream().map(ReservationOutboxEntry::pendingReservation).toList());
+
+            // 반영된 예약 수를 콘서트 날짜별로 합산하여 날짜당 한 번만 샤드 카운터에 누적
+            Map<UUID, Integer> reservedSeatCounts = new LinkedHashMap<>();
+            saveResult.saved().forEach(saved -> reservedSeatCounts.merge(saved.concertDateId(), 1, Integer::sum));
+            reservedSeatCounts.forEach((concertDateId, count) -> seatCountCounterRepository.add(concertDateId, -count));
+            return saveResult;
+        });
+
+        // DB에 반영이 커밋된 예약만 예약생성 이벤트 발행 (좌석 hold, 만료 지연 큐 등록)
+        // 이전 전달에서 반영 후 확인 처리 전에 중단된 예약도 이벤트가 발행되지 않았을 수 있으므로 다시 발행 (컨슈머는 멱등 처리)
+        result.saved().forEach(saved -> eventPublisher.publish(ReservationCreatedEvent.from(saved)));
+        result.alreadySaved().forEach(saved -> eventPublisher.publish(ReservationCreatedEvent.from(saved)));
+        reservationOutboxRepository.acknowledge(entries.stream().map(ReservationOutboxEntry::entryId).toList());
+
+        // DB 기준으로 이미 예약된 좌석을 선점한 예약은 실패 처리되었으므로 Redis 선점 해제
+        for (PendingReservation rejected : result.rejected()) {
+            log.warn("[write-behind] 좌석이 이미 예약되어 예약을 실패 처리합니다. reservationId: {}, seatId: {}",
+                    rejected.reservation().id(), rejected.reservation().seatId());
+            seatClaimRepository.release(rejected.concertDateId(), rejected.reservation().seatId(), rejected.reservation().id());
+        }
+
+        log.debug("[write-behind] 아웃박스 {}건 처리, 신규 예약 {}건 반영, 재전달 {}건, 실패 {}건",
+                entries.size(), result.saved().size(), result.alreadySaved().size(), result.rejected().size());
+        return entries.size();
+    }
+}
@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.reservation.usecase;
+
+import kr.hhplus.be.server.common.aop.bulkhead.BlockingCallBulkhead;
+import kr.hhplus.be.server.common.exception.CustomException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertDate;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.port.out.ConcertDateRepository;
+import kr.hhplus.be.server.concert.port.out.ConcertRepository;
+import kr.hhplus.be.server.concert.port.out.SeatRepository;
+import kr.hhplus.be.server.payment.domain.Payment;
+import kr.hhplus.be.server.payment.domain.enums.PaymentStatus;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.reservation.domain.PendingReservation;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.enums.SeatClaimResult;
+import kr.hhplus.be.server.reservation.port.in.dto.CreateReservationResult;
+import kr.hhplus.be.server.reservation.port.in.dto.ReservationDomainResult;
+import kr.hhplus.be.server.reservation.port.in.dto.ReserveSeatCommand;
+import kr.hhplus.be.server.reservation.port.out.SeatClaimRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 우선 좌석 예약 (reservation.write-behind.enabled)
+ * 좌석 선점 여부를 Redis Lua CAS 한 번으로 확정하고, DB 반영(예약/결제 INSERT, 좌석/잔여 좌석 수 UPDATE)은
+ * 같은 스크립트에서 기록한 아웃박스를 write-behind 워커가 배치로 처리합니다.
+ * 분산락과 DB 트랜잭션 없이 처리되므로 좌석 경합 구간이 Redis 호출 1회로 줄어듭니다.
+ */
+@Slf4j
+@Component
+public class SeatClaimReservationManager {
+
+    private static final long CLAIM_RETAIN_DAYS = 1L; // 공연 일시 이후 선점 정보 보관 기간
+
+    private final SeatClaimRepository seatClaimRepository;
+    private final ConcertRepository concertRepository;
+    private final ConcertDateRepository concertDateRepository;
+    private final SeatRepository seatRepository;
+    private final ReservationDomainService reservationDomainService;
+    private final boolean enabled;
+
+    public SeatClaimReservationManager(SeatClaimRepository seatClaimRepository,
+                                       ConcertRepository concertRepository,
+                                       ConcertDateRepository concertDateRepository,
+                                       SeatRepository seatRepository,
+                                       ReservationDomainService reservationDomainService,
+                                       @Value("${reservation.write-behind.enabled:false}") boolean enabled) {
+        this.seatClaimRepository = seatClaimRepository;
+        this.concertRepository = concertRepository;
+        this.concertDateRepository = concertDateRepository;
+        this.seatRepository = seatRepository;
+        this.reservationDomainService = reservationDomainService;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @BlockingCallBulkhead // 락 없이 DB 조회만 하므로 조회 구간의 커넥션 사용 수만 제한
+    public CreateReservationResult processClaimReservation(ReserveSeatCommand command, QueueToken queueToken) throws CustomException {
+        Concert concert = concertRepository.findById(command.concertId())
+                .orElseThrow(() -> new CustomException(ErrorCode.CONCERT_NOT_FOUND));
+        ConcertDate concertDate = concertDateRepository.findById(command.concertDateId())
+                .orElseThrow(() -> new CustomException(ErrorCode.CONCERT_DATE_NOT_FOUND));
+        Seat seat = seatRepository.findBySeatIdAndConcertDateId(command.seatId(), command.concertDateId())
+                .orElseThrow(() -> new CustomException(ErrorCode.SEAT_NOT_FOUND));
+
+        // 공연 오픈/마감/좌석 상태 검증은 기존 도메인 서비스 그대로 사용
+        ReservationDomainResult result = reservationDomainService.processReservation(concert, concertDate, seat, queueToken.userId());
+
+        // DB 반영 전에 응답할 수 있도록 예약/결제 ID를 미리 발급
+        Reservation reservation = result.reservation().toBuilder()
+                .id(UUID.randomUUID())
+                .build();
+        Payment payment = Payment.builder()
+                .id(UUID.randomUUID())
+                .userId(queueToken.userId())
+                .reservationId(reservation.id())
+                .amount(seat.price())
+                .status(PaymentStatus.PENDING)
+                .createdAt(reservation.createdAt())
+                .updatedAt(reservation.createdAt())
+                .build();
+        PendingReservation pendingReservation = new PendingReservation(concertDate.id(), reservation, payment);
+
+        SeatClaimResult claimResult = seatClaimRepository.claim(pendingReservation);
+        if (claimResult == SeatClaimResult.NOT_LOADED) {
+            loadSeatClaims(concertDate);
+            claimResult = seatClaimRepository.claim(pendingReservation);
+        }
+        if (claimResult != SeatClaimResult.CLAIMED) {
+            throw new CustomException(ErrorCode.ALREADY_RESERVED_SEAT);
+        }
+
+        return new CreateReservationResult(reservation, payment, result.seat(), result.concertDate(), queueToken.userId());
+    }
+
+    // 콘서트 날짜의 첫 예약 시 DB 기준 예약 불가 좌석을 Redis에 적재
+    private void loadSeatClaims(ConcertDate concertDate) {
+        List<UUID> unavailableSeatIds = seatRepository.findByConcertDateId(concertDate.id()).stream()
+                .filter(seat -> !seat.isAvailable())
+                .map(Seat::id)
+                .toList();
+        seatClaimRepository.load(concertDate.id(), unavailableSeatIds, concertDate.date().plusDays(CLAIM_RETAIN_DAYS));
+        log.info("콘서트 날짜 ID {}: 예약 불가 좌석 {}개 Redis 적재", concertDate.id(), unavailableSeatIds.size());
+    }
+}
@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.reservation.usecase;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.reservation.port.out.SeatStateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌석 예약 빠른 거절 (reservation.fast-reject.enabled)
+ * 같은 좌석에 대한 요청 중 처음 도착한 요청만 분산 락으로 진입시키고, 나머지는 락 대기(최대 3초) 없이 즉시 거절합니다.
+ * - 1차: 로컬 메모리 - 이 노드에서 이미 선점된 것으로 확인한 좌석 (짧은 TTL)
+ * - 2차: Redis 좌석 상태 - SET NX로 처리 중/예약됨 상태를 원자적으로 기록
+ * 예약 성공 시 예약됨 상태로 전환하고, 예약 실패/만료/결제 실패 시 상태를 삭제합니다.
+ */
+@Slf4j
+@Component
+public class SeatFastRejectGuard {
+
+    private static final Duration PENDING_TTL = Duration.ofSeconds(15);      // 처리 중 상태 유지 시간 (락 유지 시간 + 여유)
+    private static final Duration RESERVED_TTL = Duration.ofMinutes(6);      // 예약됨 상태 유지 시간 (임시 배정 5분 + 여유)
+    private static final long LOCAL_TTL_NANOS = Duration.ofMillis(500).toNanos(); // 로컬 거절 캐시 유지 시간
+    private static final int LOCAL_MAX_SIZE = 100_000;
+
+    private static final String FAST_REJECT_METRIC = "reservation.fast.reject";
+
+    private final SeatStateRepository seatStateRepository;
+    private final boolean enabled;
+    // 거절마다 레지스트리 조회가 일어나지 않도록 계층별 카운터를 미리 등록
+    private final Counter localRejectCounter;
+    private final Counter redisRejectCounter;
+
+    private final Map<UUID, Long> takenSeats = new ConcurrentHashMap<>(); // seatId -> 로컬 거절 만료 시각 (nanoTime)
+
+    public SeatFastRejectGuard(SeatStateRepository seatStateRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${reservation.fast-reject.enabled:true}") boolean enabled) {
+        this.seatStateRepository = seatStateRepository;
+        this.enabled = enabled;
+        this.localRejectCounter = meterRegistry.counter(FAST_REJECT_METRIC, "layer", "local");
+        this.redisRejectCounter = meterRegistry.counter(FAST_REJECT_METRIC, "layer", "redis");
+    }
+
+    /**
+     * 좌석 예약 처리에 진입할 수 있는지 확인합니다.
+     * @return 진입 가능하면 true, 이미 다른 요청이 처리 중이거나 예약된 좌석이면 false
+     */
+    public boolean tryEnter(UUID seatId) {
+        if (!enabled) return true;
+
+        Long localExpiresAt = takenSeats.get(seatId);
+        if (localExpiresAt != null) {
+            if (System.nanoTime() - localExpiresAt < 0) {
+                localRejectCounter.increment();
+                return false;
+            }
+            takenSeats.remove(seatId, localExpiresAt);
+        }
+
+        try {
+            if (seatStateRepository.tryOccupy(seatId, PENDING_TTL)) return true;
+        } catch (Exception e) {
+            // 캐시 장애 시에는 기존처럼 분산 락과 DB 검증에 맡김
+            log.warn("좌석 상태 캐시 조회 실패, 분산 락으로 진행. seatId: {} - {}", seatId, e.getMessage());
+            return true;
+        }
+
+        rememberTaken(seatId);
+        redisRejectCounter.increment();
+        return false;
+    }
+
+    // 예약 성공 또는 DB 기준 이미 예약된 좌석으로 확인된 경우
+    public void markReserved(UUID seatId) {
+        if (!enabled) return;
+        rememberTaken(seatId);
+        runQuietly(() -> seatStateRepository.markReserved(seatId, RESERVED_TTL));
+    }
+
+    // 예약 처리 실패 (좌석은 여전히 예약 가능)
+    public void release(UUID seatId) {
+        releaseAll(List.of(seatId));
+    }
+
+    // 예약 만료/결제 실패로 좌석이 다시 예약 가능해진 경우
+    public void releaseAll(Collection<UUID> seatIds) {
+        if (!enabled || seatIds.isEmpty()) return;
+        seatIds.forEach(takenSeats::remove);
+        runQuietly(() -> seatStateRepository.releaseAll(seatIds));
+    }
+
+    private void rememberTaken(UUID seatId) {
+        if (takenSeats.size() >= LOCAL_MAX_SIZE) {
+            takenSeats.clear(); // 단순 상한 처리 (엔트리는 모두 짧은 TTL의 거절 힌트)
+        }
+        takenSeats.put(seatId, System.nanoTime() + LOCAL_TTL_NANOS);
+    }
+
+    private void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.warn("좌석 상태 캐시 갱신 실패 - {}", e.getMessage());
+        }
+    }
+}
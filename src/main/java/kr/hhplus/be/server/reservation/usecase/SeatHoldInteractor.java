@@ -1,27 +1,34 @@
 package kr.hhplus.be.server.reservation.usecase;
 
 
+import kr.hhplus.be.server.reservation.port.in.SeatHoldQueryUseCase;
 import kr.hhplus.be.server.reservation.port.in.SeatHoldReleaseUseCase;
 import kr.hhplus.be.server.reservation.port.in.SeatHoldUseCase;
 import kr.hhplus.be.server.reservation.port.out.SeatHoldRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-public class SeatHoldInteractor implements SeatHoldUseCase, SeatHoldReleaseUseCase {
+public class SeatHoldInteractor implements SeatHoldUseCase, SeatHoldReleaseUseCase, SeatHoldQueryUseCase {
 
     private final SeatHoldRepository seatHoldRepository;
 
     @Override
-    public void hold(UUID seatId, UUID userId) {
-        seatHoldRepository.hold(seatId, userId);
+    public void hold(UUID concertDateId, UUID seatId, UUID userId) {
+        seatHoldRepository.hold(concertDateId, seatId, userId);
     }
 
     @Override
-    public void releaseHold(UUID seatId, UUID userId) {
-        seatHoldRepository.deleteHold(seatId, userId);
+    public void releaseHold(UUID concertDateId, UUID seatId, UUID userId) {
+        seatHoldRepository.deleteHold(concertDateId, seatId, userId);
+    }
+
+    @Override
+    public Set<UUID> findHeldSeatIds(UUID concertDateId) {
+        return seatHoldRepository.findHeldSeats(concertDateId).keySet();
     }
 }
@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.user.adapter.out.persistence;
+
+import kr.hhplus.be.server.user.domain.PointHistory;
+import kr.hhplus.be.server.user.port.out.PointHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * 포인트 변경 내역 저장
+ * (payment_id, type) 유니크 제약으로, 재전달된 결제 실패 이벤트가 같은 결제를 두 번 환불하지 않도록 합니다.
+ * INSERT IGNORE는 중복 키 외의 오류(외래 키, 값 잘림 등)까지 경고로 바꾸어 내역 누락을 숨기므로,
+ * 일반 INSERT를 사용하고 중복 키 오류만 "이미 저장됨"으로 처리합니다.
+ * (ON DUPLICATE KEY UPDATE는 드라이버 기본 설정(found rows)에서 신규/중복 모두 1을 반환하여 구분할 수 없습니다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcPointHistoryRepository implements PointHistoryRepository {
+
+    // hibernate.jdbc.time_zone(UTC)과 동일한 기준으로 시간 값을 저장
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private static final String INSERT_POINT_HISTORY_SQL = """
+            INSERT INTO POINT_HISTORY (id, user_id, type, amount, payment_id, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean save(PointHistory pointHistory) {
+        try {
+            jdbcTemplate.update(INSERT_POINT_HISTORY_SQL, ps -> {
+                ps.setString(1, pointHistory.id().toString());
+                ps.setString(2, pointHistory.userId().toString());
+                ps.setString(3, pointHistory.type().name());
+                ps.setBigDecimal(4, pointHistory.amount());
+                ps.setString(5, pointHistory.paymentId() != null ? pointHistory.paymentId().toString() : null);
+                ps.setTimestamp(6, Timestamp.valueOf(pointHistory.createdAt()), Calendar.getInstance(UTC));
+            });
+            return true;
+        } catch (DuplicateKeyException e) {
+            // MySQL은 중복 키 오류 시 해당 문장만 롤백하므로 호출한 트랜잭션은 계속 진행할 수 있음
+            return false;
+        }
+    }
+}
@@ -15,4 +15,8 @@ public interface JpaUserRepository extends JpaRepository<UserEntity, String> {
     @Modifying
     @Query("UPDATE UserEntity u SET u.amount = u.amount + :amount WHERE u.id = :userId")
     int chargePoint(@Param("userId") String userId, @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.amount = u.amount - :amount WHERE u.id = :userId AND u.amount >= :amount")
+    int deductPoint(@Param("userId") String userId, @Param("amount") BigDecimal amount);
 }
\ No newline at end of file
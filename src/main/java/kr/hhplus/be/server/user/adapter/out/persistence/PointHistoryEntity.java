@@ -0,0 +1,56 @@
+package kr.hhplus.be.server.user.adapter.out.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import kr.hhplus.be.server.user.domain.enums.PointHistoryType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 변경 내역 (감사용 원장)
+ * (저장은 JdbcPointHistoryRepository의 네이티브 INSERT로만 수행하며, 이 엔티티는 스키마 정의용입니다)
+ */
+@Entity
+@Table(name = "POINT_HISTORY",
+        indexes = @Index(name = "idx_point_history_user_created", columnList = "user_id, created_at"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_point_history_payment_type", columnNames = {"payment_id", "type"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class PointHistoryEntity {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "user_id", length = 36, nullable = false)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 10, nullable = false)
+    private PointHistoryType type;
+
+    @Column(name = "amount", precision = 10, nullable = false)
+    private BigDecimal amount;
+
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "payment_id", length = 36)
+    private String paymentId; // 충전 내역은 null
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
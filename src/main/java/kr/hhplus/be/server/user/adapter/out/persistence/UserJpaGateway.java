@@ -2,23 +2,36 @@ package kr.hhplus.be.server.user.adapter.out.persistence;
 
 import kr.hhplus.be.server.user.domain.User;
 import kr.hhplus.be.server.user.port.out.UserRepository;
-import lombok.RequiredArgsConstructor;
+import kr.hhplus.be.server.common.cache.LocalExistenceCache;
+import kr.hhplus.be.server.common.cache.LocalExistenceCacheManager;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class UserJpaGateway implements UserRepository {
 
+    private static final String EXISTENCE_CACHE_NAME = "user";
+
     private final JpaUserRepository jpaUserRepository;
+    private final LocalExistenceCacheManager existenceCacheManager;
+    private final LocalExistenceCache<UUID> existenceCache;
+
+    public UserJpaGateway(JpaUserRepository jpaUserRepository, LocalExistenceCacheManager existenceCacheManager) {
+        this.jpaUserRepository = jpaUserRepository;
+        this.existenceCacheManager = existenceCacheManager;
+        this.existenceCache = existenceCacheManager.create(EXISTENCE_CACHE_NAME, 100_000, Duration.ofMinutes(10), Duration.ofSeconds(3));
+    }
 
     @Override
     public User save(User user) {
         UserEntity userEntity = UserEntity.from(user);
-        return jpaUserRepository.save(userEntity).toDomain();
+        User savedUser = jpaUserRepository.save(userEntity).toDomain();
+        existenceCacheManager.markPresent(EXISTENCE_CACHE_NAME, savedUser.id());
+        return savedUser;
     }
 
     @Override
@@ -29,7 +42,7 @@ public class UserJpaGateway implements UserRepository {
 
     @Override
     public boolean existsById(UUID userId) {
-        return jpaUserRepository.existsById(userId.toString());
+        return existenceCache.exists(userId, id -> jpaUserRepository.existsById(id.toString()));
     }
 
     @Override
@@ -37,9 +50,15 @@ public class UserJpaGateway implements UserRepository {
         return jpaUserRepository.chargePoint(userId.toString(), amount);
     }
 
+    @Override
+    public int deductPoint(UUID userId, BigDecimal amount) {
+        return jpaUserRepository.deductPoint(userId.toString(), amount);
+    }
+
     @Override
     public void deleteAll() {
         jpaUserRepository.deleteAll();
+        existenceCacheManager.invalidateAll(EXISTENCE_CACHE_NAME);
     }
 
 
@@ -0,0 +1,29 @@
+package kr.hhplus.be.server.user.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import kr.hhplus.be.server.user.domain.enums.PointHistoryType;
+import lombok.Builder;
+
+@Builder
+public record PointHistory(
+        UUID id,
+        UUID userId,
+        PointHistoryType type,
+        BigDecimal amount,
+        UUID paymentId, // 충전 내역은 null
+        LocalDateTime createdAt
+) {
+    public static PointHistory of(UUID userId, PointHistoryType type, BigDecimal amount, UUID paymentId) {
+        return PointHistory.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .type(type)
+                .amount(amount)
+                .paymentId(paymentId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.user.domain.enums;
+
+public enum PointHistoryType {
+    CHARGE,  // 포인트 충전
+    USE,     // 결제 사용
+    REFUND   // 결제 실패 환불
+}
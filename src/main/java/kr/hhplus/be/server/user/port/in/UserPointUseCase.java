@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.user.port.in;
+
+import kr.hhplus.be.server.common.exception.CustomException;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 사용자 잔액 변경 (충전/결제 차감/환불)
+ * 호출한 트랜잭션 안에서 잔액과 포인트 내역을 함께 변경합니다.
+ */
+public interface UserPointUseCase {
+    void charge(UUID userId, BigDecimal amount) throws CustomException;
+
+    /**
+     * 잔액이 amount 이상인 경우에만 차감합니다.
+     * @throws CustomException 잔액 부족 시 INSUFFICIENT_BALANCE
+     */
+    void use(UUID userId, UUID paymentId, BigDecimal amount) throws CustomException;
+
+    /**
+     * 같은 결제에 대한 환불 내역이 이미 있으면 잔액을 다시 늘리지 않습니다. (이벤트 재전달)
+     */
+    void refund(UUID userId, UUID paymentId, BigDecimal amount) throws CustomException;
+}
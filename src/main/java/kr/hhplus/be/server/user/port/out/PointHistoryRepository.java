@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.user.port.out;
+
+import kr.hhplus.be.server.user.domain.PointHistory;
+
+public interface PointHistoryRepository {
+    /**
+     * 포인트 변경 내역을 저장합니다.
+     * @return 저장 여부 (같은 결제에 대한 같은 유형의 내역이 이미 있으면 false)
+     */
+    boolean save(PointHistory pointHistory);
+}
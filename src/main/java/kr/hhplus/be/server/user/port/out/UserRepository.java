@@ -12,6 +12,7 @@ public interface UserRepository {
 
     boolean existsById(UUID userId);
     int chargePoint(UUID userId, BigDecimal amount);
+    int deductPoint(UUID userId, BigDecimal amount); // 잔액이 충분한 경우에만 차감 (1: 성공, 0: 잔액 부족)
 
     void deleteAll();
 }
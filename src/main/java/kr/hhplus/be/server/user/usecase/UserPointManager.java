@@ -0,0 +1,63 @@
+package kr.hhplus.be.server.user.usecase;
+
+import kr.hhplus.be.server.common.exception.CustomException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.user.domain.PointHistory;
+import kr.hhplus.be.server.user.domain.enums.PointHistoryType;
+import kr.hhplus.be.server.user.port.in.UserPointUseCase;
+import kr.hhplus.be.server.user.port.out.PointHistoryRepository;
+import kr.hhplus.be.server.user.port.out.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 사용자 잔액 변경
+ * 사용자를 조회해 메모리에서 계산한 뒤 저장하는 대신 원자적 UPDATE(amount ± x)로 변경하므로,
+ * 같은 사용자의 충전/결제가 분산락 없이 동시에 실행되어도 갱신 손실이 발생하지 않습니다.
+ * 모든 변경은 호출한 트랜잭션 안에서 포인트 내역(POINT_HISTORY)과 함께 기록됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPointManager implements UserPointUseCase {
+
+    private final UserRepository userRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    @Override
+    @Transactional
+    public void charge(UUID userId, BigDecimal amount) throws CustomException {
+        if (userRepository.chargePoint(userId, amount) == 0)
+            throw new CustomException(ErrorCode.CHARGE_FAILED);
+
+        pointHistoryRepository.save(PointHistory.of(userId, PointHistoryType.CHARGE, amount, null));
+    }
+
+    // 잔액이 결제 금액 이상인 경우에만 차감
+    @Override
+    @Transactional
+    public void use(UUID userId, UUID paymentId, BigDecimal amount) throws CustomException {
+        if (userRepository.deductPoint(userId, amount) == 0)
+            throw new CustomException(ErrorCode.INSUFFICIENT_BALANCE);
+
+        pointHistoryRepository.save(PointHistory.of(userId, PointHistoryType.USE, amount, paymentId));
+    }
+
+    // 같은 결제에 대한 환불 내역이 이미 있으면 (이벤트 재전달) 잔액을 다시 늘리지 않음
+    @Override
+    @Transactional
+    public void refund(UUID userId, UUID paymentId, BigDecimal amount) throws CustomException {
+        if (!pointHistoryRepository.save(PointHistory.of(userId, PointHistoryType.REFUND, amount, paymentId))) {
+            log.info("이미 환불된 결제입니다. PaymentId: {}", paymentId);
+            return;
+        }
+
+        if (userRepository.chargePoint(userId, amount) == 0)
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+    }
+}
@@ -3,6 +3,7 @@ package kr.hhplus.be.server.user.usecase;
 import kr.hhplus.be.server.common.exception.CustomException;
 import kr.hhplus.be.server.common.exception.ErrorCode;
 import kr.hhplus.be.server.user.domain.User;
+import kr.hhplus.be.server.user.port.in.UserPointUseCase;
 import kr.hhplus.be.server.user.port.out.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +22,7 @@ public class UserService {
     private static final BigDecimal MIN_CHARGE_POINT = BigDecimal.valueOf(1000);
 
     private final UserRepository userRepository;
+    private final UserPointUseCase userPointUseCase;
 
     // 유저 생성
     @Transactional
@@ -44,12 +46,8 @@ public class UserService {
             throw new CustomException(ErrorCode.NOT_ENOUGH_MIN_CHARGE_POINT);
         }
 
-        // 2. 업데이트 (락 시간 최소화)
-        int updatedRows = userRepository.chargePoint(userId, point);
-
-        if (updatedRows == 0) {
-            throw new CustomException(ErrorCode.CHARGE_FAILED);
-        }
+        // 2. 원자적 업데이트 및 포인트 내역 기록 (락 시간 최소화)
+        userPointUseCase.charge(userId, point);
 
         // 3. 결과 반환
         return userRepository.findById(userId).orElseThrow();
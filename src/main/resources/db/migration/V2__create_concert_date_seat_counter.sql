@@ -0,0 +1,13 @@
+-- ====================================================================================
+-- CONCERT_DATE_SEAT_COUNTER 테이블: 예약 가능 좌석 수 분산 카운터
+-- 예약/취소 시 CONCERT_DATE 행 대신 임의의 샤드 행에 변경분을 누적하고, 주기적으로 CONCERT_DATE에 합산합니다.
+-- ====================================================================================
+CREATE TABLE CONCERT_DATE_SEAT_COUNTER (
+    id VARCHAR(40) NOT NULL COMMENT '{콘서트 날짜 UUID}:{샤드 번호}',
+    concert_date_id VARCHAR(36) NOT NULL COMMENT '콘서트 날짜 UUID',
+    shard INT NOT NULL COMMENT '샤드 번호',
+    delta BIGINT NOT NULL DEFAULT 0 COMMENT '아직 반영되지 않은 예약 가능 좌석 수 변경분',
+    PRIMARY KEY (id)
+) COMMENT '예약 가능 좌석 수 분산 카운터 테이블';
+
+CREATE INDEX idx_seat_counter_concert_date ON CONCERT_DATE_SEAT_COUNTER (concert_date_id);
@@ -0,0 +1,16 @@
+-- ====================================================================================
+-- POINT_HISTORY 테이블: 포인트 충전/사용/환불 내역 (감사용 원장)
+-- 잔액 변경은 USERS.amount에 대한 조건부 UPDATE로 수행하고, 같은 트랜잭션에서 내역을 기록합니다.
+-- ====================================================================================
+CREATE TABLE POINT_HISTORY (
+    id VARCHAR(36) NOT NULL COMMENT '내역 UUID',
+    user_id VARCHAR(36) NOT NULL COMMENT '사용자 UUID',
+    type VARCHAR(10) NOT NULL COMMENT '유형 (CHARGE, USE, REFUND)',
+    amount DECIMAL(10, 0) NOT NULL COMMENT '변경 금액',
+    payment_id VARCHAR(36) NULL COMMENT '결제 UUID (충전 내역은 NULL)',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_point_history_payment_type (payment_id, type)
+) COMMENT '포인트 변경 내역 테이블';
+
+CREATE INDEX idx_point_history_user_created ON POINT_HISTORY (user_id, created_at);
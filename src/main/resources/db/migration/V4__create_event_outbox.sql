@@ -0,0 +1,22 @@
+-- ====================================================================================
+-- EVENT_OUTBOX 테이블: 도메인 이벤트 아웃박스
+-- 이벤트는 비즈니스 변경과 같은 트랜잭션에서 기록되고, 릴레이가 id 순으로 임대(lease)하여 트랜잭션 밖에서 배치 전송한 뒤 sent_at을 일괄 갱신합니다.
+-- ====================================================================================
+CREATE TABLE EVENT_OUTBOX (
+    id BIGINT NOT NULL AUTO_INCREMENT COMMENT '아웃박스 ID (전송 순서)',
+    topic VARCHAR(100) NOT NULL COMMENT '카프카 토픽',
+    message_key VARCHAR(100) NULL COMMENT '카프카 메시지 키',
+    event_type VARCHAR(255) NOT NULL COMMENT '이벤트 클래스 이름 (__TypeId__ 헤더)',
+    payload TEXT NOT NULL COMMENT '이벤트 JSON',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    sent_at TIMESTAMP NULL COMMENT '전송일시 (미전송은 NULL)',
+    lease_owner VARCHAR(64) NULL COMMENT '전송 중인 릴레이 인스턴스',
+    lease_until TIMESTAMP NULL COMMENT '임대 만료일시 (지나면 다른 릴레이가 다시 전송)',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '전송 실패 횟수',
+    last_error VARCHAR(500) NULL COMMENT '마지막 전송 실패 사유',
+    parked_at TIMESTAMP NULL COMMENT '격리일시 (실패 횟수 초과, 격리된 레코드는 전송하지 않음)',
+    PRIMARY KEY (id)
+) COMMENT '이벤트 아웃박스 테이블';
+
+CREATE INDEX idx_event_outbox_sent_id ON EVENT_OUTBOX (sent_at, id);
+CREATE INDEX idx_event_outbox_key_id ON EVENT_OUTBOX (message_key, id);
@@ -0,0 +1,7 @@
+-- ====================================================================================
+-- CONCERT_DATE_SEAT_COUNTER 폴딩 조회용 인덱스
+-- 폴딩은 delta <> 0인 행을 concert_date_id 순으로 잠그므로, (concert_date_id, delta) 인덱스만으로 조회합니다.
+-- (InnoDB 보조 인덱스에는 PK(id)가 포함되어 테이블 행을 읽지 않습니다)
+-- ====================================================================================
+DROP INDEX idx_seat_counter_concert_date ON CONCERT_DATE_SEAT_COUNTER;
+CREATE INDEX idx_seat_counter_concert_date_delta ON CONCERT_DATE_SEAT_COUNTER (concert_date_id, delta);
@@ -0,0 +1,31 @@
+-- 좌석 선점(CAS)과 write-behind 아웃박스 기록을 단일 호출로 처리하는 스크립트
+-- 좌석 선점 여부는 콘서트 날짜별 Hash(field: seatId, value: reservationId)로 판단한다.
+--
+-- KEYS[1]: seatClaimKey  (e.g., "seat:claim:{concertDateId}")
+-- KEYS[2]: outboxKey     ("reservation:outbox", DB 반영 대기 Stream)
+-- ARGV[1]: seatId
+-- ARGV[2]: reservationId
+-- ARGV[3..]: 아웃박스 레코드 field, value 쌍
+--
+-- 반환값: 1 선점 성공, 0 이미 선점된 좌석, -1 DB 좌석 상태가 아직 적재되지 않음
+
+local seatClaimKey = KEYS[1]
+local outboxKey = KEYS[2]
+
+-- 1. 콘서트 날짜의 좌석 상태가 적재되지 않았다면 애플리케이션에서 적재 후 재시도
+if redis.call('HEXISTS', seatClaimKey, '__loaded') == 0 then
+    return -1
+end
+
+-- 2. 비어있는 좌석만 선점 (compare-and-set)
+if redis.call('HSETNX', seatClaimKey, ARGV[1], ARGV[2]) == 0 then
+    return 0
+end
+
+-- 3. 선점과 같은 원자적 단위로 DB 반영 대기 레코드 기록
+local fields = {}
+for i = 3, #ARGV do
+    fields[#fields + 1] = ARGV[i]
+end
+redis.call('XADD', outboxKey, '*', unpack(fields))
+return 1
@@ -0,0 +1,90 @@
+-- 대기열 토큰 발급을 단일 호출로 처리하는 스크립트
+-- (중복 발급 확인 -> 활성/대기 판단 -> 토큰 저장 -> ZSET 등록 -> TTL 설정 -> 대기 순번 계산)
+-- 토큰은 압축 포맷(qt:{tokenId} Hash, ZSET member = tokenId 22자)으로 저장한다.
+--
+-- KEYS[1]: userTokenKey      (e.g., "qu:{concertId}:{userId}", base64url)
+-- KEYS[2]: tokenKey          (e.g., "qt:{newTokenId}", base64url)
+-- KEYS[3]: activeTokenKey    (e.g., "queue:active:{concertId}")
+-- KEYS[4]: waitingTokenKey   (e.g., "queue:waiting:{concertId}")
+-- KEYS[5]: queuedConcertKey  ("queue:concerts", 토큰이 존재하는 콘서트 ID Set)
+-- KEYS[6]: admissionLimitKey ("queue:admission:limit", 콘서트별 최대 활성 토큰 수 Hash)
+-- KEYS[7]: legacyTokenIdKey  (e.g., "token:id:{userId}:{concertId}", 이전 포맷 중복 발급 확인용)
+-- ARGV[1]: 새 토큰 ID (base64url)
+-- ARGV[2]: userId (base64url)
+-- ARGV[3]: concertId (base64url)
+-- ARGV[4]: 기본 최대 활성 토큰 수 (콘서트별 입장 한도가 없을 때 사용)
+-- ARGV[5]: 활성 토큰 TTL (초)
+-- ARGV[6]: 대기 토큰 TTL (초)
+-- ARGV[7]: tokenKey 접두사 ("qt:")
+-- ARGV[8]: concertId (UUID 문자열)
+-- ARGV[9]: 이전 포맷 tokenInfoKey 접두사 ("token:info:")
+--
+-- 반환값
+--   압축 포맷: { ISSUED|EXISTING, 토큰 ID, 상태(A|W), 발급 epoch, 만료 epoch, 활성 epoch, 대기 순번 }
+--   이전 포맷: { LEGACY, QueueToken JSON, 대기 순번 }
+
+local userTokenKey = KEYS[1]
+local tokenKey = KEYS[2]
+local activeTokenKey = KEYS[3]
+local waitingTokenKey = KEYS[4]
+local queuedConcertKey = KEYS[5]
+local admissionLimitKey = KEYS[6]
+local legacyTokenIdKey = KEYS[7]
+
+-- 1. 이미 발급된 토큰이 있다면 기존 토큰과 현재 대기 순번을 반환
+local existingTokenId = redis.call('GET', userTokenKey)
+if existingTokenId then
+    local fields = redis.call('HMGET', ARGV[7] .. existingTokenId, 's', 'i', 'e', 'n')
+    if fields[1] then
+        local position = 0
+        if fields[1] == 'W' then
+            local rank = redis.call('ZRANK', waitingTokenKey, existingTokenId)
+            if rank then
+                position = rank + 1
+            end
+        end
+        return { 'EXISTING', existingTokenId, fields[1], fields[2] or '', fields[3] or '', fields[4] or '', tostring(position) }
+    end
+    -- 토큰 정보가 만료되어 userTokenKey만 남은 경우, 새로 발급한다.
+end
+
+-- 2. 이전 포맷으로 발급된 토큰이 남아있다면 그대로 반환 (배포 전환 중 중복 발급 방지)
+local legacyTokenId = redis.call('GET', legacyTokenIdKey)
+if legacyTokenId then
+    local legacyTokenInfo = redis.call('GET', ARGV[9] .. legacyTokenId)
+    if legacyTokenInfo then
+        local rank = redis.call('ZRANK', waitingTokenKey, legacyTokenIdKey)
+        local position = 0
+        if rank then
+            position = rank + 1
+        end
+        return { 'LEGACY', legacyTokenInfo, tostring(position) }
+    end
+end
+
+local now = tonumber(redis.call('TIME')[1])
+local maxActiveTokenSize = tonumber(redis.call('HGET', admissionLimitKey, ARGV[8])) or tonumber(ARGV[4])
+local activeTtl = tonumber(ARGV[5])
+local waitingTtl = tonumber(ARGV[6])
+
+-- 만료 토큰 정리 대상이 되도록 콘서트 ID 등록
+redis.call('SADD', queuedConcertKey, ARGV[8])
+
+-- 3. 활성 토큰 수가 최대치보다 적으면 활성 상태로 발급 (score: 만료 시각)
+if redis.call('ZCARD', activeTokenKey) < maxActiveTokenSize then
+    local expiresAt = now + activeTtl
+    redis.call('HSET', tokenKey, 'u', ARGV[2], 'c', ARGV[3], 's', 'A', 'i', now, 'e', expiresAt, 'n', now)
+    redis.call('EXPIRE', tokenKey, activeTtl)
+    redis.call('SET', userTokenKey, ARGV[1], 'EX', activeTtl)
+    redis.call('ZADD', activeTokenKey, expiresAt, ARGV[1])
+    return { 'ISSUED', ARGV[1], 'A', tostring(now), tostring(expiresAt), tostring(now), '0' }
+end
+
+-- 4. 그 외에는 대기 상태로 발급 (score: 발급 시각)
+local expiresAt = now + waitingTtl
+redis.call('HSET', tokenKey, 'u', ARGV[2], 'c', ARGV[3], 's', 'W', 'i', now, 'e', expiresAt)
+redis.call('EXPIRE', tokenKey, waitingTtl)
+redis.call('SET', userTokenKey, ARGV[1], 'EX', waitingTtl)
+redis.call('ZADD', waitingTokenKey, now, ARGV[1])
+local waitingRank = redis.call('ZRANK', waitingTokenKey, ARGV[1])
+return { 'ISSUED', ARGV[1], 'W', tostring(now), tostring(expiresAt), '', tostring(waitingRank + 1) }
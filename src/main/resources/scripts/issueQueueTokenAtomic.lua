@@ -1,29 +1,19 @@
--- KEYS[1]: tokenIdKey (e.g., "token:id:{userId}:{concertId}")
--- KEYS[2]: tokenInfoKey (e.g., "token:info:{tokenId}")
--- ARGV[1]: new_token_id_string (UUID.toString())
--- ARGV[2]: serialized_queue_token_object_string (JSON string of QueueToken)
--- ARGV[3]: expiration_seconds_tokenIdKey
--- ARGV[4]: expiration_seconds_tokenInfoKey
+-- 이미 만들어진 토큰을 압축 포맷으로 원자적으로 저장하거나, 기존 토큰 ID를 반환하는 스크립트
+-- KEYS[1]: userTokenKey (e.g., "qu:{concertId}:{userId}", base64url)
+-- KEYS[2]: tokenKey     (e.g., "qt:{tokenId}", base64url)
+-- ARGV[1]: 새 토큰 ID (base64url)
+-- ARGV[2]: TTL (초)
+-- ARGV[3..]: tokenKey Hash 필드/값 목록 (u, c, s, i, e, n)
 
 local existing_token_id = redis.call('GET', KEYS[1])
-
 if existing_token_id then
     -- 토큰이 이미 존재함, 기존 토큰 ID 반환
     return existing_token_id
-else
-    -- 토큰이 존재하지 않음, 원자적으로 설정 시도
-    local setnx_result = redis.call('SETNX', KEYS[1], ARGV[1])
-    if setnx_result == 1 then
-        -- SETNX 성공 (경쟁에서 이김)
-        redis.call('EXPIRE', KEYS[1], ARGV[3]) -- tokenIdKey 만료 시간 설정
+end
 
-        redis.call('SET', KEYS[2], ARGV[2]) -- QueueToken 객체 저장
-        redis.call('EXPIRE', KEYS[2], ARGV[4]) -- tokenInfoKey 만료 시간 설정
+-- 스크립트는 원자적으로 실행되므로 GET 이후 다른 호출이 끼어들 수 없음
+redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+redis.call('HSET', KEYS[2], unpack(ARGV, 3))
+redis.call('EXPIRE', KEYS[2], ARGV[2])
 
-        return ARGV[1] -- 새로 발급된 토큰 ID 반환
-    else
-        -- SETNX 실패 (다른 동시 호출이 락을 획득)
-        -- 승자가 설정한 토큰 ID를 다시 읽어서 반환
-        return redis.call('GET', KEYS[1])
-    end
-end
\ No newline at end of file
+return ARGV[1] -- 새로 발급된 토큰 ID 반환
@@ -0,0 +1,104 @@
+package kr.hhplus.be.server.api.common;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.aop.bulkhead.BlockingCallBulkheadAspect;
+import kr.hhplus.be.server.common.exception.CustomException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class BlockingCallBulkheadAspectTest {
+
+    private static final long ACQUIRE_TIMEOUT_MILLIS = 100L;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private MeterRegistry meterRegistry;
+    private BlockingCallBulkheadAspect bulkheadAspect;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkheadAspect = new BlockingCallBulkheadAspect(meterRegistry, true, 1, ACQUIRE_TIMEOUT_MILLIS); // 동시 실행 1개
+    }
+
+    @Test
+    @DisplayName("벌크헤드_정상종료와예외종료_모두입장허용반환_다음호출바로입장")
+    void around_ReleasesPermit_OnSuccessAndFailure() throws Throwable {
+        when(joinPoint.proceed())
+                .thenReturn("reserved")
+                .thenThrow(new CustomException(ErrorCode.ALREADY_RESERVED_SEAT))
+                .thenReturn("paid");
+
+        assertThat(bulkheadAspect.around(joinPoint)).isEqualTo("reserved");
+        CustomException customException = assertThrows(CustomException.class, () -> bulkheadAspect.around(joinPoint));
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.ALREADY_RESERVED_SEAT); // 원래 예외를 그대로 전달
+        assertThat(bulkheadAspect.around(joinPoint)).isEqualTo("paid");
+
+        assertThat(meterRegistry.get("bulkhead.blocking.rejected").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("벌크헤드_입장허용수초과_대기시간초과시429거절_점유해제후다시입장")
+    void around_Timeout_RejectsWithTooManyRequests() throws Throwable {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.toShortString()).thenReturn("CreateReservationManager.reserve(..)");
+        when(joinPoint.proceed())
+                .thenAnswer(invocation -> {
+                    entered.countDown();
+                    finish.await(5, TimeUnit.SECONDS); // 트랜잭션 실행 중인 요청이 입장 허용을 점유
+                    return "holding";
+                })
+                .thenReturn("after-release");
+
+        CompletableFuture<Object> holding = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bulkheadAspect.around(joinPoint);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+        CustomException customException = assertThrows(CustomException.class, () -> bulkheadAspect.around(joinPoint));
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+        assertThat(customException.getErrorCode().getHttpStatus().value()).isEqualTo(429);
+        assertThat(meterRegistry.get("bulkhead.blocking.rejected").counter().count()).isEqualTo(1);
+
+        finish.countDown();
+        assertThat(holding.get(1, TimeUnit.SECONDS)).isEqualTo("holding");
+        assertThat(bulkheadAspect.around(joinPoint)).isEqualTo("after-release");
+        verify(joinPoint, times(2)).proceed(); // 거절된 요청은 메소드를 실행하지 않음
+    }
+
+    @Test
+    @DisplayName("벌크헤드_비활성화_입장제한없이바로실행")
+    void around_Disabled_ProceedsWithoutLimit() throws Throwable {
+        BlockingCallBulkheadAspect disabledAspect = new BlockingCallBulkheadAspect(new SimpleMeterRegistry(), false, 0, ACQUIRE_TIMEOUT_MILLIS);
+        when(joinPoint.proceed()).thenReturn("reserved");
+
+        assertThat(disabledAspect.around(joinPoint)).isEqualTo("reserved");
+    }
+}
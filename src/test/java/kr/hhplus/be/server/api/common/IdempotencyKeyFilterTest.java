@@ -0,0 +1,166 @@
+package kr.hhplus.be.server.api.common;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.common.web.idempotency.IdempotencyKeyFilter;
+import kr.hhplus.be.server.common.web.idempotency.IdempotencyRecord;
+import kr.hhplus.be.server.common.web.idempotency.IdempotencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+public class IdempotencyKeyFilterTest {
+
+    private static final String PATH = "/api/v1/reservations/seats/7d1b6a52-5a0e-4a34-9f0e-6d2f8b1c3e41";
+    private static final String BODY = "{\"concertId\":\"a\",\"concertDateId\":\"b\"}";
+
+    @Mock
+    private IdempotencyRepository idempotencyRepository;
+
+    private IdempotencyKeyFilter idempotencyKeyFilter;
+
+    @BeforeEach
+    void beforeEach() {
+        idempotencyKeyFilter = new IdempotencyKeyFilter(idempotencyRepository, new ObjectMapper().findAndRegisterModules(),
+                true, 24, 60000);
+    }
+
+    @Test
+    @DisplayName("멱등키_최초요청_성공응답저장_컨트롤러는본문을그대로읽음")
+    void firstRequest_Success_SavesResponse() throws Exception {
+        when(idempotencyRepository.reserveOrGet(anyString(), any(), any())).thenReturn(Optional.empty());
+        AtomicReference<String> bodyReadByController = new AtomicReference<>();
+
+        MockHttpServletResponse response = perform(request(BODY), (req, res) -> {
+            bodyReadByController.set(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.getOutputStream().write("{\"reservationId\":\"r1\"}".getBytes(StandardCharsets.UTF_8));
+        });
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("{\"reservationId\":\"r1\"}");
+        assertThat(bodyReadByController.get()).isEqualTo(BODY); // 지문 계산을 위해 먼저 읽은 본문을 다시 제공
+
+        ArgumentCaptor<IdempotencyRecord> completedCaptor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRepository, times(1)).complete(anyString(), completedCaptor.capture(), eq(Duration.ofHours(24)));
+        assertThat(completedCaptor.getValue().completed()).isTrue();
+        assertThat(completedCaptor.getValue().body()).isEqualTo("{\"reservationId\":\"r1\"}");
+        verify(idempotencyRepository, never()).release(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("멱등키_재요청_저장된응답재전송_컨트롤러호출안함")
+    void retry_ReplaysStoredResponse() throws Exception {
+        IdempotencyRecord inProgress = captureInProgressRecord(BODY);
+        IdempotencyRecord completed = inProgress.complete(200, MediaType.APPLICATION_JSON_VALUE, "{\"reservationId\":\"r1\"}");
+        when(idempotencyRepository.reserveOrGet(anyString(), any(), any())).thenReturn(Optional.of(completed));
+        FilterChain filterChain = mock(FilterChain.class);
+
+        MockHttpServletResponse response = perform(request(BODY), filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(response.getContentAsString()).isEqualTo("{\"reservationId\":\"r1\"}");
+        verifyNoInteractions(filterChain);
+    }
+
+    @Test
+    @DisplayName("멱등키_처리중재요청_409")
+    void retry_InProgress_Conflict() throws Exception {
+        IdempotencyRecord inProgress = captureInProgressRecord(BODY);
+        when(idempotencyRepository.reserveOrGet(anyString(), any(), any())).thenReturn(Optional.of(inProgress));
+        FilterChain filterChain = mock(FilterChain.class);
+
+        MockHttpServletResponse response = perform(request(BODY), filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(response.getContentAsString()).contains(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS.getCode());
+        verifyNoInteractions(filterChain);
+    }
+
+    @Test
+    @DisplayName("멱등키_다른본문으로재사용_422")
+    void reuse_WithDifferentBody_Unprocessable() throws Exception {
+        IdempotencyRecord completed = captureInProgressRecord(BODY)
+                .complete(200, MediaType.APPLICATION_JSON_VALUE, "{\"reservationId\":\"r1\"}");
+        when(idempotencyRepository.reserveOrGet(anyString(), any(), any())).thenReturn(Optional.of(completed));
+        FilterChain filterChain = mock(FilterChain.class);
+
+        // 같은 키, 같은 경로지만 다른 콘서트 날짜로 요청
+        MockHttpServletResponse response = perform(request("{\"concertId\":\"a\",\"concertDateId\":\"c\"}"), filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).contains(ErrorCode.IDEMPOTENCY_KEY_REUSED.getCode());
+        verifyNoInteractions(filterChain);
+    }
+
+    @Test
+    @DisplayName("멱등키_실패응답_처리중레코드해제_저장안함")
+    void failedResponse_ReleasesKey() throws Exception {
+        when(idempotencyRepository.reserveOrGet(anyString(), any(), any())).thenReturn(Optional.empty());
+
+        MockHttpServletResponse response = perform(request(BODY), (req, res) -> ((HttpServletResponse) res).setStatus(400));
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        verify(idempotencyRepository, times(1)).release(anyString(), any());
+        verify(idempotencyRepository, never()).complete(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("멱등키_컨트롤러예외_처리중레코드해제")
+    void exception_ReleasesKey() {
+        when(idempotencyRepository.reserveOrGet(anyString(), any(), any())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> perform(request(BODY), (req, res) -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(idempotencyRepository, times(1)).release(anyString(), any());
+        verify(idempotencyRepository, never()).complete(anyString(), any(), any());
+    }
+
+    // 같은 본문으로 요청했을 때 필터가 만드는 처리 중 레코드(지문 포함)를 얻는다
+    private IdempotencyRecord captureInProgressRecord(String body) throws Exception {
+        IdempotencyRepository capturingRepository = mock(IdempotencyRepository.class);
+        when(capturingRepository.reserveOrGet(anyString(), any(), any())).thenReturn(Optional.empty());
+        new IdempotencyKeyFilter(capturingRepository, new ObjectMapper().findAndRegisterModules(), true, 24, 60000)
+                .doFilter(request(body), new MockHttpServletResponse(), (req, res) -> { });
+
+        ArgumentCaptor<IdempotencyRecord> inProgressCaptor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(capturingRepository).reserveOrGet(anyString(), inProgressCaptor.capture(), any());
+        return inProgressCaptor.getValue();
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain filterChain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        idempotencyKeyFilter.doFilter(request, response, filterChain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+        request.addHeader("Authorization", "queue-token");
+        request.addHeader(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, "retry-key-1");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,177 @@
+package kr.hhplus.be.server.api.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.event.outbox.OutboxMessage;
+import kr.hhplus.be.server.common.event.outbox.OutboxRepository;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.external.kafka.KafkaOutboxRelay;
+import kr.hhplus.be.server.external.kafka.OutboxEventPublisher;
+import kr.hhplus.be.server.payment.domain.PaymentFailedEvent;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 아웃박스 임대(키 순서), 실패 횟수 초과 시 격리, 트랜잭션 종료 후 별도 기록 검증
+// (릴레이/발행기는 event.outbox.enabled일 때만 빈으로 등록되므로 직접 생성하고, 카프카 전송은 mock으로 대체)
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(TestcontainersConfiguration.class)
+class OutboxRelayIntegrationTest {
+
+    private static final String FAIL_PAYLOAD = "fail";
+    private static final String OK_PAYLOAD = "ok";
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private KafkaTemplate<String, byte[]> outboxKafkaTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void beforeEach() {
+        jdbcTemplate.update("DELETE FROM EVENT_OUTBOX");
+        outboxKafkaTemplate = mock(KafkaTemplate.class);
+        when(outboxKafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            ProducerRecord<String, byte[]> record = invocation.getArgument(0);
+            if (FAIL_PAYLOAD.equals(new String(record.value(), StandardCharsets.UTF_8))) {
+                return CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"));
+            }
+            return CompletableFuture.completedFuture((SendResult<String, byte[]>) null);
+        });
+    }
+
+    @Test
+    @DisplayName("아웃박스임대_앞선레코드가다른릴레이에임대중인키_뒤레코드제외_임대해제후순서대로임대")
+    void lease_KeyLeasedByOtherRelay_LaterRecordsSkipped() {
+        save("key-a", OK_PAYLOAD);
+        save("key-a", OK_PAYLOAD);
+        save("key-b", OK_PAYLOAD);
+
+        List<OutboxMessage> first = lease("relay-1", 1);
+        List<OutboxMessage> second = lease("relay-2", 10);
+
+        assertThat(first).extracting(OutboxMessage::messageKey).containsExactly("key-a");
+        assertThat(second).extracting(OutboxMessage::messageKey).containsExactly("key-b"); // key-a의 두 번째 레코드는 제외
+
+        outboxRepository.releaseLease("relay-1", List.of(first.get(0).id()));
+        List<OutboxMessage> third = lease("relay-2", 10);
+
+        assertThat(third).extracting(OutboxMessage::id).containsExactly(first.get(0).id(), first.get(0).id() + 1);
+    }
+
+    @Test
+    @DisplayName("아웃박스릴레이_전송실패가최대시도횟수도달_격리_같은키의뒤레코드는격리후전송")
+    void relay_FailedUntilMaxAttempts_ParkedAndNextRecordSent() {
+        KafkaOutboxRelay relay = relay(2);
+        save("key-a", FAIL_PAYLOAD);
+        save("key-a", OK_PAYLOAD);
+        save("key-b", OK_PAYLOAD);
+
+        relay.relay();
+        assertThat(row("key-a", FAIL_PAYLOAD)).isEqualTo(new OutboxRow(1, false, false, false));
+        assertThat(row("key-a", OK_PAYLOAD)).isEqualTo(new OutboxRow(0, false, false, false)); // 앞선 레코드가 실패하여 완료로 표시하지 않고 임대만 해제
+        assertThat(row("key-b", OK_PAYLOAD).sent()).isTrue();
+
+        relay.relay();
+        assertThat(row("key-a", FAIL_PAYLOAD)).isEqualTo(new OutboxRow(2, false, true, false));
+        assertThat(row("key-a", OK_PAYLOAD).sent()).isFalse();
+
+        relay.relay(); // 격리된 레코드는 더 이상 같은 키를 막지 않음
+        assertThat(row("key-a", FAIL_PAYLOAD)).isEqualTo(new OutboxRow(2, false, true, false));
+        assertThat(row("key-a", OK_PAYLOAD).sent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("아웃박스발행_호출한트랜잭션롤백_publish는롤백_publishIndependently는종료후기록")
+    void publishIndependently_CallerRolledBack_StillPersisted() {
+        OutboxEventPublisher publisher = new OutboxEventPublisher(outboxRepository, transactionManager, new SimpleMeterRegistry());
+        PaymentFailedEvent independentEvent = paymentFailedEvent();
+        PaymentFailedEvent joinedEvent = paymentFailedEvent();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.publishIndependently(independentEvent);
+            publisher.publish(joinedEvent);
+            status.setRollbackOnly();
+        });
+
+        List<String> keys = jdbcTemplate.queryForList("SELECT message_key FROM EVENT_OUTBOX", String.class);
+        assertThat(keys).containsExactly(independentEvent.getKey());
+    }
+
+    private KafkaOutboxRelay relay(int maxAttempts) {
+        return new KafkaOutboxRelay(outboxKafkaTemplate, outboxRepository, transactionTemplate,
+                100, 1000, 30000, maxAttempts, 24, 5000, 15000);
+    }
+
+    private void save(String key, String payload) {
+        outboxRepository.save(OutboxMessage.builder()
+                .topic("outbox-test")
+                .messageKey(key)
+                .eventType(String.class.getName())
+                .payload(payload)
+                .build(), LocalDateTime.now());
+    }
+
+    private List<OutboxMessage> lease(String owner, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return transactionTemplate.execute(status -> outboxRepository.lease(owner, limit, now, now.plusSeconds(30)));
+    }
+
+    private OutboxRow row(String key, String payload) {
+        return jdbcTemplate.queryForObject("""
+                        SELECT attempts, sent_at, parked_at, lease_owner
+                        FROM EVENT_OUTBOX WHERE message_key = ? AND payload = ?
+                        """,
+                (rs, rowNum) -> new OutboxRow(rs.getInt("attempts"), rs.getTimestamp("sent_at") != null,
+                        rs.getTimestamp("parked_at") != null, rs.getString("lease_owner") != null),
+                key, payload);
+    }
+
+    private record OutboxRow(int attempts, boolean sent, boolean parked, boolean leased) {
+    }
+
+    private static PaymentFailedEvent paymentFailedEvent() {
+        return PaymentFailedEvent.builder()
+                .paymentId(UUID.randomUUID())
+                .reservationId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .seatId(UUID.randomUUID())
+                .concertDateId(UUID.randomUUID())
+                .amount(BigDecimal.valueOf(10000))
+                .errorCode(ErrorCode.INSUFFICIENT_BALANCE)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
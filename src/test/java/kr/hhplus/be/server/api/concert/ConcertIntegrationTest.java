@@ -28,6 +28,7 @@ import kr.hhplus.be.server.concert.domain.Seat;
 import kr.hhplus.be.server.concert.port.out.SeatRepository;
 import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
 import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.reservation.port.in.SeatHoldUseCase;
 
 @SpringBootTest(properties = {
         "spring.jpa.hibernate.ddl-auto=create-drop"
@@ -49,6 +50,9 @@ class ConcertIntegrationTest {
     @Autowired
     private SeatRepository seatRepository;
 
+    @Autowired
+    private SeatHoldUseCase seatHoldUseCase;
+
     private Concert concert;
     private ConcertDate concertDate;
     private Seat seat;
@@ -188,4 +192,29 @@ class ConcertIntegrationTest {
                 .andExpect(jsonPath("$").isEmpty())
         ;
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("좌석배치도_조회_성공(예약된좌석_임시점유표시)")
+    void getSeatMap_Success_HeldSeat() throws Exception {
+        Seat reservedSeat = seatRepository.save(TestDataFactory.createReservedSeat(concertDateId));
+        seatHoldUseCase.hold(concertDateId, reservedSeat.id(), UUID.randomUUID());
+
+        mockMvc.perform(get("/api/v1/concerts/{concertId}/dates/{concertDateId}/seat-map", concertId, concertDateId)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[?(@.seatId == '%s')].held", reservedSeat.id()).value(true))
+                .andExpect(jsonPath("$[?(@.seatId == '%s')].held", seatId).value(false))
+        ;
+    }
+
+    @Test
+    @DisplayName("좌석배치도_조회_실패_가능한날짜아님")
+    void getSeatMap_Failure_CannotAvailableDate() throws Exception {
+        mockMvc.perform(get("/api/v1/concerts/{concertId}/dates/{concertDateId}/seat-map", concertId, UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.CANNOT_RESERVATION_DATE.getCode()))
+        ;
+    }
+}
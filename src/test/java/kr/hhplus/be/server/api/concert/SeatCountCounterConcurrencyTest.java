@@ -0,0 +1,149 @@
+package kr.hhplus.be.server.api.concert;
+
+import kr.hhplus.be.server.api.TestDataFactory;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.port.out.ConcertDateRepository;
+import kr.hhplus.be.server.concert.port.out.ConcertRepository;
+import kr.hhplus.be.server.concert.port.out.SeatCountCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 예약 가능 좌석 수 분산 카운터: 동시 누적(add)과 여러 노드의 폴딩(fold)이 겹쳐도 CONCERT_DATE에 정확히 수렴하는지 검증
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(TestcontainersConfiguration.class)
+class SeatCountCounterConcurrencyTest {
+
+    @Autowired
+    private SeatCountCounterRepository seatCountCounterRepository;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private ConcertDateRepository concertDateRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID concertDateId;
+
+    @BeforeEach
+    void beforeEach() {
+        Concert concert = concertRepository.save(TestDataFactory.createConcert());
+        concertDateId = concertDateRepository.save(TestDataFactory.createConcertDate(concert.id())).id();
+    }
+
+    @Test
+    @DisplayName("좌석수카운터_동시누적과동시폴딩_CONCERT_DATE잔여좌석수정확히수렴_0이된샤드행삭제")
+    void addAndFold_Concurrently_ConvergesToExactCount() throws Exception {
+        int reserveCount = 60;
+        int cancelCount = 20;
+        int folderCount = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicBoolean adding = new AtomicBoolean(true);
+
+        // 여러 노드의 폴딩 스케줄러처럼 누적이 진행되는 동안 계속 폴딩
+        List<CompletableFuture<Void>> folders = new ArrayList<>();
+        for (int i = 0; i < folderCount; i++) {
+            folders.add(CompletableFuture.runAsync(() -> {
+                await(startLatch);
+                while (adding.get()) {
+                    transactionTemplate.executeWithoutResult(status -> seatCountCounterRepository.fold());
+                }
+            }, executorService));
+        }
+
+        List<CompletableFuture<Void>> adders = new ArrayList<>();
+        for (int i = 0; i < reserveCount + cancelCount; i++) {
+            long delta = i < reserveCount ? -1 : 1;
+            adders.add(CompletableFuture.runAsync(() -> {
+                await(startLatch);
+                seatCountCounterRepository.add(concertDateId, delta);
+            }, executorService));
+        }
+
+        startLatch.countDown();
+        CompletableFuture.allOf(adders.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        adding.set(false);
+        CompletableFuture.allOf(folders.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // 폴딩 중에 누적된 변경분까지 모두 반영
+        while (Boolean.TRUE.equals(transactionTemplate.execute(status -> seatCountCounterRepository.fold() > 0))) {
+        }
+
+        assertThat(availableSeatCount()).isEqualTo(TestDataFactory.INIT_AVAILABLE_SEAT_COUNT - reserveCount + cancelCount);
+        assertThat(counterRowCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("좌석수카운터_다른노드가폴딩중인샤드행_대기없이건너뜀_한번만반영")
+    void fold_RowsLockedByOtherNode_SkippedWithoutDoubleApply() throws Exception {
+        seatCountCounterRepository.add(concertDateId, -3);
+        CountDownLatch foldedLatch = new CountDownLatch(1);
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+
+        // 첫 번째 노드: 폴딩한 뒤 커밋하지 않고 샤드 행 잠금을 유지
+        CompletableFuture<Integer> firstNode = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    int folded = seatCountCounterRepository.fold();
+                    foldedLatch.countDown();
+                    await(releaseLatch);
+                    return folded;
+                }));
+        assertThat(foldedLatch.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // 두 번째 노드: 잠긴 샤드 행은 SKIP LOCKED로 건너뛰므로 대기하지 않고 반영할 변경분이 없음
+        Integer secondNodeFolded = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> seatCountCounterRepository.fold())).get(5, TimeUnit.SECONDS);
+        assertThat(secondNodeFolded).isZero();
+
+        releaseLatch.countDown();
+        firstNode.get(10, TimeUnit.SECONDS); // 폴딩 스케줄러가 먼저 반영했더라도 변경분은 한 번만 합산됨
+        assertThat(availableSeatCount()).isEqualTo(TestDataFactory.INIT_AVAILABLE_SEAT_COUNT - 3);
+        assertThat(counterRowCount()).isZero();
+    }
+
+    private long availableSeatCount() {
+        return jdbcTemplate.queryForObject("SELECT available_seat_count FROM CONCERT_DATE WHERE id = ?", Long.class,
+                concertDateId.toString());
+    }
+
+    private int counterRowCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM CONCERT_DATE_SEAT_COUNTER WHERE concert_date_id = ?", Integer.class,
+                concertDateId.toString());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
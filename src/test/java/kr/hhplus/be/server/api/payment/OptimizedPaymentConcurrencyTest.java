@@ -0,0 +1,211 @@
+package kr.hhplus.be.server.api.payment;
+
+import kr.hhplus.be.server.api.TestDataFactory;
+import kr.hhplus.be.server.common.exception.CustomException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.ConcertDate;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.domain.enums.SeatGrade;
+import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+import kr.hhplus.be.server.concert.port.out.ConcertDateRepository;
+import kr.hhplus.be.server.concert.port.out.ConcertRepository;
+import kr.hhplus.be.server.concert.port.out.SeatRepository;
+import kr.hhplus.be.server.payment.domain.Payment;
+import kr.hhplus.be.server.payment.domain.enums.PaymentStatus;
+import kr.hhplus.be.server.payment.port.in.dto.PaymentCommand;
+import kr.hhplus.be.server.payment.port.out.PaymentRepository;
+import kr.hhplus.be.server.payment.usecase.OptimizedPaymentManager;
+import kr.hhplus.be.server.queue.adapter.out.persistence.RedisAtomicQueueTokenRepository;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.out.ReservationRepository;
+import kr.hhplus.be.server.reservation.port.out.SeatHoldRepository;
+import kr.hhplus.be.server.user.domain.User;
+import kr.hhplus.be.server.user.port.out.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+// 결제 최적화 모드(분산락 없이 결제 상태 CAS + 조건부 잔액 차감)의 동시성 검증
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "payment.optimized.enabled=true"
+})
+@AutoConfigureMockMvc
+@Import(TestcontainersConfiguration.class)
+class OptimizedPaymentConcurrencyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private RedisAtomicQueueTokenRepository redisAtomicQueueTokenRepository;
+
+    @Autowired
+    private OptimizedPaymentManager optimizedPaymentManager;
+
+    @Autowired
+    private SeatHoldRepository seatHoldRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private ConcertDateRepository concertDateRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    private static final int THREAD_SIZE = 10;
+
+    private UUID concertId;
+    private UUID concertDateId;
+
+    @BeforeEach
+    void beforeEach() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 데이터 초기화
+
+        Concert savedConcert = concertRepository.save(TestDataFactory.createConcert());
+        concertId = savedConcert.id();
+
+        ConcertDate savedConcertDate = concertDateRepository.save(TestDataFactory.createConcertDate(concertId));
+        concertDateId = savedConcertDate.id();
+    }
+
+    @Test
+    @DisplayName("동시_결제_같은예약_하나만성공_성공한결제는_보상되지않음")
+    void optimizedPayment_SameReservation_Concurrency_Test() throws Exception {
+        User user = userRepository.save(TestDataFactory.createUserWithAmount(BigDecimal.valueOf(1_000_000)));
+        Seat seat = seatRepository.save(createReservedSeat(1));
+        Reservation reservation = reservationRepository.save(TestDataFactory.createReservation(user.id(), seat.id()));
+        paymentRepository.save(TestDataFactory.createPayment(user.id(), reservation.id()));
+        seatHoldRepository.hold(concertDateId, seat.id(), user.id());
+
+        QueueToken queueToken = TestDataFactory.createQueueToken(user.id(), concertId);
+        String activeTokenId = redisAtomicQueueTokenRepository.issueTokenAtomic(user.id(), concertId, queueToken);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        AtomicInteger successCount = new AtomicInteger(0);
+        for (int i = 0; i < THREAD_SIZE; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    int status = mockMvc.perform(post("/api/v1/payments/{reservationId}", reservation.id())
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .header("Authorization", activeTokenId))
+                            .andReturn()
+                            .getResponse()
+                            .getStatus();
+
+                    if (status == 200)
+                        successCount.incrementAndGet();
+
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        // 보상 컨슈머가 처리할 시간을 준 뒤에도 성공한 결제가 유지되는지 확인
+        TimeUnit.SECONDS.sleep(3);
+
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(paymentRepository.findByReservationId(reservation.id()).get().status()).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(reservationRepository.findById(reservation.id()).get().status()).isEqualTo(ReservationStatus.SUCCESS);
+        assertThat(seatRepository.findById(seat.id()).get().status()).isEqualTo(SeatStatus.ASSIGNED);
+
+        User updatedUser = userRepository.findById(user.id()).get();
+        assertThat(updatedUser.amount().compareTo(user.amount().subtract(seat.price()))).isEqualTo(0); // 한 번만 차감
+    }
+
+    @Test
+    @DisplayName("동시_결제_한사용자_여러예약_잔액만큼만성공")
+    void optimizedPayment_SameUser_MultipleReservations_Concurrency_Test() throws Exception {
+        // 좌석 2개 가격만큼의 잔액으로 예약 5건을 동시에 결제
+        int reservationCount = 5;
+        BigDecimal initialAmount = TestDataFactory.INIT_SEAT_PRICE.multiply(BigDecimal.valueOf(2));
+        User user = userRepository.save(TestDataFactory.createUserWithAmount(initialAmount));
+        QueueToken queueToken = TestDataFactory.createQueueToken(user.id(), concertId);
+
+        List<UUID> reservationIds = new ArrayList<>();
+        for (int i = 1; i <= reservationCount; i++) {
+            Seat seat = seatRepository.save(createReservedSeat(i));
+            Reservation reservation = reservationRepository.save(TestDataFactory.createReservation(user.id(), seat.id()));
+            paymentRepository.save(TestDataFactory.createPayment(user.id(), reservation.id()));
+            seatHoldRepository.hold(concertDateId, seat.id(), user.id());
+            reservationIds.add(reservation.id());
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger insufficientBalanceCount = new AtomicInteger(0);
+        for (UUID reservationId : reservationIds) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    optimizedPaymentManager.processPayment(PaymentCommand.of(reservationId, queueToken.tokenId().toString()), queueToken);
+                    successCount.incrementAndGet();
+                } catch (CustomException e) {
+                    if (e.getErrorCode() == ErrorCode.INSUFFICIENT_BALANCE)
+                        insufficientBalanceCount.incrementAndGet();
+                }
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        assertThat(successCount.get()).isEqualTo(2);
+        assertThat(insufficientBalanceCount.get()).isEqualTo(reservationCount - 2);
+
+        User updatedUser = userRepository.findById(user.id()).get();
+        assertThat(updatedUser.amount().compareTo(BigDecimal.ZERO)).isEqualTo(0); // 음수가 되지 않음
+
+        long successPayments = reservationIds.stream()
+                .map(reservationId -> paymentRepository.findByReservationId(reservationId).get())
+                .map(Payment::status)
+                .filter(status -> status == PaymentStatus.SUCCESS)
+                .count();
+        assertThat(successPayments).isEqualTo(2);
+    }
+
+    private Seat createReservedSeat(int seatNo) {
+        return Seat.builder()
+                .concertDateId(concertDateId)
+                .seatNo(seatNo)
+                .price(TestDataFactory.INIT_SEAT_PRICE)
+                .seatGrade(SeatGrade.VIP)
+                .status(SeatStatus.RESERVED)
+                .build();
+    }
+}
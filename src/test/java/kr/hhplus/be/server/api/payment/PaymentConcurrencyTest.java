@@ -129,7 +129,7 @@ class PaymentConcurrencyTest {
 
         // 좌석 홀드 상태로 설정 (테스트 시나리오에 따라 이 라인을 제거하거나 수정 필요)
         // 예약이 이미 생성된 상태이므로, 좌석은 이미 홀드/예약 상태여야 함
-        seatHoldRepository.hold(seatId, userId);
+        seatHoldRepository.hold(concertDateId, seatId, userId);
     }
 
     @Test
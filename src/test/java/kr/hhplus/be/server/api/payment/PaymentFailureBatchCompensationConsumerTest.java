@@ -0,0 +1,115 @@
+package kr.hhplus.be.server.api.payment;
+
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.payment.adapter.in.event.PaymentFailureBatchCompensationConsumer;
+import kr.hhplus.be.server.payment.domain.PaymentFailedEvent;
+import kr.hhplus.be.server.payment.port.in.PaymentFailureCompensationUseCase;
+import kr.hhplus.be.server.payment.port.in.dto.PaymentFailureCompensationCommand;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentFailureBatchCompensationConsumerTest {
+
+    @InjectMocks
+    private PaymentFailureBatchCompensationConsumer paymentFailureBatchCompensationConsumer;
+
+    @Mock
+    private PaymentFailureCompensationUseCase paymentFailureCompensationUseCase;
+
+    @Test
+    @DisplayName("결제실패이벤트_일괄보상_한번의트랜잭션으로처리")
+    void handlePaymentFailed_Batch_Success() {
+        List<ConsumerRecord<String, PaymentFailedEvent>> records = records(3);
+
+        paymentFailureBatchCompensationConsumer.handlePaymentFailed(records);
+
+        verify(paymentFailureCompensationUseCase, times(1)).compensateAll(commands(records));
+        verifyNoMoreInteractions(paymentFailureCompensationUseCase);
+    }
+
+    @Test
+    @DisplayName("결제실패이벤트_일괄보상실패_1건씩다시처리_성공")
+    void handlePaymentFailed_BatchFails_FallbackOneByOne() {
+        List<ConsumerRecord<String, PaymentFailedEvent>> records = records(3);
+        List<PaymentFailureCompensationCommand> commands = commands(records);
+        doThrow(new IllegalStateException("deadlock")) // 배치 트랜잭션 실패
+                .doReturn(1)
+                .when(paymentFailureCompensationUseCase).compensateAll(anyList());
+
+        paymentFailureBatchCompensationConsumer.handlePaymentFailed(records);
+
+        verify(paymentFailureCompensationUseCase, times(1)).compensateAll(commands);
+        commands.forEach(command -> verify(paymentFailureCompensationUseCase, times(1)).compensateAll(List.of(command)));
+    }
+
+    @Test
+    @DisplayName("결제실패이벤트_1건씩처리중실패_실패한위치로BatchListenerFailedException")
+    void handlePaymentFailed_OneFails_ThrowsWithIndex() {
+        List<ConsumerRecord<String, PaymentFailedEvent>> records = records(3);
+        List<PaymentFailureCompensationCommand> commands = commands(records);
+        doThrow(new IllegalStateException("deadlock")) // 배치 트랜잭션 실패
+                .doReturn(1)                                    // 첫 번째 이벤트 보상 성공
+                .doThrow(new IllegalStateException("seat not found")) // 두 번째 이벤트 보상 실패
+                .when(paymentFailureCompensationUseCase).compensateAll(anyList());
+
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> paymentFailureBatchCompensationConsumer.handlePaymentFailed(records));
+
+        assertThat(exception.getIndex()).isEqualTo(1); // 앞선 레코드는 커밋, 실패한 레코드부터 재시도/DLT
+        verify(paymentFailureCompensationUseCase, times(1)).compensateAll(List.of(commands.get(0)));
+        verify(paymentFailureCompensationUseCase, never()).compensateAll(List.of(commands.get(2)));
+    }
+
+    @Test
+    @DisplayName("결제실패이벤트_역직렬화실패_앞선이벤트만보상_실패한위치로BatchListenerFailedException")
+    void handlePaymentFailed_DeserializationFailure_ThrowsWithIndex() {
+        List<ConsumerRecord<String, PaymentFailedEvent>> records = records(3);
+        ConsumerRecord<String, PaymentFailedEvent> poisonPill = new ConsumerRecord<>("payment.failed", 0, 2L, "key", null);
+        SerializationUtils.deserializationException(poisonPill.headers(), "not-json".getBytes(StandardCharsets.UTF_8),
+                new IllegalStateException("Unrecognized token 'not'"), false);
+        records.set(2, poisonPill);
+
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> paymentFailureBatchCompensationConsumer.handlePaymentFailed(records));
+
+        assertThat(exception.getIndex()).isEqualTo(2);
+        assertThat(exception.getCause()).isInstanceOf(DeserializationException.class); // 재시도 없이 DLT로 보내짐
+        verify(paymentFailureCompensationUseCase, times(1)).compensateAll(commands(records.subList(0, 2)));
+        verifyNoMoreInteractions(paymentFailureCompensationUseCase);
+    }
+
+    private static List<ConsumerRecord<String, PaymentFailedEvent>> records(int size) {
+        List<ConsumerRecord<String, PaymentFailedEvent>> records = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            PaymentFailedEvent event = new PaymentFailedEvent(UUID.randomUUID(), LocalDateTime.now().plusMinutes(10),
+                    UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                    BigDecimal.valueOf(50000), ErrorCode.INTERNAL_SERVER_ERROR, LocalDateTime.now());
+            records.add(new ConsumerRecord<>("payment.failed", 0, i, event.reservationId().toString(), event));
+        }
+        return records;
+    }
+
+    private static List<PaymentFailureCompensationCommand> commands(List<ConsumerRecord<String, PaymentFailedEvent>> records) {
+        return records.stream().map(record -> PaymentFailureCompensationCommand.from(record.value())).toList();
+    }
+}
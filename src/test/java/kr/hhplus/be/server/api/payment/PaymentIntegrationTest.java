@@ -135,7 +135,7 @@ class PaymentIntegrationTest {
         String issuedTokenIdString = redisAtomicQueueTokenRepository.issueTokenAtomic(userId, concertId, queueToken);
         activeTokenId = UUID.fromString(issuedTokenIdString);
 
-        seatHoldRepository.hold(seatId, userId);
+        seatHoldRepository.hold(concertDateId, seatId, userId);
     }
 
     @Test
@@ -245,7 +245,7 @@ class PaymentIntegrationTest {
         String issuedTokenIdString = redisAtomicQueueTokenRepository.issueTokenAtomic(savedPoorUser.id(), concertId, poorUserToken);
         activeTokenId = UUID.fromString(issuedTokenIdString);
 
-        seatHoldRepository.hold(seatId, savedPoorUser.id());
+        seatHoldRepository.hold(concertDateId, seatId, savedPoorUser.id());
 
         mockMvc.perform(post("/api/v1/payments/{reservationId}", savedPoorUserReservation.id())
                         .contentType(MediaType.APPLICATION_JSON)
@@ -258,7 +258,7 @@ class PaymentIntegrationTest {
     @Test
     @DisplayName("결제_실패_좌석임시배정끝남")
     void payment_Failure_SeatNotHold() throws Exception {
-        seatHoldRepository.deleteHold(seatId, userId);
+        seatHoldRepository.deleteHold(concertDateId, seatId, userId);
 
         mockMvc.perform(post("/api/v1/payments/{reservationId}", reservationId)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -298,7 +298,7 @@ class PaymentIntegrationTest {
         Payment otherPayment = TestDataFactory.createPayment(otherUserId, savedNonUserReservation.id());
         paymentRepository.save(otherPayment);
 
-        seatHoldRepository.hold(seatId, otherUserId);
+        seatHoldRepository.hold(concertDateId, seatId, otherUserId);
 
         mockMvc.perform(post("/api/v1/payments/{reservationId}", savedNonUserReservation.id())
                         .contentType(MediaType.APPLICATION_JSON)
@@ -318,7 +318,7 @@ class PaymentIntegrationTest {
         Payment invalidSeatPayment = TestDataFactory.createPayment(otherSeatId, savedInvalidSeatReservation.id());
         paymentRepository.save(invalidSeatPayment);
 
-        seatHoldRepository.hold(otherSeatId, userId);
+        seatHoldRepository.hold(concertDateId, otherSeatId, userId);
 
         mockMvc.perform(post("/api/v1/payments/{reservationId}", savedInvalidSeatReservation.id())
                         .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,96 @@
+package kr.hhplus.be.server.api.queue;
+
+import kr.hhplus.be.server.api.TestDataFactory;
+import kr.hhplus.be.server.queue.domain.QueuePromotion;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.domain.QueueTokenUtil;
+import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 토큰 정보가 사라진 대기 member 승격 제외, 만료 시각 score 도입 전 활성 토큰 재기록, 기존 대기열 등록 검증
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(TestcontainersConfiguration.class)
+class QueueActiveTokenCleanupTest {
+
+    @Autowired
+    private QueueTokenRepository queueTokenRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private UUID concertId;
+    private String activeTokenKey;
+    private String waitingTokenKey;
+
+    @BeforeEach
+    void beforeEach() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 데이터 초기화
+        concertId = UUID.randomUUID();
+        activeTokenKey = QueueTokenUtil.formattingActiveTokenKey(concertId);
+        waitingTokenKey = QueueTokenUtil.formattingWaitingTokenKey(concertId);
+    }
+
+    @Test
+    @DisplayName("승격_토큰정보가사라진대기member_활성화하지않고대기열에서제거_다음대기토큰승격")
+    void promote_GhostWaitingMember_SkippedAndRemoved() {
+        // 토큰 정보(qt:)가 TTL로 사라지고 대기열 member만 남은 상태 (실제 대기 토큰보다 앞 순번)
+        stringRedisTemplate.opsForZSet().add(waitingTokenKey, "ghost-member-1", 1);
+        stringRedisTemplate.opsForZSet().add(waitingTokenKey, "token:id:ghost-user:" + concertId, 2);
+        QueueToken waitingToken = QueueToken.waitingTokenOf(UUID.randomUUID(), UUID.randomUUID(), concertId, 1, 10 * 60L);
+        queueTokenRepository.save(waitingToken);
+
+        List<QueuePromotion> promotions = queueTokenRepository.promoteQueueTokenByConcertIds(List.of(concertId));
+
+        assertThat(QueuePromotion.totalCount(promotions)).isEqualTo(1);
+        assertThat(stringRedisTemplate.opsForZSet().zCard(activeTokenKey)).isEqualTo(1L); // 유령 member는 활성 자리를 차지하지 않음
+        assertThat(stringRedisTemplate.opsForZSet().zCard(waitingTokenKey)).isZero();
+        assertThat(queueTokenRepository.findQueueTokenByTokenId(waitingToken.tokenId().toString()).isActive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료활성토큰정리_활성화시각score토큰은만료시각으로재기록_토큰정보없는member만삭제")
+    void removeStaleActiveTokens_LegacyScore_Rescored() {
+        QueueToken activeToken = TestDataFactory.createQueueToken(UUID.randomUUID(), concertId);
+        queueTokenRepository.save(activeToken);
+        String member = stringRedisTemplate.opsForZSet().range(activeTokenKey, 0, -1).iterator().next();
+
+        // 배포 전 승격된 토큰처럼 score를 활성화 시각으로 덮어씀
+        long now = Instant.now().getEpochSecond();
+        stringRedisTemplate.opsForZSet().add(activeTokenKey, member, now - 60);
+        stringRedisTemplate.opsForZSet().add(activeTokenKey, "ghost-active-member", now - 60);
+
+        long removedCount = queueTokenRepository.removeStaleActiveTokens(concertId);
+
+        assertThat(removedCount).isEqualTo(1);
+        assertThat(stringRedisTemplate.opsForZSet().score(activeTokenKey, "ghost-active-member")).isNull();
+        assertThat(stringRedisTemplate.opsForZSet().score(activeTokenKey, member)).isGreaterThan((double) now); // 실제 만료 시각
+        assertThat(queueTokenRepository.findQueueTokenByTokenId(activeToken.tokenId().toString())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("정리대상등록_목록에없는기존대기열콘서트등록_재실행시멱등")
+    void registerQueuedConcerts_RegistersExistingQueues() {
+        UUID waitingOnlyConcertId = UUID.randomUUID();
+        stringRedisTemplate.opsForZSet().add(activeTokenKey, "member", Instant.now().getEpochSecond() + 3600);
+        stringRedisTemplate.opsForZSet().add(QueueTokenUtil.formattingWaitingTokenKey(waitingOnlyConcertId), "member", 1);
+
+        assertThat(queueTokenRepository.registerQueuedConcerts()).isEqualTo(2);
+        assertThat(queueTokenRepository.findQueuedConcertIds()).containsExactlyInAnyOrder(concertId, waitingOnlyConcertId);
+        assertThat(queueTokenRepository.registerQueuedConcerts()).isZero();
+    }
+}
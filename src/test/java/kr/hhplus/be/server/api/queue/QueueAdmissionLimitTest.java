@@ -0,0 +1,126 @@
+package kr.hhplus.be.server.api.queue;
+
+import kr.hhplus.be.server.api.TestDataFactory;
+import kr.hhplus.be.server.concert.port.out.ConcertDateRepository;
+import kr.hhplus.be.server.concert.port.out.ConcertRepository;
+import kr.hhplus.be.server.queue.domain.AdmissionSignal;
+import kr.hhplus.be.server.queue.domain.QueueTokenUtil;
+import kr.hhplus.be.server.queue.port.in.AdjustAdmissionLimitUseCase;
+import kr.hhplus.be.server.queue.port.out.QueueAdmissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 콘서트별 입장 한도 AIMD 조정: 여유 시 가산 증가(상한 = 남은 좌석 수), 과부하 시 승산 감소(하한 = min-limit),
+// 여러 노드의 신호를 Redis에서 합산하여 주기마다 한 노드만 조정하는지 검증
+// (스케줄러가 테스트 중 한도를 바꾸지 않도록 조정 주기를 늘리고, 테스트에서 직접 조정 유스케이스를 호출)
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "queue.admission.adjust-interval-ms=3600000"
+})
+@Import(TestcontainersConfiguration.class)
+class QueueAdmissionLimitTest {
+
+    private static final String SIGNALS_KEY = "queue:admission:signals";
+    private static final String ADJUST_LOCK_KEY = "queue:admission:adjust";
+    private static final AdmissionSignal HEALTHY = new AdmissionSignal(100, 0, 0.0);
+    private static final AdmissionSignal SLOW_BOOKING = new AdmissionSignal(1000, 0, 0.0);        // max-latency-ms(500) 초과
+    private static final AdmissionSignal POOL_WAITING = new AdmissionSignal(100, 10, 0.0);        // max-pending-connections(5) 초과
+    private static final AdmissionSignal LOCK_CONFLICTS = new AdmissionSignal(100, 0, 0.5);       // max-lock-conflict-rate(0.3) 초과
+
+    @Autowired
+    private AdjustAdmissionLimitUseCase adjustAdmissionLimitUseCase;
+
+    @Autowired
+    private QueueAdmissionRepository queueAdmissionRepository;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private ConcertDateRepository concertDateRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private UUID concertId;
+
+    @BeforeEach
+    void beforeEach() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 데이터 초기화
+        concertId = concertRepository.save(TestDataFactory.createConcert()).id();
+        concertDateRepository.save(TestDataFactory.createConcertDate(concertId)); // 남은 좌석 50석 = 입장 한도 상한
+        stringRedisTemplate.opsForSet().add(QueueTokenUtil.QUEUED_CONCERT_KEY, concertId.toString()); // 대기열이 있는 콘서트
+        setLimit(20);
+    }
+
+    @Test
+    @DisplayName("입장한도조정_여유시가산증가_과부하시승산감소_남은좌석수를넘지않음")
+    void adjustAdmissionLimits_AdditiveIncreaseMultiplicativeDecrease() {
+        assertThat(adjust(HEALTHY)).isEqualTo(30);
+        assertThat(adjust(SLOW_BOOKING)).isEqualTo(21); // floor(30 * 0.7)
+        assertThat(adjust(HEALTHY)).isEqualTo(31);
+        assertThat(adjust(HEALTHY)).isEqualTo(41);
+        assertThat(adjust(HEALTHY)).isEqualTo(TestDataFactory.INIT_AVAILABLE_SEAT_COUNT.intValue()); // 남은 좌석 수로 제한
+        assertThat(adjust(HEALTHY)).isEqualTo(TestDataFactory.INIT_AVAILABLE_SEAT_COUNT.intValue());
+    }
+
+    @Test
+    @DisplayName("입장한도조정_커넥션대기또는락충돌도과부하로판단_하한아래로줄지않음")
+    void adjustAdmissionLimits_EachSignalOverloads_FloorAtMinLimit() {
+        assertThat(adjust(POOL_WAITING)).isEqualTo(14);   // floor(20 * 0.7)
+        assertThat(adjust(LOCK_CONFLICTS)).isEqualTo(10); // floor(14 * 0.7) = 9 → min-limit 10
+        assertThat(adjust(LOCK_CONFLICTS)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("입장한도조정_다른노드가과부하신호보고_이노드가여유여도감소")
+    void adjustAdmissionLimits_OtherNodeOverloaded_Decreases() {
+        queueAdmissionRepository.reportSignal("other-node", SLOW_BOOKING);
+
+        assertThat(adjust(HEALTHY)).isEqualTo(14);
+        assertThat(stringRedisTemplate.opsForHash().keys(SIGNALS_KEY)).hasSize(2); // 두 노드의 신호가 공유됨
+    }
+
+    @Test
+    @DisplayName("입장한도조정_보고가끊긴노드의오래된신호_무시하고정리")
+    void adjustAdmissionLimits_StaleSignal_IgnoredAndRemoved() {
+        long staleReportedAt = System.currentTimeMillis() - Duration.ofHours(3).toMillis(); // 신호 유효 시간(조정 주기 2배) 초과
+        stringRedisTemplate.opsForHash().put(SIGNALS_KEY, "stopped-node", "1000.0:0.0:0.0:" + staleReportedAt);
+
+        assertThat(adjust(HEALTHY)).isEqualTo(30);
+        assertThat(stringRedisTemplate.opsForHash().hasKey(SIGNALS_KEY, "stopped-node")).isFalse();
+    }
+
+    @Test
+    @DisplayName("입장한도조정_다른노드가이번주기조정을선점_신호만보고하고한도유지")
+    void adjustAdmissionLimits_NotLeader_OnlyReportsSignal() {
+        stringRedisTemplate.opsForValue().set(ADJUST_LOCK_KEY, "other-node", Duration.ofMinutes(1));
+
+        adjustAdmissionLimitUseCase.adjustAdmissionLimits(SLOW_BOOKING);
+
+        assertThat(queueAdmissionRepository.findActiveLimit(concertId)).isEqualTo(20);
+        assertThat(stringRedisTemplate.opsForHash().size(SIGNALS_KEY)).isEqualTo(1L); // 선점한 노드가 다음 조정에서 합산
+    }
+
+    // 매 호출을 새 조정 주기로 만들기 위해 선점 키를 지우고 조정
+    private int adjust(AdmissionSignal signal) {
+        stringRedisTemplate.delete(ADJUST_LOCK_KEY);
+        adjustAdmissionLimitUseCase.adjustAdmissionLimits(signal);
+        return queueAdmissionRepository.findActiveLimit(concertId);
+    }
+
+    private void setLimit(int limit) {
+        stringRedisTemplate.opsForHash().put(QueueTokenUtil.ADMISSION_LIMIT_KEY, concertId.toString(), String.valueOf(limit));
+    }
+}
@@ -0,0 +1,110 @@
+package kr.hhplus.be.server.api.queue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.queue.domain.QueuePromotion;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.domain.QueueTokenUtil;
+import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
+import kr.hhplus.be.server.queue.usecase.QueueMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 콘서트별 대기열 지표가 실제 Redis 현황으로 갱신되고, 대기열이 비거나 닫힌 콘서트의 미터는 레지스트리에서 제거되는지 검증
+// (스케줄러가 기록하는 애플리케이션 레지스트리와 분리하기 위해 테스트마다 별도 레지스트리 사용,
+//  콘서트는 DB에 없는 ID를 사용하여 승격 스케줄러 대상에서 제외)
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "queue.admission.adjust-interval-ms=3600000"
+})
+@Import(TestcontainersConfiguration.class)
+class QueueMetricsIntegrationTest {
+
+    private static final String CONCERT_TAG = "concertId";
+
+    @Autowired
+    private QueueTokenRepository queueTokenRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private MeterRegistry meterRegistry;
+    private QueueMetrics queueMetrics;
+    private UUID concertId;
+
+    @BeforeEach
+    void beforeEach() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 데이터 초기화
+        meterRegistry = new SimpleMeterRegistry();
+        queueMetrics = new QueueMetrics(meterRegistry);
+        concertId = UUID.randomUUID();
+        stringRedisTemplate.opsForHash().put(QueueTokenUtil.ADMISSION_LIMIT_KEY, concertId.toString(), "2");
+    }
+
+    @Test
+    @DisplayName("대기열지표_승격후현황갱신_콘서트별활성대기토큰수와승격수기록_모두만료되면미터제거")
+    void updateDepths_RecordsDepths_UnregistersWhenDrained() {
+        List<QueueToken> tokens = saveWaitingTokens(3);
+
+        List<QueuePromotion> promotions = queueTokenRepository.promoteQueueTokenByConcertIds(List.of(concertId));
+        queueMetrics.recordPromotions(promotions);
+        queueMetrics.updateDepths(queueTokenRepository.findQueueDepths(List.of(concertId)));
+
+        assertThat(gaugeValue("queue.tokens.active")).isEqualTo(2);
+        assertThat(gaugeValue("queue.tokens.waiting")).isEqualTo(1);
+        assertThat(meterRegistry.get("queue.admissions").tag(CONCERT_TAG, concertId.toString()).counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("queue.time.in.queue").tag(CONCERT_TAG, concertId.toString()).timer().count()).isEqualTo(2);
+
+        // 모든 토큰이 빠져 대기열이 비면 concertId 태그의 시계열을 남기지 않음
+        tokens.forEach(token -> queueTokenRepository.expiresQueueToken(token.tokenId().toString()));
+        queueMetrics.recordExpirations(concertId, QueueMetrics.REASON_RELEASED, tokens.size());
+        queueMetrics.updateDepths(queueTokenRepository.findQueueDepths(List.of(concertId)));
+
+        assertThat(meterRegistry.find("queue.tokens.active").tag(CONCERT_TAG, concertId.toString()).gauge()).isNull();
+        assertThat(meterRegistry.find("queue.admissions").tag(CONCERT_TAG, concertId.toString()).counter()).isNull();
+        assertThat(meterRegistry.getMeters()).noneMatch(meter -> concertId.toString().equals(meter.getId().getTag(CONCERT_TAG)));
+        assertThat(queueMetrics.estimateWaitSeconds(concertId, 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("대기열지표_현황목록에서빠진닫힌콘서트_미터제거_남은콘서트는유지")
+    void updateDepths_ClosedConcertMissing_Unregistered() {
+        UUID closedConcertId = UUID.randomUUID();
+        saveWaitingTokens(1);
+        queueTokenRepository.save(QueueToken.waitingTokenOf(UUID.randomUUID(), UUID.randomUUID(), closedConcertId, 1, 10 * 60L));
+        queueMetrics.updateDepths(queueTokenRepository.findQueueDepths(List.of(concertId, closedConcertId)));
+        queueMetrics.recordExpirations(closedConcertId, QueueMetrics.REASON_WAITING_TIMEOUT, 1);
+        assertThat(meterRegistry.find("queue.tokens.waiting").tag(CONCERT_TAG, closedConcertId.toString()).gauge()).isNotNull();
+
+        queueMetrics.updateDepths(queueTokenRepository.findQueueDepths(List.of(concertId)));
+
+        assertThat(meterRegistry.getMeters()).noneMatch(meter -> closedConcertId.toString().equals(meter.getId().getTag(CONCERT_TAG)));
+        assertThat(gaugeValue("queue.tokens.waiting")).isEqualTo(1);
+    }
+
+    private double gaugeValue(String name) {
+        return meterRegistry.get(name).tag(CONCERT_TAG, concertId.toString()).gauge().value();
+    }
+
+    private List<QueueToken> saveWaitingTokens(int count) {
+        List<QueueToken> tokens = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            QueueToken token = QueueToken.waitingTokenOf(UUID.randomUUID(), UUID.randomUUID(), concertId, i + 1, 10 * 60L);
+            queueTokenRepository.save(token);
+            tokens.add(token);
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,135 @@
+package kr.hhplus.be.server.api.queue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.queue.adapter.in.scheduler.QueueTokenPromoteScheduler;
+import kr.hhplus.be.server.queue.adapter.out.persistence.RedisQueueTokenRepository;
+import kr.hhplus.be.server.queue.domain.QueuePromotion;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.domain.QueueTokenUtil;
+import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 여러 콘서트의 승격 스크립트를 배치 단위 파이프라인으로 보내도 콘서트별 순차 실행과 같은 결과인지, 승격 주기 소요 시간이 기록되는지 검증
+// (배치 경계를 확인하기 위해 배치 크기를 2로 설정, 콘서트는 DB에 없는 ID를 사용하여 승격 스케줄러 대상에서 제외,
+//  입장 한도 조정 스케줄러가 테스트 중 한도를 바꾸지 않도록 주기를 늘림)
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "queue.promotion.batch-size=2",
+        "queue.admission.adjust-interval-ms=3600000"
+})
+@Import(TestcontainersConfiguration.class)
+class QueuePromotionPipelineTest {
+
+    @Autowired
+    private QueueTokenRepository queueTokenRepository;
+
+    @Autowired
+    private QueueTokenPromoteScheduler queueTokenPromoteScheduler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("luaScriptRedisTemplate")
+    private RedisTemplate<String, String> luaScriptRedisTemplate;
+
+    @Autowired
+    @Qualifier("queueTokenRedisTemplate")
+    private RedisTemplate<String, Object> queueTokenRedisTemplate;
+
+    @BeforeEach
+    void beforeEach() {
+        luaScriptRedisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 데이터 초기화
+    }
+
+    @Test
+    @DisplayName("일괄승격_배치경계를넘는여러콘서트_콘서트별입장한도만큼승격_누적승격수기록")
+    void promoteQueueTokenByConcertIds_Pipelined_AcrossBatches() {
+        List<UUID> queuedConcertIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            UUID concertId = UUID.randomUUID();
+            queuedConcertIds.add(concertId);
+            saveWaitingTokens(concertId, i + 1); // 콘서트마다 대기 토큰 수를 다르게 (1~5개)
+            luaScriptRedisTemplate.opsForHash().put(QueueTokenUtil.ADMISSION_LIMIT_KEY, concertId.toString(), "3");
+        }
+        UUID emptyConcertId = UUID.randomUUID(); // 대기 토큰이 없는 콘서트는 결과에서 제외
+        List<UUID> concertIds = new ArrayList<>(queuedConcertIds);
+        concertIds.add(2, emptyConcertId);
+
+        List<QueuePromotion> promotions = queueTokenRepository.promoteQueueTokenByConcertIds(concertIds);
+
+        Map<UUID, Integer> promotedCounts = promotions.stream()
+                .collect(Collectors.toMap(QueuePromotion::concertId, QueuePromotion::count));
+        assertThat(promotedCounts).doesNotContainKey(emptyConcertId);
+        for (int i = 0; i < queuedConcertIds.size(); i++) {
+            UUID concertId = queuedConcertIds.get(i);
+            int expected = Math.min(3, i + 1);
+            assertThat(promotedCounts.get(concertId)).isEqualTo(expected);
+            assertThat(queueTokenRepository.countActiveTokens(concertId)).isEqualTo(expected);
+            assertThat(luaScriptRedisTemplate.opsForHash().get(QueueTokenUtil.ADMITTED_COUNT_KEY, concertId.toString()))
+                    .isEqualTo(String.valueOf(expected));
+        }
+        assertThat(QueuePromotion.totalCount(promotions)).isEqualTo(1 + 2 + 3 + 3 + 3);
+    }
+
+    @Test
+    @DisplayName("일괄승격_파이프라인모드와순차모드_같은승격결과")
+    void promoteQueueTokenByConcertIds_PipelinedEqualsSequential() {
+        RedisQueueTokenRepository sequentialRepository =
+                new RedisQueueTokenRepository(luaScriptRedisTemplate, queueTokenRedisTemplate, false, 2);
+        List<UUID> pipelinedConcertIds = new ArrayList<>();
+        List<UUID> sequentialConcertIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            pipelinedConcertIds.add(UUID.randomUUID());
+            sequentialConcertIds.add(UUID.randomUUID());
+            saveWaitingTokens(pipelinedConcertIds.get(i), 2);
+            saveWaitingTokens(sequentialConcertIds.get(i), 2);
+        }
+
+        List<QueuePromotion> pipelined = queueTokenRepository.promoteQueueTokenByConcertIds(pipelinedConcertIds);
+        List<QueuePromotion> sequential = sequentialRepository.promoteQueueTokenByConcertIds(sequentialConcertIds);
+
+        assertThat(pipelined).extracting(QueuePromotion::count)
+                .containsExactlyElementsOf(sequential.stream().map(QueuePromotion::count).toList());
+        assertThat(pipelined).extracting(QueuePromotion::concertId).containsExactlyElementsOf(pipelinedConcertIds);
+        for (int i = 0; i < 3; i++) {
+            assertThat(queueTokenRepository.countWaitingTokens(pipelinedConcertIds.get(i)))
+                    .isEqualTo(queueTokenRepository.countWaitingTokens(sequentialConcertIds.get(i)))
+                    .isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("승격스케줄러_실행마다승격주기소요시간기록")
+    void promoteWaitingTokens_RecordsTickLatency() {
+        Timer tickTimer = meterRegistry.get("queue.promotion.tick").timer();
+        long before = tickTimer.count();
+
+        queueTokenPromoteScheduler.promoteWaitingTokens();
+
+        assertThat(tickTimer.count()).isGreaterThan(before);
+    }
+
+    private void saveWaitingTokens(UUID concertId, int count) {
+        for (int i = 0; i < count; i++) {
+            queueTokenRepository.save(QueueToken.waitingTokenOf(UUID.randomUUID(), UUID.randomUUID(), concertId, i + 1, 10 * 60L));
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package kr.hhplus.be.server.api.queue;
+
+import kr.hhplus.be.server.api.TestDataFactory;
+import kr.hhplus.be.server.queue.adapter.in.scheduler.QueueCleanupScheduler;
+import kr.hhplus.be.server.queue.adapter.in.web.sse.QueuePositionBroadcaster;
+import kr.hhplus.be.server.queue.domain.QueueStatus;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.domain.QueueTokenUtil;
+import kr.hhplus.be.server.queue.port.in.QueueTokenExpirationUseCase;
+import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 활성 토큰 자리가 비는 이벤트(결제 후 토큰 만료, 만료 활성 토큰 정리)에서 주기 스케줄러를 기다리지 않고 즉시 승격되고,
+// 승격된 콘서트의 SSE 구독자에게 바뀐 순번이 바로 전송되는지 검증
+// (콘서트는 DB에 없는 ID를 사용하여 5초 주기 승격 스케줄러 대상에서 제외하므로, 대기 토큰은 즉시 승격으로만 활성화됨)
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "queue.admission.adjust-interval-ms=3600000"
+})
+@Import(TestcontainersConfiguration.class)
+class QueuePromotionTriggerTest {
+
+    private static final long PROMOTION_TIMEOUT_MILLIS = 2000L; // 승격 주기(5초)보다 충분히 짧은 대기 시간
+
+    @Autowired
+    private QueueTokenExpirationUseCase queueTokenExpirationUseCase;
+
+    @Autowired
+    private QueueCleanupScheduler queueCleanupScheduler;
+
+    @Autowired
+    private QueuePositionBroadcaster queuePositionBroadcaster;
+
+    @Autowired
+    private QueueTokenRepository queueTokenRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private UUID concertId;
+
+    @BeforeEach
+    void beforeEach() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 데이터 초기화
+        concertId = UUID.randomUUID();
+        stringRedisTemplate.opsForHash().put(QueueTokenUtil.ADMISSION_LIMIT_KEY, concertId.toString(), "1");
+    }
+
+    @Test
+    @DisplayName("즉시승격_결제후활성토큰만료_비워진자리만큼대기토큰승격")
+    void expiresQueueToken_ActiveSlotFreed_PromotesImmediately() throws Exception {
+        QueueToken activeToken = TestDataFactory.createQueueToken(UUID.randomUUID(), concertId);
+        queueTokenRepository.save(activeToken);
+        QueueToken firstWaiting = saveWaitingToken(1);
+        QueueToken secondWaiting = saveWaitingToken(2);
+
+        queueTokenExpirationUseCase.expiresQueueToken(activeToken.tokenId().toString(), activeToken.expiresAt());
+
+        assertThat(awaitActive(firstWaiting)).isTrue();
+        assertThat(queueTokenRepository.countActiveTokens(concertId)).isEqualTo(1); // 입장 한도 유지
+        assertThat(statusOf(secondWaiting)).isEqualTo(QueueStatus.WAITING);
+        assertThat(queueTokenRepository.findWaitingPosition(queueTokenRepository.findQueueTokenByTokenId(secondWaiting.tokenId().toString())))
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("즉시승격_대기토큰만료_활성자리변화없음_승격하지않음")
+    void expiresQueueToken_WaitingTokenExpired_NoPromotion() throws Exception {
+        queueTokenRepository.save(TestDataFactory.createQueueToken(UUID.randomUUID(), concertId));
+        QueueToken leavingWaiting = saveWaitingToken(1);
+        QueueToken waiting = saveWaitingToken(2);
+
+        queueTokenExpirationUseCase.expiresQueueToken(leavingWaiting.tokenId().toString(), leavingWaiting.expiresAt());
+
+        assertThat(awaitActive(waiting)).isFalse();
+        assertThat(queueTokenRepository.countActiveTokens(concertId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("즉시승격_만료활성토큰정리_정리된자리만큼대기토큰승격")
+    void cleanupStaleActiveTokens_PromotesImmediately() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        QueueToken staleToken = QueueToken.builder()
+                .tokenId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .concertId(concertId)
+                .status(QueueStatus.ACTIVE)
+                .position(0)
+                .issuedAt(now.minusHours(2))
+                .enteredAt(now.minusHours(2))
+                .expiresAt(now.minusMinutes(1)) // 결제 없이 활성 시간이 지난 토큰
+                .build();
+        queueTokenRepository.save(staleToken);
+        QueueToken waiting = saveWaitingToken(1);
+
+        queueCleanupScheduler.cleanupStaleActiveTokens();
+
+        assertThat(awaitActive(waiting)).isTrue();
+        assertThat(queueTokenRepository.countActiveTokens(concertId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("즉시승격_SSE구독자에게바로전송_승격된구독자는연결종료_남은구독자는유지")
+    void expiresQueueToken_PromotedSubscriberNotifiedImmediately() throws Exception {
+        QueueToken activeToken = TestDataFactory.createQueueToken(UUID.randomUUID(), concertId);
+        queueTokenRepository.save(activeToken);
+        QueueToken firstWaiting = saveWaitingToken(1);
+        QueueToken secondWaiting = saveWaitingToken(2);
+        int subscribersBefore = queuePositionBroadcaster.countSubscribers();
+        queuePositionBroadcaster.subscribe(firstWaiting);
+        queuePositionBroadcaster.subscribe(secondWaiting);
+        assertThat(queuePositionBroadcaster.countSubscribers()).isEqualTo(subscribersBefore + 2);
+
+        queueTokenExpirationUseCase.expiresQueueToken(activeToken.tokenId().toString(), activeToken.expiresAt());
+
+        // 활성화된 구독자는 순번 0 전송 후 연결이 종료되어 구독 목록에서 빠짐
+        assertThat(awaitSubscribers(subscribersBefore + 1)).isTrue();
+        assertThat(statusOf(firstWaiting)).isEqualTo(QueueStatus.ACTIVE);
+    }
+
+    // 대기 순번은 발급 시각(score) 순이므로, 순번이 뒤일수록 늦게 발급된 것으로 저장
+    private QueueToken saveWaitingToken(int position) {
+        LocalDateTime issuedAt = LocalDateTime.now().minusSeconds(10 - position);
+        QueueToken waitingToken = QueueToken.builder()
+                .tokenId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .concertId(concertId)
+                .status(QueueStatus.WAITING)
+                .position(position)
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plusMinutes(10))
+                .build();
+        queueTokenRepository.save(waitingToken);
+        return waitingToken;
+    }
+
+    private QueueStatus statusOf(QueueToken queueToken) {
+        return queueTokenRepository.findQueueTokenByTokenId(queueToken.tokenId().toString()).status();
+    }
+
+    // 즉시 승격은 별도 스레드에서 처리되므로 제한 시간 동안 활성화 여부 확인
+    private boolean awaitActive(QueueToken queueToken) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + PROMOTION_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (statusOf(queueToken) == QueueStatus.ACTIVE) return true;
+            Thread.sleep(20);
+        }
+        return false;
+    }
+
+    // SSE 전송은 즉시 승격 후 전송 스레드에서 처리되므로 제한 시간 동안 구독자 수 확인
+    private boolean awaitSubscribers(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + PROMOTION_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (queuePositionBroadcaster.countSubscribers() == expected) return true;
+            Thread.sleep(20);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,132 @@
+package kr.hhplus.be.server.api.queue;
+
+import kr.hhplus.be.server.api.TestDataFactory;
+import kr.hhplus.be.server.concert.port.out.ConcertRepository;
+import kr.hhplus.be.server.queue.domain.QueueStatus;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.domain.QueueTokenUtil;
+import kr.hhplus.be.server.queue.port.in.IssueTokenUseCase;
+import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
+import kr.hhplus.be.server.user.port.out.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 단일 Lua 스크립트 발급: 활성/대기 판단, 대기 순번, 중복 발급 시 기존 토큰 반환, TTL 설정 검증
+// (입장 한도 조정 스케줄러가 테스트 중 한도를 바꾸지 않도록 주기를 늘림)
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "queue.admission.adjust-interval-ms=3600000"
+})
+@Import(TestcontainersConfiguration.class)
+class QueueTokenIssueIntegrationTest {
+
+    private static final int MAX_ACTIVE = QueueTokenUtil.DEFAULT_MAX_ACTIVE_TOKEN_SIZE;
+
+    @Autowired
+    private IssueTokenUseCase issueTokenUseCase;
+
+    @Autowired
+    private QueueTokenRepository queueTokenRepository;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private UUID concertId;
+
+    @BeforeEach
+    void beforeEach() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 데이터 초기화
+        concertId = concertRepository.save(TestDataFactory.createConcert()).id();
+    }
+
+    @Test
+    @DisplayName("대기열토큰발급_입장한도까지활성_이후대기순번부여_발급결과와저장된토큰일치")
+    void issueQueueToken_ActiveUntilLimit_ThenWaitingWithPosition() {
+        List<QueueToken> activeTokens = new ArrayList<>();
+        for (int i = 0; i < MAX_ACTIVE; i++) {
+            activeTokens.add(issueTokenUseCase.issueQueueToken(newUserId(), concertId));
+        }
+        QueueToken firstWaiting = issueTokenUseCase.issueQueueToken(newUserId(), concertId);
+        QueueToken secondWaiting = issueTokenUseCase.issueQueueToken(newUserId(), concertId);
+
+        assertThat(activeTokens).allSatisfy(token -> {
+            assertThat(token.status()).isEqualTo(QueueStatus.ACTIVE);
+            assertThat(token.position()).isZero();
+            assertThat(token.enteredAt()).isNotNull();
+            assertThat(Duration.between(token.issuedAt(), token.expiresAt())).isEqualTo(Duration.ofHours(1));
+        });
+        assertThat(firstWaiting.status()).isEqualTo(QueueStatus.WAITING);
+        assertThat(firstWaiting.position()).isEqualTo(1);
+        // 같은 초에 발급된 대기 토큰끼리는 score가 같아 member 순으로 정렬되므로, 발급 시점의 순번만 확인
+        assertThat(secondWaiting.position()).isBetween(1, 2);
+        assertThat(Duration.between(secondWaiting.issuedAt(), secondWaiting.expiresAt())).isEqualTo(Duration.ofMinutes(10));
+
+        // 스크립트 한 번으로 ZSET 등록, 정리 대상 등록, 토큰 정보 저장까지 완료
+        assertThat(queueTokenRepository.countActiveTokens(concertId)).isEqualTo(MAX_ACTIVE);
+        assertThat(queueTokenRepository.countWaitingTokens(concertId)).isEqualTo(2);
+        assertThat(queueTokenRepository.findQueuedConcertIds()).containsExactly(concertId);
+        QueueToken stored = queueTokenRepository.findQueueTokenByTokenId(secondWaiting.tokenId().toString());
+        assertThat(stored.status()).isEqualTo(QueueStatus.WAITING);
+        assertThat(queueTokenRepository.findWaitingPosition(stored)).isEqualTo(secondWaiting.position());
+        assertThat(stringRedisTemplate.keys("qt:*")).hasSize(MAX_ACTIVE + 2)
+                .allSatisfy(key -> assertThat(stringRedisTemplate.getExpire(key)).isPositive());
+    }
+
+    @Test
+    @DisplayName("대기열토큰발급_같은사용자재요청_새로발급하지않고기존토큰과현재대기순번반환")
+    void issueQueueToken_SameUser_ReturnsExistingWithCurrentPosition() {
+        for (int i = 0; i < MAX_ACTIVE; i++) {
+            issueTokenUseCase.issueQueueToken(newUserId(), concertId);
+        }
+        QueueToken ahead = issueTokenUseCase.issueQueueToken(newUserId(), concertId);
+        UUID userId = newUserId();
+        QueueToken issued = issueTokenUseCase.issueQueueToken(userId, concertId);
+        assertThat(queueTokenRepository.countWaitingTokens(concertId)).isEqualTo(2);
+
+        // 앞선 대기 토큰이 빠지면 재요청 시 줄어든 순번을 반환
+        queueTokenRepository.expiresQueueToken(ahead.tokenId().toString());
+        QueueToken reissued = issueTokenUseCase.issueQueueToken(userId, concertId);
+
+        assertThat(reissued.tokenId()).isEqualTo(issued.tokenId());
+        assertThat(reissued.status()).isEqualTo(QueueStatus.WAITING);
+        assertThat(reissued.position()).isEqualTo(1);
+        assertThat(reissued.issuedAt()).isEqualTo(issued.issuedAt());
+        assertThat(queueTokenRepository.countWaitingTokens(concertId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열토큰발급_콘서트별입장한도가있으면기본값대신적용")
+    void issueQueueToken_PerConcertAdmissionLimit() {
+        stringRedisTemplate.opsForHash().put(QueueTokenUtil.ADMISSION_LIMIT_KEY, concertId.toString(), "1");
+
+        QueueToken active = issueTokenUseCase.issueQueueToken(newUserId(), concertId);
+        QueueToken waiting = issueTokenUseCase.issueQueueToken(newUserId(), concertId);
+
+        assertThat(active.status()).isEqualTo(QueueStatus.ACTIVE);
+        assertThat(waiting.status()).isEqualTo(QueueStatus.WAITING);
+        assertThat(waiting.position()).isEqualTo(1);
+    }
+
+    private UUID newUserId() {
+        return userRepository.save(TestDataFactory.createUser()).id();
+    }
+}
@@ -0,0 +1,99 @@
+package kr.hhplus.be.server.api.queue;
+
+import kr.hhplus.be.server.api.TestDataFactory;
+import kr.hhplus.be.server.queue.adapter.out.persistence.RedisAtomicQueueTokenRepository;
+import kr.hhplus.be.server.queue.domain.QueueStatus;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 발급 스크립트를 거치지 않는 저장 경로(save, issueTokenAtomic)도 압축 포맷으로만 기록하는지 검증
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(TestcontainersConfiguration.class)
+class QueueTokenStorageFormatTest {
+
+    @Autowired
+    private QueueTokenRepository queueTokenRepository;
+
+    @Autowired
+    private RedisAtomicQueueTokenRepository redisAtomicQueueTokenRepository;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private UUID userId;
+    private UUID concertId;
+
+    @BeforeEach
+    void beforeEach() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 데이터 초기화
+        userId = UUID.randomUUID();
+        concertId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("활성토큰저장_압축포맷으로만기록_조회및활성토큰수반영")
+    void save_ActiveToken_CompactFormatOnly() {
+        QueueToken activeToken = TestDataFactory.createQueueToken(userId, concertId);
+
+        queueTokenRepository.save(activeToken);
+
+        assertThat(redisTemplate.keys("token:*")).isEmpty(); // 이전 포맷(token:info, token:id) 키 없음
+        assertThat(redisTemplate.keys("qt:*")).hasSize(1);
+
+        QueueToken found = queueTokenRepository.findQueueTokenByTokenId(activeToken.tokenId().toString());
+        assertThat(found.status()).isEqualTo(QueueStatus.ACTIVE);
+        assertThat(found.userId()).isEqualTo(userId);
+        assertThat(found.concertId()).isEqualTo(concertId);
+        assertThat(found.isExpired()).isFalse();
+        assertThat(queueTokenRepository.findTokenIdByUserIdAndConcertId(userId, concertId)).isEqualTo(activeToken.tokenId().toString());
+        assertThat(queueTokenRepository.countActiveTokens(concertId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기토큰저장_압축포맷member로대기열등록_대기순번조회")
+    void save_WaitingToken_CompactMember() {
+        QueueToken waitingToken = QueueToken.waitingTokenOf(UUID.randomUUID(), userId, concertId, 1, 10 * 60L);
+
+        queueTokenRepository.save(waitingToken);
+
+        QueueToken found = queueTokenRepository.findQueueTokenByTokenId(waitingToken.tokenId().toString());
+        assertThat(found.status()).isEqualTo(QueueStatus.WAITING);
+        assertThat(queueTokenRepository.findWaitingPosition(found)).isEqualTo(1);
+        assertThat(redisTemplate.keys("token:*")).isEmpty();
+
+        // 만료 처리 시 압축 포맷 키와 대기열 member가 모두 제거됨
+        queueTokenRepository.expiresQueueToken(waitingToken.tokenId().toString());
+        assertThat(queueTokenRepository.findQueueTokenByTokenId(waitingToken.tokenId().toString())).isNull();
+        assertThat(queueTokenRepository.countWaitingTokens(concertId)).isZero();
+    }
+
+    @Test
+    @DisplayName("원자적토큰저장_압축포맷으로기록_같은사용자재요청시기존토큰ID반환")
+    void issueTokenAtomic_CompactFormat_ReturnsExistingTokenId() {
+        QueueToken first = TestDataFactory.createQueueToken(userId, concertId);
+        QueueToken second = TestDataFactory.createQueueToken(userId, concertId);
+
+        String firstTokenId = redisAtomicQueueTokenRepository.issueTokenAtomic(userId, concertId, first);
+        String secondTokenId = redisAtomicQueueTokenRepository.issueTokenAtomic(userId, concertId, second);
+
+        assertThat(firstTokenId).isEqualTo(first.tokenId().toString());
+        assertThat(secondTokenId).isEqualTo(firstTokenId);
+        assertThat(redisTemplate.keys("token:*")).isEmpty();
+        assertThat(redisTemplate.keys("qt:*")).hasSize(1);
+        assertThat(queueTokenRepository.findQueueTokenByTokenId(firstTokenId).isActive()).isTrue();
+    }
+}
@@ -0,0 +1,142 @@
+package kr.hhplus.be.server.api.reservation;
+
+import kr.hhplus.be.server.common.exception.CustomException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.reservation.usecase.DistributedLockManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 비동기 분산락(RLockAsync) API의 상호 배제, 실패 시 해제, 획득 실패, 실행 스레드 검증
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(TestcontainersConfiguration.class)
+class AsyncLockConcurrencyTest {
+
+    private static final int THREAD_SIZE = 10;
+    private static final String EXECUTOR_THREAD_PREFIX = "async-lock-test-";
+
+    @Autowired
+    private DistributedLockManager distributedLockManager;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private ExecutorService executor;
+    private String key;
+
+    @BeforeEach
+    void beforeEach() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 데이터 초기화
+        AtomicInteger threadSequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(THREAD_SIZE,
+                runnable -> new Thread(runnable, EXECUTOR_THREAD_PREFIX + threadSequence.incrementAndGet()));
+        key = "test:async:" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void afterEach() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("비동기락_동시요청_한번에하나만실행")
+    void asyncLock_MutualExclusion() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicInteger completedCount = new AtomicInteger();
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_SIZE; i++) {
+            futures.add(distributedLockManager.executeWithLockAsync(key, () -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                TimeUnit.MILLISECONDS.sleep(50);
+                inFlight.decrementAndGet();
+                return completedCount.incrementAndGet();
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        assertThat(completedCount.get()).isEqualTo(THREAD_SIZE);
+        assertThat(maxInFlight.get()).isEqualTo(1);
+        assertThat(redissonClient.getLock("lock:" + key).isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비동기락_실행실패_락해제후_원래예외전달")
+    void asyncLock_TaskFails_Unlocks() throws Exception {
+        CompletableFuture<String> failed = distributedLockManager.executeWithLockAsync(key, () -> {
+            throw new CustomException(ErrorCode.SEAT_NOT_FOUND);
+        }, executor);
+
+        ExecutionException executionException = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertThat(executionException.getCause()).isInstanceOf(CustomException.class); // CompletionException으로 감싸지 않음
+        assertThat(((CustomException) executionException.getCause()).getErrorCode()).isEqualTo(ErrorCode.SEAT_NOT_FOUND);
+        assertThat(redissonClient.getLock("lock:" + key).isLocked()).isFalse();
+
+        // 해제되었으므로 다음 요청은 대기 없이 획득
+        assertThat(distributedLockManager.executeWithLockAsync(key, () -> "next", executor).get(1, TimeUnit.SECONDS)).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("비동기락_대기시간초과_LOCK_CONFLICT")
+    void asyncLock_WaitTimeout_LockConflict() throws Exception {
+        // 스레드를 점유하지 않고 락을 보유하는 비동기 작업
+        CompletableFuture<String> holderAction = new CompletableFuture<>();
+        CompletableFuture<String> holder = distributedLockManager.executeWithLockAsync(key, () -> holderAction);
+
+        CompletableFuture<String> waiter = distributedLockManager.executeWithLockAsync(key, () -> "waiter", executor);
+
+        ExecutionException executionException = assertThrows(ExecutionException.class, () -> waiter.get(10, TimeUnit.SECONDS));
+        assertThat(executionException.getCause()).isInstanceOf(CustomException.class);
+        assertThat(((CustomException) executionException.getCause()).getErrorCode()).isEqualTo(ErrorCode.LOCK_CONFLICT);
+
+        holderAction.complete("holder");
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("holder");
+        assertThat(redissonClient.getLock("lock:" + key).isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비동기락_Supplier는이벤트루프에서_Callable은지정한실행기에서실행")
+    void asyncLock_ExecutionThread() throws Exception {
+        AtomicReference<String> supplierThread = new AtomicReference<>();
+        AtomicReference<String> callableThread = new AtomicReference<>();
+
+        distributedLockManager.executeWithLockAsync(key, () -> {
+            supplierThread.set(Thread.currentThread().getName());
+            return CompletableFuture.completedFuture("supplier");
+        }).get(5, TimeUnit.SECONDS);
+        distributedLockManager.executeWithLockAsync(key, () -> {
+            callableThread.set(Thread.currentThread().getName());
+            return "callable";
+        }, executor).get(5, TimeUnit.SECONDS);
+
+        assertThat(supplierThread.get()).startsWith("redisson-netty"); // 블로킹 작업 금지
+        assertThat(callableThread.get()).startsWith(EXECUTOR_THREAD_PREFIX);
+    }
+}
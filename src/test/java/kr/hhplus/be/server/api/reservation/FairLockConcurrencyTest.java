@@ -0,0 +1,164 @@
+package kr.hhplus.be.server.api.reservation;
+
+import kr.hhplus.be.server.common.exception.CustomException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.reservation.usecase.DistributedLockManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 공정 락 모드(lock.fair.enabled)에서 키별 대기자 수 제한과 대기자 정리 검증 (보유자 1 + 대기자 1)
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "lock.fair.enabled=true",
+        "lock.fair.max-waiters=1"
+})
+@Import(TestcontainersConfiguration.class)
+class FairLockConcurrencyTest {
+
+    private static final String WAITERS_PREFIX = "lock:waiters:";
+
+    @Autowired
+    private DistributedLockManager distributedLockManager;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private String key;
+
+    @BeforeEach
+    void beforeEach() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 데이터 초기화
+        key = "test:fair:" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("공정락_대기자수초과_즉시거절_보유자와대기자는순서대로성공")
+    void fairLock_MaxWaitersExceeded_RejectedImmediately() throws Exception {
+        CountDownLatch holderLocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holder = supplyLocked(key, () -> {
+            holderLocked.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "holder";
+        });
+        assertThat(holderLocked.await(3, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> waiter = supplyLocked(key, () -> "waiter");
+        awaitWaiterCount(key, 2);
+
+        // 보유자 + 대기자 1명이 이미 있으므로 락 대기 없이 바로 거절 (executeWithLock도 공정 락 모드 적용)
+        long startMillis = System.currentTimeMillis();
+        CustomException customException = assertThrows(CustomException.class,
+                () -> distributedLockManager.executeWithLock(key, () -> { }));
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.LOCK_CONFLICT);
+        assertThat(System.currentTimeMillis() - startMillis).isLessThan(1000);
+        assertThat(waiterCount(key)).isEqualTo(2); // 거절된 요청은 대기자로 남지 않음
+
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("holder");
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("waiter");
+        assertThat(waiterCount(key)).isZero();
+    }
+
+    @Test
+    @DisplayName("공정락_대기시간초과_LOCK_CONFLICT_대기자수복구")
+    void fairLock_WaitTimeout_WaiterCountRestored() throws Exception {
+        CountDownLatch holderLocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holder = supplyLocked(key, () -> {
+            holderLocked.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return "holder";
+        });
+        assertThat(holderLocked.await(3, TimeUnit.SECONDS)).isTrue();
+
+        // 대기 시간(3초) 안에 보유자가 해제하지 않으므로 대기자는 LOCK_CONFLICT
+        ExecutionException executionException = assertThrows(ExecutionException.class,
+                () -> supplyLocked(key, () -> "waiter").get(10, TimeUnit.SECONDS));
+        assertThat(executionException.getCause()).isInstanceOf(CustomException.class);
+        assertThat(((CustomException) executionException.getCause()).getErrorCode()).isEqualTo(ErrorCode.LOCK_CONFLICT);
+        assertThat(waiterCount(key)).isEqualTo(1); // 시간 초과된 대기자는 빠지고 보유자만 남음
+
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("holder");
+        assertThat(waiterCount(key)).isZero();
+
+        // 대기자 수가 남지 않았으므로 이후 요청은 정상 획득
+        assertThat(distributedLockManager.executeWithLockHasReturn(key, () -> "next")).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("공정락_다중키_한키라도대기자수초과면_전체거절_다른키대기자되돌림")
+    void fairMultiLock_OneKeyFull_RejectsAll() throws Exception {
+        String otherKey = key + ":other";
+        CountDownLatch holderLocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holder = supplyLocked(key, () -> {
+            holderLocked.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "holder";
+        });
+        assertThat(holderLocked.await(3, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> waiter = supplyLocked(key, () -> "waiter");
+        awaitWaiterCount(key, 2);
+
+        CustomException customException = assertThrows(CustomException.class,
+                () -> distributedLockManager.executeWithMultiLockHasReturn(List.of(otherKey, key), () -> "multi"));
+
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.LOCK_CONFLICT);
+        assertThat(waiterCount(otherKey)).isZero(); // 먼저 들어간 다른 키의 대기자도 되돌림
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        waiter.get(5, TimeUnit.SECONDS);
+        assertThat(distributedLockManager.executeWithMultiLockHasReturn(List.of(otherKey, key), () -> "multi")).isEqualTo("multi");
+        assertThat(waiterCount(key)).isZero();
+        assertThat(waiterCount(otherKey)).isZero();
+    }
+
+    private <T> CompletableFuture<T> supplyLocked(String lockKey, Callable<T> transaction) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return distributedLockManager.executeWithLockHasReturn(lockKey, transaction);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    private int waiterCount(String lockKey) {
+        return redissonClient.getScoredSortedSet(WAITERS_PREFIX + lockKey, StringCodec.INSTANCE).size();
+    }
+
+    private void awaitWaiterCount(String lockKey, int expected) throws InterruptedException {
+        for (int i = 0; i < 50 && waiterCount(lockKey) != expected; i++) {
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        assertThat(waiterCount(lockKey)).isEqualTo(expected);
+    }
+}
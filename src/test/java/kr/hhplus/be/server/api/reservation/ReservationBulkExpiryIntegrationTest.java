@@ -0,0 +1,166 @@
+package kr.hhplus.be.server.api.reservation;
+
+import kr.hhplus.be.server.api.TestDataFactory;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+import kr.hhplus.be.server.concert.port.out.ConcertDateRepository;
+import kr.hhplus.be.server.concert.port.out.ConcertRepository;
+import kr.hhplus.be.server.concert.port.out.SeatCountCounterRepository;
+import kr.hhplus.be.server.concert.port.out.SeatRepository;
+import kr.hhplus.be.server.payment.domain.Payment;
+import kr.hhplus.be.server.payment.domain.enums.PaymentStatus;
+import kr.hhplus.be.server.payment.port.out.PaymentRepository;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationsExpiredEvent;
+import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.in.ReservationCancellationUseCase;
+import kr.hhplus.be.server.reservation.port.out.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 만료 예약 일괄 처리(cancelAllIfUnpaid)가 1건씩 처리(cancelIfUnpaid)와 같은 결과를 만드는지 검증
+// (요약 이벤트는 아웃박스에 기록하여 확인하고, 릴레이는 테스트 중 실행되지 않도록 주기를 늘림)
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "event.outbox.enabled=true",
+        "event.outbox.relay-delay-ms=3600000"
+})
+@Import(TestcontainersConfiguration.class)
+class ReservationBulkExpiryIntegrationTest {
+
+    @Autowired
+    private ReservationCancellationUseCase reservationCancellationUseCase;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private ConcertDateRepository concertDateRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private SeatCountCounterRepository seatCountCounterRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private UUID concertDateId;
+
+    @BeforeEach
+    void beforeEach() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 데이터 초기화
+        jdbcTemplate.update("DELETE FROM EVENT_OUTBOX");
+        Concert concert = concertRepository.save(TestDataFactory.createConcert());
+        concertDateId = concertDateRepository.save(TestDataFactory.createConcertDate(concert.id())).id();
+    }
+
+    @Test
+    @DisplayName("만료예약일괄처리_결제예약좌석상태와잔여좌석수변경분이1건씩처리와동일_PENDING아닌예약은건너뜀")
+    void cancelAllIfUnpaid_SameOutcomeAsCancelIfUnpaid() {
+        Reservation bulkFirst = reserve(ReservationStatus.PENDING, PaymentStatus.PENDING);
+        Reservation bulkSecond = reserve(ReservationStatus.PENDING, PaymentStatus.PENDING);
+        Reservation single = reserve(ReservationStatus.PENDING, PaymentStatus.PENDING);
+        Reservation paid = reserve(ReservationStatus.SUCCESS, PaymentStatus.SUCCESS); // 만료 직전에 결제된 예약
+
+        int expiredCount = reservationCancellationUseCase.cancelAllIfUnpaid(
+                List.of(bulkFirst.id(), bulkSecond.id(), paid.id(), UUID.randomUUID()));
+        reservationCancellationUseCase.cancelIfUnpaid(single.id());
+
+        assertThat(expiredCount).isEqualTo(2);
+        for (Reservation bulk : List.of(bulkFirst, bulkSecond)) {
+            assertSameExpiredState(bulk, single);
+        }
+
+        // 결제된 예약은 잠금 후 상태 확인에서 제외되어 그대로 유지
+        assertThat(reservationRepository.findById(paid.id()).orElseThrow().status()).isEqualTo(ReservationStatus.SUCCESS);
+        assertThat(paymentRepository.findByReservationId(paid.id()).orElseThrow().status()).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(seatRepository.findById(paid.seatId()).orElseThrow().status()).isEqualTo(SeatStatus.RESERVED);
+
+        // 잔여 좌석 수는 만료된 예약 수(일괄 2 + 단건 1)만큼만 증가
+        while (Boolean.TRUE.equals(transactionTemplate.execute(status -> seatCountCounterRepository.fold() > 0))) {
+        }
+        assertThat(concertDateRepository.findById(concertDateId).orElseThrow().availableSeatCount())
+                .isEqualTo(TestDataFactory.INIT_AVAILABLE_SEAT_COUNT + 3);
+
+        // 일괄 처리는 요약 이벤트 1건만 기록
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM EVENT_OUTBOX WHERE event_type = ?", Integer.class,
+                ReservationsExpiredEvent.class.getName())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료예약일괄처리_대상모두PENDING아님_변경없음_이벤트없음")
+    void cancelAllIfUnpaid_NoPendingReservations_NoChanges() {
+        Reservation paid = reserve(ReservationStatus.SUCCESS, PaymentStatus.SUCCESS);
+        Reservation alreadyExpired = reserve(ReservationStatus.EXPIRED, PaymentStatus.EXPIRED);
+
+        int expiredCount = reservationCancellationUseCase.cancelAllIfUnpaid(List.of(paid.id(), alreadyExpired.id()));
+
+        assertThat(expiredCount).isZero();
+        assertThat(seatRepository.findById(alreadyExpired.seatId()).orElseThrow().status()).isEqualTo(SeatStatus.RESERVED);
+        assertThat(jdbcTemplate.queryForObject("SELECT COALESCE(SUM(delta), 0) FROM CONCERT_DATE_SEAT_COUNTER WHERE concert_date_id = ?",
+                Long.class, concertDateId.toString())).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM EVENT_OUTBOX", Integer.class)).isZero();
+    }
+
+    private void assertSameExpiredState(Reservation bulk, Reservation single) {
+        Reservation bulkReservation = reservationRepository.findById(bulk.id()).orElseThrow();
+        Reservation singleReservation = reservationRepository.findById(single.id()).orElseThrow();
+        assertThat(bulkReservation.status()).isEqualTo(singleReservation.status()).isEqualTo(ReservationStatus.EXPIRED);
+
+        Payment bulkPayment = paymentRepository.findByReservationId(bulk.id()).orElseThrow();
+        Payment singlePayment = paymentRepository.findByReservationId(single.id()).orElseThrow();
+        assertThat(bulkPayment.status()).isEqualTo(singlePayment.status()).isEqualTo(PaymentStatus.EXPIRED);
+        assertThat(bulkPayment.failureReason()).isEqualTo(singlePayment.failureReason());
+
+        Seat bulkSeat = seatRepository.findById(bulk.seatId()).orElseThrow();
+        Seat singleSeat = seatRepository.findById(single.seatId()).orElseThrow();
+        assertThat(bulkSeat.status()).isEqualTo(singleSeat.status()).isEqualTo(SeatStatus.AVAILABLE);
+    }
+
+    private Reservation reserve(ReservationStatus reservationStatus, PaymentStatus paymentStatus) {
+        Seat seat = seatRepository.save(TestDataFactory.createReservedSeat(concertDateId));
+        UUID userId = UUID.randomUUID();
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                .userId(userId)
+                .seatId(seat.id())
+                .status(reservationStatus)
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build());
+        paymentRepository.save(Payment.builder()
+                .userId(userId)
+                .reservationId(reservation.id())
+                .amount(TestDataFactory.INIT_SEAT_PRICE)
+                .status(paymentStatus)
+                .build());
+        return reservation;
+    }
+}
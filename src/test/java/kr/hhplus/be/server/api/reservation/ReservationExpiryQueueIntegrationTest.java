@@ -0,0 +1,135 @@
+package kr.hhplus.be.server.api.reservation;
+
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationExpiration;
+import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.in.ReservationExpiryUseCase;
+import kr.hhplus.be.server.reservation.port.out.ReservationExpiryQueueRepository;
+import kr.hhplus.be.server.reservation.port.out.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 예약 만료 지연 큐: 꺼내기(임대) → 임대 만료 후 재처리 → 확인 처리 순환과 DB 기준 재구성 검증
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(TestcontainersConfiguration.class)
+class ReservationExpiryQueueIntegrationTest {
+
+    private static final String EXPIRY_QUEUE_KEY = "reservation:expiry";
+    private static final String REBUILD_LOCK_KEY = "reservation:expiry:rebuild";
+
+    @Autowired
+    private ReservationExpiryQueueRepository reservationExpiryQueueRepository;
+
+    @Autowired
+    private ReservationExpiryUseCase reservationExpiryUseCase;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    @Qualifier("luaScriptRedisTemplate")
+    private RedisTemplate<String, String> luaScriptRedisTemplate;
+
+    @BeforeEach
+    void beforeEach() {
+        luaScriptRedisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 데이터 초기화
+        reservationRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("만료지연큐_만료된예약만임대_임대중에는다시꺼내지않음_임대만료후재처리_확인처리후제거")
+    void claimDue_LeaseAndAcknowledgeCycle() {
+        // 만료 스케줄러가 먼저 꺼내가지 않도록 미래 시각을 기준 시각으로 사용
+        LocalDateTime now = LocalDateTime.now().plusHours(1);
+        UUID dueId = UUID.randomUUID();
+        UUID futureId = UUID.randomUUID();
+        reservationExpiryQueueRepository.schedule(dueId, now.minusSeconds(1));
+        reservationExpiryQueueRepository.schedule(futureId, now.plusMinutes(5));
+
+        LocalDateTime leaseUntil = now.plusSeconds(30);
+        assertThat(reservationExpiryQueueRepository.claimDue(now, leaseUntil, 10)).containsExactly(dueId);
+        assertThat(reservationExpiryQueueRepository.claimDue(now, leaseUntil, 10)).isEmpty(); // 다른 인스턴스가 처리 중
+
+        // 확인 처리 전에 중단되면 임대 만료 후 다시 꺼내짐
+        LocalDateTime afterLease = leaseUntil.plusSeconds(1);
+        assertThat(reservationExpiryQueueRepository.claimDue(afterLease, afterLease.plusSeconds(30), 10)).containsExactly(dueId);
+
+        reservationExpiryQueueRepository.acknowledge(List.of(dueId));
+        assertThat(luaScriptRedisTemplate.opsForZSet().range(EXPIRY_QUEUE_KEY, 0, -1)).containsExactly(futureId.toString());
+    }
+
+    @Test
+    @DisplayName("만료지연큐재구성_같은만료시각예약도키셋페이지로누락없이조회_PENDING만등록_임대중인예약은덮어쓰지않음")
+    void rebuild_KeysetPagingAndScheduleIfAbsent() {
+        LocalDateTime sameExpiresAt = LocalDateTime.now().plusMinutes(5).truncatedTo(ChronoUnit.SECONDS);
+        List<UUID> pendingIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            pendingIds.add(save(ReservationStatus.PENDING, sameExpiresAt));
+        }
+        save(ReservationStatus.SUCCESS, sameExpiresAt);
+
+        // 같은 만료 시각 안에서는 ID 순으로 이어서 조회 (페이지 크기 2)
+        List<UUID> pagedIds = new ArrayList<>();
+        ReservationExpiration after = null;
+        List<ReservationExpiration> page;
+        do {
+            page = reservationRepository.findPendingReservationExpirations(after, 2);
+            page.forEach(expiration -> pagedIds.add(expiration.reservationId()));
+            if (!page.isEmpty()) after = page.get(page.size() - 1);
+        } while (page.size() == 2);
+        assertThat(pagedIds).containsExactlyInAnyOrderElementsOf(pendingIds).doesNotHaveDuplicates();
+
+        // 처리 중(임대)인 예약의 score는 재구성으로 덮어쓰지 않음
+        LocalDateTime leasedUntil = LocalDateTime.now().plusSeconds(30);
+        reservationExpiryQueueRepository.schedule(pendingIds.get(0), leasedUntil);
+
+        assertThat(reservationExpiryUseCase.rebuild()).isEqualTo(pendingIds.size());
+        assertThat(luaScriptRedisTemplate.opsForZSet().zCard(EXPIRY_QUEUE_KEY)).isEqualTo((long) pendingIds.size());
+        assertThat(luaScriptRedisTemplate.opsForZSet().score(EXPIRY_QUEUE_KEY, pendingIds.get(0).toString()))
+                .isEqualTo((double) leasedUntil.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("만료지연큐재구성_완료후재구성권한해제_다른인스턴스가보유한권한은해제하지않음")
+    void rebuild_ReleasesLockOnlyForOwner() {
+        save(ReservationStatus.PENDING, LocalDateTime.now().plusMinutes(5));
+
+        assertThat(reservationExpiryUseCase.rebuild()).isEqualTo(1);
+        assertThat(luaScriptRedisTemplate.hasKey(REBUILD_LOCK_KEY)).isFalse(); // 다음 보정 주기에 바로 실행 가능
+        assertThat(reservationExpiryUseCase.rebuild()).isEqualTo(1);
+
+        // 다른 인스턴스가 재구성 중이면 건너뛰고, 그 권한을 해제하지 않음
+        assertThat(reservationExpiryQueueRepository.tryAcquireRebuild("other-node", Duration.ofMinutes(5))).isTrue();
+        assertThat(reservationExpiryUseCase.rebuild()).isZero();
+        reservationExpiryQueueRepository.releaseRebuild("this-node");
+        assertThat(luaScriptRedisTemplate.opsForValue().get(REBUILD_LOCK_KEY)).isEqualTo("other-node");
+    }
+
+    private UUID save(ReservationStatus status, LocalDateTime expiresAt) {
+        return reservationRepository.save(Reservation.builder()
+                .userId(UUID.randomUUID())
+                .seatId(UUID.randomUUID())
+                .status(status)
+                .expiresAt(expiresAt)
+                .build()).id();
+    }
+}
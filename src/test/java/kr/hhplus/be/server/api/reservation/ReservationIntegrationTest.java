@@ -144,7 +144,7 @@ class ReservationIntegrationTest {
         assertThat(seat.status()).isEqualTo(SeatStatus.RESERVED);
 
         // Redis에서 좌석 홀드 상태 확인
-        boolean isHoldSeat = seatHoldRepository.isHoldSeat(seatId, userId);
+        boolean isHoldSeat = seatHoldRepository.isHoldSeat(concertDateId, seatId, userId);
         assertThat(isHoldSeat).isTrue();
 
         TestTransaction.end();
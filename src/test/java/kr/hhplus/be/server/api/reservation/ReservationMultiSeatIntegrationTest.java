@@ -0,0 +1,177 @@
+package kr.hhplus.be.server.api.reservation;
+
+import kr.hhplus.be.server.api.TestDataFactory;
+import kr.hhplus.be.server.common.exception.CustomException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+import kr.hhplus.be.server.concert.port.out.ConcertDateRepository;
+import kr.hhplus.be.server.concert.port.out.ConcertRepository;
+import kr.hhplus.be.server.concert.port.out.SeatCountCounterRepository;
+import kr.hhplus.be.server.concert.port.out.SeatRepository;
+import kr.hhplus.be.server.queue.adapter.out.persistence.RedisAtomicQueueTokenRepository;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.in.ReservationCreateInput;
+import kr.hhplus.be.server.reservation.port.in.ReserveSeatResult;
+import kr.hhplus.be.server.reservation.port.in.dto.ReserveSeatsCommand;
+import kr.hhplus.be.server.reservation.port.out.ReservationRepository;
+import kr.hhplus.be.server.reservation.usecase.SeatFastRejectGuard;
+import kr.hhplus.be.server.user.port.out.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 여러 좌석 일괄 예약: 좌석별 락을 MultiLock으로 한 번에 획득하고 하나의 트랜잭션으로 모두 성공하거나 모두 실패하는지 검증
+// (예약생성 이벤트는 아웃박스에 기록하고, 릴레이는 테스트 중 실행되지 않도록 주기를 늘림)
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "event.outbox.enabled=true",
+        "event.outbox.relay-delay-ms=3600000"
+})
+@Import(TestcontainersConfiguration.class)
+class ReservationMultiSeatIntegrationTest {
+
+    @Autowired
+    private ReservationCreateInput reservationCreateInput;
+
+    @Autowired
+    private SeatFastRejectGuard seatFastRejectGuard;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private ConcertDateRepository concertDateRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SeatCountCounterRepository seatCountCounterRepository;
+
+    @Autowired
+    private RedisAtomicQueueTokenRepository redisAtomicQueueTokenRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private UUID concertId;
+    private UUID concertDateId;
+    private String activeTokenId;
+
+    @BeforeEach
+    void beforeEach() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 데이터 초기화
+        Concert concert = concertRepository.save(TestDataFactory.createConcert());
+        concertId = concert.id();
+        concertDateId = concertDateRepository.save(TestDataFactory.createConcertDate(concertId)).id();
+
+        UUID userId = userRepository.save(TestDataFactory.createUser()).id();
+        QueueToken queueToken = TestDataFactory.createQueueToken(userId, concertId);
+        activeTokenId = redisAtomicQueueTokenRepository.issueTokenAtomic(userId, concertId, queueToken);
+    }
+
+    @Test
+    @DisplayName("여러_좌석_예약_성공_모든좌석예약됨_잔여좌석수는좌석수만큼차감_같은좌석재요청은거절")
+    void reserveSeats_Success() {
+        List<UUID> seatIds = List.of(availableSeat(1), availableSeat(2), availableSeat(3));
+
+        List<ReserveSeatResult> results = reservationCreateInput.reserveSeats(command(seatIds));
+
+        assertThat(results).extracting(ReserveSeatResult::seatId).containsExactlyElementsOf(seatIds);
+        assertThat(results).extracting(ReserveSeatResult::status).containsOnly(ReservationStatus.PENDING);
+        seatIds.forEach(seatId -> assertThat(seatRepository.findById(seatId).orElseThrow().status()).isEqualTo(SeatStatus.RESERVED));
+        assertThat(reservationsOf(seatIds)).hasSize(seatIds.size());
+        assertThat(foldedAvailableSeatCount()).isEqualTo(TestDataFactory.INIT_AVAILABLE_SEAT_COUNT - seatIds.size());
+
+        // 예약 후에는 좌석 상태 캐시로 락 대기 없이 거절
+        CustomException customException = assertThrows(CustomException.class,
+                () -> reservationCreateInput.reserveSeats(command(seatIds)));
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.ALREADY_RESERVED_SEAT);
+    }
+
+    @Test
+    @DisplayName("여러_좌석_예약_실패_일부좌석이미예약됨_전체롤백_나머지좌석은다시예약가능")
+    void reserveSeats_PartialConflict_RolledBack() {
+        UUID available = availableSeat(1);
+        UUID reserved = seatRepository.save(TestDataFactory.createReservedSeat(concertDateId)).id(); // DB 기준 이미 예약된 좌석
+
+        CustomException customException = assertThrows(CustomException.class,
+                () -> reservationCreateInput.reserveSeats(command(List.of(available, reserved))));
+
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.ALREADY_RESERVED_SEAT);
+        assertThat(seatRepository.findById(available).orElseThrow().status()).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(reservationsOf(List.of(available, reserved))).isEmpty();
+        assertThat(foldedAvailableSeatCount()).isEqualTo(TestDataFactory.INIT_AVAILABLE_SEAT_COUNT);
+
+        // 롤백된 좌석은 좌석 상태 캐시에서도 해제되어 다른 좌석과 함께 다시 예약 가능
+        UUID other = availableSeat(2);
+        assertThat(reservationCreateInput.reserveSeats(command(List.of(available, other)))).hasSize(2);
+        assertThat(seatRepository.findById(available).orElseThrow().status()).isEqualTo(SeatStatus.RESERVED);
+    }
+
+    @Test
+    @DisplayName("여러_좌석_예약_실패_일부좌석다른요청이처리중_락획득없이거절_먼저진입한좌석해제")
+    void reserveSeats_PartialInProgress_FastRejected() {
+        UUID first = availableSeat(1);
+        UUID inProgress = availableSeat(2);
+        assertThat(seatFastRejectGuard.tryEnter(inProgress)).isTrue(); // 다른 요청이 처리 중인 좌석
+
+        CustomException customException = assertThrows(CustomException.class,
+                () -> reservationCreateInput.reserveSeats(command(List.of(first, inProgress))));
+
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.ALREADY_RESERVED_SEAT);
+        assertThat(seatRepository.findById(first).orElseThrow().status()).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(seatFastRejectGuard.tryEnter(first)).isTrue(); // 먼저 진입한 좌석은 해제됨
+        seatFastRejectGuard.releaseAll(List.of(first, inProgress));
+    }
+
+    private ReserveSeatsCommand command(List<UUID> seatIds) {
+        return new ReserveSeatsCommand(concertId, concertDateId, seatIds, activeTokenId);
+    }
+
+    private UUID availableSeat(int seatNo) {
+        return seatRepository.save(TestDataFactory.createSeatWithSeatNo(concertDateId, seatNo)).id();
+    }
+
+    private List<Reservation> reservationsOf(List<UUID> seatIds) {
+        return reservationRepository.findAll().stream()
+                .filter(reservation -> seatIds.contains(reservation.seatId()))
+                .toList();
+    }
+
+    // 폴딩 스케줄러와 무관하게 누적된 변경분을 모두 반영한 뒤 잔여 좌석 수 조회
+    private long foldedAvailableSeatCount() {
+        while (Boolean.TRUE.equals(transactionTemplate.execute(status -> seatCountCounterRepository.fold() > 0))) {
+        }
+        return jdbcTemplate.queryForObject("SELECT available_seat_count FROM CONCERT_DATE WHERE id = ?", Long.class,
+                concertDateId.toString());
+    }
+}
@@ -0,0 +1,212 @@
+package kr.hhplus.be.server.api.reservation;
+
+import kr.hhplus.be.server.api.TestDataFactory;
+import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
+import kr.hhplus.be.server.concert.port.out.SeatRepository;
+import kr.hhplus.be.server.payment.domain.Payment;
+import kr.hhplus.be.server.payment.domain.enums.PaymentStatus;
+import kr.hhplus.be.server.reservation.adapter.out.persistence.RedisReservationOutboxRepository;
+import kr.hhplus.be.server.reservation.domain.PendingReservation;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationOutboxEntry;
+import kr.hhplus.be.server.reservation.domain.WriteBehindResult;
+import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
+import kr.hhplus.be.server.reservation.domain.enums.SeatClaimResult;
+import kr.hhplus.be.server.reservation.port.out.ReservationWriteBehindRepository;
+import kr.hhplus.be.server.reservation.port.out.SeatClaimRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Redis 우선 좌석 예약(write-behind) 경로 검증
+// - claimSeat.lua : 좌석 선점(CAS)과 아웃박스 기록이 함께 일어나는지
+// - RedisReservationOutboxRepository : 다른 소비자의 미확인 레코드 XCLAIM, 전달 횟수 초과/해석 불가 레코드 dead-letter
+// - JdbcReservationWriteBehindRepository : 좌석 확보 실패 처리, 재전달 레코드의 멱등 처리
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(TestcontainersConfiguration.class)
+class ReservationWriteBehindIntegrationTest {
+
+    private static final String OUTBOX_KEY = "reservation:outbox";
+    private static final String DEAD_LETTER_KEY = "reservation:outbox:dead";
+
+    @Autowired
+    @Qualifier("luaScriptRedisTemplate")
+    private RedisTemplate<String, String> luaScriptRedisTemplate;
+
+    @Autowired
+    private SeatClaimRepository seatClaimRepository;
+
+    @Autowired
+    private ReservationWriteBehindRepository reservationWriteBehindRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID concertDateId;
+
+    @BeforeEach
+    void beforeEach() {
+        luaScriptRedisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 데이터 초기화
+        concertDateId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("좌석선점스크립트_좌석상태미적재시NOT_LOADED_선점성공시아웃박스기록_중복선점과DB예약좌석거절")
+    void claimSeat_CasAndOutboxInSingleCall() {
+        UUID dbReservedSeatId = UUID.randomUUID();
+        PendingReservation first = pendingReservation(UUID.randomUUID());
+        PendingReservation second = pendingReservation(first.reservation().seatId());
+
+        assertThat(seatClaimRepository.claim(first)).isEqualTo(SeatClaimResult.NOT_LOADED);
+
+        seatClaimRepository.load(concertDateId, List.of(dbReservedSeatId), LocalDateTime.now().plusDays(1));
+        assertThat(seatClaimRepository.claim(first)).isEqualTo(SeatClaimResult.CLAIMED);
+        assertThat(seatClaimRepository.claim(second)).isEqualTo(SeatClaimResult.ALREADY_CLAIMED);
+        assertThat(seatClaimRepository.claim(pendingReservation(dbReservedSeatId))).isEqualTo(SeatClaimResult.ALREADY_CLAIMED);
+        assertThat(luaScriptRedisTemplate.opsForStream().size(OUTBOX_KEY)).isEqualTo(1L); // 선점에 성공한 예약만 기록
+
+        // 다른 예약의 해제 요청은 무시하고, 선점한 예약이 해제하면 다시 선점 가능
+        seatClaimRepository.release(concertDateId, first.reservation().seatId(), second.reservation().id());
+        assertThat(seatClaimRepository.claim(second)).isEqualTo(SeatClaimResult.ALREADY_CLAIMED);
+        seatClaimRepository.release(concertDateId, first.reservation().seatId(), first.reservation().id());
+        assertThat(seatClaimRepository.claim(second)).isEqualTo(SeatClaimResult.CLAIMED);
+    }
+
+    @Test
+    @DisplayName("아웃박스조회_다른소비자의미확인레코드XCLAIM_전달횟수초과시dead-letter이동")
+    void read_ClaimsIdleRecordsAndDeadLettersAfterMaxDeliveries() {
+        RedisReservationOutboxRepository nodeA = outboxRepository("node-a");
+        RedisReservationOutboxRepository nodeB = outboxRepository("node-b");
+        seatClaimRepository.load(concertDateId, List.of(), LocalDateTime.now().plusDays(1));
+        PendingReservation pendingReservation = pendingReservation(UUID.randomUUID());
+        seatClaimRepository.claim(pendingReservation);
+
+        // node-a가 읽고 확인 처리 전에 중단된 상황
+        List<ReservationOutboxEntry> readByA = nodeA.read(10);
+        assertThat(readByA).extracting(entry -> entry.pendingReservation().reservation().id())
+                .containsExactly(pendingReservation.reservation().id());
+
+        // node-b가 방치된 레코드를 가져옴 (전달 2회), 이후 자신의 pending 레코드로 다시 처리 (전달 3회)
+        assertThat(nodeB.read(10)).extracting(ReservationOutboxEntry::entryId).containsExactly(readByA.get(0).entryId());
+        assertThat(nodeB.read(10)).extracting(ReservationOutboxEntry::entryId).containsExactly(readByA.get(0).entryId());
+
+        // max-deliveries(3)에 도달하면 dead-letter 스트림으로 옮기고 확인 처리
+        assertThat(nodeB.read(10)).isEmpty();
+        assertThat(luaScriptRedisTemplate.opsForStream().size(DEAD_LETTER_KEY)).isEqualTo(1L);
+        assertThat(luaScriptRedisTemplate.opsForStream().pending(OUTBOX_KEY, "reservation-write-behind").getTotalPendingMessages()).isZero();
+    }
+
+    @Test
+    @DisplayName("아웃박스조회_해석할수없는레코드_바로dead-letter이동_확인처리후스트림에서삭제")
+    void read_UnparseableRecord_DeadLettered() {
+        RedisReservationOutboxRepository nodeA = outboxRepository("node-a");
+        luaScriptRedisTemplate.opsForStream().add(StreamRecords.newRecord().in(OUTBOX_KEY).ofMap(Map.of("r", "not-a-uuid")));
+        seatClaimRepository.load(concertDateId, List.of(), LocalDateTime.now().plusDays(1));
+        seatClaimRepository.claim(pendingReservation(UUID.randomUUID()));
+
+        List<ReservationOutboxEntry> entries = nodeA.read(10);
+
+        assertThat(entries).hasSize(1);
+        assertThat(luaScriptRedisTemplate.opsForStream().size(DEAD_LETTER_KEY)).isEqualTo(1L);
+
+        nodeA.acknowledge(List.of(entries.get(0).entryId()));
+        assertThat(luaScriptRedisTemplate.opsForStream().size(OUTBOX_KEY)).isZero();
+        assertThat(nodeA.read(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("DB일괄반영_이미예약된좌석은실패처리_재전달시반영된예약은alreadySaved_결제중복없음")
+    void saveAll_RejectsReservedSeat_RedeliveryIsIdempotent() {
+        UUID availableSeatId = seatRepository.save(TestDataFactory.createSeat(concertDateId)).id();
+        UUID reservedSeatId = seatRepository.save(TestDataFactory.createReservedSeat(concertDateId)).id();
+        PendingReservation accepted = pendingReservation(availableSeatId);
+        PendingReservation conflicted = pendingReservation(reservedSeatId);
+
+        WriteBehindResult first = transactionTemplate.execute(status ->
+                reservationWriteBehindRepository.saveAll(List.of(accepted, conflicted)));
+
+        assertThat(first.saved()).containsExactly(accepted);
+        assertThat(first.rejected()).containsExactly(conflicted);
+        assertThat(first.alreadySaved()).isEmpty();
+        assertThat(reservationStatus(accepted)).isEqualTo(ReservationStatus.PENDING.name());
+        assertThat(reservationStatus(conflicted)).isEqualTo(ReservationStatus.FAILED.name());
+        assertThat(seatRepository.findById(availableSeatId).orElseThrow().status()).isEqualTo(SeatStatus.RESERVED);
+        assertThat(paymentCount(accepted)).isEqualTo(1);
+        assertThat(paymentCount(conflicted)).isZero();
+
+        // DB 커밋 후 확인 처리 전에 중단되어 같은 레코드가 다시 전달된 경우
+        WriteBehindResult redelivered = transactionTemplate.execute(status ->
+                reservationWriteBehindRepository.saveAll(List.of(accepted, conflicted)));
+
+        assertThat(redelivered.saved()).isEmpty(); // 잔여 좌석 수는 다시 반영하지 않음
+        assertThat(redelivered.alreadySaved()).containsExactly(accepted); // 예약생성 이벤트 재발행 대상
+        assertThat(redelivered.rejected()).containsExactly(conflicted);
+        assertThat(paymentCount(accepted)).isEqualTo(1);
+    }
+
+    private RedisReservationOutboxRepository outboxRepository(String consumerName) {
+        // claim-idle-ms 0: 다른 소비자의 미확인 레코드를 바로 가져옴, max-deliveries 3
+        RedisReservationOutboxRepository repository = new RedisReservationOutboxRepository(luaScriptRedisTemplate, true, consumerName, 0, 3);
+        repository.createConsumerGroup();
+        return repository;
+    }
+
+    private PendingReservation pendingReservation(UUID seatId) {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Reservation reservation = Reservation.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .seatId(seatId)
+                .status(ReservationStatus.PENDING)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .expiresAt(createdAt.plusMinutes(5))
+                .build();
+        Payment payment = Payment.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .reservationId(reservation.id())
+                .amount(TestDataFactory.INIT_SEAT_PRICE)
+                .status(PaymentStatus.PENDING)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+        return new PendingReservation(concertDateId, reservation, payment);
+    }
+
+    private String reservationStatus(PendingReservation pendingReservation) {
+        return jdbcTemplate.queryForObject("SELECT status FROM RESERVATION WHERE id = ?", String.class,
+                pendingReservation.reservation().id().toString());
+    }
+
+    private int paymentCount(PendingReservation pendingReservation) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PAYMENT WHERE reservation_id = ?", Integer.class,
+                pendingReservation.reservation().id().toString());
+    }
+}
@@ -0,0 +1,115 @@
+package kr.hhplus.be.server.api.user;
+
+import kr.hhplus.be.server.api.TestDataFactory;
+import kr.hhplus.be.server.user.domain.User;
+import kr.hhplus.be.server.user.port.in.UserPointUseCase;
+import kr.hhplus.be.server.user.port.out.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 사용자의 충전/결제 차감/환불이 분산락 없이 동시에 실행될 때 잔액과 포인트 내역 검증
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(TestcontainersConfiguration.class)
+public class UserPointConcurrencyTest {
+
+    @Autowired
+    private UserPointUseCase userPointUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final int THREAD_SIZE = 5; // 충전/결제 각각의 동시 요청 수
+    private static final BigDecimal CHARGE_POINT = BigDecimal.valueOf(5000);
+    private static final BigDecimal USE_POINT = BigDecimal.valueOf(3000);
+    private static final BigDecimal REFUND_POINT = BigDecimal.valueOf(50000);
+
+    private UUID userId;
+    private BigDecimal initPoint;
+
+    @BeforeEach
+    void setUp() {
+        User savedUser = userRepository.save(TestDataFactory.createUserWithAmount(BigDecimal.valueOf(100000)));
+        userId = savedUser.id();
+        initPoint = savedUser.amount();
+    }
+
+    @Test
+    @DisplayName("같은사용자_충전과결제차감_동시실행_갱신손실없음_내역모두기록")
+    void chargeAndUse_Concurrently_NoLostUpdate() throws Exception {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREAD_SIZE; i++) {
+            futures.add(runAfter(startLatch, () -> userPointUseCase.charge(userId, CHARGE_POINT)));
+            futures.add(runAfter(startLatch, () -> userPointUseCase.use(userId, UUID.randomUUID(), USE_POINT)));
+        }
+
+        startLatch.countDown(); // 모든 스레드가 동시에 시작하도록 함
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        User user = userRepository.findById(userId).orElseThrow();
+        assertThat(user.amount()).isEqualByComparingTo(initPoint
+                .add(CHARGE_POINT.multiply(BigDecimal.valueOf(THREAD_SIZE)))
+                .subtract(USE_POINT.multiply(BigDecimal.valueOf(THREAD_SIZE))));
+        assertThat(countHistory("CHARGE")).isEqualTo(THREAD_SIZE);
+        assertThat(countHistory("USE")).isEqualTo(THREAD_SIZE);
+    }
+
+    @Test
+    @DisplayName("같은결제_환불이벤트동시재전달_한번만환불")
+    void refund_SamePaymentConcurrently_AppliedOnce() throws Exception {
+        UUID paymentId = UUID.randomUUID();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREAD_SIZE; i++) {
+            futures.add(runAfter(startLatch, () -> userPointUseCase.refund(userId, paymentId, REFUND_POINT)));
+        }
+
+        startLatch.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS); // 중복은 예외 없이 무시
+
+        User user = userRepository.findById(userId).orElseThrow();
+        assertThat(user.amount()).isEqualByComparingTo(initPoint.add(REFUND_POINT));
+        assertThat(countHistory("REFUND")).isEqualTo(1);
+    }
+
+    private CompletableFuture<Void> runAfter(CountDownLatch startLatch, Runnable action) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                startLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            action.run();
+        });
+    }
+
+    private int countHistory(String type) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM POINT_HISTORY WHERE user_id = ? AND type = ?",
+                Integer.class, userId.toString(), type);
+    }
+}
@@ -0,0 +1,99 @@
+package kr.hhplus.be.server.usecase.common;
+
+import kr.hhplus.be.server.common.cache.LocalExistenceCache;
+import kr.hhplus.be.server.common.cache.LocalExistenceCacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocalExistenceCacheManagerTest {
+
+    private static final String CACHE_NAME = "user";
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RTopic invalidationTopic;
+
+    private LocalExistenceCacheManager localExistenceCacheManager;
+    private LocalExistenceCache<UUID> cache;
+    private MessageListener<String> listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void beforeEach() {
+        when(redissonClient.getTopic(anyString(), eq(StringCodec.INSTANCE))).thenReturn(invalidationTopic);
+        localExistenceCacheManager = new LocalExistenceCacheManager(redissonClient);
+        cache = localExistenceCacheManager.create(CACHE_NAME, 100, Duration.ofMinutes(10), Duration.ofSeconds(3));
+
+        ArgumentCaptor<MessageListener<String>> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(invalidationTopic).addListener(eq(String.class), listenerCaptor.capture());
+        listener = listenerCaptor.getValue();
+    }
+
+    @Test
+    @DisplayName("존재여부캐시_트랜잭션안에서생성_커밋후에만positive반영_다른노드에전파")
+    void markPresent_InTransaction_AppliedAfterCommit() {
+        UUID userId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            localExistenceCacheManager.markPresent(CACHE_NAME, userId);
+
+            assertThat(cache.size()).isZero(); // 롤백될 수 있으므로 커밋 전에는 반영하지 않음
+            verify(invalidationTopic, never()).publish(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.exists(userId, id -> false)).isTrue(); // DB 조회 없이 응답
+        verify(invalidationTopic, times(1)).publish(endsWith("|" + CACHE_NAME + "|" + userId));
+    }
+
+    @Test
+    @DisplayName("존재여부캐시_다른노드의무효화메시지_해당키와전체무효화")
+    void onInvalidation_FromOtherNode_Evicts() {
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        cache.exists(userId, id -> false); // negative 캐싱
+        cache.markPresent(otherUserId);
+
+        listener.onMessage("cache:existence:invalidation", "other-node|" + CACHE_NAME + "|" + userId);
+        assertThat(cache.exists(userId, id -> true)).isTrue(); // 다른 노드에서 생성되었으므로 다시 조회
+
+        listener.onMessage("cache:existence:invalidation", "other-node|" + CACHE_NAME + "|*");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("존재여부캐시_자신이보낸메시지_무시")
+    void onInvalidation_FromSelf_Ignored() {
+        UUID userId = UUID.randomUUID();
+        localExistenceCacheManager.markPresent(CACHE_NAME, userId); // 트랜잭션 밖이므로 즉시 반영
+
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(invalidationTopic).publish(messageCaptor.capture());
+        listener.onMessage("cache:existence:invalidation", messageCaptor.getValue());
+
+        assertThat(cache.exists(userId, id -> false)).isTrue();
+    }
+}
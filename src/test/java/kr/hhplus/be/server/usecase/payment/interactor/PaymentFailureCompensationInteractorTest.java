@@ -0,0 +1,141 @@
+package kr.hhplus.be.server.usecase.payment.interactor;
+
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.concert.port.out.ConcertDateRepository;
+import kr.hhplus.be.server.concert.port.out.SeatCountCounterRepository;
+import kr.hhplus.be.server.concert.port.out.SeatRepository;
+import kr.hhplus.be.server.payment.domain.CompensatedPayment;
+import kr.hhplus.be.server.payment.port.in.dto.PaymentFailureCompensationCommand;
+import kr.hhplus.be.server.payment.port.out.PaymentFailureBulkCompensationRepository;
+import kr.hhplus.be.server.payment.port.out.PaymentRepository;
+import kr.hhplus.be.server.payment.usecase.PaymentFailureCompensationInteractor;
+import kr.hhplus.be.server.reservation.port.out.ReservationRepository;
+import kr.hhplus.be.server.reservation.port.out.SeatStateRepository;
+import kr.hhplus.be.server.user.port.in.UserPointUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentFailureCompensationInteractorTest {
+
+    @InjectMocks
+    private PaymentFailureCompensationInteractor paymentFailureCompensationInteractor;
+
+    @Mock
+    private UserPointUseCase userPointUseCase;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private SeatRepository seatRepository;
+    @Mock
+    private ConcertDateRepository concertDateRepository;
+    @Mock
+    private SeatCountCounterRepository seatCountCounterRepository;
+    @Mock
+    private SeatStateRepository seatStateRepository;
+    @Mock
+    private PaymentFailureBulkCompensationRepository paymentFailureBulkCompensationRepository;
+
+    private static final BigDecimal AMOUNT = BigDecimal.valueOf(50000);
+
+    private UUID userId;
+    private UUID concertDateId;
+
+    @BeforeEach
+    void beforeEach() {
+        userId = UUID.randomUUID();
+        concertDateId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization(); // afterCommit 등록을 위해 트랜잭션 동기화 활성화
+    }
+
+    @AfterEach
+    void afterEach() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("결제실패_일괄보상_성공_날짜별잔여좌석수합산_커밋후좌석상태해제")
+    void compensateAll_Success() {
+        // given: 같은 콘서트 날짜의 결제 2건
+        PaymentFailureCompensationCommand first = command(ErrorCode.INSUFFICIENT_BALANCE);
+        PaymentFailureCompensationCommand second = command(ErrorCode.INSUFFICIENT_BALANCE);
+        CompensatedPayment firstCompensated = compensated(first);
+        CompensatedPayment secondCompensated = compensated(second);
+        when(paymentFailureBulkCompensationRepository.failPendingPayments(eq(List.of(first.paymentId(), second.paymentId())), any(LocalDateTime.class)))
+                .thenReturn(List.of(firstCompensated, secondCompensated));
+
+        // when
+        int compensatedCount = paymentFailureCompensationInteractor.compensateAll(List.of(first, second));
+
+        // then
+        assertThat(compensatedCount).isEqualTo(2);
+        verify(seatCountCounterRepository, times(1)).add(concertDateId, 2); // 날짜당 한 번만 증가
+        verify(userPointUseCase, never()).refund(any(), any(), any()); // 잔액 차감 전 실패는 환불하지 않음
+        verify(seatStateRepository, never()).releaseAll(any()); // 커밋 전에는 해제하지 않음
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(seatStateRepository, times(1)).releaseAll(List.of(firstCompensated.seatId(), secondCompensated.seatId()));
+    }
+
+    @Test
+    @DisplayName("결제실패_일괄보상_중복이벤트는한번만_잔액차감후실패만환불")
+    void compensateAll_Deduplicates_RefundsPostChargeOnly() {
+        // given: 같은 결제의 이벤트가 두 번 전달되고, 다른 결제는 잔액 차감 전에 실패
+        PaymentFailureCompensationCommand postCharge = command(ErrorCode.INTERNAL_SERVER_ERROR);
+        PaymentFailureCompensationCommand preCharge = command(ErrorCode.INSUFFICIENT_BALANCE);
+        when(paymentFailureBulkCompensationRepository.failPendingPayments(any(), any(LocalDateTime.class)))
+                .thenReturn(List.of(compensated(postCharge), compensated(preCharge)));
+
+        // when
+        paymentFailureCompensationInteractor.compensateAll(List.of(postCharge, postCharge, preCharge));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UUID>> paymentIdsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(paymentFailureBulkCompensationRepository).failPendingPayments(paymentIdsCaptor.capture(), any(LocalDateTime.class));
+        assertThat(paymentIdsCaptor.getValue()).containsExactly(postCharge.paymentId(), preCharge.paymentId());
+
+        verify(userPointUseCase, times(1)).refund(userId, postCharge.paymentId(), AMOUNT);
+        verify(userPointUseCase, never()).refund(userId, preCharge.paymentId(), AMOUNT);
+    }
+
+    @Test
+    @DisplayName("결제실패_일괄보상_이미보상된결제만있으면_아무것도하지않음")
+    void compensateAll_AlreadyCompensated_Nothing() {
+        PaymentFailureCompensationCommand command = command(ErrorCode.INTERNAL_SERVER_ERROR);
+        when(paymentFailureBulkCompensationRepository.failPendingPayments(any(), any(LocalDateTime.class))).thenReturn(List.of());
+
+        int compensatedCount = paymentFailureCompensationInteractor.compensateAll(List.of(command));
+
+        assertThat(compensatedCount).isZero();
+        verifyNoInteractions(userPointUseCase, seatCountCounterRepository);
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    private PaymentFailureCompensationCommand command(ErrorCode errorCode) {
+        return new PaymentFailureCompensationCommand(UUID.randomUUID(), userId, AMOUNT, errorCode);
+    }
+
+    private CompensatedPayment compensated(PaymentFailureCompensationCommand command) {
+        return new CompensatedPayment(command.paymentId(), UUID.randomUUID(), UUID.randomUUID(), concertDateId);
+    }
+}
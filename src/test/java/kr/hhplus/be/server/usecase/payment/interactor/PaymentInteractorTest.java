@@ -13,7 +13,9 @@ import kr.hhplus.be.server.payment.port.in.dto.PaymentDomainResult;
 import kr.hhplus.be.server.payment.port.out.PaymentRepository;
 import kr.hhplus.be.server.payment.usecase.PaymentDomainService;
 import kr.hhplus.be.server.payment.usecase.PaymentInteractor;
+import kr.hhplus.be.server.payment.usecase.OptimizedPaymentManager;
 import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.port.in.SignedQueueTokenUseCase;
 import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
 import kr.hhplus.be.server.reservation.domain.Reservation;
 import kr.hhplus.be.server.reservation.port.out.ReservationRepository;
@@ -66,6 +68,10 @@ class PaymentInteractorTest {
     private PaymentDomainService paymentDomainService;
     @Mock
     private EventPublisher eventPublisher;
+    @Mock
+    private SignedQueueTokenUseCase signedQueueTokenUseCase;
+    @Mock
+    private OptimizedPaymentManager optimizedPaymentManager;
 
     // 결제 테스트에 필요한 데이터
     private UUID reservationId;
@@ -122,7 +128,7 @@ class PaymentInteractorTest {
         when(paymentRepository.findByReservationId(reservation.id())).thenReturn(Optional.of(payment));
         when(seatRepository.findById(reservation.seatId())).thenReturn(Optional.of(seat));
         when(userRepository.findById(queueToken.userId())).thenReturn(Optional.of(user));
-        when(seatHoldRepository.isHoldSeat(seat.id(), user.id())).thenReturn(true);
+        when(seatHoldRepository.isHoldSeat(seat.concertDateId(), seat.id(), user.id())).thenReturn(true);
         when(paymentDomainService.processPayment(reservation, payment, seat, user)).thenReturn(domainResult);
         when(reservationRepository.save(successReservation)).thenReturn(successReservation);
         when(paymentRepository.save(successPayment)).thenReturn(successPayment);
@@ -136,13 +142,13 @@ class PaymentInteractorTest {
         verify(paymentRepository, times(1)).findByReservationId(reservation.id());
         verify(seatRepository, times(1)).findById(reservation.seatId());
         verify(userRepository, times(1)).findById(queueToken.userId());
-        verify(seatHoldRepository, times(1)).isHoldSeat(seat.id(), user.id());
+        verify(seatHoldRepository, times(1)).isHoldSeat(seat.concertDateId(), seat.id(), user.id());
         verify(paymentDomainService, times(1)).processPayment(reservation, payment, seat, user);
         verify(userRepository, times(1)).save(successUser);
         verify(paymentRepository, times(1)).save(successPayment);
         verify(reservationRepository, times(1)).save(successReservation);
         verify(seatRepository, times(1)).save(successSeat);
-        verify(seatHoldRepository, times(1)).deleteHold(seat.id(), user.id()); // Redis에 저장된 좌석 예약 해제
+        verify(seatHoldRepository, times(1)).deleteHold(seat.concertDateId(), seat.id(), user.id()); // Redis에 저장된 좌석 예약 해제
         verify(queueTokenRepository, times(1)).expiresQueueToken(queueToken.tokenId().toString());
         verify(eventPublisher, times(1)).publish(any(PaymentSuccessEvent.class));
         verify(paymentOutput, times(1)).ok(any(PaymentResult.class));
@@ -164,13 +170,13 @@ class PaymentInteractorTest {
         verify(paymentRepository, never()).findByReservationId(any());
         verify(seatRepository, never()).findById(any());
         verify(userRepository, never()).findById(any());
-        verify(seatHoldRepository, never()).isHoldSeat(any(), any());
+        verify(seatHoldRepository, never()).isHoldSeat(any(), any(), any());
         verify(paymentDomainService, never()).processPayment(any(), any(), any(), any());
         verify(userRepository, never()).save(any());
         verify(paymentRepository, never()).save(any());
         verify(reservationRepository, never()).save(any());
         verify(seatRepository, never()).save(any());
-        verify(seatHoldRepository, never()).deleteHold(any(), any());
+        verify(seatHoldRepository, never()).deleteHold(any(), any(), any());
         verify(queueTokenRepository, never()).expiresQueueToken(any());
         verify(eventPublisher, never()).publish(any(PaymentSuccessEvent.class));
         verify(paymentOutput, never()).ok(any());
@@ -192,7 +198,7 @@ class PaymentInteractorTest {
         verify(paymentRepository, never()).findByReservationId(any());
         verify(seatRepository, never()).findById(any());
         verify(userRepository, never()).findById(any());
-        verify(seatHoldRepository, never()).isHoldSeat(any(), any());
+        verify(seatHoldRepository, never()).isHoldSeat(any(), any(), any());
         verify(paymentDomainService, never()).processPayment(any(), any(), any(), any());
 
         assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_NOT_FOUND);
@@ -213,13 +219,13 @@ class PaymentInteractorTest {
         verify(paymentRepository, times(1)).findByReservationId(reservation.id());
         verify(seatRepository, never()).findById(any());
         verify(userRepository, never()).findById(any());
-        verify(seatHoldRepository, never()).isHoldSeat(any(), any());
+        verify(seatHoldRepository, never()).isHoldSeat(any(), any(), any());
         verify(paymentDomainService, never()).processPayment(any(), any(), any(), any());
         verify(userRepository, never()).save(any());
         verify(paymentRepository, never()).save(any());
         verify(reservationRepository, never()).save(any());
         verify(seatRepository, never()).save(any());
-        verify(seatHoldRepository, never()).deleteHold(any(), any());
+        verify(seatHoldRepository, never()).deleteHold(any(), any(), any());
         verify(queueTokenRepository, never()).expiresQueueToken(any());
         verify(eventPublisher, never()).publish(any(PaymentSuccessEvent.class));
         verify(paymentOutput, never()).ok(any());
@@ -243,14 +249,14 @@ class PaymentInteractorTest {
         verify(paymentRepository, times(1)).findByReservationId(reservation.id());
         verify(seatRepository, times(1)).findById(reservation.seatId());
         verify(userRepository, never()).findById(any());
-        verify(seatHoldRepository, never()).isHoldSeat(any(), any());
+        verify(seatHoldRepository, never()).isHoldSeat(any(), any(), any());
         verify(eventPublisher, never()).publish(any(PaymentSuccessEvent.class));
         verify(paymentDomainService, never()).processPayment(any(), any(), any(), any());
         verify(userRepository, never()).save(any());
         verify(paymentRepository, never()).save(any());
         verify(reservationRepository, never()).save(any());
         verify(seatRepository, never()).save(any());
-        verify(seatHoldRepository, never()).deleteHold(any(), any());
+        verify(seatHoldRepository, never()).deleteHold(any(), any(), any());
         verify(queueTokenRepository, never()).expiresQueueToken(any());
         verify(eventPublisher, never()).publish(any(PaymentSuccessEvent.class));
         verify(paymentOutput, never()).ok(any());
@@ -275,13 +281,13 @@ class PaymentInteractorTest {
         verify(paymentRepository, times(1)).findByReservationId(reservation.id());
         verify(seatRepository, times(1)).findById(reservation.seatId());
         verify(userRepository, times(1)).findById(queueToken.userId());
-        verify(seatHoldRepository, never()).isHoldSeat(any(), any());
+        verify(seatHoldRepository, never()).isHoldSeat(any(), any(), any());
         verify(paymentDomainService, never()).processPayment(any(), any(), any(), any());
         verify(userRepository, never()).save(any());
         verify(paymentRepository, never()).save(any());
         verify(reservationRepository, never()).save(any());
         verify(seatRepository, never()).save(any());
-        verify(seatHoldRepository, never()).deleteHold(any(), any());
+        verify(seatHoldRepository, never()).deleteHold(any(), any(), any());
         verify(queueTokenRepository, never()).expiresQueueToken(any());
         verify(eventPublisher, never()).publish(any(PaymentSuccessEvent.class));
         verify(paymentOutput, never()).ok(any());
@@ -297,7 +303,7 @@ class PaymentInteractorTest {
         when(paymentRepository.findByReservationId(reservation.id())).thenReturn(Optional.of(payment));
         when(seatRepository.findById(reservation.seatId())).thenReturn(Optional.of(seat));
         when(userRepository.findById(queueToken.userId())).thenReturn(Optional.of(user));
-        when(seatHoldRepository.isHoldSeat(seat.id(), user.id())).thenReturn(false);
+        when(seatHoldRepository.isHoldSeat(seat.concertDateId(), seat.id(), user.id())).thenReturn(false);
 
         CustomException customException = assertThrows(CustomException.class,
                 () -> paymentInteractor.payment(paymentCommand));
@@ -307,13 +313,13 @@ class PaymentInteractorTest {
         verify(paymentRepository, times(1)).findByReservationId(reservation.id());
         verify(seatRepository, times(1)).findById(reservation.seatId());
         verify(userRepository, times(1)).findById(queueToken.userId());
-        verify(seatHoldRepository, times(1)).isHoldSeat(seat.id(), user.id());
+        verify(seatHoldRepository, times(1)).isHoldSeat(seat.concertDateId(), seat.id(), user.id());
         verify(paymentDomainService, never()).processPayment(any(), any(), any(), any());
         verify(userRepository, never()).save(any());
         verify(paymentRepository, never()).save(any());
         verify(reservationRepository, never()).save(any());
         verify(seatRepository, never()).save(any());
-        verify(seatHoldRepository, never()).deleteHold(any(), any());
+        verify(seatHoldRepository, never()).deleteHold(any(), any(), any());
         verify(queueTokenRepository, never()).expiresQueueToken(any());
         verify(eventPublisher, never()).publish(any(PaymentSuccessEvent.class));
         verify(paymentOutput, never()).ok(any());
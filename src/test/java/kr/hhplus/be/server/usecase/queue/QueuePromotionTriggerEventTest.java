@@ -0,0 +1,78 @@
+package kr.hhplus.be.server.usecase.queue;
+
+import kr.hhplus.be.server.queue.domain.QueuePromotedEvent;
+import kr.hhplus.be.server.queue.domain.QueuePromotion;
+import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
+import kr.hhplus.be.server.queue.usecase.QueueMetrics;
+import kr.hhplus.be.server.queue.usecase.QueuePromotionTrigger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 즉시 승격 결과에 따라 SSE 전송용 승격 이벤트를 발행하는지 검증 (승격은 별도 스레드에서 처리되므로 timeout으로 확인)
+@ExtendWith(MockitoExtension.class)
+class QueuePromotionTriggerEventTest {
+
+    private static final long ASYNC_TIMEOUT_MILLIS = 1000L;
+
+    @Mock
+    private QueueTokenRepository queueTokenRepository;
+
+    @Mock
+    private QueueMetrics queueMetrics;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private QueuePromotionTrigger queuePromotionTrigger;
+
+    @BeforeEach
+    void beforeEach() {
+        queuePromotionTrigger = new QueuePromotionTrigger(queueTokenRepository, queueMetrics, applicationEventPublisher);
+    }
+
+    @AfterEach
+    void afterEach() {
+        queuePromotionTrigger.shutdown();
+    }
+
+    @Test
+    @DisplayName("즉시승격_승격발생_승격된콘서트만담아이벤트발행")
+    void requestPromotion_Promoted_PublishesEvent() {
+        UUID concertId = UUID.randomUUID();
+        UUID emptyConcertId = UUID.randomUUID();
+        when(queueTokenRepository.promoteQueueTokenByConcertIds(anyCollection())).thenReturn(List.of(
+                new QueuePromotion(concertId, List.of(3L, 5L)),
+                new QueuePromotion(emptyConcertId, List.of())));
+
+        queuePromotionTrigger.requestPromotion(concertId);
+
+        verify(applicationEventPublisher, timeout(ASYNC_TIMEOUT_MILLIS)).publishEvent(new QueuePromotedEvent(List.of(concertId)));
+    }
+
+    @Test
+    @DisplayName("즉시승격_승격없음_이벤트발행하지않음")
+    void requestPromotion_NothingPromoted_NoEvent() {
+        when(queueTokenRepository.promoteQueueTokenByConcertIds(anyCollection())).thenReturn(List.of());
+
+        queuePromotionTrigger.requestPromotion(UUID.randomUUID());
+
+        verify(queueMetrics, timeout(ASYNC_TIMEOUT_MILLIS)).recordPromotions(List.of());
+        verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,196 @@
+package kr.hhplus.be.server.usecase.queue;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import kr.hhplus.be.server.common.exception.CustomException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.queue.adapter.out.token.HmacQueueTokenSigner;
+import kr.hhplus.be.server.queue.domain.QueueStatus;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.domain.RevokedQueueToken;
+import kr.hhplus.be.server.queue.port.out.QueueTokenRevocationRepository;
+import kr.hhplus.be.server.queue.usecase.SignedQueueTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class SignedQueueTokenServiceTest {
+
+    private static final String SECRET = "test-queue-token-secret-0123456789abcdef"; // 32바이트 이상
+
+    @Mock
+    private QueueTokenRevocationRepository queueTokenRevocationRepository;
+
+    private HmacQueueTokenSigner queueTokenSigner;
+    private SignedQueueTokenService signedQueueTokenService;
+
+    // 테스트에 사용할 활성 토큰 정보
+    private UUID tokenId;
+    private QueueToken activeToken; // 10분 뒤 만료되는 활성 토큰
+
+    @BeforeEach
+    void beforeEach() {
+        queueTokenSigner = new HmacQueueTokenSigner(SECRET, true);
+        signedQueueTokenService = new SignedQueueTokenService(queueTokenSigner, queueTokenRevocationRepository, true);
+
+        tokenId = UUID.randomUUID();
+        activeToken = QueueToken.activeTokenOf(tokenId, UUID.randomUUID(), UUID.randomUUID(), 10);
+    }
+
+    @Test
+    @DisplayName("서명토큰_검증_성공")
+    void verify_Success() {
+        String token = signedQueueTokenService.sign(activeToken).orElseThrow();
+
+        Optional<QueueToken> verified = signedQueueTokenService.verify(token);
+
+        assertThat(verified).isPresent();
+        assertThat(verified.get().tokenId()).isEqualTo(tokenId);
+        assertThat(verified.get().userId()).isEqualTo(activeToken.userId());
+        assertThat(verified.get().concertId()).isEqualTo(activeToken.concertId());
+        assertThat(verified.get().status()).isEqualTo(QueueStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("서명토큰_검증_실패_페이로드위조")
+    void verify_Failure_TamperedPayload() {
+        String token = signedQueueTokenService.sign(activeToken).orElseThrow();
+        String[] parts = token.split("\\.");
+
+        // 서명은 그대로 두고 페이로드의 사용자 ID 한 바이트만 변경
+        byte[] payload = Base64.getUrlDecoder().decode(parts[0]);
+        payload[16] ^= 0x01;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(payload) + "." + parts[1];
+
+        CustomException customException = assertThrows(CustomException.class,
+                () -> signedQueueTokenService.verify(tampered));
+
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.INVALID_QUEUE_TOKEN);
+    }
+
+    @Test
+    @DisplayName("서명토큰_검증_실패_다른키로서명")
+    void verify_Failure_SignedWithOtherSecret() {
+        HmacQueueTokenSigner otherSigner = new HmacQueueTokenSigner("other-queue-token-secret-0123456789abcdef", true);
+        String forged = otherSigner.sign(activeToken);
+
+        CustomException customException = assertThrows(CustomException.class,
+                () -> signedQueueTokenService.verify(forged));
+
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.INVALID_QUEUE_TOKEN);
+    }
+
+    @Test
+    @DisplayName("서명토큰_검증_실패_형식오류")
+    void verify_Failure_Malformed() {
+        CustomException customException = assertThrows(CustomException.class,
+                () -> signedQueueTokenService.verify("not-base64!.signature"));
+
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.INVALID_QUEUE_TOKEN);
+    }
+
+    @Test
+    @DisplayName("서명토큰_검증_실패_만료")
+    void verify_Failure_Expired() {
+        QueueToken expiredToken = QueueToken.builder()
+                .tokenId(tokenId)
+                .userId(activeToken.userId())
+                .concertId(activeToken.concertId())
+                .status(QueueStatus.ACTIVE)
+                .position(0)
+                .expiresAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+        String token = queueTokenSigner.sign(expiredToken);
+
+        CustomException customException = assertThrows(CustomException.class,
+                () -> signedQueueTokenService.verify(token));
+
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.INVALID_QUEUE_TOKEN);
+    }
+
+    @Test
+    @DisplayName("서명토큰이아니면_기존방식으로조회")
+    void verify_NotSigned_ReturnsEmpty() {
+        assertThat(signedQueueTokenService.verify(tokenId.toString())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서명토큰_무효화후_검증실패_무효화정보는토큰만료시각까지보관")
+    void revoke_ThenVerify_Failure() {
+        String token = signedQueueTokenService.sign(activeToken).orElseThrow();
+
+        signedQueueTokenService.revoke(tokenId.toString(), activeToken.expiresAt());
+
+        CustomException customException = assertThrows(CustomException.class,
+                () -> signedQueueTokenService.verify(token)); // 동기화 전에도 이 노드에서는 바로 거절
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.INVALID_QUEUE_TOKEN);
+
+        ArgumentCaptor<Long> ttlCaptor = ArgumentCaptor.forClass(Long.class);
+        verify(queueTokenRevocationRepository, times(1)).revoke(eq(tokenId), ttlCaptor.capture());
+        assertThat(ttlCaptor.getValue()).isBetween(9 * 60L, 10 * 60L + 10); // 남은 유효 시간(10분) + 시계 오차 여유
+    }
+
+    @Test
+    @DisplayName("이미만료된토큰_무효화정보저장안함")
+    void revoke_ExpiredToken_NotStored() {
+        signedQueueTokenService.revoke(tokenId.toString(), LocalDateTime.now().minusMinutes(1));
+
+        verify(queueTokenRevocationRepository, never()).revoke(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("다른노드에서무효화된토큰_동기화후_검증실패")
+    void refresh_RevokedOnOtherNode_ThenVerify_Failure() {
+        String token = signedQueueTokenService.sign(activeToken).orElseThrow();
+        long retainUntil = System.currentTimeMillis() / 1000 + 600;
+        when(queueTokenRevocationRepository.findRevokedTokensSince(0L))
+                .thenReturn(List.of(new RevokedQueueToken(tokenId, retainUntil, System.currentTimeMillis())));
+
+        assertThat(signedQueueTokenService.verify(token)).isPresent(); // 동기화 전
+
+        signedQueueTokenService.refreshRevokedTokenIds();
+
+        CustomException customException = assertThrows(CustomException.class,
+                () -> signedQueueTokenService.verify(token));
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.INVALID_QUEUE_TOKEN);
+    }
+
+    @Test
+    @DisplayName("무효화목록_증분동기화_마지막무효화시각이후만조회")
+    void refresh_Incremental() {
+        long revokedAtMillis = System.currentTimeMillis() - 1000;
+        long retainUntil = System.currentTimeMillis() / 1000 + 600;
+        when(queueTokenRevocationRepository.findRevokedTokensSince(anyLong()))
+                .thenReturn(List.of(new RevokedQueueToken(tokenId, retainUntil, revokedAtMillis)))
+                .thenReturn(List.of());
+
+        signedQueueTokenService.refreshRevokedTokenIds(); // 처음에는 전체 조회
+        signedQueueTokenService.refreshRevokedTokenIds(); // 이후에는 마지막 무효화 시각 이후만 조회
+
+        ArgumentCaptor<Long> sinceCaptor = ArgumentCaptor.forClass(Long.class);
+        verify(queueTokenRevocationRepository, times(2)).findRevokedTokensSince(sinceCaptor.capture());
+        assertThat(sinceCaptor.getAllValues().get(0)).isEqualTo(0L);
+        assertThat(sinceCaptor.getAllValues().get(1)).isGreaterThan(0L).isLessThanOrEqualTo(revokedAtMillis);
+    }
+
+    @Test
+    @DisplayName("서명토큰모드_시크릿없이_활성화시_생성실패")
+    void signer_Failure_BlankSecret() {
+        assertThrows(IllegalStateException.class, () -> new HmacQueueTokenSigner("", true));
+        assertThrows(IllegalStateException.class, () -> new HmacQueueTokenSigner("short-secret", true));
+        assertDoesNotThrow(() -> new HmacQueueTokenSigner("", false)); // 비활성 모드에서는 키 없이 시작 가능
+    }
+}
@@ -0,0 +1,98 @@
+package kr.hhplus.be.server.usecase.reservation.interactor;
+
+import kr.hhplus.be.server.reservation.domain.ReservationExpiration;
+import kr.hhplus.be.server.reservation.port.in.ReservationCancellationUseCase;
+import kr.hhplus.be.server.reservation.port.out.ReservationExpiryQueueRepository;
+import kr.hhplus.be.server.reservation.port.out.ReservationRepository;
+import kr.hhplus.be.server.reservation.usecase.ReservationExpiryInteractor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExpiryInteractorTest {
+
+    @InjectMocks
+    private ReservationExpiryInteractor reservationExpiryInteractor;
+
+    @Mock
+    private ReservationExpiryQueueRepository reservationExpiryQueueRepository;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private ReservationCancellationUseCase reservationCancellationUseCase;
+
+    @Test
+    @DisplayName("만료지연큐처리_일괄만료커밋후에만확인처리")
+    void expireDueReservations_Committed_Acknowledged() {
+        List<UUID> dueIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(reservationExpiryQueueRepository.claimDue(any(), any(), anyInt())).thenReturn(dueIds);
+        when(reservationCancellationUseCase.cancelAllIfUnpaid(dueIds)).thenReturn(2);
+
+        int expiredCount = reservationExpiryInteractor.expireDueReservations();
+
+        assertThat(expiredCount).isEqualTo(2);
+        verify(reservationExpiryQueueRepository, times(1)).acknowledge(dueIds);
+        verify(reservationExpiryQueueRepository, never()).schedule(any(), any());
+    }
+
+    @Test
+    @DisplayName("만료지연큐처리_일괄만료롤백_확인처리없이재시도시각으로다시등록")
+    void expireDueReservations_RolledBack_Rescheduled() {
+        List<UUID> dueIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(reservationExpiryQueueRepository.claimDue(any(), any(), anyInt())).thenReturn(dueIds);
+        when(reservationCancellationUseCase.cancelAllIfUnpaid(dueIds)).thenThrow(new IllegalStateException("deadlock"));
+        LocalDateTime before = LocalDateTime.now();
+
+        int expiredCount = reservationExpiryInteractor.expireDueReservations();
+
+        assertThat(expiredCount).isZero();
+        verify(reservationExpiryQueueRepository, never()).acknowledge(anyList());
+        ArgumentCaptor<LocalDateTime> retryAtCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        for (UUID dueId : dueIds) {
+            verify(reservationExpiryQueueRepository).schedule(eq(dueId), retryAtCaptor.capture());
+        }
+        // 임대 만료(30초)를 기다리지 않고 짧은 지연 후 재시도
+        assertThat(retryAtCaptor.getAllValues()).allSatisfy(retryAt ->
+                assertThat(retryAt).isAfter(before).isBefore(before.plusSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("만료지연큐재구성_다른인스턴스가재구성중_건너뜀")
+    void rebuild_NotAcquired_Skipped() {
+        when(reservationExpiryQueueRepository.tryAcquireRebuild(anyString(), any())).thenReturn(false);
+
+        assertThat(reservationExpiryInteractor.rebuild()).isZero();
+        verifyNoInteractions(reservationRepository);
+        verify(reservationExpiryQueueRepository, never()).releaseRebuild(anyString());
+    }
+
+    @Test
+    @DisplayName("만료지연큐재구성_조회중오류_재구성권한해제")
+    void rebuild_Fails_LockReleased() {
+        when(reservationExpiryQueueRepository.tryAcquireRebuild(anyString(), any())).thenReturn(true);
+        when(reservationRepository.findPendingReservationExpirations(isNull(), anyInt()))
+                .thenReturn(List.of(new ReservationExpiration(UUID.randomUUID(), LocalDateTime.now())));
+        doThrow(new IllegalStateException("redis unavailable"))
+                .when(reservationExpiryQueueRepository).scheduleAllIfAbsent(anyList());
+
+        assertThrows(IllegalStateException.class, () -> reservationExpiryInteractor.rebuild());
+
+        ArgumentCaptor<String> ownerCaptor = ArgumentCaptor.forClass(String.class);
+        verify(reservationExpiryQueueRepository).tryAcquireRebuild(ownerCaptor.capture(), any());
+        verify(reservationExpiryQueueRepository, times(1)).releaseRebuild(ownerCaptor.getValue());
+    }
+}
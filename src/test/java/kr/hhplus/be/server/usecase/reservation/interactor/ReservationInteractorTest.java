@@ -6,10 +6,16 @@ import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 
+import kr.hhplus.be.server.common.util.DistributedLockKeyGenerator;
+import kr.hhplus.be.server.reservation.usecase.CreateReservationManager;
+import kr.hhplus.be.server.reservation.usecase.DistributedLockManager;
 import kr.hhplus.be.server.reservation.usecase.ReservationInteractor;
+import kr.hhplus.be.server.reservation.usecase.SeatClaimReservationManager;
+import kr.hhplus.be.server.reservation.usecase.SeatFastRejectGuard;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,27 +28,19 @@ import kr.hhplus.be.server.concert.domain.ConcertDate;
 import kr.hhplus.be.server.concert.domain.Seat;
 import kr.hhplus.be.server.concert.domain.enums.SeatGrade;
 import kr.hhplus.be.server.concert.domain.enums.SeatStatus;
-import kr.hhplus.be.server.reservation.domain.ReservationCreatedEvent;
 import kr.hhplus.be.server.payment.domain.Payment;
 import kr.hhplus.be.server.payment.domain.enums.PaymentStatus;
 import kr.hhplus.be.server.queue.domain.QueueToken;
 import kr.hhplus.be.server.reservation.domain.Reservation;
-import kr.hhplus.be.server.reservation.port.in.dto.ReservationDomainResult;
-import kr.hhplus.be.server.reservation.usecase.ReservationDomainService;
 import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
-import kr.hhplus.be.server.concert.port.out.ConcertDateRepository;
-import kr.hhplus.be.server.concert.port.out.ConcertRepository;
-import kr.hhplus.be.server.concert.port.out.SeatRepository;
-import kr.hhplus.be.server.payment.port.out.EventPublisher;
 import kr.hhplus.be.server.common.exception.CustomException;
 import kr.hhplus.be.server.common.exception.ErrorCode;
-import kr.hhplus.be.server.payment.port.out.PaymentRepository;
+import kr.hhplus.be.server.queue.port.in.SignedQueueTokenUseCase;
 import kr.hhplus.be.server.queue.port.out.QueueTokenRepository;
-import kr.hhplus.be.server.reservation.port.out.ReservationRepository;
 import kr.hhplus.be.server.reservation.port.out.SeatHoldRepository;
-import kr.hhplus.be.server.reservation.port.out.SeatLockRepository;
+import kr.hhplus.be.server.reservation.port.in.dto.CreateReservationResult;
 import kr.hhplus.be.server.reservation.port.in.dto.ReserveSeatCommand;
-import kr.hhplus.be.server.reservation.port.in.ReservationOutput;
+import kr.hhplus.be.server.reservation.port.in.dto.ReserveSeatsCommand;
 import kr.hhplus.be.server.reservation.port.in.ReserveSeatResult;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,28 +49,20 @@ public class ReservationInteractorTest {
     @InjectMocks
     private ReservationInteractor reservationInteractor;
 
-    @Mock
-    private ReservationRepository reservationRepository;
     @Mock
     private QueueTokenRepository queueTokenRepository;
     @Mock
-    private SeatLockRepository seatLockRepository;
-    @Mock
-    private SeatRepository seatRepository;
-    @Mock
-    private ConcertDateRepository concertDateRepository;
-    @Mock
-    private ConcertRepository concertRepository;
+    private SeatHoldRepository seatHoldRepository;
     @Mock
-    private PaymentRepository paymentRepository;
+    private DistributedLockManager distributedLockManager;
     @Mock
-    private SeatHoldRepository seatHoldRepository;
+    private CreateReservationManager createReservationManager;
     @Mock
-    private ReservationOutput reservationOutput;
+    private SignedQueueTokenUseCase signedQueueTokenUseCase;
     @Mock
-    private ReservationDomainService reservationDomainService;
+    private SeatClaimReservationManager seatClaimReservationManager;
     @Mock
-    private EventPublisher eventPublisher;
+    private SeatFastRejectGuard seatFastRejectGuard;
 
     // 콘서트 예약 테스트에 사용할 데이터
     private UUID concertId;
@@ -80,16 +70,10 @@ public class ReservationInteractorTest {
     private UUID seatId;
     private UUID userId;
     private UUID queueTokenId;
-    private UUID reservationId;
-    private UUID paymentId;
     private ReserveSeatCommand command;
     private QueueToken queueToken;
-    private Seat seat; // 예약할 좌석
-    private Seat reservedSeat; // 예약된 좌석
-    private ConcertDate concertDate;
-    private Reservation reservation;
-    private Payment payment;
-    private ReservationDomainResult reservationDomainResult;
+    private String lockKey;
+    private CreateReservationResult createReservationResult;
 
     @BeforeEach
     void beforeEach() {
@@ -99,15 +83,16 @@ public class ReservationInteractorTest {
         seatId = UUID.randomUUID();
         userId = UUID.randomUUID();
         queueTokenId = UUID.randomUUID();
-        reservationId = UUID.randomUUID();
-        paymentId = UUID.randomUUID();
+        UUID reservationId = UUID.randomUUID();
+        UUID paymentId = UUID.randomUUID();
 
         command = new ReserveSeatCommand(concertId, concertDateId, seatId, queueTokenId.toString()); // 예약을 하기 위한 커맨드 객체
         queueToken = QueueToken.activeTokenOf(queueTokenId, userId, concertId, 1000000); // 활성토큰
-        seat = new Seat(seatId, concertDateId, 10, BigDecimal.valueOf(100000), SeatGrade.VIP, SeatStatus.AVAILABLE, now,
+        lockKey = DistributedLockKeyGenerator.getReserveSeatLockKey(seatId);
+
+        Seat reservedSeat = new Seat(seatId, concertDateId, 10, BigDecimal.valueOf(100000), SeatGrade.VIP, SeatStatus.RESERVED, now,
                 now); // 좌석 ID, 콘서트 날짜 ID, 좌석 번호, 가격, 좌석 등급, 좌석 상태, 생성일시, 수정일시
-        reservedSeat = seat.reserve(); // 예약하기 -> 좌석을 예약 상태로 변경
-        concertDate = ConcertDate.builder()
+        ConcertDate concertDate = ConcertDate.builder()
                 .id(concertDateId)
                 .concertId(concertId)
                 .remainingSeatCount(50)
@@ -115,130 +100,106 @@ public class ReservationInteractorTest {
                 .deadline(now.plusDays(5))
                 .createdAt(now)
                 .updatedAt(now)
-                .availableSeatCount(50L)
+                .availableSeatCount(49L)
                 .version(0L)
                 .build();
-        reservation = new Reservation(reservationId, userId, seatId, ReservationStatus.PENDING, now, now, now.plusMinutes(5));
-        payment = new Payment(paymentId, userId, reservationId, BigDecimal.valueOf(100000), PaymentStatus.PENDING, null,
+        Reservation reservation = new Reservation(reservationId, userId, seatId, ReservationStatus.PENDING, now, now, now.plusMinutes(5));
+        Payment payment = new Payment(paymentId, userId, reservationId, BigDecimal.valueOf(100000), PaymentStatus.PENDING, null,
                 now, now); // 결제 ID, 사용자 ID, 예약 ID, 결제 금액, 결제 상태, 결제 승인 코드, 생성일시, 수정일시
-        reservationDomainResult = new ReservationDomainResult(reservedSeat, reservation,payment,concertDate); // 예약 도메인 결과 객체
+        createReservationResult = new CreateReservationResult(reservation, payment, reservedSeat, concertDate, userId);
     }
 
     @Test
     @DisplayName("콘서트_좌석_예약_성공")
-    void concertSeatReservation_Success() throws CustomException {
+    void concertSeatReservation_Success() throws Exception {
         when(queueTokenRepository.findQueueTokenByTokenId(queueTokenId.toString())).thenReturn(queueToken); // 대기열 토큰 조회
-        when(concertRepository.existsById(command.concertId())).thenReturn(true); // 콘서트 존재 여부 확인
-        when(concertDateRepository.findById(command.concertDateId())).thenReturn(Optional.of(concertDate)); // 콘서트 날짜 조회
-        when(seatRepository.findBySeatIdAndConcertDateId(command.seatId(), command.concertDateId()))
-                .thenReturn(Optional.of(seat)); // 좌석 조회
-        when(seatLockRepository.acquisitionLock(command.seatId())).thenReturn(true); // 좌석 잠금 획득 성공
-        when(reservationDomainService.processReservation(concertDate, seat, userId)).thenReturn(reservationDomainResult); // 좌석 예약 결과 반환
-        when(seatRepository.save(reservedSeat)).thenReturn(reservedSeat); // 좌석(DB) 예약 처리
-        when(reservationRepository.save(any(Reservation.class))).thenReturn(reservation); // 예약(DB) 예약 처리
-        when(paymentRepository.save(any(Payment.class))).thenReturn(payment); // 결제(DB) 예약 처리
+        when(seatFastRejectGuard.tryEnter(seatId)).thenReturn(true); // 처음 도착한 요청으로 진입
+        runLockedTransaction();
+        when(createReservationManager.processCreateReservation(command, queueToken)).thenReturn(createReservationResult);
 
         // When
-        reservationInteractor.reserveSeat(command);
+        ReserveSeatResult result = reservationInteractor.reserveSeat(command);
 
         // Then
-        verify(queueTokenRepository, times(1)).findQueueTokenByTokenId(queueTokenId.toString());
-        verify(concertRepository, times(1)).existsById(command.concertId());
-        verify(concertDateRepository, times(1)).findById(command.concertDateId());
-        verify(seatRepository, times(1)).findBySeatIdAndConcertDateId(command.seatId(), command.concertDateId());
-        verify(seatLockRepository, times(1)).acquisitionLock(command.seatId());
-        verify(reservationDomainService, times(1)).processReservation(concertDate, seat, userId);
-        verify(seatRepository, times(1)).save(reservedSeat);
-        verify(reservationRepository, times(1)).save(any(Reservation.class));
-        verify(paymentRepository, times(1)).save(any(Payment.class));
-        verify(seatHoldRepository, times(1)).hold(seatId, userId);
-        verify(eventPublisher, times(1)).publish(any(ReservationCreatedEvent.class));
-        verify(reservationOutput, times(1)).ok(any(ReserveSeatResult.class));
-        verify(seatLockRepository, times(1)).releaseLock(seatId); // 좌석 잠금 해제
-        verify(queueTokenRepository, times(1)).expiresQueueToken(queueTokenId.toString()); // 대기열 토큰 만료 처리
+        assertThat(result.reservationId()).isEqualTo(createReservationResult.reservation().id());
+        assertThat(result.seatId()).isEqualTo(seatId);
+        verify(seatHoldRepository, times(1)).isHoldSeat(concertDateId, seatId, userId);
+        verify(seatFastRejectGuard, times(1)).tryEnter(seatId);
+        verify(distributedLockManager, times(1)).executeWithLockHasReturn(eq(lockKey), any());
+        verify(createReservationManager, times(1)).processCreateReservation(command, queueToken);
+        verify(seatFastRejectGuard, times(1)).markReserved(seatId); // 이후 요청은 빠르게 거절
+        verify(seatFastRejectGuard, never()).release(any());
     }
 
     @Test
     @DisplayName("콘서트_좌석_예약_실패_대기열토큰유효하지않음")
-    void concertSeatReservation_Failure_InvalidQueueToken() throws CustomException {
-        QueueToken waitingToken = QueueToken.waitingTokenOf(queueTokenId, userId, concertId, 10);
+    void concertSeatReservation_Failure_InvalidQueueToken() throws Exception {
+        QueueToken waitingToken = QueueToken.waitingTokenOf(queueTokenId, userId, concertId, 10, 1000000);
         when(queueTokenRepository.findQueueTokenByTokenId(queueTokenId.toString())).thenReturn(waitingToken);
 
         CustomException customException = assertThrows(CustomException.class,
                 () -> reservationInteractor.reserveSeat(command));
 
         verify(queueTokenRepository, times(1)).findQueueTokenByTokenId(queueTokenId.toString());
-        verify(concertRepository, never()).existsById(any());
-        verify(concertDateRepository, never()).findById(any());
-        verify(seatRepository, never()).findBySeatIdAndConcertDateId(any(), any());
-        verify(seatLockRepository, never()).acquisitionLock(any());
-        verify(reservationDomainService, never()).processReservation(any(), any(), any());
-        verify(seatRepository, never()).save(any());
-        verify(reservationRepository, never()).save(any());
-        verify(paymentRepository, never()).save(any());
-        verify(seatHoldRepository, never()).hold(any(), any());
-        verify(eventPublisher, never()).publish(any(ReservationCreatedEvent.class));
-        verify(seatLockRepository, never()).releaseLock(any());
-        verify(reservationOutput, never()).ok(any());
+        verify(seatFastRejectGuard, never()).tryEnter(any());
+        verify(distributedLockManager, never()).executeWithLockHasReturn(any(), any());
+        verify(createReservationManager, never()).processCreateReservation(any(), any());
 
         assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.INVALID_QUEUE_TOKEN);
     }
 
     @Test
-    @DisplayName("콘서트_좌석_예약_실패_콘서트못찾음")
-    void concertSeatReservation_Failure_ConcertNotFound() throws CustomException {
+    @DisplayName("콘서트_좌석_예약_실패_다른요청이처리중인좌석_락대기없이거절")
+    void concertSeatReservation_Failure_FastRejected() throws Exception {
         when(queueTokenRepository.findQueueTokenByTokenId(queueTokenId.toString())).thenReturn(queueToken);
-        when(concertRepository.existsById(command.concertId())).thenReturn(false);
+        when(seatFastRejectGuard.tryEnter(seatId)).thenReturn(false); // 다른 요청이 이미 진입
 
         CustomException customException = assertThrows(CustomException.class,
                 () -> reservationInteractor.reserveSeat(command));
 
-        verify(queueTokenRepository, times(1)).findQueueTokenByTokenId(queueTokenId.toString());
-        verify(concertRepository, times(1)).existsById(command.concertId());
-        verify(concertDateRepository, never()).findById(any());
-        verify(seatRepository, never()).findBySeatIdAndConcertDateId(any(), any());
-        verify(seatLockRepository, never()).acquisitionLock(any());
-        verify(reservationDomainService, never()).processReservation(any(), any(), any());
-        verify(seatRepository, never()).save(any());
-        verify(reservationRepository, never()).save(any());
-        verify(paymentRepository, never()).save(any());
-        verify(seatHoldRepository, never()).hold(any(), any());
-        verify(eventPublisher, never()).publish(any(ReservationCreatedEvent.class));
-        verify(seatLockRepository, never()).releaseLock(any());
-        verify(reservationOutput, never()).ok(any());
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.ALREADY_RESERVED_SEAT);
+        verify(distributedLockManager, never()).executeWithLockHasReturn(any(), any()); // 분산 락 대기 없음
+        verify(createReservationManager, never()).processCreateReservation(any(), any());
+        verify(seatFastRejectGuard, never()).release(any()); // 진입한 요청의 상태를 지우지 않음
+        verify(seatFastRejectGuard, never()).markReserved(any());
+    }
+
+    @Test
+    @DisplayName("콘서트_좌석_예약_실패_콘서트못찾음_좌석상태해제")
+    void concertSeatReservation_Failure_ConcertNotFound() throws Exception {
+        when(queueTokenRepository.findQueueTokenByTokenId(queueTokenId.toString())).thenReturn(queueToken);
+        when(seatFastRejectGuard.tryEnter(seatId)).thenReturn(true);
+        runLockedTransaction();
+        when(createReservationManager.processCreateReservation(command, queueToken))
+                .thenThrow(new CustomException(ErrorCode.CONCERT_NOT_FOUND));
+
+        CustomException customException = assertThrows(CustomException.class,
+                () -> reservationInteractor.reserveSeat(command));
 
         assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.CONCERT_NOT_FOUND);
+        verify(seatFastRejectGuard, times(1)).release(seatId); // 좌석은 여전히 예약 가능하므로 다음 요청이 진입할 수 있도록 해제
+        verify(seatFastRejectGuard, never()).markReserved(any());
     }
 
     @Test
-    @DisplayName("콘서트_좌석_예약_실패_콘서트날짜못찾음")
-    void concertSeatReservation_Failure_ConcertDateNotFound() throws CustomException {
+    @DisplayName("콘서트_좌석_예약_실패_DB기준이미예약된좌석_예약됨으로기록")
+    void concertSeatReservation_Failure_AlreadyReservedInDb() throws Exception {
         when(queueTokenRepository.findQueueTokenByTokenId(queueTokenId.toString())).thenReturn(queueToken);
-        when(concertRepository.existsById(command.concertId())).thenReturn(true);
-        when(concertDateRepository.findById(command.concertDateId())).thenReturn(Optional.empty());
+        when(seatFastRejectGuard.tryEnter(seatId)).thenReturn(true);
+        runLockedTransaction();
+        when(createReservationManager.processCreateReservation(command, queueToken))
+                .thenThrow(new CustomException(ErrorCode.ALREADY_RESERVED_SEAT));
 
         CustomException customException = assertThrows(CustomException.class,
                 () -> reservationInteractor.reserveSeat(command));
 
-        verify(queueTokenRepository, times(1)).findQueueTokenByTokenId(queueTokenId.toString());
-        verify(concertRepository, times(1)).existsById(command.concertId());
-        verify(concertDateRepository, times(1)).findById(command.concertDateId());
-        verify(seatRepository, never()).findBySeatIdAndConcertDateId(any(), any());
-        verify(seatLockRepository, never()).acquisitionLock(any());
-        verify(reservationDomainService, never()).processReservation(any(), any(), any());
-        verify(seatRepository, never()).save(any());
-        verify(reservationRepository, never()).save(any());
-        verify(paymentRepository, never()).save(any());
-        verify(seatHoldRepository, never()).hold(any(), any());
-        verify(eventPublisher, never()).publish(any(ReservationCreatedEvent.class));
-        verify(seatLockRepository, never()).releaseLock(any());
-        verify(reservationOutput, never()).ok(any());
-
-        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.CONCERT_DATE_NOT_FOUND);
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.ALREADY_RESERVED_SEAT);
+        verify(seatFastRejectGuard, times(1)).markReserved(seatId); // 이후 요청도 락 없이 거절
+        verify(seatFastRejectGuard, never()).release(any());
     }
 
     @Test
-    @DisplayName("콘서트_좌석_예약_실패_좌석락획득실패")
+    @DisplayName("콘서트_좌석_예약_실패_좌석락획득실패_좌석상태해제")
     /*
     좌석 락(Seat Lock) 획득에 실패하는 경우는 주로 다음과 같은 상황에서 발생할 수 있습니다.
 
@@ -248,33 +209,107 @@ public class ReservationInteractorTest {
     락 만료 지연: 이전 예약 시도에서 락이 정상적으로 해제되지 않아, 잠시 동안 락이 걸려 있는 경우에도 실패할 수 있습니다.
     이런 상황은 주로 동시성 제어와 관련된 이슈에서 자주 발생합니다.
      */
-    void concertSeatReservation_Failure_getSeatLockFail() throws CustomException {
+    void concertSeatReservation_Failure_getSeatLockFail() throws Exception {
         when(queueTokenRepository.findQueueTokenByTokenId(queueTokenId.toString())).thenReturn(queueToken);
-        when(concertRepository.existsById(command.concertId())).thenReturn(true);
-        when(concertDateRepository.findById(command.concertDateId())).thenReturn(Optional.of(concertDate));
-        when(seatRepository.findBySeatIdAndConcertDateId(command.seatId(), command.concertDateId()))
-                .thenReturn(Optional.of(seat));
-        when(seatLockRepository.acquisitionLock(command.seatId())).thenReturn(false);
+        when(seatFastRejectGuard.tryEnter(seatId)).thenReturn(true);
+        when(distributedLockManager.executeWithLockHasReturn(eq(lockKey), any()))
+                .thenThrow(new CustomException(ErrorCode.LOCK_CONFLICT));
 
         CustomException customException = assertThrows(CustomException.class,
                 () -> reservationInteractor.reserveSeat(command));
 
-        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.SEAT_LOCK_CONFLICT);
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.LOCK_CONFLICT);
+        verify(createReservationManager, never()).processCreateReservation(any(), any());
+        verify(seatFastRejectGuard, times(1)).release(seatId);
+        verify(seatFastRejectGuard, never()).markReserved(any());
+    }
 
-        verify(queueTokenRepository, times(1)).findQueueTokenByTokenId(queueTokenId.toString());
-        verify(concertRepository, times(1)).existsById(command.concertId());
-        verify(concertDateRepository, times(1)).findById(command.concertDateId());
-        verify(seatRepository, times(1)).findBySeatIdAndConcertDateId(command.seatId(), command.concertDateId());
-        verify(seatLockRepository, times(1)).acquisitionLock(command.seatId());
-        verify(reservationDomainService, never()).processReservation(any(), any(), any());
-        verify(seatRepository, never()).save(any());
-        verify(reservationRepository, never()).save(any());
-        verify(paymentRepository, never()).save(any());
-        verify(seatHoldRepository, never()).hold(any(), any());
-        verify(eventPublisher, never()).publish(any(ReservationCreatedEvent.class));
-        verify(seatLockRepository, never()).releaseLock(any());
-        verify(reservationOutput, never()).ok(any());
-        verify(queueTokenRepository, times(1)).expiresQueueToken(queueTokenId.toString()); // 대기열 토큰 만료 처리
+    @Test
+    @DisplayName("콘서트_좌석_예약_실패_예상치못한예외_좌석상태해제")
+    void concertSeatReservation_Failure_UnexpectedException() throws Exception {
+        when(queueTokenRepository.findQueueTokenByTokenId(queueTokenId.toString())).thenReturn(queueToken);
+        when(seatFastRejectGuard.tryEnter(seatId)).thenReturn(true);
+        runLockedTransaction();
+        when(createReservationManager.processCreateReservation(command, queueToken))
+                .thenThrow(new IllegalStateException("DB 오류"));
+
+        assertThrows(RuntimeException.class, () -> reservationInteractor.reserveSeat(command));
+
+        verify(seatFastRejectGuard, times(1)).release(seatId);
+        verify(seatFastRejectGuard, never()).markReserved(any());
+    }
+
+    @Test
+    @DisplayName("콘서트_좌석_예약_writeBehind모드_빠른거절미사용")
+    void concertSeatReservation_WriteBehind_SkipsFastReject() throws Exception {
+        when(queueTokenRepository.findQueueTokenByTokenId(queueTokenId.toString())).thenReturn(queueToken);
+        when(seatClaimReservationManager.isEnabled()).thenReturn(true);
+        when(seatClaimReservationManager.processClaimReservation(command, queueToken)).thenReturn(createReservationResult);
+
+        reservationInteractor.reserveSeat(command);
+
+        verify(seatFastRejectGuard, never()).tryEnter(any()); // Redis 선점 스크립트가 좌석을 원자적으로 선점
+        verify(distributedLockManager, never()).executeWithLockHasReturn(any(), any());
+        verify(createReservationManager, never()).processCreateReservation(any(), any());
+    }
+
+    @Test
+    @DisplayName("여러_좌석_예약_실패_일부좌석거절_진입한좌석만해제")
+    void concertSeatsReservation_Failure_FastRejected_ReleasesEntered() throws Exception {
+        UUID otherSeatId = UUID.randomUUID();
+        ReserveSeatsCommand seatsCommand = new ReserveSeatsCommand(concertId, concertDateId, List.of(seatId, otherSeatId), queueTokenId.toString());
+        when(queueTokenRepository.findQueueTokenByTokenId(queueTokenId.toString())).thenReturn(queueToken);
+        when(seatFastRejectGuard.tryEnter(seatId)).thenReturn(true);
+        when(seatFastRejectGuard.tryEnter(otherSeatId)).thenReturn(false);
+
+        CustomException customException = assertThrows(CustomException.class,
+                () -> reservationInteractor.reserveSeats(seatsCommand));
+
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.ALREADY_RESERVED_SEAT);
+        verify(seatFastRejectGuard, times(1)).releaseAll(List.of(seatId)); // 먼저 진입한 좌석만 해제
+        verify(distributedLockManager, never()).executeWithMultiLockHasReturn(anyList(), any());
+        verify(createReservationManager, never()).processCreateReservations(any(), any());
+    }
+
+    @Test
+    @DisplayName("여러_좌석_예약_실패_트랜잭션실패_모든좌석해제")
+    void concertSeatsReservation_Failure_TransactionFailed_ReleasesAll() throws Exception {
+        UUID otherSeatId = UUID.randomUUID();
+        List<UUID> seatIds = List.of(seatId, otherSeatId);
+        ReserveSeatsCommand seatsCommand = new ReserveSeatsCommand(concertId, concertDateId, seatIds, queueTokenId.toString());
+        when(queueTokenRepository.findQueueTokenByTokenId(queueTokenId.toString())).thenReturn(queueToken);
+        when(seatFastRejectGuard.tryEnter(any())).thenReturn(true);
+        when(distributedLockManager.executeWithMultiLockHasReturn(anyList(), any()))
+                .thenThrow(new CustomException(ErrorCode.LOCK_CONFLICT));
+
+        CustomException customException = assertThrows(CustomException.class,
+                () -> reservationInteractor.reserveSeats(seatsCommand));
+
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.LOCK_CONFLICT);
+        verify(seatFastRejectGuard, times(1)).releaseAll(seatIds);
+        verify(seatFastRejectGuard, never()).markReserved(any());
+    }
+
+    @Test
+    @DisplayName("여러_좌석_예약_실패_이미보유한좌석포함_락획득전거절")
+    void concertSeatsReservation_Failure_SeatAlreadyHeld() throws Exception {
+        UUID otherSeatId = UUID.randomUUID();
+        ReserveSeatsCommand seatsCommand = new ReserveSeatsCommand(concertId, concertDateId, List.of(seatId, otherSeatId), queueTokenId.toString());
+        when(queueTokenRepository.findQueueTokenByTokenId(queueTokenId.toString())).thenReturn(queueToken);
+        when(seatHoldRepository.isHoldSeat(concertDateId, otherSeatId, userId)).thenReturn(true);
+
+        CustomException customException = assertThrows(CustomException.class,
+                () -> reservationInteractor.reserveSeats(seatsCommand));
+
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.ALREADY_RESERVED_SEAT);
+        verify(seatFastRejectGuard, never()).tryEnter(any());
+        verify(distributedLockManager, never()).executeWithMultiLockHasReturn(anyList(), any());
+    }
+
+    // 분산 락 획득에 성공한 것처럼 전달받은 트랜잭션 로직을 그대로 실행
+    private void runLockedTransaction() throws Exception {
+        when(distributedLockManager.executeWithLockHasReturn(eq(lockKey), any()))
+                .thenAnswer(invocation -> invocation.<Callable<?>>getArgument(1).call());
     }
 
 }
@@ -0,0 +1,132 @@
+package kr.hhplus.be.server.usecase.reservation.interactor;
+
+import kr.hhplus.be.server.common.event.EventPublisher;
+import kr.hhplus.be.server.concert.port.out.SeatCountCounterRepository;
+import kr.hhplus.be.server.payment.domain.Payment;
+import kr.hhplus.be.server.payment.domain.enums.PaymentStatus;
+import kr.hhplus.be.server.reservation.domain.PendingReservation;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationCreatedEvent;
+import kr.hhplus.be.server.reservation.domain.ReservationOutboxEntry;
+import kr.hhplus.be.server.reservation.domain.WriteBehindResult;
+import kr.hhplus.be.server.reservation.domain.enums.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.out.ReservationOutboxRepository;
+import kr.hhplus.be.server.reservation.port.out.ReservationWriteBehindRepository;
+import kr.hhplus.be.server.reservation.port.out.SeatClaimRepository;
+import kr.hhplus.be.server.reservation.usecase.ReservationWriteBehindInteractor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationWriteBehindInteractorTest {
+
+    @Mock
+    private ReservationOutboxRepository reservationOutboxRepository;
+    @Mock
+    private ReservationWriteBehindRepository reservationWriteBehindRepository;
+    @Mock
+    private SeatClaimRepository seatClaimRepository;
+    @Mock
+    private SeatCountCounterRepository seatCountCounterRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private EventPublisher eventPublisher;
+
+    private ReservationWriteBehindInteractor reservationWriteBehindInteractor;
+    private UUID concertDateId;
+
+    @BeforeEach
+    void beforeEach() {
+        reservationWriteBehindInteractor = new ReservationWriteBehindInteractor(reservationOutboxRepository, reservationWriteBehindRepository,
+                seatClaimRepository, seatCountCounterRepository, transactionTemplate, eventPublisher, 200);
+        concertDateId = UUID.randomUUID();
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("write-behind반영_신규반영과재전달된예약모두이벤트발행_잔여좌석수는신규반영분만차감_실패예약선점해제")
+    void flush_RedeliveredEntry_EventPublishedWithoutCounterChange() {
+        PendingReservation saved = pendingReservation();
+        PendingReservation alreadySaved = pendingReservation();
+        PendingReservation rejected = pendingReservation();
+        List<ReservationOutboxEntry> entries = List.of(
+                new ReservationOutboxEntry("1-0", saved),
+                new ReservationOutboxEntry("2-0", alreadySaved),
+                new ReservationOutboxEntry("3-0", rejected));
+        when(reservationOutboxRepository.read(anyInt())).thenReturn(entries);
+        when(reservationWriteBehindRepository.saveAll(anyList()))
+                .thenReturn(new WriteBehindResult(List.of(saved), List.of(rejected), List.of(alreadySaved)));
+
+        int processed = reservationWriteBehindInteractor.flush();
+
+        assertThat(processed).isEqualTo(3);
+        verify(seatCountCounterRepository, times(1)).add(concertDateId, -1); // 재전달된 예약은 이전 전달에서 이미 차감됨
+
+        ArgumentCaptor<ReservationCreatedEvent> eventCaptor = ArgumentCaptor.forClass(ReservationCreatedEvent.class);
+        verify(eventPublisher, times(2)).publish(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues()).extracting(ReservationCreatedEvent::reservationId)
+                .containsExactly(saved.reservation().id(), alreadySaved.reservation().id());
+
+        verify(reservationOutboxRepository, times(1)).acknowledge(List.of("1-0", "2-0", "3-0"));
+        verify(seatClaimRepository, times(1)).release(concertDateId, rejected.reservation().seatId(), rejected.reservation().id());
+    }
+
+    @Test
+    @DisplayName("write-behind반영_DB반영실패_이벤트발행및확인처리없음")
+    void flush_SaveFails_NotAcknowledged() {
+        when(reservationOutboxRepository.read(anyInt())).thenReturn(List.of(new ReservationOutboxEntry("1-0", pendingReservation())));
+        when(reservationWriteBehindRepository.saveAll(anyList())).thenThrow(new IllegalStateException("deadlock"));
+
+        try {
+            reservationWriteBehindInteractor.flush();
+        } catch (IllegalStateException ignored) {
+            // 스케줄러가 로그를 남기고 다음 주기에 같은 레코드를 다시 처리
+        }
+
+        verifyNoInteractions(eventPublisher);
+        verify(reservationOutboxRepository, never()).acknowledge(anyList());
+    }
+
+    private PendingReservation pendingReservation() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        Reservation reservation = Reservation.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .seatId(UUID.randomUUID())
+                .status(ReservationStatus.PENDING)
+                .createdAt(now)
+                .updatedAt(now)
+                .expiresAt(now.plusMinutes(5))
+                .build();
+        Payment payment = Payment.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .reservationId(reservation.id())
+                .amount(BigDecimal.valueOf(50000))
+                .status(PaymentStatus.PENDING)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        return new PendingReservation(concertDateId, reservation, payment);
+    }
+}
@@ -4,6 +4,7 @@ import kr.hhplus.be.server.common.exception.CustomException;
 import kr.hhplus.be.server.common.exception.ErrorCode;
 import kr.hhplus.be.server.user.domain.User;
 import kr.hhplus.be.server.user.port.out.UserRepository;
+import kr.hhplus.be.server.user.port.in.UserPointUseCase;
 import kr.hhplus.be.server.user.usecase.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -39,6 +40,9 @@ public class UserServiceTest {
     @Mock // UserRepository의 Mock 객체 생성
     private UserRepository userRepository;
 
+    @Mock
+    private UserPointUseCase userPointUseCase;
+
     // 테스트에 사용할 유저 정보
     private UUID userId;
     private BigDecimal initAmount;